@@ -28,19 +28,33 @@ public class RemoteInferenceInputDataSet extends MLInputDataset {
     private static final Version MINIMAL_SUPPORTED_VERSION_FOR_CLIENT_CONFIG = CommonValue.VERSION_2_16_0;
     private static final Version MINIMAL_SUPPORTED_VERSION_FOR_DLQ_CONFIG = CommonValue.VERSION_2_19_0;
     private static final Version MINIMAL_SUPPORTED_VERSION_FOR_OPTIONAL_STRING = CommonValue.VERSION_3_3_0;
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_INGEST_CONFIG = CommonValue.VERSION_3_3_0;
     @Setter
     private Map<String, String> parameters;
     @Setter
     private ActionType actionType;
     @Setter
     private Map<String, String> dlq;
+    // Batch ingestion of the batch prediction output into an index, started once the remote batch job completes
+    @Setter
+    private Map<String, String> ingest;
 
     @Builder(toBuilder = true)
-    public RemoteInferenceInputDataSet(Map<String, String> parameters, ActionType actionType, Map<String, String> dlq) {
+    public RemoteInferenceInputDataSet(
+        Map<String, String> parameters,
+        ActionType actionType,
+        Map<String, String> dlq,
+        Map<String, String> ingest
+    ) {
         super(MLInputDataType.REMOTE);
         this.parameters = parameters;
         this.actionType = actionType;
         this.dlq = dlq;
+        this.ingest = ingest;
+    }
+
+    public RemoteInferenceInputDataSet(Map<String, String> parameters, ActionType actionType, Map<String, String> dlq) {
+        this(parameters, actionType, dlq, null);
     }
 
     public RemoteInferenceInputDataSet(Map<String, String> parameters, ActionType actionType) {
@@ -75,6 +89,11 @@ public class RemoteInferenceInputDataSet extends MLInputDataset {
                 this.dlq = null;
             }
         }
+        if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_INGEST_CONFIG)) {
+            if (streamInput.readBoolean()) {
+                ingest = streamInput.readMap(StreamInput::readString, StreamInput::readString);
+            }
+        }
     }
 
     @Override
@@ -107,6 +126,14 @@ public class RemoteInferenceInputDataSet extends MLInputDataset {
                 streamOutput.writeBoolean(false);
             }
         }
+        if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_INGEST_CONFIG)) {
+            if (ingest != null) {
+                streamOutput.writeBoolean(true);
+                streamOutput.writeMap(ingest, StreamOutput::writeString, StreamOutput::writeString);
+            } else {
+                streamOutput.writeBoolean(false);
+            }
+        }
     }
 
 }
@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.input.parameter.clustering;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.VERSION_3_3_0;
 
 import java.io.IOException;
 
@@ -37,6 +38,8 @@ public class KMeansParams implements MLAlgoParams {
     public static final String CENTROIDS_FIELD = "centroids";
     public static final String ITERATIONS_FIELD = "iterations";
     public static final String DISTANCE_TYPE_FIELD = "distance_type";
+    public static final String BATCH_SIZE_FIELD = "batch_size";
+    public static final String WARM_START_MODEL_ID_FIELD = "warm_start_model_id";
 
     // The number of centroids to use.
     private Integer centroids;
@@ -44,13 +47,19 @@ public class KMeansParams implements MLAlgoParams {
     private Integer iterations;
     // The distance function.
     private DistanceType distanceType;
+    // Rows per mini-batch, trains with mini-batch k-means instead of full batch k-means when set.
+    private Integer batchSize;
+    // Trained model to continue training from with mini-batch k-means, instead of from scratch.
+    private String warmStartModelId;
     // TODO: expose number of thread and seed?
 
     @Builder(toBuilder = true)
-    public KMeansParams(Integer centroids, Integer iterations, DistanceType distanceType) {
+    public KMeansParams(Integer centroids, Integer iterations, DistanceType distanceType, Integer batchSize, String warmStartModelId) {
         this.centroids = centroids;
         this.iterations = iterations;
         this.distanceType = distanceType;
+        this.batchSize = batchSize;
+        this.warmStartModelId = warmStartModelId;
     }
 
     public KMeansParams(StreamInput in) throws IOException {
@@ -59,12 +68,18 @@ public class KMeansParams implements MLAlgoParams {
         if (in.readBoolean()) {
             this.distanceType = in.readEnum(DistanceType.class);
         }
+        if (in.getVersion().onOrAfter(VERSION_3_3_0)) {
+            this.batchSize = in.readOptionalInt();
+            this.warmStartModelId = in.readOptionalString();
+        }
     }
 
     public static MLAlgoParams parse(XContentParser parser) throws IOException {
         Integer k = null;
         Integer iterations = null;
         DistanceType distanceType = null;
+        Integer batchSize = null;
+        String warmStartModelId = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -81,12 +96,18 @@ public class KMeansParams implements MLAlgoParams {
                 case DISTANCE_TYPE_FIELD:
                     distanceType = DistanceType.from(parser.text());
                     break;
+                case BATCH_SIZE_FIELD:
+                    batchSize = parser.intValue(false);
+                    break;
+                case WARM_START_MODEL_ID_FIELD:
+                    warmStartModelId = parser.text();
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new KMeansParams(k, iterations, distanceType);
+        return new KMeansParams(k, iterations, distanceType, batchSize, warmStartModelId);
     }
 
     @Override
@@ -104,6 +125,10 @@ public class KMeansParams implements MLAlgoParams {
         } else {
             out.writeBoolean(false);
         }
+        if (out.getVersion().onOrAfter(VERSION_3_3_0)) {
+            out.writeOptionalInt(batchSize);
+            out.writeOptionalString(warmStartModelId);
+        }
     }
 
     @Override
@@ -118,6 +143,12 @@ public class KMeansParams implements MLAlgoParams {
         if (distanceType != null) {
             builder.field(DISTANCE_TYPE_FIELD, distanceType.name());
         }
+        if (batchSize != null) {
+            builder.field(BATCH_SIZE_FIELD, batchSize);
+        }
+        if (warmStartModelId != null) {
+            builder.field(WARM_START_MODEL_ID_FIELD, warmStartModelId);
+        }
         builder.endObject();
         return builder;
     }
@@ -24,6 +24,7 @@ public class RemoteInferenceMLInput extends MLInput {
     public static final String PARAMETERS_FIELD = "parameters";
     public static final String ACTION_TYPE_FIELD = "action_type";
     public static final String DLQ_FIELD = "dlq";
+    public static final String INGEST_FIELD = "ingest";
 
     public RemoteInferenceMLInput(StreamInput in) throws IOException {
         super(in);
@@ -39,6 +40,7 @@ public class RemoteInferenceMLInput extends MLInput {
         this.algorithm = functionName;
         Map<String, String> parameters = null;
         Map<String, String> dlq = null;
+        Map<String, String> ingest = null;
         ActionType actionType = null;
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -55,12 +57,15 @@ public class RemoteInferenceMLInput extends MLInput {
                 case DLQ_FIELD:
                     dlq = StringUtils.getParameterMap(parser.map());
                     break;
+                case INGEST_FIELD:
+                    ingest = StringUtils.getParameterMap(parser.map());
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        inputDataset = new RemoteInferenceInputDataSet(parameters, actionType, dlq);
+        inputDataset = new RemoteInferenceInputDataSet(parameters, actionType, dlq, ingest);
     }
 
 }
@@ -135,6 +135,8 @@ public class MemoryContainerConstants {
     public static final String EMBEDDING_MODEL_NOT_FOUND_ERROR = "Embedding model with ID %s not found";
     public static final String EMBEDDING_MODEL_TYPE_MISMATCH_ERROR = "Embedding model must be of type %s or REMOTE, found: %s";                                                                                                          // instead
     public static final String INFER_REQUIRES_LLM_MODEL_ERROR = "infer=true requires llm_model_id to be configured in memory storage";
+    public static final String EXTRACTION_QUEUE_FULL_ERROR =
+        "Too many pending long-term memory extractions for this memory container, please retry later";
     public static final String INVALID_STRATEGY_TYPE_ERROR =
         "Invalid strategy type: %s. Must be one of: semantic, user_preference, summary";
 
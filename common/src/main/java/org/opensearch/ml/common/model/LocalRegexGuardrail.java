@@ -17,13 +17,19 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import org.opensearch.action.LatchedActionListener;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.admin.indices.stats.IndicesStatsRequest;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
+import org.opensearch.action.admin.indices.stats.ShardStats;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
@@ -37,6 +43,7 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.SearchDataObjectRequest;
 import org.opensearch.remote.metadata.common.SdkClientUtils;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.transport.client.Client;
 
@@ -53,9 +60,20 @@ public class LocalRegexGuardrail extends Guardrail {
     public static final String STOP_WORDS_FIELD = "stop_words";
     public static final String REGEX_FIELD = "regex";
 
+    // How long the in-memory stop words are used before the shard checkpoints of their index are checked again.
+    static final long STOP_WORDS_CHECK_INTERVAL_MILLIS = 1_000;
+    // Indices with more stop words documents than this keep being validated with percolate searches.
+    static final int MAX_IN_MEMORY_STOP_WORDS_DOCS = 10_000;
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\[1-9]|\\\\k<");
+    private static final Pattern SINGLE_WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
     private List<StopWords> stopWords;
     private String[] regex;
     private List<Pattern> regexPattern;
+    // All regexes combined into one alternation, null if they can't be combined safely.
+    private Pattern combinedRegexPattern;
+    @EqualsAndHashCode.Exclude
+    private final Map<String, StopWordsIndexState> stopWordsIndexStates = new ConcurrentHashMap<>();
     private Map<String, List<String>> stopWordsIndicesInput;
     private NamedXContentRegistry xContentRegistry;
     private Client client;
@@ -108,7 +126,10 @@ public class LocalRegexGuardrail extends Guardrail {
 
     @Override
     public Boolean validate(String input, Map<String, String> parameters) {
-        return validateRegexList(input, regexPattern) && validateStopWords(input, stopWordsIndicesInput);
+        boolean passedRegex = combinedRegexPattern != null
+            ? validateRegex(input, combinedRegexPattern)
+            : validateRegexList(input, regexPattern);
+        return passedRegex && validateStopWords(input, stopWordsIndicesInput);
     }
 
     @Override
@@ -165,6 +186,29 @@ public class LocalRegexGuardrail extends Guardrail {
         stopWordsIndicesInput = stopWordsToMap();
         List<String> regexList = regex == null ? new ArrayList<>() : Arrays.asList(regex);
         regexPattern = regexList.stream().map(reg -> Pattern.compile(reg)).collect(Collectors.toList());
+        combinedRegexPattern = combineRegex(regexList);
+        stopWordsIndexStates.clear();
+    }
+
+    /**
+     * Combines the regexes into a single alternation so that the input is scanned by one matcher. Regexes with
+     * back references are left alone since the group numbers shift once they are combined.
+     */
+    static Pattern combineRegex(List<String> regexList) {
+        if (regexList.size() < 2) {
+            return null;
+        }
+        for (String reg : regexList) {
+            if (BACK_REFERENCE.matcher(reg).find()) {
+                return null;
+            }
+        }
+        try {
+            return Pattern.compile(regexList.stream().map(reg -> "(?:" + reg + ")").collect(Collectors.joining("|")));
+        } catch (PatternSyntaxException e) {
+            log.debug("Failed to combine guardrail regexes, validating them one by one", e);
+            return null;
+        }
     }
 
     private Map<String, List<String>> stopWordsToMap() {
@@ -201,9 +245,217 @@ public class LocalRegexGuardrail extends Guardrail {
             return true;
         }
         for (Map.Entry entry : stopWordsIndices.entrySet()) {
-            if (!validateStopWordsSingleIndex(input, (String) entry.getKey(), (List<String>) entry.getValue())) {
+            String indexName = (String) entry.getKey();
+            List<String> fieldNames = (List<String>) entry.getValue();
+            StopWordsAutomaton automaton = getStopWordsAutomaton(indexName, fieldNames);
+            if (automaton != null) {
+                if (automaton.matches(input)) {
+                    return false;
+                }
+            } else if (!validateStopWordsSingleIndex(input, indexName, fieldNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the in-memory stop words of the index. They are only used while the shard checkpoints of the index are
+     * known to be unchanged since they were loaded. The checkpoints are checked in the background at most once per
+     * {@link #STOP_WORDS_CHECK_INTERVAL_MILLIS}, so added, updated and deleted stop words take effect about as fast as
+     * an index refresh makes them visible to percolate searches.
+     * @return the automaton, or null if the stop words may be stale, are not loaded yet or don't fit in memory
+     */
+    StopWordsAutomaton getStopWordsAutomaton(String indexName, List<String> fieldNames) {
+        StopWordsIndexState state = stopWordsIndexStates.computeIfAbsent(indexName, k -> new StopWordsIndexState());
+        long now = currentTimeMillis();
+        if (now - state.checkedTime >= STOP_WORDS_CHECK_INTERVAL_MILLIS && state.refreshing.compareAndSet(false, true)) {
+            refreshStopWords(indexName, fieldNames, state, now);
+        }
+        return now - state.checkedTime < STOP_WORDS_CHECK_INTERVAL_MILLIS ? state.automaton : null;
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private void refreshStopWords(String indexName, List<String> fieldNames, StopWordsIndexState state, long checkTime) {
+        ActionListener<Void> listener = ActionListener
+            .runAfter(
+                ActionListener
+                    .wrap(
+                        r -> state.checkedTime = checkTime,
+                        e -> log.error("Failed to refresh stop words from index {}, validating with percolate searches", indexName, e)
+                    ),
+                () -> state.refreshing.set(false)
+            );
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<Void> restoringListener = ActionListener.runBefore(listener, context::restore);
+            client.admin().indices().stats(new IndicesStatsRequest().indices(indexName).clear(), ActionListener.wrap(r -> {
+                Map<String, Long> checkpoints = getLocalCheckpoints(r);
+                if (checkpoints.equals(state.checkpoints)) {
+                    restoringListener.onResponse(null);
+                    return;
+                }
+                // Operations below the local checkpoints are indexed, the refresh makes them visible to the search.
+                client
+                    .admin()
+                    .indices()
+                    .refresh(
+                        new RefreshRequest(indexName),
+                        ActionListener
+                            .wrap(
+                                refreshed -> loadStopWords(indexName, fieldNames, state, checkpoints, restoringListener),
+                                restoringListener::onFailure
+                            )
+                    );
+            }, restoringListener::onFailure));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Every index, update or delete operation advances the local checkpoint of the shard copies once it is indexed.
+     * The lowest local checkpoint of the copies of each shard is kept, so a copy that catches up later is noticed too.
+     */
+    private static Map<String, Long> getLocalCheckpoints(IndicesStatsResponse response) {
+        Map<String, Long> checkpoints = new HashMap<>();
+        for (ShardStats shardStats : response.getShards()) {
+            if (shardStats.getSeqNoStats() != null) {
+                checkpoints
+                    .merge(
+                        shardStats.getShardRouting().shardId().toString(),
+                        shardStats.getSeqNoStats().getLocalCheckpoint(),
+                        Math::min
+                    );
+            }
+        }
+        return checkpoints;
+    }
+
+    private void loadStopWords(
+        String indexName,
+        List<String> fieldNames,
+        StopWordsIndexState state,
+        Map<String, Long> checkpoints,
+        ActionListener<Void> listener
+    ) throws IOException {
+        String queryBody = AccessController
+            .doPrivileged(
+                (PrivilegedExceptionAction<String>) () -> gson
+                    .toJson(Map.of("query", Map.of("match_all", Map.of()), "track_total_hits", true, "sort", List.of("_doc")))
+            );
+        SearchDataObjectRequest searchDataObjectRequest = buildSearchDataObjectRequest(indexName, queryBody, MAX_IN_MEMORY_STOP_WORDS_DOCS);
+        sdkClient.searchDataObjectAsync(searchDataObjectRequest).whenComplete(SdkClientUtils.wrapSearchCompletion(ActionListener.wrap(r -> {
+            state.automaton = buildStopWordsAutomaton(indexName, fieldNames, r);
+            state.checkpoints = checkpoints;
+            listener.onResponse(null);
+        }, listener::onFailure)));
+    }
+
+    private StopWordsAutomaton buildStopWordsAutomaton(String indexName, List<String> fieldNames, SearchResponse r) {
+        SearchHit[] hits = r == null || r.getHits() == null ? new SearchHit[0] : r.getHits().getHits();
+        if (r != null && r.getHits() != null && r.getHits().getTotalHits() != null && r.getHits().getTotalHits().value() > hits.length) {
+            log.warn("Too many stop words in index {}, validating with percolate searches", indexName);
+            return null;
+        }
+        List<String> words = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            List<String> docWords = extractStopWords(hit.getSourceAsMap(), fieldNames);
+            if (docWords == null) {
+                log.info("Stop words query of document {} in index {} needs percolate searches", hit.getId(), indexName);
+                return null;
+            }
+            words.addAll(docWords);
+        }
+        return new StopWordsAutomaton(words);
+    }
+
+    /**
+     * Converts the percolator query of a stop words document into the words that make it match. Only queries the
+     * automaton matches exactly like the percolate search are converted: match queries with the default OR operator
+     * and single word match_phrase queries on the stop words fields, alone or as should clauses of a bool query.
+     * The conversion assumes the fields use the standard analyzer, which splits on non-alphanumeric characters and
+     * lowercases like the automaton does.
+     * @return the stop words, empty if the document has no query, or null if the query can't be converted exactly
+     */
+    @SuppressWarnings("unchecked")
+    static List<String> extractStopWords(Map<String, Object> source, List<String> fieldNames) {
+        List<String> words = new ArrayList<>();
+        if (source == null || source.get("query") == null) {
+            // documents without a query never match a percolate search
+            return words;
+        }
+        if (!(source.get("query") instanceof Map) || !collectFromQuery((Map<String, Object>) source.get("query"), fieldNames, words)) {
+            return null;
+        }
+        return words;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean collectFromQuery(Map<String, Object> query, List<String> fieldNames, List<String> words) {
+        if (query.size() != 1) {
+            return false;
+        }
+        Map.Entry<String, Object> clause = query.entrySet().iterator().next();
+        if (!(clause.getValue() instanceof Map)) {
+            return false;
+        }
+        Map<String, Object> body = (Map<String, Object>) clause.getValue();
+        switch (clause.getKey()) {
+            case "match":
+                // e.g. {"match": {"title": "word"}} or {"match": {"title": {"query": "word", "operator": "or"}}}
+                return collectFromMatch(body, fieldNames, words, false);
+            case "match_phrase":
+                return collectFromMatch(body, fieldNames, words, true);
+            case "bool":
+                Object should = body.get("should");
+                if (body.size() != 1 || should == null) {
+                    return false;
+                }
+                for (Object item : should instanceof List ? (List<Object>) should : List.of(should)) {
+                    if (!(item instanceof Map) || !collectFromQuery((Map<String, Object>) item, fieldNames, words)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean collectFromMatch(Map<String, Object> body, List<String> fieldNames, List<String> words, boolean phrase) {
+        if (body.size() != 1) {
+            return false;
+        }
+        Map.Entry<String, Object> field = body.entrySet().iterator().next();
+        if (!fieldNames.contains(field.getKey())) {
+            return false;
+        }
+        Object text = field.getValue();
+        if (text instanceof Map) {
+            Map<String, Object> options = (Map<String, Object>) text;
+            Object operator = options.getOrDefault("operator", "or");
+            if (!options.keySet().stream().allMatch(key -> key.equals("query") || key.equals("operator"))
+                || !"or".equalsIgnoreCase(String.valueOf(operator))) {
                 return false;
             }
+            text = options.get("query");
+        }
+        if (!(text instanceof String)) {
+            return false;
+        }
+        String[] tokens = ((String) text).trim().split("\\s+");
+        if (tokens.length == 0 || (phrase && tokens.length > 1)) {
+            return false;
+        }
+        for (String token : tokens) {
+            if (!SINGLE_WORD.matcher(token).matches()) {
+                return false;
+            }
+            words.add(token);
         }
         return true;
     }
@@ -256,13 +508,25 @@ public class LocalRegexGuardrail extends Guardrail {
     }
 
     protected SearchDataObjectRequest buildSearchDataObjectRequest(String indexName, String queryBody) throws IOException {
+        return buildSearchDataObjectRequest(indexName, queryBody, 1); // Only need 1 doc returned, if hit.
+    }
+
+    protected SearchDataObjectRequest buildSearchDataObjectRequest(String indexName, String queryBody, int size) throws IOException {
         SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
         XContentParser queryParser = XContentType.JSON
             .xContent()
             .createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, queryBody);
         searchSourceBuilder.parseXContent(queryParser);
-        searchSourceBuilder.size(1); // Only need 1 doc returned, if hit.
+        searchSourceBuilder.size(size);
 
         return SearchDataObjectRequest.builder().indices(indexName).searchSourceBuilder(searchSourceBuilder).tenantId(tenantId).build();
     }
+
+    private static class StopWordsIndexState {
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+        private volatile StopWordsAutomaton automaton;
+        // Local checkpoints the automaton was loaded at, and when they were last confirmed unchanged.
+        private volatile Map<String, Long> checkpoints;
+        private volatile long checkedTime;
+    }
 }
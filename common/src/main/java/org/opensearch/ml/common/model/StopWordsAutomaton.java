@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+import lombok.Getter;
+
+/**
+ * Aho-Corasick automaton over a set of stop words, matching them case-insensitively as whole words in a single pass
+ * over the input.
+ */
+public class StopWordsAutomaton {
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node fail;
+        // lengths of the stop words ending at this node, including the ones reachable through the fail links
+        private final List<Integer> outputs = new ArrayList<>();
+    }
+
+    private final Node root = new Node();
+    @Getter
+    private final int size;
+
+    public StopWordsAutomaton(Collection<String> stopWords) {
+        int count = 0;
+        for (String stopWord : stopWords) {
+            if (stopWord == null || stopWord.isBlank()) {
+                continue;
+            }
+            String word = stopWord.trim();
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(Character.toLowerCase(word.charAt(i)), c -> new Node());
+            }
+            if (node.outputs.isEmpty()) {
+                count++;
+            }
+            node.outputs.add(word.length());
+        }
+        this.size = count;
+        buildFailLinks();
+    }
+
+    private void buildFailLinks() {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != null && !fail.children.containsKey(entry.getKey())) {
+                    fail = fail.fail;
+                }
+                child.fail = fail == null ? root : fail.children.get(entry.getKey());
+                child.outputs.addAll(child.fail.outputs);
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * @param input the text to scan
+     * @return true if any stop word appears in the input as a whole word
+     */
+    public boolean matches(String input) {
+        if (input == null || root.children.isEmpty()) {
+            return false;
+        }
+        Node node = root;
+        for (int i = 0; i < input.length(); i++) {
+            char c = Character.toLowerCase(input.charAt(i));
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(c, root);
+            for (int length : node.outputs) {
+                if (isWordBoundary(input, i - length) && isWordBoundary(input, i + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWordBoundary(String input, int index) {
+        return index < 0 || index >= input.length() || !Character.isLetterOrDigit(input.charAt(index));
+    }
+}
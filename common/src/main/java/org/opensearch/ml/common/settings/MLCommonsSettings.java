@@ -102,6 +102,31 @@ public final class MLCommonsSettings {
             Setting.Property.Dynamic
         );
 
+    // re-split model and user rate limits between nodes by the traffic each node receives, instead of evenly
+    public static final Setting<Boolean> ML_COMMONS_ADAPTIVE_RATE_LIMITER_ENABLED = Setting
+        .boolSetting(
+            ML_PLUGIN_SETTING_PREFIX + "adaptive_rate_limiter_enabled",
+            false,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Zero writes every ML task state update right away, otherwise updates are buffered and written in bulk
+    public static final Setting<Integer> ML_COMMONS_TASK_STATE_FLUSH_INTERVAL_IN_MILLIS = Setting
+        .intSetting(
+            ML_PLUGIN_SETTING_PREFIX + "task_state_flush_interval_in_millis",
+            0,
+            0,
+            60000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // Threads that split the rows of large batch RCF and k-means inputs, capped at the allocated processors. Zero or one
+    // processes the rows on the calling thread.
+    public static final Setting<Integer> ML_COMMONS_COMPUTE_POOL_SIZE = Setting
+        .intSetting(ML_PLUGIN_SETTING_PREFIX + "compute_pool_size", 4, 0, 256, Setting.Property.NodeScope);
+
     public static final Setting<Integer> ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS = Setting
         .intSetting(
             ML_PLUGIN_SETTING_PREFIX + "ml_task_timeout_in_seconds",
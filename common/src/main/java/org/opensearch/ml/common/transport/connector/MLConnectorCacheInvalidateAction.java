@@ -0,0 +1,17 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.connector;
+
+import org.opensearch.action.ActionType;
+
+public class MLConnectorCacheInvalidateAction extends ActionType<MLConnectorCacheInvalidateNodesResponse> {
+    public static final MLConnectorCacheInvalidateAction INSTANCE = new MLConnectorCacheInvalidateAction();
+    public static final String NAME = "cluster:admin/opensearch/mlinternal/connectors/cache/invalidate";
+
+    private MLConnectorCacheInvalidateAction() {
+        super(NAME, MLConnectorCacheInvalidateNodesResponse::new);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.connector;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * Drops connectors from the connector cache of the given nodes, all nodes if none are given.
+ */
+public class MLConnectorCacheInvalidateNodesRequest extends BaseNodesRequest<MLConnectorCacheInvalidateNodesRequest> {
+
+    @Getter
+    private Set<String> connectorIds;
+
+    public MLConnectorCacheInvalidateNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.connectorIds = in.readSet(StreamInput::readString);
+    }
+
+    public MLConnectorCacheInvalidateNodesRequest(String[] nodeIds, Set<String> connectorIds) {
+        super(nodeIds);
+        this.connectorIds = connectorIds;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeStringCollection(connectorIds);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.connector;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class MLConnectorCacheInvalidateNodesResponse extends BaseNodesResponse<MLConnectorCacheInvalidateNodeResponse> {
+
+    public MLConnectorCacheInvalidateNodesResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public MLConnectorCacheInvalidateNodesResponse(
+        ClusterName clusterName,
+        List<MLConnectorCacheInvalidateNodeResponse> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public void writeNodesTo(StreamOutput out, List<MLConnectorCacheInvalidateNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public List<MLConnectorCacheInvalidateNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(MLConnectorCacheInvalidateNodeResponse::new);
+    }
+}
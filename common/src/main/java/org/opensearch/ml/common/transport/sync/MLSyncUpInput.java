@@ -9,15 +9,19 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
 
+import org.opensearch.Version;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.ml.common.CommonValue;
 
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 public class MLSyncUpInput implements Writeable {
+    public static final Version MINIMAL_SUPPORTED_VERSION_FOR_VERSIONED_ROUTING = CommonValue.VERSION_3_3_0;
+
     private boolean getDeployedModels;
     // key is model id, value is set of added worker node ids
     private Map<String, String[]> addedWorkerNodes;
@@ -31,6 +35,16 @@ public class MLSyncUpInput implements Writeable {
     private boolean clearRoutingTable;
     // sync running deploy model tasks
     private boolean syncRunningDeployModelTasks;
+    // modelRoutingTable only contains changed models and removedModelRoutings the models no longer deployed anywhere
+    private boolean deltaRoutingSync;
+    // model ids whose routing should be removed, only used by delta routing sync
+    private Set<String> removedModelRoutings;
+    // version of the routing table after this sync is applied, 0 means unversioned
+    private long routingVersion;
+    // version of the routing table a delta routing sync applies on top of
+    private long baseRoutingVersion;
+    // rate limiter demand summed over all nodes, keyed as reported in MLSyncUpNodeResponse, used to re-split rate limits
+    private Map<String, Long> clusterRateLimiterDemand;
 
     // deployToAll flag for models, when deploy/undeploy a model, this will passed to each node to update cache value to make sure
     // profile API has consistent data with model index.
@@ -45,7 +59,12 @@ public class MLSyncUpInput implements Writeable {
         Map<String, Set<String>> runningDeployModelTasks,
         Map<String, Boolean> deployToAllNodes,
         boolean clearRoutingTable,
-        boolean syncRunningDeployModelTasks
+        boolean syncRunningDeployModelTasks,
+        boolean deltaRoutingSync,
+        Set<String> removedModelRoutings,
+        long routingVersion,
+        long baseRoutingVersion,
+        Map<String, Long> clusterRateLimiterDemand
     ) {
         this.getDeployedModels = getDeployedModels;
         this.addedWorkerNodes = addedWorkerNodes;
@@ -55,6 +74,11 @@ public class MLSyncUpInput implements Writeable {
         this.deployToAllNodes = deployToAllNodes;
         this.clearRoutingTable = clearRoutingTable;
         this.syncRunningDeployModelTasks = syncRunningDeployModelTasks;
+        this.deltaRoutingSync = deltaRoutingSync;
+        this.removedModelRoutings = removedModelRoutings;
+        this.routingVersion = routingVersion;
+        this.baseRoutingVersion = baseRoutingVersion;
+        this.clusterRateLimiterDemand = clusterRateLimiterDemand;
     }
 
     public MLSyncUpInput() {}
@@ -78,6 +102,17 @@ public class MLSyncUpInput implements Writeable {
         }
         this.clearRoutingTable = in.readBoolean();
         this.syncRunningDeployModelTasks = in.readBoolean();
+        if (in.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_VERSIONED_ROUTING)) {
+            this.deltaRoutingSync = in.readBoolean();
+            if (in.readBoolean()) {
+                this.removedModelRoutings = in.readSet(StreamInput::readString);
+            }
+            this.routingVersion = in.readLong();
+            this.baseRoutingVersion = in.readLong();
+            if (in.readBoolean()) {
+                this.clusterRateLimiterDemand = in.readMap(StreamInput::readString, StreamInput::readLong);
+            }
+        }
     }
 
     @Override
@@ -115,6 +150,23 @@ public class MLSyncUpInput implements Writeable {
         }
         out.writeBoolean(clearRoutingTable);
         out.writeBoolean(syncRunningDeployModelTasks);
+        if (out.getVersion().onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_VERSIONED_ROUTING)) {
+            out.writeBoolean(deltaRoutingSync);
+            if (removedModelRoutings != null && removedModelRoutings.size() > 0) {
+                out.writeBoolean(true);
+                out.writeStringCollection(removedModelRoutings);
+            } else {
+                out.writeBoolean(false);
+            }
+            out.writeLong(routingVersion);
+            out.writeLong(baseRoutingVersion);
+            if (clusterRateLimiterDemand != null && clusterRateLimiterDemand.size() > 0) {
+                out.writeBoolean(true);
+                out.writeMap(clusterRateLimiterDemand, StreamOutput::writeString, StreamOutput::writeLong);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 
 }
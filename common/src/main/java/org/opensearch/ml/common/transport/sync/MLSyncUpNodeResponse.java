@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.transport.sync;
 
 import java.io.IOException;
+import java.util.Map;
 
 import org.opensearch.Version;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
@@ -26,6 +27,8 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
     private String[] runningDeployModelIds; // model ids which have deploying model task running
     private String[] runningDeployModelTaskIds; // deploy model task ids which is running
     private String[] expiredModelIds;
+    private long routingVersion; // version of the routing table last applied on the node, 0 if not in sync
+    private Map<String, Long> rateLimiterDemand; // requested tokens per adaptive rate limiter since the last sync up
 
     public MLSyncUpNodeResponse(
         DiscoveryNode node,
@@ -34,6 +37,31 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         String[] runningDeployModelIds,
         String[] runningDeployModelTaskIds,
         String[] expiredModelIds
+    ) {
+        this(node, modelStatus, deployedModelIds, runningDeployModelIds, runningDeployModelTaskIds, expiredModelIds, 0);
+    }
+
+    public MLSyncUpNodeResponse(
+        DiscoveryNode node,
+        String modelStatus,
+        String[] deployedModelIds,
+        String[] runningDeployModelIds,
+        String[] runningDeployModelTaskIds,
+        String[] expiredModelIds,
+        long routingVersion
+    ) {
+        this(node, modelStatus, deployedModelIds, runningDeployModelIds, runningDeployModelTaskIds, expiredModelIds, routingVersion, null);
+    }
+
+    public MLSyncUpNodeResponse(
+        DiscoveryNode node,
+        String modelStatus,
+        String[] deployedModelIds,
+        String[] runningDeployModelIds,
+        String[] runningDeployModelTaskIds,
+        String[] expiredModelIds,
+        long routingVersion,
+        Map<String, Long> rateLimiterDemand
     ) {
         super(node);
         this.modelStatus = modelStatus;
@@ -41,6 +69,8 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         this.runningDeployModelIds = runningDeployModelIds;
         this.runningDeployModelTaskIds = runningDeployModelTaskIds;
         this.expiredModelIds = expiredModelIds;
+        this.routingVersion = routingVersion;
+        this.rateLimiterDemand = rateLimiterDemand;
     }
 
     public MLSyncUpNodeResponse(StreamInput in) throws IOException {
@@ -53,6 +83,12 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         if (streamInputVersion.onOrAfter(MLDeploySetting.MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             this.expiredModelIds = in.readOptionalStringArray();
         }
+        if (streamInputVersion.onOrAfter(MLSyncUpInput.MINIMAL_SUPPORTED_VERSION_FOR_VERSIONED_ROUTING)) {
+            this.routingVersion = in.readLong();
+            if (in.readBoolean()) {
+                this.rateLimiterDemand = in.readMap(StreamInput::readString, StreamInput::readLong);
+            }
+        }
     }
 
     public static MLSyncUpNodeResponse readStats(StreamInput in) throws IOException {
@@ -70,5 +106,14 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse {
         if (streamOutputVersion.onOrAfter(MLDeploySetting.MINIMAL_SUPPORTED_VERSION_FOR_MODEL_TTL)) {
             out.writeOptionalStringArray(expiredModelIds);
         }
+        if (streamOutputVersion.onOrAfter(MLSyncUpInput.MINIMAL_SUPPORTED_VERSION_FOR_VERSIONED_ROUTING)) {
+            out.writeLong(routingVersion);
+            if (rateLimiterDemand != null && rateLimiterDemand.size() > 0) {
+                out.writeBoolean(true);
+                out.writeMap(rateLimiterDemand, StreamOutput::writeString, StreamOutput::writeLong);
+            } else {
+                out.writeBoolean(false);
+            }
+        }
     }
 }
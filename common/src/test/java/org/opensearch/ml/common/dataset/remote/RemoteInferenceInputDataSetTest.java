@@ -73,6 +73,22 @@ public class RemoteInferenceInputDataSetTest {
         Assert.assertEquals("PREDICT", inputDataSet2.getActionType().toString());
     }
 
+    @Test
+    public void writeTo_withIngest() throws IOException {
+        Map<String, String> ingest = new HashMap<>();
+        ingest.put("index_name", "test-index");
+        ingest.put("field_map", "{\"chapter\":\"$.content[0]\"}");
+        RemoteInferenceInputDataSet inputDataSet = RemoteInferenceInputDataSet.builder().parameters(Map.of()).ingest(ingest).build();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        inputDataSet.writeTo(output);
+        StreamInput streamInput = output.bytes().streamInput();
+
+        RemoteInferenceInputDataSet inputDataSet2 = (RemoteInferenceInputDataSet) MLInputDataset.fromStream(streamInput);
+        Assert.assertEquals(ingest, inputDataSet2.getIngest());
+        Assert.assertNull(inputDataSet2.getDlq());
+    }
+
     @Test
     public void writeTo_withOptionalStringVersion() throws IOException {
         Map<String, String> parameters = new HashMap<>();
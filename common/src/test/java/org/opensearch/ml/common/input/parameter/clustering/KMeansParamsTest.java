@@ -70,6 +70,26 @@ public class KMeansParamsTest {
         readInputStream(params);
     }
 
+    @Test
+    public void readInputStream_Success_BatchSize() throws IOException {
+        readInputStream(params.toBuilder().batchSize(100).build());
+    }
+
+    @Test
+    public void parse_KMeansParams_BatchSize() throws IOException {
+        TestHelper.testParse(params.toBuilder().batchSize(100).build(), function);
+    }
+
+    @Test
+    public void readInputStream_Success_WarmStartModelId() throws IOException {
+        readInputStream(params.toBuilder().batchSize(100).warmStartModelId("model_id").build());
+    }
+
+    @Test
+    public void parse_KMeansParams_WarmStartModelId() throws IOException {
+        TestHelper.testParse(params.toBuilder().warmStartModelId("model_id").build(), function);
+    }
+
     @Test
     public void readInputStream_Success_EmptyParams() throws IOException {
         readInputStream(KMeansParams.builder().build());
@@ -6,16 +6,19 @@
 package org.opensearch.ml.common.model;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import org.apache.lucene.search.TotalHits;
@@ -25,18 +28,26 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.admin.indices.refresh.RefreshResponse;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
+import org.opensearch.action.admin.indices.stats.ShardStats;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.seqno.SeqNoStats;
 import org.opensearch.ml.common.TestHelper;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.SearchDataObjectRequest;
@@ -49,7 +60,9 @@ import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.search.suggest.Suggest;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.AdminClient;
 import org.opensearch.transport.client.Client;
+import org.opensearch.transport.client.IndicesAdminClient;
 
 public class LocalRegexGuardrailTests {
     NamedXContentRegistry xContentRegistry;
@@ -59,6 +72,10 @@ public class LocalRegexGuardrailTests {
     ThreadPool threadPool;
     @Mock
     SdkClient sdkClient;
+    @Mock
+    AdminClient adminClient;
+    @Mock
+    IndicesAdminClient indicesAdminClient;
     ThreadContext threadContext;
 
     StopWords stopWords;
@@ -77,6 +94,14 @@ public class LocalRegexGuardrailTests {
         this.threadContext = new ThreadContext(settings);
         when(this.client.threadPool()).thenReturn(this.threadPool);
         when(this.threadPool.getThreadContext()).thenReturn(this.threadContext);
+        when(client.admin()).thenReturn(adminClient);
+        when(adminClient.indices()).thenReturn(indicesAdminClient);
+        mockLocalCheckpoints(new long[] { 0 });
+        doAnswer(invocation -> {
+            ActionListener<RefreshResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(RefreshResponse.class));
+            return null;
+        }).when(indicesAdminClient).refresh(any(), any());
 
         stopWords = new StopWords(indexName, List.of(testField).toArray(new String[0]));
         regex = List.of("(.|\n)*stop words(.|\n)*").toArray(new String[0]);
@@ -294,6 +319,174 @@ public class LocalRegexGuardrailTests {
         Mockito.verify(sdkClient, Mockito.times(1)).searchDataObjectAsync(any());
     }
 
+    @Test
+    public void testValidateStopWordsWithInMemoryStopWords() throws IOException {
+        Map<String, List<String>> stopWordsIndices = Map.of(indexName, List.of(testField));
+        LocalRegexGuardrail spyGuardrail = spy(localRegexGuardrail);
+        XContentBuilder source = XContentFactory
+            .jsonBuilder()
+            .startObject()
+            .startObject("query")
+            .startObject("match")
+            .field(testField, "bad word")
+            .endObject()
+            .endObject()
+            .endObject();
+        SearchHit hit = new SearchHit(0, "1", null, null).sourceRef(BytesReference.bytes(source));
+        SearchResponse searchResponse = createSearchResponse(new SearchHit[] { hit });
+        when(sdkClient.searchDataObjectAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new SearchDataObjectResponse(searchResponse)));
+
+        Assert.assertFalse(spyGuardrail.validateStopWords("this is a Bad Word.", stopWordsIndices));
+        // match queries use the OR operator, so any of the words is enough
+        Assert.assertFalse(spyGuardrail.validateStopWords("bad idea", stopWordsIndices));
+        Assert.assertTrue(spyGuardrail.validateStopWords("this is a badword", stopWordsIndices));
+        // the stop words are loaded once and validated in memory afterwards
+        Mockito.verify(sdkClient, Mockito.times(1)).searchDataObjectAsync(any());
+        Mockito.verify(spyGuardrail, Mockito.never()).validateStopWordsSingleIndex(any(), any(), any());
+    }
+
+    @Test
+    public void testValidateStopWordsFallbackWhenLoadingFailed() {
+        Map<String, List<String>> stopWordsIndices = Map.of(indexName, List.of(testField));
+        LocalRegexGuardrail spyGuardrail = spy(localRegexGuardrail);
+        CompletableFuture<SearchDataObjectResponse> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(new IOException("Index not found"));
+        when(sdkClient.searchDataObjectAsync(any())).thenReturn(failedFuture);
+        doReturn(false).when(spyGuardrail).validateStopWordsSingleIndex("stop word", indexName, List.of(testField));
+
+        Assert.assertFalse(spyGuardrail.validateStopWords("stop word", stopWordsIndices));
+        Assert.assertNull(spyGuardrail.getStopWordsAutomaton(indexName, List.of(testField)));
+    }
+
+    @Test
+    public void testValidateStopWordsFallbackForQueryString() throws IOException {
+        // same percolator documents as the stop words fixture of the guardrails integration tests
+        Map<String, List<String>> stopWordsIndices = Map.of(indexName, List.of(testField));
+        LocalRegexGuardrail spyGuardrail = spy(localRegexGuardrail);
+        SearchHit[] hits = new SearchHit[3];
+        String[] phrases = new String[] { "stop word", "stop-word", "stop & word" };
+        for (int i = 0; i < phrases.length; i++) {
+            String query = "{\"query\": {\"query_string\": {\"query\": \"" + testField + ": \\\"" + phrases[i] + "\\\"\"}}}";
+            hits[i] = new SearchHit(i, String.valueOf(i), null, null).sourceRef(new BytesArray(query));
+        }
+        SearchResponse searchResponse = createSearchResponse(hits);
+        when(sdkClient.searchDataObjectAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new SearchDataObjectResponse(searchResponse)));
+        doReturn(false).when(spyGuardrail).validateStopWordsSingleIndex("a stop word", indexName, List.of(testField));
+
+        Assert.assertFalse(spyGuardrail.validateStopWords("a stop word", stopWordsIndices));
+        Assert.assertNull(spyGuardrail.getStopWordsAutomaton(indexName, List.of(testField)));
+        Mockito.verify(spyGuardrail, Mockito.times(1)).validateStopWordsSingleIndex("a stop word", indexName, List.of(testField));
+    }
+
+    @Test
+    public void testValidateStopWordsReloadsWhenCheckpointsChange() throws IOException {
+        Map<String, List<String>> stopWordsIndices = Map.of(indexName, List.of(testField));
+        LocalRegexGuardrail spyGuardrail = spy(localRegexGuardrail);
+        // a new stop word on shard 1, whose sequence numbers are far below the ones of shard 0
+        mockLocalCheckpoints(new long[] { 5, -1 }, new long[] { 5, 0 });
+        SearchResponse before = createSearchResponse(new SearchHit[] { matchQueryHit("1", "bad word") });
+        SearchResponse after = createSearchResponse(new SearchHit[] { matchQueryHit("1", "bad word"), matchQueryHit("2", "evil") });
+        when(sdkClient.searchDataObjectAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new SearchDataObjectResponse(before)))
+            .thenReturn(CompletableFuture.completedFuture(new SearchDataObjectResponse(after)));
+        doReturn(10_000L, 10_500L, 12_000L).when(spyGuardrail).currentTimeMillis();
+
+        Assert.assertTrue(spyGuardrail.validateStopWords("an evil plan", stopWordsIndices));
+        Assert.assertFalse(spyGuardrail.validateStopWords("bad idea", stopWordsIndices));
+        Assert.assertFalse(spyGuardrail.validateStopWords("an evil plan", stopWordsIndices));
+        Mockito.verify(indicesAdminClient, Mockito.times(2)).stats(any(), any());
+        Mockito.verify(indicesAdminClient, Mockito.times(2)).refresh(any(), any());
+        Mockito.verify(sdkClient, Mockito.times(2)).searchDataObjectAsync(any());
+        Mockito.verify(spyGuardrail, Mockito.never()).validateStopWordsSingleIndex(any(), any(), any());
+    }
+
+    @Test
+    public void testValidateStopWordsKeepsStopWordsWhenCheckpointsUnchanged() throws IOException {
+        Map<String, List<String>> stopWordsIndices = Map.of(indexName, List.of(testField));
+        LocalRegexGuardrail spyGuardrail = spy(localRegexGuardrail);
+        mockLocalCheckpoints(new long[] { 5, 3 });
+        SearchResponse searchResponse = createSearchResponse(new SearchHit[] { matchQueryHit("1", "bad word") });
+        when(sdkClient.searchDataObjectAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new SearchDataObjectResponse(searchResponse)));
+        doReturn(10_000L, 12_000L).when(spyGuardrail).currentTimeMillis();
+
+        Assert.assertFalse(spyGuardrail.validateStopWords("bad idea", stopWordsIndices));
+        Assert.assertFalse(spyGuardrail.validateStopWords("bad idea", stopWordsIndices));
+        Mockito.verify(indicesAdminClient, Mockito.times(2)).stats(any(), any());
+        Mockito.verify(sdkClient, Mockito.times(1)).searchDataObjectAsync(any());
+    }
+
+    @Test
+    public void testValidateStopWordsFallbackWhenCheckpointsUnknown() throws IOException {
+        Map<String, List<String>> stopWordsIndices = Map.of(indexName, List.of(testField));
+        LocalRegexGuardrail spyGuardrail = spy(localRegexGuardrail);
+        SearchResponse searchResponse = createSearchResponse(new SearchHit[] { matchQueryHit("1", "bad word") });
+        when(sdkClient.searchDataObjectAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new SearchDataObjectResponse(searchResponse)));
+        doReturn(10_000L, 12_000L).when(spyGuardrail).currentTimeMillis();
+        Assert.assertFalse(spyGuardrail.validateStopWords("bad idea", stopWordsIndices));
+
+        // the stop words index may have changed since the last check, so percolate searches are used
+        doAnswer(invocation -> {
+            ActionListener<IndicesStatsResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new IOException("Failed to get index stats"));
+            return null;
+        }).when(indicesAdminClient).stats(any(), any());
+        doReturn(false).when(spyGuardrail).validateStopWordsSingleIndex("an evil plan", indexName, List.of(testField));
+        Assert.assertFalse(spyGuardrail.validateStopWords("an evil plan", stopWordsIndices));
+        Mockito.verify(spyGuardrail, Mockito.times(1)).validateStopWordsSingleIndex("an evil plan", indexName, List.of(testField));
+    }
+
+    @Test
+    public void testExtractStopWords() {
+        List<String> fields = List.of(testField);
+        Assert.assertEquals(List.of(), LocalRegexGuardrail.extractStopWords(Map.of(testField, List.of("a", "b")), fields));
+        Assert
+            .assertEquals(
+                List.of("c"),
+                LocalRegexGuardrail.extractStopWords(Map.of("query", Map.of("match", Map.of(testField, Map.of("query", "c")))), fields)
+            );
+        Assert
+            .assertEquals(
+                List.of("c", "d"),
+                LocalRegexGuardrail.extractStopWords(Map.of("query", Map.of("match", Map.of(testField, "c d"))), fields)
+            );
+        Map<String, Object> bool = Map
+            .of(
+                "query",
+                Map
+                    .of(
+                        "bool",
+                        Map.of("should", List.of(Map.of("match", Map.of(testField, "e")), Map.of("match_phrase", Map.of(testField, "f"))))
+                    )
+            );
+        Assert.assertEquals(List.of("e", "f"), LocalRegexGuardrail.extractStopWords(bool, fields));
+
+        // queries the automaton can't match exactly
+        Assert.assertNull(LocalRegexGuardrail.extractStopWords(Map.of("query", Map.of("match_phrase", Map.of(testField, "c d"))), fields));
+        Map<String, Object> andOperator = Map.of("match", Map.of(testField, Map.of("query", "c d", "operator", "and")));
+        Assert.assertNull(LocalRegexGuardrail.extractStopWords(Map.of("query", andOperator), fields));
+        Assert.assertNull(LocalRegexGuardrail.extractStopWords(Map.of("query", Map.of("match", Map.of(testField, "stop-word"))), fields));
+        Assert.assertNull(LocalRegexGuardrail.extractStopWords(Map.of("query", Map.of("match", Map.of("other", "c"))), fields));
+        Assert
+            .assertNull(
+                LocalRegexGuardrail
+                    .extractStopWords(Map.of("query", Map.of("query_string", Map.of("query", testField + ": \"stop word\""))), fields)
+            );
+    }
+
+    @Test
+    public void testCombineRegex() {
+        Pattern combined = LocalRegexGuardrail.combineRegex(List.of(".*foo.*", ".*bar.*"));
+        Assert.assertNotNull(combined);
+        Assert.assertFalse(localRegexGuardrail.validateRegex("a bar b", combined));
+        Assert.assertTrue(localRegexGuardrail.validateRegex("a baz b", combined));
+        Assert.assertNull(LocalRegexGuardrail.combineRegex(List.of("(a)\\1", ".*bar.*")));
+        Assert.assertNull(LocalRegexGuardrail.combineRegex(List.of(".*bar.*")));
+    }
+
     @Test
     public void testBuildSearchDataObjectRequest() throws IOException {
         SearchDataObjectRequest request = localRegexGuardrail.buildSearchDataObjectRequest(indexName, "{}");
@@ -307,9 +500,49 @@ public class LocalRegexGuardrailTests {
         if (size > 0) {
             hits[0] = new SearchHit(0).sourceRef(BytesReference.bytes(content));
         }
+        return createSearchResponse(hits);
+    }
+
+    private SearchHit matchQueryHit(String id, String words) throws IOException {
+        XContentBuilder source = XContentFactory
+            .jsonBuilder()
+            .startObject()
+            .startObject("query")
+            .startObject("match")
+            .field(testField, words)
+            .endObject()
+            .endObject()
+            .endObject();
+        return new SearchHit(0, id, null, null).sourceRef(BytesReference.bytes(source));
+    }
+
+    private void mockLocalCheckpoints(long[]... responses) {
+        List<IndicesStatsResponse> statsResponses = new ArrayList<>();
+        for (long[] localCheckpoints : responses) {
+            ShardStats[] shards = new ShardStats[localCheckpoints.length];
+            for (int i = 0; i < localCheckpoints.length; i++) {
+                ShardRouting shardRouting = mock(ShardRouting.class);
+                when(shardRouting.shardId()).thenReturn(new ShardId(indexName, "uuid", i));
+                shards[i] = mock(ShardStats.class);
+                when(shards[i].getShardRouting()).thenReturn(shardRouting);
+                when(shards[i].getSeqNoStats()).thenReturn(new SeqNoStats(localCheckpoints[i], localCheckpoints[i], localCheckpoints[i]));
+            }
+            IndicesStatsResponse statsResponse = mock(IndicesStatsResponse.class);
+            when(statsResponse.getShards()).thenReturn(shards);
+            statsResponses.add(statsResponse);
+        }
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            ActionListener<IndicesStatsResponse> listener = invocation.getArgument(1);
+            listener.onResponse(statsResponses.get(Math.min(calls.getAndIncrement(), statsResponses.size() - 1)));
+            return null;
+        }).when(indicesAdminClient).stats(any(), any());
+    }
+
+    private SearchResponse createSearchResponse(SearchHit[] hits) {
         return new SearchResponse(
             new InternalSearchResponse(
-                new SearchHits(hits, new TotalHits(size, TotalHits.Relation.EQUAL_TO), 1.0f),
+                new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f),
                 InternalAggregations.EMPTY,
                 new Suggest(Collections.emptyList()),
                 new SearchProfileShardResults(Collections.emptyMap()),
@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StopWordsAutomatonTests {
+
+    @Test
+    public void matchesWholeWordsIgnoringCase() {
+        StopWordsAutomaton automaton = new StopWordsAutomaton(List.of("rob", "how to rob a bank"));
+
+        Assert.assertEquals(2, automaton.getSize());
+        Assert.assertTrue(automaton.matches("Tell me HOW TO ROB A BANK?"));
+        Assert.assertTrue(automaton.matches("rob"));
+        Assert.assertFalse(automaton.matches("a robot"));
+        Assert.assertFalse(automaton.matches("problem"));
+    }
+
+    @Test
+    public void matchesOverlappingWords() {
+        StopWordsAutomaton automaton = new StopWordsAutomaton(List.of("she", "he", "hers"));
+
+        Assert.assertTrue(automaton.matches("ushers he"));
+        Assert.assertTrue(automaton.matches("hers"));
+        Assert.assertFalse(automaton.matches("ushers"));
+    }
+
+    @Test
+    public void ignoresBlankWords() {
+        StopWordsAutomaton automaton = new StopWordsAutomaton(Arrays.asList(null, " ", ""));
+
+        Assert.assertEquals(0, automaton.getSize());
+        Assert.assertFalse(automaton.matches("anything"));
+        Assert.assertFalse(new StopWordsAutomaton(Collections.emptyList()).matches(null));
+    }
+}
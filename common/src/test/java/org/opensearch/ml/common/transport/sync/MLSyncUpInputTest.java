@@ -84,4 +84,37 @@ public class MLSyncUpInputTest {
         );
 
     }
+
+    @Test
+    public void testConstructorSerialization_DeltaRoutingSync() throws IOException {
+        MLSyncUpInput syncUpInput = MLSyncUpInput
+            .builder()
+            .deltaRoutingSync(true)
+            .modelRoutingTable(Map.of("model1", Set.of("node1")))
+            .removedModelRoutings(Set.of("model2"))
+            .baseRoutingVersion(3)
+            .routingVersion(4)
+            .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+
+        assertTrue(parsedInput.isDeltaRoutingSync());
+        assertEquals(Set.of("node1"), parsedInput.getModelRoutingTable().get("model1"));
+        assertEquals(Set.of("model2"), parsedInput.getRemovedModelRoutings());
+        assertEquals(3, parsedInput.getBaseRoutingVersion());
+        assertEquals(4, parsedInput.getRoutingVersion());
+    }
+
+    @Test
+    public void testConstructorSerialization_ClusterRateLimiterDemand() throws IOException {
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder().clusterRateLimiterDemand(Map.of("model1", 10L)).build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+
+        assertEquals(Map.of("model1", 10L), parsedInput.getClusterRateLimiterDemand());
+    }
 }
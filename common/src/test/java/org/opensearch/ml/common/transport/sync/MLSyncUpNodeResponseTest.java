@@ -6,6 +6,7 @@ import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE
 import java.io.IOException;
 import java.net.InetAddress;
 import java.util.Collections;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -79,4 +80,23 @@ public class MLSyncUpNodeResponseTest {
         assertArrayEquals(newResponse.getRunningDeployModelTaskIds(), response.getRunningDeployModelTaskIds());
 
     }
+
+    @Test
+    public void testSerializationDeserialization_RateLimiterDemand() throws IOException {
+        MLSyncUpNodeResponse response = new MLSyncUpNodeResponse(
+            localNode,
+            modelStatus,
+            loadedModelIds,
+            runningLoadModelIds,
+            runningLoadModelTaskIds,
+            expiredModelIds,
+            2,
+            Map.of("model1", 5L)
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLSyncUpNodeResponse newResponse = new MLSyncUpNodeResponse(output.bytes().streamInput());
+        assertEquals(2, newResponse.getRoutingVersion());
+        assertEquals(Map.of("model1", 5L), newResponse.getRateLimiterDemand());
+    }
 }
@@ -12,6 +12,7 @@ import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Map;
 
+import org.opensearch.Version;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -40,6 +41,7 @@ public class MLEngine {
     public static final String REGISTER_MODEL_FOLDER = "register";
     public static final String DEPLOY_MODEL_FOLDER = "deploy";
     public static final String ANALYSIS_FOLDER = "analysis";
+    public static final String MIN_NODE_VERSION_PROPERTY = "minNodeVersion";
     private final String MODEL_REPO = "https://artifacts.opensearch.org/models/ml-models";
 
     @Getter
@@ -121,15 +123,48 @@ public class MLEngine {
     }
 
     public MLModel train(Input input) {
+        return train(input, Version.CURRENT);
+    }
+
+    /**
+     * Train a model with its content in a format every node of the cluster can read.
+     * @param input training input
+     * @param minNodeVersion version of the oldest node of the cluster
+     * @return ML model
+     */
+    public MLModel train(Input input, Version minNodeVersion) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
-        Trainable trainable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        Trainable trainable = MLEngineClassLoader
+            .initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class, minNodeVersionProperty(minNodeVersion));
         if (trainable == null) {
             throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
         }
         return trainable.train(mlInput);
     }
 
+    /**
+     * Start training fed one chunk of training data at a time.
+     * @param input training input
+     * @param minNodeVersion version of the oldest node of the cluster
+     * @return mini-batch training, or null if the algorithm and parameters train on the whole training data at once
+     */
+    public MiniBatchTraining startMiniBatchTraining(Input input, Version minNodeVersion) {
+        validateMLInput(input);
+        MLInput mlInput = (MLInput) input;
+        Trainable trainable = MLEngineClassLoader
+            .initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class, minNodeVersionProperty(minNodeVersion));
+        if (!(trainable instanceof MiniBatchTrainable)) {
+            return null;
+        }
+        return ((MiniBatchTrainable) trainable).startMiniBatchTraining();
+    }
+
+    // algorithms with a minNodeVersion property store trained models in a format nodes of that version can read
+    private static Map<String, Object> minNodeVersionProperty(Version minNodeVersion) {
+        return Map.of(MIN_NODE_VERSION_PROPERTY, minNodeVersion);
+    }
+
     public Map<String, String> getConnectorCredential(Connector connector) {
         connector
             .decrypt(
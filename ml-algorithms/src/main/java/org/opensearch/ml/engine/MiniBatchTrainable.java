@@ -0,0 +1,19 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+/**
+ * This is machine learning algorithms train interface for training on one chunk of the training data at a time.
+ */
+public interface MiniBatchTrainable extends Trainable {
+
+    /**
+     * Start training fed one chunk of training data at a time.
+     * @return mini-batch training, or null if the parameters ask to train on the whole training data at once
+     */
+    MiniBatchTraining startMiniBatchTraining();
+
+}
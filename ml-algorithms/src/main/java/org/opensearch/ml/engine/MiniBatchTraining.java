@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.DefaultDataFrame;
+import org.opensearch.ml.common.dataframe.Row;
+
+/**
+ * Training fed one chunk of training data at a time, so the whole training data never has to be held in memory.
+ * The training data is fed {@link #getPasses()} times, in chunks of {@link #getBatchSize()} rows.
+ */
+public interface MiniBatchTraining {
+
+    /**
+     * @return id of the trained model to continue training from, or null to train from scratch
+     */
+    String getWarmStartModelId();
+
+    /**
+     * Continue training from a trained model. Must be called before the first chunk.
+     * @param model trained model with the id of {@link #getWarmStartModelId()}
+     */
+    void warmStart(MLModel model);
+
+    /**
+     * @return number of times the training data is fed
+     */
+    int getPasses();
+
+    /**
+     * @return number of rows per chunk
+     */
+    int getBatchSize();
+
+    /**
+     * Train with one chunk of training data.
+     * @param chunk rows of training data
+     */
+    void partialFit(DataFrame chunk);
+
+    /**
+     * @return ML model with serialized model content
+     */
+    MLModel toModel();
+
+    /**
+     * Train with all the passes over training data already in memory, one chunk at a time.
+     * @param dataFrame training data
+     */
+    default void fit(DataFrame dataFrame) {
+        ColumnMeta[] columnMetas = dataFrame.columnMetas();
+        for (int pass = 0; pass < getPasses(); pass++) {
+            for (int start = 0; start < dataFrame.size(); start += getBatchSize()) {
+                List<Row> rows = new ArrayList<>();
+                for (int rowNum = start; rowNum < Math.min(start + getBatchSize(), dataFrame.size()); rowNum++) {
+                    rows.add(dataFrame.getRow(rowNum));
+                }
+                partialFit(new DefaultDataFrame(columnMetas, rows));
+            }
+        }
+    }
+
+}
@@ -13,6 +13,7 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener.TokenLatencyListener;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.transport.TransportChannel;
 
@@ -49,6 +50,22 @@ public interface Predictable {
         actionListener.onFailure(new IllegalStateException(METHOD_NOT_IMPLEMENTED_ERROR_MSG));
     }
 
+    /**
+     * Predict with a listener that receives the chunk latency when the output is streamed to the channel.
+     * @param mlInput input data
+     * @param actionListener action listener
+     * @param channel transport channel to stream the output to, may be null
+     * @param tokenLatencyListener receives the chunk latency of a streamed output, may be null
+     */
+    default void asyncPredict(
+        MLInput mlInput,
+        ActionListener<MLTaskResponse> actionListener,
+        TransportChannel channel,
+        TokenLatencyListener tokenLatencyListener
+    ) {
+        asyncPredict(mlInput, actionListener, channel);
+    }
+
     /**
      * Init model (load model into memory) with ML model content and params.
      * @param model ML model
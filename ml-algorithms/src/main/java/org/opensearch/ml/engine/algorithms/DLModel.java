@@ -27,6 +27,7 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.model.BaseModelConfig;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
@@ -58,6 +59,8 @@ public abstract class DLModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    // optional number of inputs run in one forward pass, read from the additional config of the model
+    public static final String BATCH_SIZE_FIELD = "batch_size";
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
     protected String modelId;
@@ -104,6 +107,20 @@ public abstract class DLModel implements Predictable {
         return predictors[currentDevice];
     }
 
+    /**
+     * @param defaultBatchSize batch size used when the model config doesn't set a positive one
+     * @return number of inputs to run in one forward pass
+     */
+    protected int getBatchSize(int defaultBatchSize) {
+        if (modelConfig instanceof BaseModelConfig && ((BaseModelConfig) modelConfig).getAdditionalConfig() != null) {
+            Object batchSize = ((BaseModelConfig) modelConfig).getAdditionalConfig().get(BATCH_SIZE_FIELD);
+            if (batchSize instanceof Number && ((Number) batchSize).intValue() > 0) {
+                return ((Number) batchSize).intValue();
+            }
+        }
+        return defaultBatchSize;
+    }
+
     public abstract ModelTensorOutput predict(String modelId, MLInput input) throws TranslateException;
 
     @Override
@@ -30,28 +30,39 @@ public abstract class TextEmbeddingModel extends DLModel {
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
         MLAlgoParams mlParams = mlInput.getParameters();
 
-        MLInputDataset inputDataSet = isAsymmetricModel(mlParams)
-            ? addPrefixesToData((AsymmetricTextEmbeddingParameters) mlParams, (TextDocsInputDataSet) mlInput.getInputDataset())
-            : mlInput.getInputDataset();
-
         List<ModelTensors> tensorOutputs = new ArrayList<>();
         Output output;
-        TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
+        TextDocsInputDataSet textDocsInput = getTextDocsInput(mlInput);
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
         for (String doc : textDocsInput.getDocs()) {
-            Input input = new Input();
-            input.add(doc);
-            if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
-                AsymmetricTextEmbeddingParameters params = (AsymmetricTextEmbeddingParameters) mlParams;
-                input.add(AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD, params.getSparseEmbeddingFormat().name());
-            }
-
-            output = getPredictor().predict(input);
+            output = getPredictor().predict(createInput(doc, mlParams));
             tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
         }
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    /**
+     * @param mlInput text docs input
+     * @return the docs to encode, with the query or passage prefix of an asymmetric model applied
+     */
+    protected TextDocsInputDataSet getTextDocsInput(MLInput mlInput) {
+        MLAlgoParams mlParams = mlInput.getParameters();
+        MLInputDataset inputDataSet = isAsymmetricModel(mlParams)
+            ? addPrefixesToData((AsymmetricTextEmbeddingParameters) mlParams, (TextDocsInputDataSet) mlInput.getInputDataset())
+            : mlInput.getInputDataset();
+        return (TextDocsInputDataSet) inputDataSet;
+    }
+
+    protected Input createInput(String doc, MLAlgoParams mlParams) {
+        Input input = new Input();
+        input.add(doc);
+        if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
+            AsymmetricTextEmbeddingParameters params = (AsymmetricTextEmbeddingParameters) mlParams;
+            input.add(AsymmetricTextEmbeddingParameters.SPARSE_EMBEDDING_FORMAT_FIELD, params.getSparseEmbeddingFormat().name());
+        }
+        return input;
+    }
+
     protected boolean isAsymmetricModel(MLAlgoParams mlParams) {
         if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
             // Check for the necessary prefixes in modelConfig
@@ -6,13 +6,17 @@
 package org.opensearch.ml.engine.algorithms.clustering;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 
+import org.opensearch.Version;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
@@ -22,6 +26,8 @@ import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.engine.MiniBatchTrainable;
+import org.opensearch.ml.engine.MiniBatchTraining;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.contants.TribuoOutputType;
@@ -36,11 +42,12 @@ import org.tribuo.clustering.kmeans.KMeansModel;
 import org.tribuo.clustering.kmeans.KMeansTrainer;
 
 @Function(FunctionName.KMEANS)
-public class KMeans implements TrainAndPredictable {
+public class KMeans implements TrainAndPredictable, MiniBatchTrainable {
     public static final String VERSION = "1.0.0";
     private static final KMeansParams.DistanceType DEFAULT_DISTANCE_TYPE = KMeansParams.DistanceType.EUCLIDEAN;
     private static int DEFAULT_CENTROIDS = 2;
     private static int DEFAULT_ITERATIONS = 10;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
 
     // Parameters
     private KMeansParams parameters;
@@ -53,6 +60,10 @@ public class KMeans implements TrainAndPredictable {
     private KMeansTrainer.Distance distance;
 
     private KMeansModel kMeansModel;
+    private MiniBatchKMeans miniBatchKMeans;
+
+    // version of the oldest node of the cluster, trained models are stored in a format it can read
+    private Version minNodeVersion = Version.CURRENT;
 
     public KMeans() {}
 
@@ -72,6 +83,14 @@ public class KMeans implements TrainAndPredictable {
             throw new IllegalArgumentException("Iterations should be positive.");
         }
 
+        if (parameters.getBatchSize() != null && parameters.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("Batch size should be positive.");
+        }
+
+    }
+
+    public void setMinNodeVersion(Version minNodeVersion) {
+        this.minNodeVersion = minNodeVersion;
     }
 
     private void createDistance() {
@@ -91,22 +110,37 @@ public class KMeans implements TrainAndPredictable {
 
     @Override
     public void initModel(MLModel model, Map<String, Object> params, Encryptor encryptor) {
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        loadModel(model);
+    }
+
+    private void loadModel(MLModel model) {
+        Object trainedModel = deserialize(model);
+        if (trainedModel instanceof MiniBatchKMeans) {
+            this.miniBatchKMeans = (MiniBatchKMeans) trainedModel;
+            this.kMeansModel = null;
+        } else {
+            this.kMeansModel = (KMeansModel) trainedModel;
+            this.miniBatchKMeans = null;
+        }
     }
 
     @Override
     public void close() {
         this.kMeansModel = null;
+        this.miniBatchKMeans = null;
     }
 
     @Override
     public boolean isModelReady() {
-        return kMeansModel != null;
+        return kMeansModel != null || miniBatchKMeans != null;
     }
 
     @Override
     public MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
+        if (miniBatchKMeans != null) {
+            return toClusterIDOutput(miniBatchKMeans.predict(dataFrame));
+        }
         MutableDataset<ClusterID> predictionDataset = TribuoUtil
             .generateDataset(dataFrame, new ClusteringFactory(), "KMeans prediction data from opensearch", TribuoOutputType.CLUSTERID);
         List<Prediction<ClusterID>> predictions = kMeansModel.predict(predictionDataset);
@@ -121,34 +155,152 @@ public class KMeans implements TrainAndPredictable {
         if (model == null) {
             throw new IllegalArgumentException("No model found for KMeans prediction.");
         }
-        this.kMeansModel = (KMeansModel) ModelSerDeSer.deserialize(model);
+        loadModel(model);
         return predict(mlInput);
     }
 
     @Override
     public MLModel train(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
+        if (parameters.getBatchSize() != null) {
+            checkBinaryFormatReadable();
+            return toMLModel(trainMiniBatch(dataFrame));
+        }
         MutableDataset<ClusterID> trainDataset = TribuoUtil
             .generateDataset(dataFrame, new ClusteringFactory(), "KMeans training data from opensearch", TribuoOutputType.CLUSTERID);
         Integer centroids = Optional.ofNullable(parameters.getCentroids()).orElse(DEFAULT_CENTROIDS);
         Integer iterations = Optional.ofNullable(parameters.getIterations()).orElse(DEFAULT_ITERATIONS);
         KMeansTrainer trainer = new KMeansTrainer(centroids, iterations, distance, numThreads, seed);
         KMeansModel kMeansModel = trainer.train(trainDataset);
+        if (minNodeVersion.before(MiniBatchKMeans.BINARY_FORMAT_MIN_NODE_VERSION)) {
+            // keep writing the format older nodes read until every node reads the binary format
+            return toMLModel(ModelSerDeSer.serializeToBase64(kMeansModel));
+        }
+        String[] featureNames = Arrays.stream(dataFrame.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
+        KMeansParams.DistanceType distanceType = Optional.ofNullable(parameters.getDistanceType()).orElse(DEFAULT_DISTANCE_TYPE);
+        return toMLModel(MiniBatchKMeans.fromTribuo(kMeansModel, featureNames, distanceType));
+    }
+
+    private MiniBatchKMeans trainMiniBatch(DataFrame dataFrame) {
+        KMeansMiniBatchTraining training = new KMeansMiniBatchTraining();
+        training.fit(dataFrame);
+        return training.miniBatchKMeans;
+    }
+
+    /**
+     * Trains with mini-batch k-means when a batch size or a model to warm start from is given. Each iteration is one
+     * pass over the training data.
+     */
+    @Override
+    public MiniBatchTraining startMiniBatchTraining() {
+        if (parameters.getBatchSize() == null && parameters.getWarmStartModelId() == null) {
+            return null;
+        }
+        checkBinaryFormatReadable();
+        return new KMeansMiniBatchTraining();
+    }
+
+    private class KMeansMiniBatchTraining implements MiniBatchTraining {
+        private final Random random = new Random(seed);
+        // created from the columns of the first chunk, unless warm started
+        private MiniBatchKMeans miniBatchKMeans;
+
+        @Override
+        public String getWarmStartModelId() {
+            return parameters.getWarmStartModelId();
+        }
+
+        @Override
+        public void warmStart(MLModel model) {
+            if (model == null || model.getAlgorithm() != FunctionName.KMEANS) {
+                throw new IllegalArgumentException("Model to warm start from is not a KMeans model.");
+            }
+            KMeansParams.DistanceType distanceType = Optional.ofNullable(parameters.getDistanceType()).orElse(DEFAULT_DISTANCE_TYPE);
+            Object trainedModel = deserialize(model);
+            MiniBatchKMeans warmStartKMeans = trainedModel instanceof MiniBatchKMeans
+                ? (MiniBatchKMeans) trainedModel
+                : MiniBatchKMeans.fromTribuo((KMeansModel) trainedModel, distanceType);
+            if (parameters.getCentroids() != null && parameters.getCentroids() != warmStartKMeans.getCentroids().length) {
+                throw new IllegalArgumentException(
+                    "Model to warm start from has " + warmStartKMeans.getCentroids().length + " centroids, not " + parameters.getCentroids()
+                );
+            }
+            this.miniBatchKMeans = warmStartKMeans;
+        }
+
+        @Override
+        public int getPasses() {
+            return Optional.ofNullable(parameters.getIterations()).orElse(DEFAULT_ITERATIONS);
+        }
+
+        @Override
+        public int getBatchSize() {
+            return Optional.ofNullable(parameters.getBatchSize()).orElse(DEFAULT_BATCH_SIZE);
+        }
+
+        @Override
+        public void partialFit(DataFrame chunk) {
+            if (miniBatchKMeans == null) {
+                String[] featureNames = Arrays.stream(chunk.columnMetas()).map(ColumnMeta::getName).toArray(String[]::new);
+                Integer centroids = Optional.ofNullable(parameters.getCentroids()).orElse(DEFAULT_CENTROIDS);
+                KMeansParams.DistanceType distanceType = Optional.ofNullable(parameters.getDistanceType()).orElse(DEFAULT_DISTANCE_TYPE);
+                miniBatchKMeans = new MiniBatchKMeans(featureNames, centroids, distanceType);
+            }
+            miniBatchKMeans.partialFit(chunk, random);
+        }
+
+        @Override
+        public MLModel toModel() {
+            if (miniBatchKMeans == null) {
+                throw new IllegalArgumentException("No data found to train KMeans.");
+            }
+            return toMLModel(miniBatchKMeans);
+        }
+    }
+
+    // models stored before the binary format hold a Java-serialized Tribuo model
+    private static Object deserialize(MLModel model) {
+        byte[] bytes = ModelSerDeSer.decodeBase64(model.getContent());
+        return MiniBatchKMeans.isBinaryFormat(bytes) ? MiniBatchKMeans.fromBytes(bytes) : ModelSerDeSer.deserialize(bytes);
+    }
 
+    // mini-batch models have no Java-serialized form, so they are only trained once every node reads the binary format
+    private void checkBinaryFormatReadable() {
+        if (minNodeVersion.before(MiniBatchKMeans.BINARY_FORMAT_MIN_NODE_VERSION)) {
+            throw new IllegalArgumentException(
+                "Mini-batch KMeans needs every node on version " + MiniBatchKMeans.BINARY_FORMAT_MIN_NODE_VERSION + " or later."
+            );
+        }
+    }
+
+    private MLModel toMLModel(MiniBatchKMeans trainedModel) {
+        return toMLModel(ModelSerDeSer.encodeBase64(trainedModel.toBytes()));
+    }
+
+    private MLModel toMLModel(String content) {
         MLModel model = MLModel
             .builder()
             .name(FunctionName.KMEANS.name())
             .algorithm(FunctionName.KMEANS)
             .version(VERSION)
-            .content(ModelSerDeSer.serializeToBase64(kMeansModel))
+            .content(content)
             .modelState(MLModelState.TRAINED)
             .build();
         return model;
     }
 
+    private MLOutput toClusterIDOutput(int[] clusterIDs) {
+        List<Map<String, Object>> listClusterID = new ArrayList<>();
+        Arrays.stream(clusterIDs).forEach(clusterID -> listClusterID.add(Collections.singletonMap("ClusterID", clusterID)));
+        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(listClusterID)).build();
+    }
+
     @Override
     public MLOutput trainAndPredict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
+        if (parameters.getBatchSize() != null) {
+            return toClusterIDOutput(trainMiniBatch(dataFrame).predict(dataFrame));
+        }
         MutableDataset<ClusterID> trainDataset = TribuoUtil
             .generateDataset(
                 dataFrame,
@@ -0,0 +1,380 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.clustering;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import org.opensearch.Version;
+import org.opensearch.ml.common.CommonValue;
+import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.dataframe.Row;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+import org.opensearch.ml.engine.exceptions.ModelSerDeSerException;
+import org.opensearch.ml.engine.utils.MLComputePool;
+import org.tribuo.Feature;
+import org.tribuo.ImmutableFeatureMap;
+import org.tribuo.clustering.kmeans.KMeansModel;
+
+import lombok.Getter;
+
+/**
+ * Mini-batch k-means over primitive arrays. Centroids are moved towards the rows of one chunk at a time with a per
+ * centroid learning rate of one over the number of rows the centroid has absorbed, so training only holds the
+ * centroids and the current chunk instead of the whole data set. Rows of a chunk are assigned to their closest
+ * centroid in parallel on the {@link MLComputePool}.
+ * A trained model is stored in a compact binary format holding the centroids as raw primitives, rather than with Java
+ * serialization. Models trained with Tribuo k-means are converted with {@link #fromTribuo} and stored the same way.
+ */
+public class MiniBatchKMeans {
+    // leading bytes of the binary format, "MLKM", which a Java serialization stream never starts with
+    private static final int MAGIC = 0x4D4C4B4D;
+    private static final byte FORMAT_VERSION = 1;
+    // first version whose nodes read the binary format, older nodes only read Java-serialized Tribuo models
+    public static final Version BINARY_FORMAT_MIN_NODE_VERSION = CommonValue.VERSION_3_3_0;
+
+    // below this many rows assigning on the calling thread is cheaper than forking
+    private static final int PARALLEL_ASSIGNMENT_THRESHOLD = 1000;
+
+    @Getter
+    private final String[] featureNames;
+    private final KMeansParams.DistanceType distanceType;
+    private final double[][] centroids;
+    // number of rows each centroid absorbed so far
+    private final long[] counts;
+    // number of centroids seeded, seeding carries over to the next chunk when a chunk has fewer rows than centroids
+    private int seeded;
+
+    public MiniBatchKMeans(String[] featureNames, int k, KMeansParams.DistanceType distanceType) {
+        this.featureNames = featureNames;
+        this.distanceType = distanceType;
+        this.centroids = new double[k][featureNames.length];
+        this.counts = new long[k];
+    }
+
+    private MiniBatchKMeans(String[] featureNames, KMeansParams.DistanceType distanceType, double[][] centroids, long[] counts) {
+        this.featureNames = featureNames;
+        this.distanceType = distanceType;
+        this.centroids = centroids;
+        this.counts = counts;
+        this.seeded = centroids.length;
+    }
+
+    /**
+     * Copies the centroids of a model trained with Tribuo k-means. Cluster ids keep the index Tribuo gave the centroids.
+     * @param model trained Tribuo model
+     * @param featureNames columns the model was trained on
+     * @param distanceType distance the model was trained with
+     * @return mini-batch k-means predicting the same clusters
+     */
+    public static MiniBatchKMeans fromTribuo(KMeansModel model, String[] featureNames, KMeansParams.DistanceType distanceType) {
+        List<List<Feature>> trainedCentroids = model.getCentroids();
+        Map<String, Integer> featureIndices = indexOf(featureNames);
+        // Tribuo centroids are sparse, features it never saw stay 0
+        double[][] centroids = new double[trainedCentroids.size()][featureNames.length];
+        for (int c = 0; c < centroids.length; c++) {
+            for (Feature feature : trainedCentroids.get(c)) {
+                Integer featureIndex = featureIndices.get(feature.getName());
+                if (featureIndex != null) {
+                    centroids[c][featureIndex] = feature.getValue();
+                }
+            }
+        }
+        // Tribuo models don't keep cluster sizes, every centroid weighs as much as a single row
+        long[] counts = new long[centroids.length];
+        Arrays.fill(counts, 1);
+        return new MiniBatchKMeans(featureNames, distanceType, centroids, counts);
+    }
+
+    /**
+     * Copies the centroids of a model trained with Tribuo k-means, over all the features the model was trained on.
+     * @param model trained Tribuo model
+     * @param distanceType distance the model was trained with
+     * @return mini-batch k-means predicting the same clusters
+     */
+    public static MiniBatchKMeans fromTribuo(KMeansModel model, KMeansParams.DistanceType distanceType) {
+        ImmutableFeatureMap featureMap = model.getFeatureIDMap();
+        String[] featureNames = IntStream.range(0, featureMap.size()).mapToObj(i -> featureMap.get(i).getName()).toArray(String[]::new);
+        return fromTribuo(model, featureNames, distanceType);
+    }
+
+    /**
+     * Updates the centroids with one chunk of rows.
+     * @param chunk rows with the same columns as the feature names, in any order
+     * @param random random used to seed centroids
+     */
+    public void partialFit(DataFrame chunk, Random random) {
+        double[][] points = toPoints(chunk);
+        if (points.length == 0) {
+            return;
+        }
+        if (seeded < centroids.length) {
+            seed(points, random);
+        }
+        int[] assignments = assign(points);
+        for (int i = 0; i < points.length; i++) {
+            double[] centroid = centroids[assignments[i]];
+            double learningRate = 1.0 / ++counts[assignments[i]];
+            for (int j = 0; j < centroid.length; j++) {
+                centroid[j] += learningRate * (points[i][j] - centroid[j]);
+            }
+        }
+    }
+
+    /**
+     * @param dataFrame rows to cluster
+     * @return the index of the closest centroid of every row
+     */
+    public int[] predict(DataFrame dataFrame) {
+        if (seeded == 0) {
+            throw new IllegalStateException("K-means model is not trained");
+        }
+        return assign(toPoints(dataFrame));
+    }
+
+    public double[][] getCentroids() {
+        return Arrays.stream(centroids, 0, seeded).map(double[]::clone).toArray(double[][]::new);
+    }
+
+    /**
+     * Seeds the missing centroids with k-means++, picking rows with a probability proportional to their squared
+     * distance to the closest centroid seeded so far.
+     */
+    private void seed(double[][] points, Random random) {
+        double[] minDistances = new double[points.length];
+        Arrays.fill(minDistances, Double.MAX_VALUE);
+        for (int c = 0; c < seeded; c++) {
+            updateMinDistances(points, centroids[c], minDistances);
+        }
+        int candidates = points.length;
+        while (seeded < centroids.length && candidates > 0) {
+            int picked = seeded == 0 ? random.nextInt(points.length) : pickByDistance(minDistances, random);
+            System.arraycopy(points[picked], 0, centroids[seeded], 0, points[picked].length);
+            updateMinDistances(points, centroids[seeded], minDistances);
+            seeded++;
+            candidates--;
+        }
+    }
+
+    private void updateMinDistances(double[][] points, double[] centroid, double[] minDistances) {
+        for (int i = 0; i < points.length; i++) {
+            double distance = distance(points[i], centroid);
+            minDistances[i] = Math.min(minDistances[i], distance * distance);
+        }
+    }
+
+    private int pickByDistance(double[] minDistances, Random random) {
+        double total = 0;
+        for (double minDistance : minDistances) {
+            total += minDistance;
+        }
+        if (total == 0) {
+            // every row sits on a centroid already
+            return random.nextInt(minDistances.length);
+        }
+        double target = random.nextDouble() * total;
+        for (int i = 0; i < minDistances.length; i++) {
+            target -= minDistances[i];
+            if (target <= 0 && minDistances[i] > 0) {
+                return i;
+            }
+        }
+        return minDistances.length - 1;
+    }
+
+    private int[] assign(double[][] points) {
+        int[] assignments = new int[points.length];
+        if (points.length < PARALLEL_ASSIGNMENT_THRESHOLD) {
+            for (int i = 0; i < points.length; i++) {
+                assignments[i] = closestCentroid(points[i]);
+            }
+            return assignments;
+        }
+        try {
+            MLComputePool.forEach(points.length, i -> assignments[i] = closestCentroid(points[i]));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while assigning rows to k-means centroids", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to assign rows to k-means centroids", e.getCause());
+        }
+        return assignments;
+    }
+
+    private int closestCentroid(double[] point) {
+        int closest = 0;
+        double minDistance = Double.MAX_VALUE;
+        for (int c = 0; c < seeded; c++) {
+            double distance = distance(point, centroids[c]);
+            if (distance < minDistance) {
+                minDistance = distance;
+                closest = c;
+            }
+        }
+        return closest;
+    }
+
+    private double distance(double[] point, double[] centroid) {
+        switch (distanceType) {
+            case COSINE:
+                double dot = 0;
+                double pointNorm = 0;
+                double centroidNorm = 0;
+                for (int j = 0; j < point.length; j++) {
+                    dot += point[j] * centroid[j];
+                    pointNorm += point[j] * point[j];
+                    centroidNorm += centroid[j] * centroid[j];
+                }
+                return pointNorm == 0 || centroidNorm == 0 ? 1 : 1 - dot / Math.sqrt(pointNorm * centroidNorm);
+            case L1:
+                double l1 = 0;
+                for (int j = 0; j < point.length; j++) {
+                    l1 += Math.abs(point[j] - centroid[j]);
+                }
+                return l1;
+            default:
+                double squared = 0;
+                for (int j = 0; j < point.length; j++) {
+                    double diff = point[j] - centroid[j];
+                    squared += diff * diff;
+                }
+                return Math.sqrt(squared);
+        }
+    }
+
+    /**
+     * Reads the feature columns of the rows the way Tribuo does: columns that aren't features are ignored and features
+     * without a column are 0, but at least one feature needs a column.
+     */
+    private double[][] toPoints(DataFrame dataFrame) {
+        ColumnMeta[] columnMetas = dataFrame.columnMetas();
+        Map<String, Integer> featureIndices = indexOf(featureNames);
+        int[] columnIndices = new int[featureNames.length];
+        Arrays.fill(columnIndices, -1);
+        boolean hasFeature = false;
+        for (int i = 0; i < columnMetas.length; i++) {
+            Integer featureIndex = featureIndices.get(columnMetas[i].getName());
+            if (featureIndex != null) {
+                columnIndices[featureIndex] = i;
+                hasFeature = true;
+            }
+        }
+        if (!hasFeature) {
+            throw new IllegalArgumentException("Input columns have none of the k-means features " + Arrays.toString(featureNames));
+        }
+        double[][] points = new double[dataFrame.size()][featureNames.length];
+        for (int rowNum = 0; rowNum < points.length; rowNum++) {
+            Row row = dataFrame.getRow(rowNum);
+            for (int j = 0; j < featureNames.length; j++) {
+                if (columnIndices[j] >= 0) {
+                    points[rowNum][j] = row.getValue(columnIndices[j]).doubleValue();
+                }
+            }
+        }
+        return points;
+    }
+
+    /**
+     * @param bytes model content
+     * @return true if the bytes hold a model in the binary format of {@link #toBytes()}
+     */
+    public static boolean isBinaryFormat(byte[] bytes) {
+        return bytes.length >= Integer.BYTES && ByteBuffer.wrap(bytes).getInt() == MAGIC;
+    }
+
+    /**
+     * Writes the model as a format version, the feature names and distance type, followed by the centroids and their
+     * row counts as raw primitives.
+     * @return model bytes
+     */
+    public byte[] toBytes() {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(); DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(MAGIC);
+            output.writeByte(FORMAT_VERSION);
+            output.writeInt(featureNames.length);
+            for (String featureName : featureNames) {
+                output.writeUTF(featureName);
+            }
+            output.writeUTF(distanceType.name());
+            output.writeInt(seeded);
+            for (int c = 0; c < seeded; c++) {
+                for (double value : centroids[c]) {
+                    output.writeDouble(value);
+                }
+                output.writeLong(counts[c]);
+            }
+            output.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new ModelSerDeSerException("Failed to serialize model.", e);
+        }
+    }
+
+    /**
+     * @param bytes model bytes written by {@link #toBytes()}
+     * @return model
+     */
+    public static MiniBatchKMeans fromBytes(byte[] bytes) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (input.readInt() != MAGIC) {
+                throw new ModelSerDeSerException("Not a KMeans model in binary format.");
+            }
+            byte formatVersion = input.readByte();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new ModelSerDeSerException("Unsupported KMeans model format version " + formatVersion);
+            }
+            // every name takes at least its two length bytes
+            String[] featureNames = new String[readLength(input, 2)];
+            for (int i = 0; i < featureNames.length; i++) {
+                featureNames[i] = input.readUTF();
+            }
+            KMeansParams.DistanceType distanceType = KMeansParams.DistanceType.from(input.readUTF());
+            // every centroid takes its values and its row count
+            double[][] centroids = new double[readLength(input, (featureNames.length + 1L) * Long.BYTES)][featureNames.length];
+            long[] counts = new long[centroids.length];
+            for (int c = 0; c < centroids.length; c++) {
+                for (int j = 0; j < featureNames.length; j++) {
+                    centroids[c][j] = input.readDouble();
+                }
+                counts[c] = input.readLong();
+            }
+            return new MiniBatchKMeans(featureNames, distanceType, centroids, counts);
+        } catch (IOException e) {
+            throw new ModelSerDeSerException("Failed to deserialize model.", e);
+        }
+    }
+
+    /**
+     * Reads an array length, rejecting lengths the remaining bytes can't hold, so corrupt content fails before allocating.
+     */
+    private static int readLength(DataInputStream input, long bytesPerElement) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length * bytesPerElement > input.available()) {
+            throw new ModelSerDeSerException("Invalid array length " + length + " in KMeans model.");
+        }
+        return length;
+    }
+
+    private static Map<String, Integer> indexOf(String[] names) {
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            indices.put(names[i], i);
+        }
+        return indices;
+    }
+}
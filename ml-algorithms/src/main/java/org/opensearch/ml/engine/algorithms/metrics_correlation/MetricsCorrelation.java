@@ -298,11 +298,12 @@ public class MetricsCorrelation extends DLModelExecute {
 
     @VisibleForTesting
     float[][] processedInput(List<float[]> input) {
-        float[][] processInput = new float[input.size()][];
-        for (int i = 0; i < input.size(); i++) {
-            float[] innerList = input.get(i);
-            float[] temp = processInput[i] = new float[innerList.length];
-            System.arraycopy(innerList, 0, temp, 0, temp.length);
+        // the rows are only read by the translator, so they are passed as is instead of being copied
+        float[][] processInput = input.toArray(new float[0][]);
+        for (float[] metric : processInput) {
+            if (metric == null || metric.length != processInput[0].length) {
+                throw new ExecuteException("All metrics must have the same number of data points");
+            }
         }
         return processInput;
     }
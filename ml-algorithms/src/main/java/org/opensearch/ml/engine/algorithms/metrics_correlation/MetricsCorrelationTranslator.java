@@ -39,12 +39,17 @@ public class MetricsCorrelationTranslator implements Translator<float[][], Outpu
 
     @Override
     public NDList processInput(TranslatorContext ctx, float[][] input) {
-        FloatBuffer buffer = FloatBuffer.allocate(input.length * input[0].length);
+        int timestamps = input[0].length;
+        // fill one contiguous native ordered direct buffer, so the engine does not have to convert a heap buffer first
+        FloatBuffer buffer = ctx
+            .getNDManager()
+            .allocateDirect(input.length * timestamps * Float.BYTES)
+            .asFloatBuffer();
         for (float[] d : input) {
             buffer.put(d);
         }
         buffer.rewind();
-        NDArray array = ctx.getNDManager().create(buffer, new Shape(input.length, input[0].length));
+        NDArray array = ctx.getNDManager().create(buffer, new Shape(input.length, timestamps));
         NDList inputNDList = new NDList(array);
         inputNDList.attach(ctx.getNDManager());
         return inputNDList;
@@ -69,7 +74,6 @@ public class MetricsCorrelationTranslator implements Translator<float[][], Outpu
                 suspected_metrics = ndArray.toLongArray();
             } else if (EVENT_PATTERN.equals(ndArray.getName())) {
                 event_pattern = ndArray.toFloatArray();
-                ;
             }
             if (i % 3 == 0) {
                 outputs.add(new MCorrModelTensor(event_window, event_pattern, suspected_metrics));
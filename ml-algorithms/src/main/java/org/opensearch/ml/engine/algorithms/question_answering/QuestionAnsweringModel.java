@@ -54,6 +54,8 @@ import lombok.extern.log4j.Log4j2;
 public class QuestionAnsweringModel extends DLModel {
     private MLModelConfig modelConfig;
     private Translator<Input, Output> translator;
+    // Set once the traced model rejected a batch of several chunks, the chunks of later requests are predicted one by one
+    private volatile boolean chunkBatchingUnsupported;
 
     @Override
     public void warmUp(Predictor predictor, String modelId, MLModelConfig modelConfig) throws TranslateException {
@@ -125,18 +127,12 @@ public class QuestionAnsweringModel extends DLModel {
         try {
             List<Map<String, Object>> allHighlights = new ArrayList<>();
 
-            // We need to process initial chunk first to get the overflow encodings
-            processChunk(question, context, HIGHLIGHTING_MODEL_INITIAL_CHUNK_NUMBER_STRING, allHighlights);
-
+            // Tokenize once to count the chunks, the initial chunk plus one per overflow encoding
             Encoding encodings = translator.getTokenizer().encode(question, context);
             Encoding[] overflowEncodings = encodings.getOverflowing();
+            int chunkCount = overflowEncodings == null ? 1 : overflowEncodings.length + 1;
 
-            // Process overflow chunks if overflow encodings are present
-            if (overflowEncodings != null && overflowEncodings.length > 0) {
-                for (int i = 0; i < overflowEncodings.length; i++) {
-                    processChunk(question, context, String.valueOf(i + 1), allHighlights);
-                }
-            }
+            processChunks(question, context, chunkCount, allHighlights);
 
             return createHighlightOutput(allHighlights);
         } catch (Exception e) {
@@ -145,19 +141,33 @@ public class QuestionAnsweringModel extends DLModel {
         }
     }
 
-    private void processChunk(String question, String context, String chunkNumber, List<Map<String, Object>> allHighlights)
+    private void processChunks(String question, String context, int chunkCount, List<Map<String, Object>> allHighlights)
         throws TranslateException {
-        Input chunkInput = new Input();
-        chunkInput.add(MLInput.QUESTION_FIELD, question);
-        chunkInput.add(MLInput.CONTEXT_FIELD, context);
-        chunkInput.add(HIGHLIGHTING_MODEL_CHUNK_NUMBER_KEY, chunkNumber);
-
-        // Use batchPredict to process the chunk for complete results, predict only return the first result which can cause loss of relevant
-        // results
-        List<Output> outputs = getPredictor().batchPredict(List.of(chunkInput));
+        List<Input> chunkInputs = new ArrayList<>(chunkCount);
+        for (int i = 0; i < chunkCount; i++) {
+            Input chunkInput = new Input();
+            chunkInput.add(MLInput.QUESTION_FIELD, question);
+            chunkInput.add(MLInput.CONTEXT_FIELD, context);
+            chunkInput.add(HIGHLIGHTING_MODEL_CHUNK_NUMBER_KEY, String.valueOf(i));
+            chunkInputs.add(chunkInput);
+        }
 
-        if (outputs.isEmpty()) {
-            return;
+        // Submit all chunks as one batch, the translator tokenizes the context once for the whole batch. Use batchPredict
+        // for complete results, predict only return the first result which can cause loss of relevant results
+        List<Output> outputs = null;
+        if (chunkCount > 1 && !chunkBatchingUnsupported) {
+            try {
+                outputs = getPredictor().batchPredict(chunkInputs);
+            } catch (Exception e) {
+                log.warn("Sentence highlighting model rejected a batch of {} chunks, predicting chunks one by one", chunkCount, e);
+                chunkBatchingUnsupported = true;
+            }
+        }
+        if (outputs == null) {
+            outputs = new ArrayList<>();
+            for (Input chunkInput : chunkInputs) {
+                outputs.addAll(getPredictor().batchPredict(List.of(chunkInput)));
+            }
         }
 
         for (Output output : outputs) {
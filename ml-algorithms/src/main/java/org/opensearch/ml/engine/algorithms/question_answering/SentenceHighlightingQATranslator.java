@@ -189,11 +189,28 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
      */
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
+        NDList list = new NDList();
+        for (NDArray array : batchProcessInput(ctx, List.of(input))) {
+            NDArray chunk = array.get(0);
+            chunk.setName(array.getName());
+            list.add(chunk);
+        }
+        return list;
+    }
+
+    /**
+     * Processes the chunks of one question and context as a single batch. The context is segmented and tokenized once
+     * for the whole batch, and the chunks are padded to the longest one so that they run in one forward pass.
+     *
+     * @param ctx The translator context
+     * @param inputs The chunk inputs, all of the same question and context
+     * @return Model inputs with one row per chunk
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) {
         try {
-            NDManager manager = ctx.getNDManager();
-            String question = input.getAsString(MLInput.QUESTION_FIELD);
-            String context = input.getAsString(MLInput.CONTEXT_FIELD);
-            int chunkNumber = Integer.parseInt(input.getAsString(HIGHLIGHTING_MODEL_CHUNK_NUMBER_KEY));
+            String question = inputs.get(0).getAsString(MLInput.QUESTION_FIELD);
+            String context = inputs.get(0).getAsString(MLInput.CONTEXT_FIELD);
 
             // Store the full context and question for reference
             ctx.setAttachment(MLInput.QUESTION_FIELD, question);
@@ -206,14 +223,25 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
             // Step 2: Create word-level sentence IDs from full context
             int[] wordLevelSentenceIds = createWordLevelSentenceIds(sentences, context);
 
-            // Step 3: Get the target chunk's encoding
-            Encoding targetEncoding = getChunkEncoding(question, context, chunkNumber);
-
-            // Step 4: Create sentence IDs array for this chunk
-            int[] sentenceIdsArray = createSentenceIdsArray(targetEncoding, wordLevelSentenceIds, chunkNumber);
+            // Step 3: Tokenize once, the first encoding is chunk 0 and overflow encodings are the following chunks
+            Encoding fullEncoding = tokenizer.encode(question, context);
+
+            // Step 4: Create the encoding and sentence IDs array of each chunk
+            Encoding[] chunkEncodings = new Encoding[inputs.size()];
+            int[][] sentenceIdsArrays = new int[inputs.size()][];
+            for (int i = 0; i < inputs.size(); i++) {
+                Input input = inputs.get(i);
+                if (!question.equals(input.getAsString(MLInput.QUESTION_FIELD))
+                    || !context.equals(input.getAsString(MLInput.CONTEXT_FIELD))) {
+                    throw new IllegalArgumentException("All chunks of a batch must have the same question and context");
+                }
+                int chunkNumber = Integer.parseInt(input.getAsString(HIGHLIGHTING_MODEL_CHUNK_NUMBER_KEY));
+                chunkEncodings[i] = getChunkEncoding(fullEncoding, chunkNumber);
+                sentenceIdsArrays[i] = createSentenceIdsArray(chunkEncodings[i], wordLevelSentenceIds, chunkNumber);
+            }
 
             // Step 5: Create NDArrays for model input
-            return createModelInputs(manager, targetEncoding, sentenceIdsArray);
+            return createModelInputs(ctx.getNDManager(), chunkEncodings, sentenceIdsArrays);
 
         } catch (Exception e) {
             log.error("Error processing input", e);
@@ -224,14 +252,12 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
     /**
      * Get the encoding for a specific chunk
      */
-    private Encoding getChunkEncoding(String question, String context, int chunkNumber) {
-        Encoding fullEncoding = tokenizer.encode(question, context);
-
+    private Encoding getChunkEncoding(Encoding fullEncoding, int chunkNumber) {
         if (chunkNumber == 0) {
             return fullEncoding;
         } else {
             Encoding[] overflowEncodings = fullEncoding.getOverflowing();
-            if (overflowEncodings != null && chunkNumber <= overflowEncodings.length) {
+            if (overflowEncodings != null && chunkNumber > 0 && chunkNumber <= overflowEncodings.length) {
                 return overflowEncodings[chunkNumber - 1];
             } else {
                 throw new IllegalArgumentException("Invalid chunk number: " + chunkNumber);
@@ -275,13 +301,30 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
     }
 
     /**
-     * Create model inputs from encodings and sentence IDs
+     * Create model inputs from encodings and sentence IDs, padding every chunk to the longest one
      */
-    private NDList createModelInputs(NDManager manager, Encoding encoding, int[] sentenceIdsArray) {
-        NDArray sentenceIdsNDArray = manager.create(sentenceIdsArray);
-        NDArray inputIds = manager.create(encoding.getIds());
-        NDArray attentionMask = manager.create(encoding.getAttentionMask());
-        NDArray tokenTypeIds = manager.create(encoding.getTypeIds());
+    private NDList createModelInputs(NDManager manager, Encoding[] encodings, int[][] sentenceIdsArrays) {
+        int maxLength = 0;
+        for (Encoding encoding : encodings) {
+            maxLength = Math.max(maxLength, encoding.getIds().length);
+        }
+        long[][] inputIdsArray = new long[encodings.length][maxLength];
+        long[][] attentionMaskArray = new long[encodings.length][maxLength];
+        long[][] tokenTypeIdsArray = new long[encodings.length][maxLength];
+        int[][] paddedSentenceIdsArray = new int[encodings.length][maxLength];
+        for (int i = 0; i < encodings.length; i++) {
+            int length = encodings[i].getIds().length;
+            System.arraycopy(encodings[i].getIds(), 0, inputIdsArray[i], 0, length);
+            System.arraycopy(encodings[i].getAttentionMask(), 0, attentionMaskArray[i], 0, length);
+            System.arraycopy(encodings[i].getTypeIds(), 0, tokenTypeIdsArray[i], 0, length);
+            System.arraycopy(sentenceIdsArrays[i], 0, paddedSentenceIdsArray[i], 0, length);
+            Arrays.fill(paddedSentenceIdsArray[i], length, maxLength, IGNORE_TOKEN_ID);
+        }
+
+        NDArray sentenceIdsNDArray = manager.create(paddedSentenceIdsArray);
+        NDArray inputIds = manager.create(inputIdsArray);
+        NDArray attentionMask = manager.create(attentionMaskArray);
+        NDArray tokenTypeIds = manager.create(tokenTypeIdsArray);
 
         sentenceIdsNDArray.setName(SENTENCE_IDS);
         inputIds.setName(INPUT_IDS);
@@ -292,31 +335,28 @@ public class SentenceHighlightingQATranslator implements ServingTranslator {
     }
 
     /**
-     * Creates an array mapping each word in the context to its sentence ID
+     * Creates an array mapping each word in the context to its sentence ID, in one pass over the words as both the
+     * words and the sentences are ordered by their position in the context
      */
     private int[] createWordLevelSentenceIds(List<Sentence> sentences, String context) {
         String[] contextWords = context.split("\\s+");
         int[] wordSentenceIds = new int[contextWords.length];
 
-        // For each sentence
-        for (int sentIdx = 0; sentIdx < sentences.size(); sentIdx++) {
-            Sentence sentence = sentences.get(sentIdx);
-            int startIndex = sentence.getStartIndex();
-            int endIndex = sentence.getEndIndex();
-
-            // Find all words within the sentence's start and end indices
-            for (int wordIdx = 0; wordIdx < contextWords.length; wordIdx++) {
-                int wordStart = 0;
-                for (int i = 0; i < wordIdx; i++) {
-                    wordStart += contextWords[i].length() + 1; // +1 for space
-                }
-                int wordEnd = wordStart + contextWords[wordIdx].length();
+        int sentIdx = 0;
+        int wordStart = 0;
+        for (int wordIdx = 0; wordIdx < contextWords.length; wordIdx++) {
+            int wordEnd = wordStart + contextWords[wordIdx].length();
 
-                // If word is within sentence boundaries, assign it this sentence ID
-                if (wordStart >= startIndex && wordEnd <= endIndex) {
-                    wordSentenceIds[wordIdx] = sentIdx;
-                }
+            // Skip the sentences ending before this word
+            while (sentIdx < sentences.size() && sentences.get(sentIdx).getEndIndex() < wordEnd) {
+                sentIdx++;
+            }
+
+            // If word is within sentence boundaries, assign it this sentence ID
+            if (sentIdx < sentences.size() && wordStart >= sentences.get(sentIdx).getStartIndex()) {
+                wordSentenceIds[wordIdx] = sentIdx;
             }
+            wordStart = wordEnd + 1; // +1 for space
         }
 
         return wordSentenceIds;
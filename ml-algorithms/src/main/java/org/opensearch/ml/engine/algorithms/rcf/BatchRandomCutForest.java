@@ -12,13 +12,19 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
 
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.dataframe.BooleanValue;
 import org.opensearch.ml.common.dataframe.ColumnMeta;
+import org.opensearch.ml.common.dataframe.ColumnType;
 import org.opensearch.ml.common.dataframe.ColumnValue;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
+import org.opensearch.ml.common.dataframe.DefaultDataFrame;
+import org.opensearch.ml.common.dataframe.DoubleValue;
 import org.opensearch.ml.common.dataframe.Row;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
@@ -30,6 +36,7 @@ import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
+import org.opensearch.ml.engine.utils.MLComputePool;
 
 import com.amazon.randomcutforest.RandomCutForest;
 import com.amazon.randomcutforest.state.RandomCutForestMapper;
@@ -48,6 +55,11 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     private static final int DEFAULT_OUTPUT_AFTER = 32;
     private static final int DEFAULT_SAMPLES_SIZE = 256; // how many nodes per tree
     private static final double DEFAULT_ANOMALY_SCORE_THRESHOLD = 1.0;
+    // below this many rows scoring on the calling thread is cheaper than forking
+    private static final int PARALLEL_SCORING_THRESHOLD = 10_000;
+    private static final ColumnMeta[] PREDICTION_COLUMN_METAS = new ColumnMeta[] {
+        new ColumnMeta("score", ColumnType.DOUBLE),
+        new ColumnMeta("anomalous", ColumnType.BOOLEAN) };
 
     private Integer numberOfTrees = DEFAULT_NUMBER_OF_TREES;
     private Integer sampleSize = DEFAULT_SAMPLES_SIZE;
@@ -92,8 +104,7 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     @Override
     public MLOutput predict(MLInput mlInput) {
         DataFrame dataFrame = ((DataFrameInputDataset) mlInput.getInputDataset()).getDataFrame();
-        List<Map<String, Object>> predictResult = process(dataFrame, forest, 0);
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
+        return MLPredictionOutput.builder().predictionResult(score(dataFrame, forest, PARALLEL_SCORING_THRESHOLD)).build();
     }
 
     @Override
@@ -159,6 +170,46 @@ public class BatchRandomCutForest implements TrainAndPredictable {
         return predictResult;
     }
 
+    /**
+     * Scores every row without updating the forest. A trained forest is read only here, so rows are split across the
+     * ML compute pool once there are enough of them to be worth it.
+     * @param dataFrame rows to score
+     * @param forest trained forest
+     * @param parallelThreshold minimum number of rows scored in parallel
+     * @return data frame of score and anomalous columns, one row per input row
+     */
+    DataFrame score(DataFrame dataFrame, RandomCutForest forest, int parallelThreshold) {
+        int size = dataFrame.size();
+        int dimensions = dataFrame.columnMetas().length;
+        double[][] points = new double[size][dimensions];
+        for (int rowNum = 0; rowNum < size; rowNum++) {
+            Row row = dataFrame.getRow(rowNum);
+            for (int i = 0; i < dimensions; i++) {
+                points[rowNum][i] = row.getValue(i).doubleValue();
+            }
+        }
+
+        Row[] rows = new Row[size];
+        if (size < parallelThreshold) {
+            IntStream.range(0, size).forEach(rowNum -> rows[rowNum] = scoreRow(forest, points[rowNum]));
+        } else {
+            try {
+                MLComputePool.forEach(size, rowNum -> rows[rowNum] = scoreRow(forest, points[rowNum]));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while scoring batch RCF prediction", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to score batch RCF prediction", e.getCause());
+            }
+        }
+        return new DefaultDataFrame(PREDICTION_COLUMN_METAS.clone(), new ArrayList<>(List.of(rows)));
+    }
+
+    private Row scoreRow(RandomCutForest forest, double[] point) {
+        double anomalyScore = forest.getAnomalyScore(point);
+        return new Row(new ColumnValue[] { new DoubleValue(anomalyScore), new BooleanValue(anomalyScore > anomalyScoreThreshold) });
+    }
+
     private RandomCutForest createRandomCutForest(DataFrame dataFrame) {
         // TODO: add memory estimation of RCF. Will be better if support memory estimation in RCF
         RandomCutForest forest = RandomCutForest
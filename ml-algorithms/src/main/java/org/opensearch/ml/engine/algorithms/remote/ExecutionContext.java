@@ -5,6 +5,8 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener.TokenLatencyListener;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -13,10 +15,22 @@ import lombok.Data;
  * A batch request is that in neural-search side multiple fields are send in one request to ml-commons,
  * but the remote model doesn't accept list of string inputs so in ml-commons the request needs split.
  * sequence is used to identify the index of the split request.
+ * requestChecked is set when the rate limits and input guardrails were already applied before the split.
+ * tokenLatencyListener, if set, receives the chunk latency of a streaming request.
  */
 @Data
 @AllArgsConstructor
 public class ExecutionContext {
     // Should never be null
     private int sequence;
+    private boolean requestChecked;
+    private TokenLatencyListener tokenLatencyListener;
+
+    public ExecutionContext(int sequence) {
+        this(sequence, false);
+    }
+
+    public ExecutionContext(int sequence, boolean requestChecked) {
+        this(sequence, requestChecked, null);
+    }
 }
@@ -12,6 +12,7 @@ import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processI
 import static org.opensearch.ml.engine.processor.ProcessorChain.INPUT_PROCESSORS;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -55,6 +56,7 @@ import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener.TokenLatencyListener;
 import org.opensearch.ml.engine.processor.ProcessorChain;
 import org.opensearch.script.ScriptService;
 import org.opensearch.threadpool.ThreadPool;
@@ -72,6 +74,34 @@ public interface RemoteConnectorExecutor {
     }
 
     default void executeAction(String action, MLInput mlInput, ActionListener<MLTaskResponse> actionListener, TransportChannel channel) {
+        executeAction(action, mlInput, actionListener, channel, false);
+    }
+
+    /**
+     * @param requestChecked true if the rate limits and input guardrails were already applied with {@link #checkRequest}
+     */
+    default void executeAction(
+        String action,
+        MLInput mlInput,
+        ActionListener<MLTaskResponse> actionListener,
+        TransportChannel channel,
+        boolean requestChecked
+    ) {
+        executeAction(action, mlInput, actionListener, channel, requestChecked, null);
+    }
+
+    /**
+     * @param requestChecked true if the rate limits and input guardrails were already applied with {@link #checkRequest}
+     * @param tokenLatencyListener receives the chunk latency when the request is streamed to the channel, may be null
+     */
+    default void executeAction(
+        String action,
+        MLInput mlInput,
+        ActionListener<MLTaskResponse> actionListener,
+        TransportChannel channel,
+        boolean requestChecked,
+        TokenLatencyListener tokenLatencyListener
+    ) {
         // Check for streaming
         if (channel != null) {
             ActionListener<Tuple<Integer, ModelTensors>> streamingListener = ActionListener.wrap(response -> {
@@ -79,7 +109,8 @@ public interface RemoteConnectorExecutor {
                 MLTaskResponse mlResponse = new MLTaskResponse(new ModelTensorOutput(Arrays.asList(tensors)));
                 actionListener.onResponse(mlResponse);
             }, actionListener::onFailure);
-            preparePayloadAndInvoke(action, mlInput, new ExecutionContext(0), streamingListener, actionListener, channel);
+            ExecutionContext executionContext = new ExecutionContext(0, requestChecked, tokenLatencyListener);
+            preparePayloadAndInvoke(action, mlInput, executionContext, streamingListener, actionListener, channel);
             return;
         }
 
@@ -98,32 +129,73 @@ public interface RemoteConnectorExecutor {
                     tensorActionListener,
                     calculatedChunkSize.v1()
                 );
-                int sequence = 0;
-                for (int processedDocs = 0; processedDocs < textDocsInputDataSet.getDocs().size(); processedDocs += calculatedChunkSize
-                    .v2()) {
-                    List<String> textDocs = textDocsInputDataSet
-                        .getDocs()
-                        .subList(processedDocs, Math.min(processedDocs + calculatedChunkSize.v2(), textDocsInputDataSet.getDocs().size()));
+                List<MLInput> subInputs = splitTextDocs(mlInput, calculatedChunkSize.v2());
+                for (int sequence = 0; sequence < subInputs.size(); sequence++) {
                     preparePayloadAndInvoke(
                         action,
-                        MLInput
-                            .builder()
-                            .algorithm(FunctionName.TEXT_EMBEDDING)
-                            .parameters(mlInput.getParameters())
-                            .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
-                            .build(),
-                        new ExecutionContext(sequence++),
+                        subInputs.get(sequence),
+                        new ExecutionContext(sequence, requestChecked),
                         groupedActionListener
                     );
                 }
             } else {
-                preparePayloadAndInvoke(action, mlInput, new ExecutionContext(0), new GroupedActionListener<>(tensorActionListener, 1));
+                preparePayloadAndInvoke(
+                    action,
+                    mlInput,
+                    new ExecutionContext(0, requestChecked),
+                    new GroupedActionListener<>(tensorActionListener, 1)
+                );
             }
         } catch (Exception e) {
             actionListener.onFailure(e);
         }
     }
 
+    /**
+     * Applies the model and user rate limits and the input guardrails to every remote call a request would make,
+     * without calling the remote model. A request answered without calling the remote model, e.g. from the response
+     * cache, must pass the same checks as one that is sent out.
+     * @param action connector action
+     * @param mlInput model input, left unchanged
+     * @throws IOException if the algorithm parameters can't be read
+     */
+    default void checkRequest(String action, MLInput mlInput) throws IOException {
+        List<MLInput> subInputs;
+        if (mlInput.getInputDataset() instanceof TextDocsInputDataSet) {
+            Tuple<Integer, Integer> calculatedChunkSize = calculateChunkSize(action, (TextDocsInputDataSet) mlInput.getInputDataset());
+            subInputs = splitTextDocs(mlInput, calculatedChunkSize.v2());
+        } else if (mlInput.getInputDataset() instanceof RemoteInferenceInputDataSet) {
+            // preparing the payload escapes the input parameters in place, so the checks run on a copy
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) mlInput.getInputDataset();
+            Map<String, String> parameters = inputDataSet.getParameters() == null ? null : new HashMap<>(inputDataSet.getParameters());
+            subInputs = List.of(mlInput.toBuilder().inputDataset(inputDataSet.toBuilder().parameters(parameters).build()).build());
+        } else {
+            subInputs = List.of(mlInput);
+        }
+        for (MLInput subInput : subInputs) {
+            Tuple<Map<String, String>, String> parametersAndPayload = preparePayload(action, subInput);
+            checkRateLimitsAndGuardrails(parametersAndPayload.v2(), parametersAndPayload.v1());
+        }
+    }
+
+    private List<MLInput> splitTextDocs(MLInput mlInput, int stepSize) {
+        List<String> docs = ((TextDocsInputDataSet) mlInput.getInputDataset()).getDocs();
+        List<MLInput> subInputs = new ArrayList<>();
+        for (int processedDocs = 0; processedDocs < docs.size(); processedDocs += stepSize) {
+            List<String> textDocs = docs.subList(processedDocs, Math.min(processedDocs + stepSize, docs.size()));
+            subInputs
+                .add(
+                    MLInput
+                        .builder()
+                        .algorithm(FunctionName.TEXT_EMBEDDING)
+                        .parameters(mlInput.getParameters())
+                        .inputDataset(TextDocsInputDataSet.builder().docs(textDocs).build())
+                        .build()
+                );
+        }
+        return subInputs;
+    }
+
     /**
      * Calculate the chunk size.
      * @param textDocsInputDataSet Input dataset in textDocsInputDataSet format.
@@ -212,6 +284,43 @@ public interface RemoteConnectorExecutor {
         ActionListener<MLTaskResponse> agentListener,
         TransportChannel channel
     ) {
+        Tuple<Map<String, String>, String> parametersAndPayload;
+        try {
+            parametersAndPayload = preparePayload(action, mlInput);
+        } catch (IOException e) {
+            actionListener.onFailure(e);
+            return;
+        }
+        Map<String, String> parameters = parametersAndPayload.v1();
+        String payload = parametersAndPayload.v2();
+        if (!executionContext.isRequestChecked()) {
+            checkRateLimitsAndGuardrails(payload, parameters);
+        }
+        if (getConnectorClientConfig().getMaxRetryTimes() != 0) {
+            invokeRemoteServiceWithRetry(action, mlInput, parameters, payload, executionContext, actionListener);
+        } else if (parameters.containsKey("stream")) {
+            String memoryId = parameters.get("memory_id");
+            String parentInteractionId = parameters.get("parent_interaction_id");
+            // TODO: find a better way to differentiate agent and predict request
+            boolean isAgentRequest = (memoryId != null || parentInteractionId != null);
+            StreamPredictActionListener<MLTaskResponse, ?> streamListener = new StreamPredictActionListener<>(
+                channel,
+                isAgentRequest ? agentListener : null,
+                memoryId,
+                parentInteractionId,
+                executionContext.getTokenLatencyListener()
+            );
+            invokeRemoteServiceStream(action, mlInput, parameters, payload, executionContext, streamListener);
+        } else {
+            invokeRemoteService(action, mlInput, parameters, payload, executionContext, actionListener);
+        }
+    }
+
+    /**
+     * Builds the parameters and the request payload for one remote call.
+     * @return the parameters and the payload
+     */
+    private Tuple<Map<String, String>, String> preparePayload(String action, MLInput mlInput) throws IOException {
         Connector connector = getConnector();
 
         Map<String, String> parameters = new HashMap<>();
@@ -228,13 +337,8 @@ public interface RemoteConnectorExecutor {
 
         MLAlgoParams algoParams = mlInput.getParameters();
         if (algoParams != null) {
-            try {
-                Map<String, String> parametersMap = getParams(mlInput);
-                parameters.putAll(parametersMap);
-            } catch (IOException e) {
-                actionListener.onFailure(e);
-                return;
-            }
+            Map<String, String> parametersMap = getParams(mlInput);
+            parameters.putAll(parametersMap);
         }
 
         RemoteInferenceInputDataSet inputData = processInput(action, mlInput, connector, parameters, getScriptService());
@@ -254,6 +358,10 @@ public interface RemoteConnectorExecutor {
         if (!Boolean.parseBoolean(parameters.getOrDefault(SKIP_VALIDATE_MISSING_PARAMETERS, "false"))) {
             connector.validatePayload(payload);
         }
+        return new Tuple<>(parameters, payload);
+    }
+
+    private void checkRateLimitsAndGuardrails(String payload, Map<String, String> parameters) {
         String userStr = getClient()
             .threadPool()
             .getThreadContext()
@@ -271,28 +379,9 @@ public interface RemoteConnectorExecutor {
                 "Request is throttled at user level. If you think there's an issue, please contact your cluster admin.",
                 RestStatus.TOO_MANY_REQUESTS
             );
-        } else {
-            if (getMlGuard() != null && !getMlGuard().validate(payload, MLGuard.Type.INPUT, parameters)) {
-                getLogger().error("guardrails triggered for user input");
-                throw new IllegalArgumentException("guardrails triggered for user input");
-            }
-            if (getConnectorClientConfig().getMaxRetryTimes() != 0) {
-                invokeRemoteServiceWithRetry(action, mlInput, parameters, payload, executionContext, actionListener);
-            } else if (parameters.containsKey("stream")) {
-                String memoryId = parameters.get("memory_id");
-                String parentInteractionId = parameters.get("parent_interaction_id");
-                // TODO: find a better way to differentiate agent and predict request
-                boolean isAgentRequest = (memoryId != null || parentInteractionId != null);
-                StreamPredictActionListener<MLTaskResponse, ?> streamListener = new StreamPredictActionListener<>(
-                    channel,
-                    isAgentRequest ? agentListener : null,
-                    memoryId,
-                    parentInteractionId
-                );
-                invokeRemoteServiceStream(action, mlInput, parameters, payload, executionContext, streamListener);
-            } else {
-                invokeRemoteService(action, mlInput, parameters, payload, executionContext, actionListener);
-            }
+        } else if (getMlGuard() != null && !getMlGuard().validate(payload, MLGuard.Type.INPUT, parameters)) {
+            getLogger().error("guardrails triggered for user input");
+            throw new IllegalArgumentException("guardrails triggered for user input");
         }
     }
 
@@ -16,6 +16,8 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
@@ -31,6 +33,7 @@ import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener.TokenLatencyListener;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.remote.metadata.client.SdkClient;
@@ -59,11 +62,27 @@ public class RemoteModel implements Predictable {
 
     private RemoteConnectorExecutor connectorExecutor;
 
+    private RemoteModelResponseCache responseCache;
+
     @VisibleForTesting
     RemoteConnectorExecutor getConnectorExecutor() {
         return this.connectorExecutor;
     }
 
+    @VisibleForTesting
+    RemoteModelResponseCache getResponseCache() {
+        return this.responseCache;
+    }
+
+    /**
+     * @return counters and size of the response cache, keyed by the stat names of {@link RemoteModelResponseCache}, or
+     * null if the response cache is not enabled
+     */
+    public Map<String, Long> getResponseCacheStats() {
+        RemoteModelResponseCache cache = this.responseCache;
+        return cache == null ? null : cache.getStats();
+    }
+
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
         throw new IllegalArgumentException(
@@ -73,6 +92,16 @@ public class RemoteModel implements Predictable {
 
     @Override
     public void asyncPredict(MLInput mlInput, ActionListener<MLTaskResponse> actionListener, TransportChannel channel) {
+        asyncPredict(mlInput, actionListener, channel, null);
+    }
+
+    @Override
+    public void asyncPredict(
+        MLInput mlInput,
+        ActionListener<MLTaskResponse> actionListener,
+        TransportChannel channel,
+        TokenLatencyListener tokenLatencyListener
+    ) {
         if (!isModelReady()) {
             actionListener
                 .onFailure(
@@ -86,7 +115,23 @@ public class RemoteModel implements Predictable {
                 actionType = ((RemoteInferenceInputDataSet) mlInput.getInputDataset()).getActionType();
             }
             actionType = actionType == null ? ActionType.PREDICT : actionType;
-            connectorExecutor.executeAction(actionType.toString(), mlInput, actionListener, channel);
+            String action = actionType.toString();
+            RemoteConnectorExecutor executor = connectorExecutor;
+            if (responseCache != null && actionType == ActionType.PREDICT && channel == null && !isStreamRequest(mlInput)) {
+                // a cached response must not bypass the rate limits and guardrails, so they run before the lookup
+                executor.checkRequest(action, mlInput);
+                responseCache
+                    .execute(
+                        executor.getConnector().getTenantId(),
+                        getUserName(executor),
+                        action,
+                        mlInput,
+                        actionListener,
+                        listener -> executor.executeAction(action, mlInput, listener, null, true)
+                    );
+            } else {
+                executor.executeAction(action, mlInput, actionListener, channel, false, tokenLatencyListener);
+            }
         } catch (RuntimeException e) {
             log.error("Failed to call remote model.", e);
             actionListener.onFailure(e);
@@ -96,9 +141,29 @@ public class RemoteModel implements Predictable {
         }
     }
 
+    private String getUserName(RemoteConnectorExecutor executor) {
+        String userStr = executor
+            .getClient()
+            .threadPool()
+            .getThreadContext()
+            .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+        User user = User.parse(userStr);
+        return user == null ? null : user.getName();
+    }
+
+    private boolean isStreamRequest(MLInput mlInput) {
+        return mlInput.getInputDataset() instanceof RemoteInferenceInputDataSet
+            && ((RemoteInferenceInputDataSet) mlInput.getInputDataset()).getParameters() != null
+            && ((RemoteInferenceInputDataSet) mlInput.getInputDataset()).getParameters().containsKey("stream");
+    }
+
     @Override
     public void close() {
         this.connectorExecutor = null;
+        if (this.responseCache != null) {
+            this.responseCache.clear();
+            this.responseCache = null;
+        }
     }
 
     @Override
@@ -128,6 +193,7 @@ public class RemoteModel implements Predictable {
             this.connectorExecutor.setUserRateLimiterMap((Map<String, TokenBucket>) params.get(USER_RATE_LIMITER_MAP));
             this.connectorExecutor.setMlGuard((MLGuard) params.get(GUARDRAILS));
             this.connectorExecutor.setConnectorPrivateIpEnabled((AtomicBoolean) params.get(CONNECTOR_PRIVATE_IP_ENABLED));
+            this.responseCache = RemoteModelResponseCache.fromConnector(connector, (Client) params.get(CLIENT));
             return CompletableFuture.completedStage(true);
         }).exceptionally(e -> {
             log.error("Failed to init remote model.", e);
@@ -0,0 +1,491 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.common.utils.StringUtils;
+import org.opensearch.transport.client.Client;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Opt-in response cache in front of a remote model. Responses are keyed on a hash of the normalized request
+ * (action, input parameters, text docs and algorithm parameters) and isolated per tenant and user. When an embedding
+ * model is configured, a miss on the exact key falls back to a cosine similarity lookup over the most recently cached
+ * entries of the same tenant and user. The similarity scores are computed outside of the cache lock. Every hit returns
+ * its own copy of the cached output.
+ *
+ * The cache is configured through connector parameters, e.g.
+ * <pre>
+ * "parameters": {
+ *     "response_cache.enabled": "true",
+ *     "response_cache.ttl_seconds": "600",
+ *     "response_cache.max_entries": "1000",
+ *     "response_cache.embedding_model_id": "&lt;text embedding model id&gt;",
+ *     "response_cache.similarity_threshold": "0.95",
+ *     "response_cache.max_similarity_candidates": "100"
+ * }
+ * </pre>
+ */
+@Log4j2
+public class RemoteModelResponseCache {
+
+    public static final String CACHE_ENABLED_FIELD = "response_cache.enabled";
+    public static final String CACHE_TTL_SECONDS_FIELD = "response_cache.ttl_seconds";
+    public static final String CACHE_MAX_ENTRIES_FIELD = "response_cache.max_entries";
+    public static final String CACHE_EMBEDDING_MODEL_ID_FIELD = "response_cache.embedding_model_id";
+    public static final String CACHE_SIMILARITY_THRESHOLD_FIELD = "response_cache.similarity_threshold";
+    public static final String CACHE_MAX_SIMILARITY_CANDIDATES_FIELD = "response_cache.max_similarity_candidates";
+
+    public static final String HIT_COUNT_STAT = "hit_count";
+    public static final String SEMANTIC_HIT_COUNT_STAT = "semantic_hit_count";
+    public static final String MISS_COUNT_STAT = "miss_count";
+    public static final String EVICTION_COUNT_STAT = "eviction_count";
+    public static final String SIZE_STAT = "size";
+
+    public static final long DEFAULT_TTL_SECONDS = 300;
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+    public static final double DEFAULT_SIMILARITY_THRESHOLD = 0.95;
+    public static final int DEFAULT_MAX_SIMILARITY_CANDIDATES = 100;
+
+    private static final String DEFAULT_TENANT = "__default__";
+    private static final String DEFAULT_USER = "";
+
+    private final long ttlMillis;
+    private final int maxEntries;
+    @Getter
+    private final String embeddingModelId;
+    private final double similarityThreshold;
+    private final int maxSimilarityCandidates;
+    private final Client client;
+    private final LongSupplier clock;
+
+    // access-ordered so that the eldest entry is the least recently used one
+    private final LinkedHashMap<String, CacheEntry> entries;
+    // keys and embeddings of the entries each tenant and user can be served from by similarity, newest last
+    private final Map<String, Deque<SimilarityCandidate>> similarityCandidates = new HashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong semanticHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    @VisibleForTesting
+    RemoteModelResponseCache(
+        long ttlMillis,
+        int maxEntries,
+        String embeddingModelId,
+        double similarityThreshold,
+        int maxSimilarityCandidates,
+        Client client,
+        LongSupplier clock
+    ) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.embeddingModelId = embeddingModelId;
+        this.similarityThreshold = similarityThreshold;
+        this.maxSimilarityCandidates = maxSimilarityCandidates;
+        this.client = client;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > RemoteModelResponseCache.this.maxEntries) {
+                    evictionCount.incrementAndGet();
+                    removeSimilarityCandidate(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Creates a response cache from the connector parameters.
+     * @param connector connector of the remote model
+     * @param client client used to call the embedding model in similarity mode
+     * @return the cache, or null if the response cache is not enabled for this connector
+     */
+    public static RemoteModelResponseCache fromConnector(Connector connector, Client client) {
+        Map<String, String> parameters = connector.getParameters();
+        if (parameters == null || !Boolean.parseBoolean(parameters.get(CACHE_ENABLED_FIELD))) {
+            return null;
+        }
+        long ttlSeconds = parsePositiveLong(parameters, CACHE_TTL_SECONDS_FIELD, DEFAULT_TTL_SECONDS);
+        int maxEntries = (int) parsePositiveLong(parameters, CACHE_MAX_ENTRIES_FIELD, DEFAULT_MAX_ENTRIES);
+        double threshold = DEFAULT_SIMILARITY_THRESHOLD;
+        if (parameters.containsKey(CACHE_SIMILARITY_THRESHOLD_FIELD)) {
+            threshold = Double.parseDouble(parameters.get(CACHE_SIMILARITY_THRESHOLD_FIELD));
+            if (threshold <= 0 || threshold > 1) {
+                throw new IllegalArgumentException("Invalid parameter: " + CACHE_SIMILARITY_THRESHOLD_FIELD + ". It must be in (0, 1].");
+            }
+        }
+        int maxCandidates = (int) parsePositiveLong(parameters, CACHE_MAX_SIMILARITY_CANDIDATES_FIELD, DEFAULT_MAX_SIMILARITY_CANDIDATES);
+        String embeddingModelId = parameters.get(CACHE_EMBEDDING_MODEL_ID_FIELD);
+        return new RemoteModelResponseCache(
+            ttlSeconds * 1000,
+            maxEntries,
+            embeddingModelId,
+            threshold,
+            maxCandidates,
+            client,
+            System::currentTimeMillis
+        );
+    }
+
+    private static long parsePositiveLong(Map<String, String> parameters, String field, long defaultValue) {
+        if (!parameters.containsKey(field)) {
+            return defaultValue;
+        }
+        long value = Long.parseLong(parameters.get(field));
+        if (value <= 0) {
+            throw new IllegalArgumentException("Invalid parameter: " + field + ". It must be positive integer.");
+        }
+        return value;
+    }
+
+    /**
+     * Serves the request from the cache if possible, otherwise invokes the remote model and caches a successful response.
+     * @param tenantId tenant of the request
+     * @param userName user of the request, responses are never shared between users
+     * @param action connector action
+     * @param mlInput model input
+     * @param listener listener of the prediction
+     * @param invoker calls the remote model with the listener that populates the cache
+     */
+    public void execute(
+        String tenantId,
+        String userName,
+        String action,
+        MLInput mlInput,
+        ActionListener<MLTaskResponse> listener,
+        Consumer<ActionListener<MLTaskResponse>> invoker
+    ) {
+        String normalizedRequest;
+        try {
+            normalizedRequest = normalize(action, mlInput);
+        } catch (IOException e) {
+            log.debug("Failed to normalize remote model request, skip response cache", e);
+            invoker.accept(listener);
+            return;
+        }
+        String partition = (tenantId == null ? DEFAULT_TENANT : tenantId) + "/" + (userName == null ? DEFAULT_USER : userName);
+        String key = partition + ":" + StringUtils.hashString(normalizedRequest);
+
+        ModelTensorOutput cached = copyOf(get(key));
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            listener.onResponse(new MLTaskResponse(cached));
+            return;
+        }
+        if (embeddingModelId == null) {
+            missCount.incrementAndGet();
+            invoker.accept(cachingListener(key, partition, null, listener));
+            return;
+        }
+        embed(normalizedRequest, ActionListener.wrap(embedding -> {
+            ModelTensorOutput similar = copyOf(findSimilar(partition, embedding));
+            if (similar != null) {
+                semanticHitCount.incrementAndGet();
+                listener.onResponse(new MLTaskResponse(similar));
+                return;
+            }
+            missCount.incrementAndGet();
+            invoker.accept(cachingListener(key, partition, embedding, listener));
+        }, e -> {
+            log.warn("Failed to embed request with model {}, fall back to exact response cache", embeddingModelId, e);
+            missCount.incrementAndGet();
+            invoker.accept(cachingListener(key, partition, null, listener));
+        }));
+    }
+
+    private ActionListener<MLTaskResponse> cachingListener(
+        String key,
+        String partition,
+        float[] embedding,
+        ActionListener<MLTaskResponse> listener
+    ) {
+        return ActionListener.wrap(response -> {
+            if (response.getOutput() instanceof ModelTensorOutput && isSuccessful((ModelTensorOutput) response.getOutput())) {
+                ModelTensorOutput output = copyOf((ModelTensorOutput) response.getOutput());
+                if (output != null) {
+                    put(key, new CacheEntry(partition, output, embedding, clock.getAsLong()));
+                }
+            }
+            listener.onResponse(response);
+        }, listener::onFailure);
+    }
+
+    private static boolean isSuccessful(ModelTensorOutput output) {
+        if (output.getMlModelOutputs() == null || output.getMlModelOutputs().isEmpty()) {
+            return false;
+        }
+        for (ModelTensors tensors : output.getMlModelOutputs()) {
+            Integer statusCode = tensors.getStatusCode();
+            if (statusCode != null && (statusCode < 200 || statusCode >= 300)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private synchronized ModelTensorOutput get(String key) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry)) {
+            entries.remove(key);
+            removeSimilarityCandidate(key, entry);
+            return null;
+        }
+        return entry.output;
+    }
+
+    private void removeSimilarityCandidate(String key, CacheEntry entry) {
+        Deque<SimilarityCandidate> candidates = entry.embedding == null ? null : similarityCandidates.get(entry.partition);
+        if (candidates != null) {
+            candidates.removeIf(candidate -> candidate.key.equals(key));
+            if (candidates.isEmpty()) {
+                similarityCandidates.remove(entry.partition);
+            }
+        }
+    }
+
+    private synchronized void put(String key, CacheEntry entry) {
+        CacheEntry previous = entries.put(key, entry);
+        if (previous != null) {
+            removeSimilarityCandidate(key, previous);
+        }
+        if (entry.embedding != null) {
+            Deque<SimilarityCandidate> candidates = similarityCandidates.computeIfAbsent(entry.partition, p -> new ArrayDeque<>());
+            candidates.addLast(new SimilarityCandidate(key, entry.embedding, entry.createdAt));
+            if (candidates.size() > maxSimilarityCandidates) {
+                // the entry stays cached for exact hits, it is just no longer compared by similarity
+                candidates.removeFirst();
+            }
+        }
+    }
+
+    private ModelTensorOutput findSimilar(String partition, float[] embedding) {
+        String bestKey = null;
+        double bestScore = similarityThreshold;
+        for (SimilarityCandidate candidate : getSimilarityCandidates(partition)) {
+            double score = cosineSimilarity(embedding, candidate.embedding);
+            if (score >= bestScore) {
+                bestScore = score;
+                bestKey = candidate.key;
+            }
+        }
+        return bestKey == null ? null : get(bestKey);
+    }
+
+    /**
+     * @return a snapshot of the live similarity candidates of the partition, dropping those of evicted or expired entries
+     */
+    private synchronized List<SimilarityCandidate> getSimilarityCandidates(String partition) {
+        Deque<SimilarityCandidate> candidates = similarityCandidates.get(partition);
+        if (candidates == null) {
+            return List.of();
+        }
+        long now = clock.getAsLong();
+        Iterator<SimilarityCandidate> iterator = candidates.iterator();
+        while (iterator.hasNext()) {
+            SimilarityCandidate candidate = iterator.next();
+            if (now - candidate.createdAt >= ttlMillis) {
+                entries.remove(candidate.key);
+                iterator.remove();
+            } else if (!entries.containsKey(candidate.key)) {
+                iterator.remove();
+            }
+        }
+        if (candidates.isEmpty()) {
+            similarityCandidates.remove(partition);
+            return List.of();
+        }
+        return new ArrayList<>(candidates);
+    }
+
+    /**
+     * Deep copies the output through its wire format, so neither the caller that populated an entry nor the callers
+     * served from it can modify what other callers see.
+     * @return the copy, or null if the output can't be copied
+     */
+    private static ModelTensorOutput copyOf(ModelTensorOutput output) {
+        if (output == null) {
+            return null;
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            output.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                return new ModelTensorOutput(in);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to copy remote model response", e);
+            return null;
+        }
+    }
+
+    private boolean isExpired(CacheEntry entry) {
+        return clock.getAsLong() - entry.createdAt >= ttlMillis;
+    }
+
+    private void embed(String text, ActionListener<float[]> listener) {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest
+            .builder()
+            .modelId(embeddingModelId)
+            .mlInput(
+                MLInput
+                    .builder()
+                    .algorithm(FunctionName.TEXT_EMBEDDING)
+                    .inputDataset(TextDocsInputDataSet.builder().docs(List.of(text)).build())
+                    .build()
+            )
+            .build();
+        client.execute(MLPredictionTaskAction.INSTANCE, request, ActionListener.wrap(r -> {
+            ModelTensorOutput output = (ModelTensorOutput) r.getOutput();
+            ModelTensor tensor = output.getMlModelOutputs().get(0).getMlModelTensors().get(0);
+            Number[] data = tensor.getData();
+            float[] embedding = new float[data.length];
+            for (int i = 0; i < data.length; i++) {
+                embedding[i] = data[i].floatValue();
+            }
+            listener.onResponse(embedding);
+        }, listener::onFailure));
+    }
+
+    @VisibleForTesting
+    static double cosineSimilarity(float[] a, float[] b) {
+        if (a.length != b.length) {
+            return -1;
+        }
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        if (normA == 0 || normB == 0) {
+            return -1;
+        }
+        return dot / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+
+    /**
+     * Builds a canonical string for the request: keys are sorted and whitespace in values is collapsed, so that
+     * requests which only differ in formatting share the same cache key.
+     */
+    @VisibleForTesting
+    static String normalize(String action, MLInput mlInput) throws IOException {
+        Map<String, Object> request = new TreeMap<>();
+        request.put("action", action);
+        MLInputDataset inputDataset = mlInput.getInputDataset();
+        if (inputDataset instanceof RemoteInferenceInputDataSet
+            && ((RemoteInferenceInputDataSet) inputDataset).getParameters() != null) {
+            request.put("parameters", normalizeValues(((RemoteInferenceInputDataSet) inputDataset).getParameters()));
+        } else if (inputDataset instanceof TextDocsInputDataSet) {
+            List<String> docs = new ArrayList<>();
+            for (String doc : ((TextDocsInputDataSet) inputDataset).getDocs()) {
+                docs.add(normalizeValue(doc));
+            }
+            request.put("docs", docs);
+        }
+        if (mlInput.getParameters() != null) {
+            request.put("algorithm_parameters", normalizeValues(RemoteConnectorExecutor.getParams(mlInput)));
+        }
+        return StringUtils.toJson(request);
+    }
+
+    private static Map<String, String> normalizeValues(Map<String, String> parameters) {
+        Map<String, String> normalized = new TreeMap<>();
+        for (Map.Entry<String, String> entry : parameters.entrySet()) {
+            normalized.put(entry.getKey(), normalizeValue(entry.getValue()));
+        }
+        return normalized;
+    }
+
+    private static String normalizeValue(String value) {
+        return value == null ? null : value.trim().replaceAll("\\s+", " ");
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        similarityCandidates.clear();
+    }
+
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new HashMap<>();
+        stats.put(HIT_COUNT_STAT, hitCount.get());
+        stats.put(SEMANTIC_HIT_COUNT_STAT, semanticHitCount.get());
+        stats.put(MISS_COUNT_STAT, missCount.get());
+        stats.put(EVICTION_COUNT_STAT, evictionCount.get());
+        stats.put(SIZE_STAT, (long) size());
+        return stats;
+    }
+
+    private static class CacheEntry {
+        private final String partition;
+        private final ModelTensorOutput output;
+        private final float[] embedding;
+        private final long createdAt;
+
+        CacheEntry(String partition, ModelTensorOutput output, float[] embedding, long createdAt) {
+            this.partition = partition;
+            this.output = output;
+            this.embedding = embedding;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private static class SimilarityCandidate {
+        private final String key;
+        private final float[] embedding;
+        private final long createdAt;
+
+        SimilarityCandidate(String key, float[] embedding, long createdAt) {
+            this.key = key;
+            this.embedding = embedding;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.security.PrivilegedExceptionAction;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.opensearch.ml.common.connector.Connector;
@@ -29,6 +30,7 @@ import org.opensearch.ml.engine.algorithms.remote.ConnectorUtils;
 import com.jayway.jsonpath.JsonPath;
 
 import lombok.extern.log4j.Log4j2;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -40,33 +42,60 @@ import okhttp3.sse.EventSources;
 @Log4j2
 public class HttpStreamingHandler extends BaseStreamingHandler {
 
+    // Upper bound of concurrent streams per node, each open stream holds one dispatcher slot until it completes
+    static final int MAX_CONCURRENT_STREAMS = 4096;
+
+    // Clients of all streaming connectors share one connection pool and one dispatcher, they only differ by timeouts
+    private static final OkHttpClient SHARED_CLIENT = buildSharedClient();
+    private static final Map<String, OkHttpClient> CLIENTS = new ConcurrentHashMap<>();
+
     private final Connector connector;
-    private OkHttpClient okHttpClient;
+    private final OkHttpClient okHttpClient;
     private String llmInterface;
 
     public HttpStreamingHandler(String llmInterface, Connector connector, ConnectorClientConfig connectorClientConfig) {
         this.connector = connector;
         this.llmInterface = llmInterface;
+        this.okHttpClient = getClient(connectorClientConfig.getConnectionTimeout(), connectorClientConfig.getReadTimeout());
+    }
 
-        // Get connector client configuration
-        Duration connectionTimeout = Duration.ofSeconds(connectorClientConfig.getConnectionTimeout());
-        Duration readTimeout = Duration.ofSeconds(connectorClientConfig.getReadTimeout());
-
-        // Initialize OkHttp client for SSE
+    private static OkHttpClient buildSharedClient() {
         try {
-            AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
-                this.okHttpClient = new OkHttpClient.Builder()
-                    .connectTimeout(connectionTimeout)
-                    .readTimeout(readTimeout)
-                    .retryOnConnectionFailure(true)
-                    .build();
-                return null;
+            return AccessController.doPrivileged((PrivilegedExceptionAction<OkHttpClient>) () -> {
+                Dispatcher dispatcher = new Dispatcher();
+                dispatcher.setMaxRequests(MAX_CONCURRENT_STREAMS);
+                dispatcher.setMaxRequestsPerHost(MAX_CONCURRENT_STREAMS);
+                return new OkHttpClient.Builder().dispatcher(dispatcher).retryOnConnectionFailure(true).build();
             });
         } catch (Exception e) {
             throw new RuntimeException("Failed to build OkHttpClient", e);
         }
     }
 
+    /**
+     * Returns the streaming client for the given connector timeouts, derived from the shared client so that it reuses
+     * its connections and dispatcher threads.
+     * @param connectionTimeout connection timeout in seconds
+     * @param readTimeout read timeout in seconds
+     * @return the streaming client
+     */
+    static OkHttpClient getClient(int connectionTimeout, int readTimeout) {
+        return CLIENTS.computeIfAbsent(connectionTimeout + ":" + readTimeout, key -> {
+            try {
+                return AccessController
+                    .doPrivileged(
+                        (PrivilegedExceptionAction<OkHttpClient>) () -> SHARED_CLIENT
+                            .newBuilder()
+                            .connectTimeout(Duration.ofSeconds(connectionTimeout))
+                            .readTimeout(Duration.ofSeconds(readTimeout))
+                            .build()
+                    );
+            } catch (Exception e) {
+                throw new RuntimeException("Failed to build OkHttpClient", e);
+            }
+        });
+    }
+
     @Override
     public void startStream(
         String action,
@@ -104,7 +133,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         private boolean agentExecutionInProgress = false;
         private String accumulatedToolCallId = null;
         private String accumulatedToolName = null;
-        private String accumulatedArguments = "";
+        private final StringBuilder accumulatedArguments = new StringBuilder();
 
         public HTTPEventSourceListener(StreamPredictActionListener<MLTaskResponse, ?> streamActionListener, String llmInterface) {
             this.streamActionListener = streamActionListener;
@@ -253,7 +282,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
         }
 
         private String buildCompleteFunctionCallResponse() {
-            Map<String, Object> function = Map.of("name", accumulatedToolName, "arguments", accumulatedArguments);
+            Map<String, Object> function = Map.of("name", accumulatedToolName, "arguments", accumulatedArguments.toString());
             Map<String, Object> toolCall = Map.of("id", accumulatedToolCallId, "type", "function", "function", function);
             Map<String, Object> message = Map.of("tool_calls", List.of(toolCall));
             Map<String, Object> choice = Map.of("message", message, "finish_reason", "tool_calls");
@@ -283,7 +312,7 @@ public class HttpStreamingHandler extends BaseStreamingHandler {
                         accumulatedToolName = (String) func.get("name");
                     }
                     if (func.containsKey("arguments")) {
-                        accumulatedArguments += (String) func.get("arguments");
+                        accumulatedArguments.append((String) func.get("arguments"));
                     }
                 }
             }
@@ -26,25 +26,59 @@ public class StreamPredictActionListener<Response extends TransportResponse, Req
     implements
         ActionListener<Response> {
 
+    /**
+     * Receives the latency of the chunks sent on a stream, in milliseconds.
+     */
+    public interface TokenLatencyListener {
+        /**
+         * @param latency time from the start of the stream to its first chunk
+         */
+        void onFirstToken(double latency);
+
+        /**
+         * @param latency time between a chunk and the previous one
+         */
+        void onNextToken(double latency);
+    }
+
     private final TransportChannel channel;
     private final ActionListener<Response> agentListener;
     private final String memoryId;
     private final String parentInteractionId;
+    private final TokenLatencyListener tokenLatencyListener;
+    private final long startTime;
+    private long lastTokenTime;
 
     public StreamPredictActionListener(TransportChannel channel) {
         this(channel, null, null, null);
     }
 
+    public StreamPredictActionListener(TransportChannel channel, TokenLatencyListener tokenLatencyListener) {
+        this(channel, null, null, null, tokenLatencyListener);
+    }
+
     public StreamPredictActionListener(
         TransportChannel channel,
         ActionListener<Response> agentListener,
         String memoryId,
         String parentInteractionId
+    ) {
+        this(channel, agentListener, memoryId, parentInteractionId, null);
+    }
+
+    public StreamPredictActionListener(
+        TransportChannel channel,
+        ActionListener<Response> agentListener,
+        String memoryId,
+        String parentInteractionId,
+        TokenLatencyListener tokenLatencyListener
     ) {
         this.channel = channel;
         this.agentListener = agentListener;
         this.memoryId = memoryId;
         this.parentInteractionId = parentInteractionId;
+        this.tokenLatencyListener = tokenLatencyListener;
+        this.startTime = System.nanoTime();
     }
 
     /**
@@ -56,6 +90,9 @@ public class StreamPredictActionListener<Response extends TransportResponse, Req
      */
     public void onStreamResponse(Response response, boolean isLastBatch) {
         assert response != null;
+        if (tokenLatencyListener != null && !isLastBatch) {
+            recordTokenLatency();
+        }
 
         // Add metadata to all responses
         Response responseWithMetadata = addMetadataToResponse(response);
@@ -96,6 +133,20 @@ public class StreamPredictActionListener<Response extends TransportResponse, Req
         }
     }
 
+    private synchronized void recordTokenLatency() {
+        long now = System.nanoTime();
+        try {
+            if (lastTokenTime == 0) {
+                tokenLatencyListener.onFirstToken((now - startTime) / 1e6);
+            } else {
+                tokenLatencyListener.onNextToken((now - lastTokenTime) / 1e6);
+            }
+        } catch (Exception e) {
+            log.debug("Failed to record stream token latency", e);
+        }
+        lastTokenTime = now;
+    }
+
     private Response addMetadataToResponse(Response response) {
         if (!(response instanceof MLTaskResponse)) {
             return response;
@@ -19,10 +19,12 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
+import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
 import ai.djl.translate.TranslatorContext;
 
 public class SparseEncodingTranslator extends SentenceTransformerTranslator {
@@ -36,6 +38,38 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
         return super.processInput(ctx, input);
     }
 
+    /**
+     * Tokenizes the whole batch with one native call. The tokenizer pads every encoding to the longest
+     * one in the batch, padded positions are masked out through the attention mask.
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) {
+        String embeddingFormat = inputs.get(0).getAsString(SPARSE_EMBEDDING_FORMAT_FIELD);
+        if (embeddingFormat != null) {
+            ctx.setAttachment(SPARSE_EMBEDDING_FORMAT_FIELD, embeddingFormat);
+        }
+        List<String> sentences = new ArrayList<>(inputs.size());
+        for (Input input : inputs) {
+            sentences.add(input.getAsString(0));
+        }
+        Encoding[] encodings = tokenizer.batchEncode(sentences);
+        long[][] indices = new long[encodings.length][];
+        long[][] attentionMask = new long[encodings.length][];
+        for (int i = 0; i < encodings.length; i++) {
+            indices[i] = encodings[i].getIds();
+            attentionMask[i] = encodings[i].getAttentionMask();
+        }
+
+        NDManager manager = ctx.getNDManager();
+        NDArray indicesArray = manager.create(indices);
+        indicesArray.setName("input1.input_ids");
+
+        NDArray attentionMaskArray = manager.create(attentionMask);
+        attentionMaskArray.setName("input1.attention_mask");
+
+        return new NDList(indicesArray, attentionMaskArray);
+    }
+
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
@@ -5,14 +5,23 @@
 
 package org.opensearch.ml.engine.algorithms.sparse_encoding;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.MLAlgoParams;
 import org.opensearch.ml.common.model.MLModelConfig;
+import org.opensearch.ml.common.output.model.ModelResultFilter;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.TextEmbeddingModel;
 import org.opensearch.ml.engine.annotation.Function;
 
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
 import ai.djl.translate.Translator;
 import ai.djl.translate.TranslatorFactory;
 import lombok.extern.log4j.Log4j2;
@@ -20,6 +29,33 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 @Function(FunctionName.SPARSE_ENCODING)
 public class TextEmbeddingSparseEncodingModel extends TextEmbeddingModel {
+    // number of docs encoded in one forward pass, unless the model config sets batch_size
+    public static final int DEFAULT_BATCH_SIZE = 16;
+
+    /**
+     * Encodes the docs in batches. The translator tokenizes each batch with one native call and the model runs one
+     * padded forward pass per batch instead of one pass per doc.
+     */
+    @Override
+    public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
+        MLAlgoParams mlParams = mlInput.getParameters();
+        TextDocsInputDataSet textDocsInput = getTextDocsInput(mlInput);
+        ModelResultFilter resultFilter = textDocsInput.getResultFilter();
+        List<String> docs = textDocsInput.getDocs();
+
+        List<ModelTensors> tensorOutputs = new ArrayList<>(docs.size());
+        int batchSize = getBatchSize(DEFAULT_BATCH_SIZE);
+        for (int start = 0; start < docs.size(); start += batchSize) {
+            List<Input> inputs = new ArrayList<>();
+            for (String doc : docs.subList(start, Math.min(start + batchSize, docs.size()))) {
+                inputs.add(createInput(doc, mlParams));
+            }
+            for (Output output : getPredictor().batchPredict(inputs)) {
+                tensorOutputs.add(parseModelTensorOutput(output, resultFilter));
+            }
+        }
+        return new ModelTensorOutput(tensorOutputs);
+    }
 
     @Override
     public Translator<Input, Output> getTranslator(String engine, MLModelConfig modelConfig) {
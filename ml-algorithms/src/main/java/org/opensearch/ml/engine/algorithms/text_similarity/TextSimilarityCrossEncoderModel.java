@@ -18,6 +18,8 @@
 package org.opensearch.ml.engine.algorithms.text_similarity;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.opensearch.ml.common.FunctionName;
@@ -39,22 +41,42 @@ import ai.djl.translate.TranslatorFactory;
 @Function(FunctionName.TEXT_SIMILARITY)
 public class TextSimilarityCrossEncoderModel extends DLModel {
 
+    // number of query and document pairs scored in one forward pass, unless the model config sets batch_size
+    public static final int DEFAULT_BATCH_SIZE = 16;
+
+    /**
+     * Scores the query against every document in batches. Documents are sorted by length before being split into
+     * batches, so that the pairs of a batch need little padding, and the scores are returned in the input order.
+     */
     @Override
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
         MLInputDataset inputDataSet = mlInput.getInputDataset();
-        List<ModelTensors> tensorOutputs = new ArrayList<>();
-        Output output;
         TextSimilarityInputDataSet textSimInput = (TextSimilarityInputDataSet) inputDataSet;
         String queryText = textSimInput.getQueryText();
-        for (String doc : textSimInput.getTextDocs()) {
-            Input input = new Input();
-            input.add(queryText);
-            input.add(doc);
-            output = getPredictor().predict(input);
-            ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
-            tensorOutputs.add(outputTensors);
+        List<String> docs = textSimInput.getTextDocs();
+        Integer[] order = new Integer[docs.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> docs.get(i).length()));
+
+        ModelTensors[] tensorOutputs = new ModelTensors[docs.size()];
+        int batchSize = getBatchSize(DEFAULT_BATCH_SIZE);
+        for (int start = 0; start < order.length; start += batchSize) {
+            int end = Math.min(start + batchSize, order.length);
+            List<Input> inputs = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                Input input = new Input();
+                input.add(queryText);
+                input.add(docs.get(order[i]));
+                inputs.add(input);
+            }
+            List<Output> outputs = getPredictor().batchPredict(inputs);
+            for (int i = start; i < end; i++) {
+                tensorOutputs[order[i]] = ModelTensors.fromBytes(outputs.get(i - start).getData().getAsBytes());
+            }
         }
-        return new ModelTensorOutput(tensorOutputs);
+        return new ModelTensorOutput(Arrays.asList(tensorOutputs));
     }
 
     @Override
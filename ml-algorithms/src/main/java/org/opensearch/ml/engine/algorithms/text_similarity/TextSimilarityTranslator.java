@@ -35,6 +35,7 @@ import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.TranslatorContext;
+import ai.djl.util.PairList;
 
 public class TextSimilarityTranslator extends SentenceTransformerTranslator {
     public final String SIMILARITY_NAME = "similarity";
@@ -65,6 +66,44 @@ public class TextSimilarityTranslator extends SentenceTransformerTranslator {
         return ndList;
     }
 
+    /**
+     * Tokenizes all query and document pairs of the batch with one native call, and pads them to the longest pair of
+     * the batch. Padded positions are masked out through the attention mask.
+     */
+    @Override
+    public NDList batchProcessInput(TranslatorContext ctx, List<Input> inputs) {
+        PairList<String, String> pairs = new PairList<>(inputs.size());
+        for (Input input : inputs) {
+            pairs.add(input.getAsString(0), input.getAsString(1));
+        }
+        Encoding[] encodings = tokenizer.batchEncode(pairs);
+        int maxLength = 0;
+        for (Encoding encoding : encodings) {
+            maxLength = Math.max(maxLength, encoding.getIds().length);
+        }
+        long[][] indices = new long[encodings.length][maxLength];
+        long[][] attentionMask = new long[encodings.length][maxLength];
+        long[][] tokenTypes = new long[encodings.length][maxLength];
+        for (int i = 0; i < encodings.length; i++) {
+            long[] ids = encodings[i].getIds();
+            System.arraycopy(ids, 0, indices[i], 0, ids.length);
+            System.arraycopy(encodings[i].getAttentionMask(), 0, attentionMask[i], 0, ids.length);
+            System.arraycopy(encodings[i].getTypeIds(), 0, tokenTypes[i], 0, ids.length);
+        }
+
+        NDManager manager = ctx.getNDManager();
+        NDArray indicesArray = manager.create(indices);
+        indicesArray.setName("input_ids");
+
+        NDArray attentionMaskArray = manager.create(attentionMask);
+        attentionMaskArray.setName("attention_mask");
+
+        NDArray tokenTypeArray = manager.create(tokenTypes);
+        tokenTypeArray.setName("token_type_ids");
+
+        return new NDList(indicesArray, attentionMaskArray, tokenTypeArray);
+    }
+
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
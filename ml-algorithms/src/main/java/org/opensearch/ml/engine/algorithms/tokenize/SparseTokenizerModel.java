@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataset.MLInputDataset;
@@ -61,6 +62,8 @@ public class SparseTokenizerModel extends DLModel {
 
     private Map<String, Float> idf;
 
+    private final Map<Long, String> decodedTokens = new ConcurrentHashMap<>();
+
     public String IDF_FILE_NAME = "idf.json";
 
     @Override
@@ -78,28 +81,11 @@ public class SparseTokenizerModel extends DLModel {
             sparseEmbeddingFormat = sparseParams.getSparseEmbeddingFormat();
         }
 
-        for (String doc : textDocsInput.getDocs()) {
-            Encoding encodings = tokenizer.encode(doc);
-            long[] indices = encodings.getIds();
-            long[] uniqueIndices = Arrays.stream(indices).distinct().toArray();
-            String[] tokens = Arrays
-                .stream(uniqueIndices)
-                .mapToObj(value -> this.tokenizer.decode(new long[] { value }, true))
-                .toArray(String[]::new);
-
-            Map<String, Float> tokenWeights = new HashMap<>();
-            for (int i = 0; i < uniqueIndices.length; i++) {
-                String token = tokens[i];
-                if (token.isEmpty()) {
-                    continue;
-                }
-                if (sparseEmbeddingFormat == SparseEmbeddingFormat.TOKEN_ID) {
-                    tokenWeights.put(String.valueOf(uniqueIndices[i]), idf.getOrDefault(token, 1.0f));
-                } else {
-                    tokenWeights.put(token, idf.getOrDefault(token, 1.0f));
-                }
-            }
-
+        // Encode the whole input data set in one native call, the tokenizer parallelizes the batch internally.
+        List<String> docs = textDocsInput.getDocs();
+        Encoding[] encodings = tokenizer.batchEncode(docs);
+        for (Encoding encoding : encodings) {
+            Map<String, Float> tokenWeights = buildTokenWeights(encoding, sparseEmbeddingFormat);
             Map<String, ?> wrappedMap = Map.of(ML_MAP_RESPONSE_KEY, Collections.singletonList(tokenWeights));
             ModelTensor tensor = ModelTensor.builder().dataAsMap(wrappedMap).build();
             tensorOutputs.add(new ModelTensors(List.of(tensor)));
@@ -107,6 +93,31 @@ public class SparseTokenizerModel extends DLModel {
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    private Map<String, Float> buildTokenWeights(Encoding encoding, SparseEmbeddingFormat sparseEmbeddingFormat) {
+        long[] uniqueIndices = Arrays.stream(encoding.getIds()).distinct().toArray();
+        Map<String, Float> tokenWeights = new HashMap<>();
+        for (long index : uniqueIndices) {
+            String token = decodeToken(index);
+            if (token.isEmpty()) {
+                continue;
+            }
+            if (sparseEmbeddingFormat == SparseEmbeddingFormat.TOKEN_ID) {
+                tokenWeights.put(String.valueOf(index), idf.getOrDefault(token, 1.0f));
+            } else {
+                tokenWeights.put(token, idf.getOrDefault(token, 1.0f));
+            }
+        }
+        return tokenWeights;
+    }
+
+    /**
+     * Decoding a single token id is a native call, the result only depends on the vocabulary,
+     * so it's cached for the lifetime of the deployed tokenizer.
+     */
+    private String decodeToken(long tokenId) {
+        return decodedTokens.computeIfAbsent(tokenId, id -> this.tokenizer.decode(new long[] { id }, true));
+    }
+
     protected void doLoadModel(
         List<Predictor<Input, Output>> predictorList,
         List<ZooModel<Input, Output>> modelList,
@@ -118,6 +129,7 @@ public class SparseTokenizerModel extends DLModel {
         IOException,
         TranslateException {
         tokenizer = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(modelPath.resolve("tokenizer.json")).build();
+        decodedTokens.clear();
         idf = new HashMap<>();
         if (Files.exists(modelPath.resolve(IDF_FILE_NAME))) {
             idf = DJLUtils.fetchTokenWeights(modelPath.resolve(IDF_FILE_NAME));
@@ -140,6 +152,7 @@ public class SparseTokenizerModel extends DLModel {
             if (idf != null || tokenizer != null) {
                 tokenizer = null;
                 idf = null;
+                decodedTokens.clear();
             }
         }
     }
@@ -9,7 +9,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.action.search.ClearScrollRequest;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
@@ -19,6 +25,7 @@ import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.transport.client.Client;
 
 import lombok.AccessLevel;
@@ -33,6 +40,8 @@ import lombok.extern.log4j.Log4j2;
 @RequiredArgsConstructor
 @Log4j2
 public class MLInputDatasetHandler {
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(5);
+
     Client client;
 
     /**
@@ -73,4 +82,85 @@ public class MLInputDatasetHandler {
         }));
         return;
     }
+
+    /**
+     * Feed the documents matched by the given search query to the consumer one page of chunkSize documents at a time,
+     * scrolling through all of them instead of holding them all in memory. The size of the query, if set, caps the
+     * number of documents fed.
+     * @param mlInputDataset MLInputDataset
+     * @param chunkSize number of documents per page
+     * @param executor name of the thread pool the consumer runs on
+     * @param chunkConsumer consumer of the documents of one page
+     * @param listener ActionListener, notified once all the documents are fed
+     */
+    public void parseSearchQueryInputInChunks(
+        MLInputDataset mlInputDataset,
+        int chunkSize,
+        String executor,
+        CheckedConsumer<DataFrame, Exception> chunkConsumer,
+        ActionListener<Void> listener
+    ) {
+        if (!mlInputDataset.getInputDataType().equals(MLInputDataType.SEARCH_QUERY)) {
+            throw new IllegalArgumentException("Input dataset is not SEARCH_QUERY type.");
+        }
+        SearchQueryInputDataset inputDataset = (SearchQueryInputDataset) mlInputDataset;
+        SearchSourceBuilder searchSourceBuilder = inputDataset.getSearchSourceBuilder();
+        int maxDocuments = searchSourceBuilder.size() < 0 ? Integer.MAX_VALUE : searchSourceBuilder.size();
+        SearchRequest searchRequest = new SearchRequest();
+        searchRequest.source(searchSourceBuilder.shallowCopy().size(Math.min(chunkSize, maxDocuments)));
+        searchRequest.indices(inputDataset.getIndices().toArray(new String[0]));
+        searchRequest.scroll(SCROLL_KEEP_ALIVE);
+
+        ActionListener<SearchResponse> pageListener = new ActionListener<>() {
+            private int fedDocuments = 0;
+
+            @Override
+            public void onResponse(SearchResponse r) {
+                String scrollId = r.getScrollId();
+                try {
+                    SearchHit[] searchHits = r.getHits() == null ? new SearchHit[0] : r.getHits().getHits();
+                    if (fedDocuments == 0 && searchHits.length == 0) {
+                        clearScroll(scrollId);
+                        listener.onFailure(new IllegalArgumentException("No document found"));
+                        return;
+                    }
+                    int documents = Math.min(searchHits.length, maxDocuments - fedDocuments);
+                    if (documents > 0) {
+                        List<Map<String, Object>> input = new ArrayList<>();
+                        for (int i = 0; i < documents; i++) {
+                            input.add(searchHits[i].getSourceAsMap());
+                        }
+                        chunkConsumer.accept(DataFrameBuilder.load(input));
+                        fedDocuments += documents;
+                    }
+                    if (searchHits.length == 0 || fedDocuments >= maxDocuments) {
+                        clearScroll(scrollId);
+                        listener.onResponse(null);
+                        return;
+                    }
+                    SearchScrollRequest searchScrollRequest = new SearchScrollRequest(scrollId).scroll(SCROLL_KEEP_ALIVE);
+                    client.searchScroll(searchScrollRequest, new ThreadedActionListener<>(log, client.threadPool(), executor, this, false));
+                } catch (Exception e) {
+                    clearScroll(scrollId);
+                    listener.onFailure(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                log.error("Failed to search", e);
+                listener.onFailure(e);
+            }
+        };
+        client.search(searchRequest, new ThreadedActionListener<>(log, client.threadPool(), executor, pageListener, false));
+    }
+
+    private void clearScroll(String scrollId) {
+        if (scrollId == null) {
+            return;
+        }
+        ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+        clearScrollRequest.addScrollId(scrollId);
+        client.clearScroll(clearScrollRequest, ActionListener.wrap(r -> {}, e -> log.warn("Failed to clear scroll", e)));
+    }
 }
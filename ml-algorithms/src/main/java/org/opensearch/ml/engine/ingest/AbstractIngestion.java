@@ -8,34 +8,52 @@ package org.opensearch.ml.engine.ingest;
 import static org.opensearch.ml.common.utils.StringUtils.getJsonPath;
 import static org.opensearch.ml.common.utils.StringUtils.obtainFieldNameFromJsonPath;
 
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
 import org.opensearch.ml.common.utils.StringUtils;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class AbstractIngestion implements Ingestable {
+    // Bulk requests of one ingestion that may be in flight at the same time, across all of its sources
+    public static final int MAX_IN_FLIGHT_BULKS = 4;
 
-    private final Client client;
+    protected final Client client;
 
     public AbstractIngestion(Client client) {
         this.client = client;
@@ -63,6 +81,328 @@ public class AbstractIngestion implements Ingestable {
         });
     }
 
+    /**
+     * Sends the lines as one bulk request with a permit of inFlightBulks already taken for it, and releases the permit
+     * when the bulk request finishes.
+     *
+     * @param sourceLines The lines to ingest.
+     * @param mlBatchIngestionInput The MLBatchIngestionInput.
+     * @param compiledFieldMapping The compiled field mapping of the source.
+     * @param isSoleSource Whether the source is the only one of the ingestion.
+     * @param inFlightBulks The permits for in flight bulk requests, shared by all the sources of the ingestion.
+     * @param successfulBatches The counter of successful batches.
+     * @param failedBatches The counter of failed batches.
+     * @return The future completed when the bulk request finishes.
+     */
+    protected CompletableFuture<Void> submitBatch(
+        List<String> sourceLines,
+        MLBatchIngestionInput mlBatchIngestionInput,
+        List<Map.Entry<String, JsonPath>> compiledFieldMapping,
+        boolean isSoleSource,
+        InFlightBulks inFlightBulks,
+        AtomicInteger successfulBatches,
+        AtomicInteger failedBatches
+    ) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        future.whenComplete((r, e) -> inFlightBulks.release());
+        try {
+            batchIngest(
+                sourceLines,
+                mlBatchIngestionInput,
+                compiledFieldMapping,
+                getBulkResponseListener(successfulBatches, failedBatches, future),
+                isSoleSource
+            );
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw e;
+        }
+        return future;
+    }
+
+    /**
+     * Reads the lines of one source and sends them in bulk requests of bulkSize lines, each holding a permit of
+     * inFlightBulks while it is in flight, so that reading a large source cannot get ahead of the cluster. Reading
+     * starts on the calling thread. When no permit is free, it stops and continues on the executor once a bulk request
+     * of the ingestion completes, so waiting for a permit never parks a thread.
+     *
+     * @param lineSource The lines of the source, closed once they are all read or reading fails.
+     * @param mlBatchIngestionInput The MLBatchIngestionInput.
+     * @param sourceIndex The source index.
+     * @param isSoleSource Whether the source is the only one of the ingestion.
+     * @param bulkSize The number of lines per bulk request.
+     * @param inFlightBulks The permits for in flight bulk requests, shared by all the sources of the ingestion.
+     * @param executor The executor that continues reading once a permit is free.
+     * @return The future of the success rate of the source, completed once its last bulk request finishes.
+     */
+    protected CompletableFuture<Double> ingestSource(
+        LineSource lineSource,
+        MLBatchIngestionInput mlBatchIngestionInput,
+        int sourceIndex,
+        boolean isSoleSource,
+        int bulkSize,
+        InFlightBulks inFlightBulks,
+        Executor executor
+    ) {
+        SourceIngestion sourceIngestion = new SourceIngestion(
+            lineSource,
+            mlBatchIngestionInput,
+            compileSourceFieldMapping(mlBatchIngestionInput, sourceIndex, isSoleSource),
+            isSoleSource,
+            bulkSize,
+            inFlightBulks,
+            executor
+        );
+        sourceIngestion.read();
+        return sourceIngestion.result;
+    }
+
+    /**
+     * The lines of a source to ingest.
+     */
+    protected interface LineSource extends Closeable {
+        /**
+         * @return the next line, or null at the end of the source
+         */
+        String readLine() throws IOException;
+    }
+
+    protected static LineSource lineSource(BufferedReader reader) {
+        return new LineSource() {
+            @Override
+            public String readLine() throws IOException {
+                return reader.readLine();
+            }
+
+            @Override
+            public void close() throws IOException {
+                reader.close();
+            }
+        };
+    }
+
+    /**
+     * Permits for the bulk requests of one ingestion that may be in flight at the same time, shared by all of its
+     * sources. A source that finds no free permit leaves a continuation, which is handed the permit of the next bulk
+     * request to complete.
+     */
+    protected static class InFlightBulks {
+        private final Deque<Runnable> waiting = new ArrayDeque<>();
+        private int available;
+
+        public InFlightBulks(int permits) {
+            this.available = permits;
+        }
+
+        /**
+         * @param onPermit run with a permit once one is released, if none is free now
+         * @return true if a permit was taken, false if onPermit was queued
+         */
+        public synchronized boolean tryAcquire(Runnable onPermit) {
+            if (available > 0) {
+                available--;
+                return true;
+            }
+            waiting.add(onPermit);
+            return false;
+        }
+
+        public void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    available++;
+                }
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+
+        public synchronized int availablePermits() {
+            return available;
+        }
+    }
+
+    /**
+     * Reads one source a bulk request at a time. Only one thread reads the source at any time: the read loop stops
+     * when it queues its continuation on the permits, and the continuation starts it again.
+     */
+    private class SourceIngestion {
+        private final LineSource lineSource;
+        private final MLBatchIngestionInput mlBatchIngestionInput;
+        private final List<Map.Entry<String, JsonPath>> fieldMapping;
+        private final boolean isSoleSource;
+        private final int bulkSize;
+        private final InFlightBulks inFlightBulks;
+        private final Executor executor;
+        private final AtomicInteger successfulBatches = new AtomicInteger(0);
+        private final AtomicInteger failedBatches = new AtomicInteger(0);
+        private final List<CompletableFuture<Void>> bulks = new ArrayList<>();
+        private final CompletableFuture<Double> result = new CompletableFuture<>();
+
+        SourceIngestion(
+            LineSource lineSource,
+            MLBatchIngestionInput mlBatchIngestionInput,
+            List<Map.Entry<String, JsonPath>> fieldMapping,
+            boolean isSoleSource,
+            int bulkSize,
+            InFlightBulks inFlightBulks,
+            Executor executor
+        ) {
+            this.lineSource = lineSource;
+            this.mlBatchIngestionInput = mlBatchIngestionInput;
+            this.fieldMapping = fieldMapping;
+            this.isSoleSource = isSoleSource;
+            this.bulkSize = bulkSize;
+            this.inFlightBulks = inFlightBulks;
+            this.executor = executor;
+        }
+
+        void read() {
+            while (inFlightBulks.tryAcquire(() -> executor.execute(this::readWithPermit))) {
+                if (!sendNextBulk()) {
+                    return;
+                }
+            }
+        }
+
+        private void readWithPermit() {
+            if (sendNextBulk()) {
+                read();
+            }
+        }
+
+        /**
+         * Reads the next lines and sends them with the permit taken for them.
+         *
+         * @return false once the source is fully read or failed
+         */
+        private boolean sendNextBulk() {
+            List<String> lines = new ArrayList<>(bulkSize);
+            try {
+                String line;
+                while (lines.size() < bulkSize && (line = lineSource.readLine()) != null) {
+                    lines.add(line);
+                }
+            } catch (Exception e) {
+                inFlightBulks.release();
+                fail(e);
+                return false;
+            }
+            if (lines.isEmpty()) {
+                inFlightBulks.release();
+                finish();
+                return false;
+            }
+            try {
+                // the permit is released when the bulk request finishes, or here if it cannot be sent
+                CompletableFuture<Void> bulk = submitBatch(
+                    lines,
+                    mlBatchIngestionInput,
+                    fieldMapping,
+                    isSoleSource,
+                    inFlightBulks,
+                    successfulBatches,
+                    failedBatches
+                );
+                bulks.add(bulk);
+            } catch (Exception e) {
+                fail(e);
+                return false;
+            }
+            if (lines.size() < bulkSize) {
+                finish();
+                return false;
+            }
+            return true;
+        }
+
+        private void finish() {
+            closeLineSource();
+            CompletableFuture.allOf(bulks.toArray(new CompletableFuture[0])).whenComplete((r, e) -> {
+                if (e != null) {
+                    result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                    return;
+                }
+                int totalBatches = successfulBatches.get() + failedBatches.get();
+                result.complete((totalBatches == 0) ? 100 : (double) successfulBatches.get() / totalBatches * 100);
+            });
+        }
+
+        private void fail(Exception e) {
+            closeLineSource();
+            result.completeExceptionally(e);
+        }
+
+        private void closeLineSource() {
+            try {
+                lineSource.close();
+            } catch (IOException e) {
+                log.warn("Failed to close the batch ingestion source", e);
+            }
+        }
+    }
+
+    /**
+     * Sends the bulk request, retrying with exponential backoff while the cluster rejects it or its items with
+     * 429 Too Many Requests.
+     *
+     * @param bulkRequest The bulk request.
+     * @param backoff The remaining delays before each retry.
+     * @param bulkResponseListener The listener of the final bulk response.
+     */
+    protected void bulkWithBackoff(
+        BulkRequest bulkRequest,
+        Iterator<TimeValue> backoff,
+        ActionListener<BulkResponse> bulkResponseListener
+    ) {
+        client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+            BulkRequest retryRequest = rejectedItems(bulkRequest, bulkResponse);
+            if (retryRequest != null && backoff.hasNext()) {
+                TimeValue delay = backoff.next();
+                log.debug("Retrying {} rejected bulk items in {}", retryRequest.numberOfActions(), delay);
+                scheduleRetry(() -> bulkWithBackoff(retryRequest, backoff, bulkResponseListener), delay);
+            } else {
+                bulkResponseListener.onResponse(bulkResponse);
+            }
+        }, e -> {
+            if (ExceptionsHelper.status(e) == RestStatus.TOO_MANY_REQUESTS && backoff.hasNext()) {
+                TimeValue delay = backoff.next();
+                log.debug("Retrying rejected bulk request in {}", delay);
+                scheduleRetry(() -> bulkWithBackoff(bulkRequest, backoff, bulkResponseListener), delay);
+            } else {
+                bulkResponseListener.onFailure(e);
+            }
+        }));
+    }
+
+    private void scheduleRetry(Runnable retry, TimeValue delay) {
+        client.threadPool().schedule(retry, delay, ThreadPool.Names.GENERIC);
+    }
+
+    /**
+     * @return a bulk request with the items that were rejected with 429, or null if there are other failures or no
+     * rejections at all
+     */
+    private BulkRequest rejectedItems(BulkRequest bulkRequest, BulkResponse bulkResponse) {
+        if (!bulkResponse.hasFailures()) {
+            return null;
+        }
+        BulkRequest retryRequest = new BulkRequest();
+        BulkItemResponse[] items = bulkResponse.getItems();
+        for (int i = 0; i < items.length; i++) {
+            if (items[i].isFailed()) {
+                if (items[i].status() != RestStatus.TOO_MANY_REQUESTS) {
+                    return null;
+                }
+                retryRequest.add(bulkRequest.requests().get(i));
+            }
+        }
+        return retryRequest.numberOfActions() == 0 ? null : retryRequest;
+    }
+
     protected double calculateSuccessRate(List<Double> successRates) {
         return successRates
             .stream()
@@ -180,22 +520,71 @@ public class AbstractIngestion implements Ingestable {
      * @return A new map that contains all the fields and data for ingestion.
      */
     protected Map<String, Object> processFieldMapping(String jsonStr, Map<String, Object> fieldMapping) {
+        return processFieldMapping(jsonStr, compileFieldMapping(fieldMapping));
+    }
+
+    /**
+     * Produce the source as a Map to be ingested in to OpenSearch. The line is parsed once and all the compiled
+     * Json Paths are evaluated against the parsed document.
+     *
+     * @param jsonStr The source line.
+     * @param compiledFieldMapping The field mapping with the Json Paths compiled by {@link #compileFieldMapping(Map)}.
+     * @return A new map that contains all the fields and data for ingestion.
+     */
+    protected Map<String, Object> processFieldMapping(String jsonStr, List<Map.Entry<String, JsonPath>> compiledFieldMapping) {
         Map<String, Object> jsonMap = new HashMap<>();
-        if (fieldMapping == null || fieldMapping.isEmpty()) {
+        if (compiledFieldMapping == null || compiledFieldMapping.isEmpty()) {
             return jsonMap;
         }
 
-        fieldMapping.entrySet().stream().forEach(entry -> {
-            Object value = entry.getValue();
+        DocumentContext document = JsonPath.parse(jsonStr);
+        for (Map.Entry<String, JsonPath> entry : compiledFieldMapping) {
+            jsonMap.put(entry.getKey(), document.read(entry.getValue()));
+        }
+        return jsonMap;
+    }
+
+    /**
+     * Compiles the Json Paths of a field mapping so that they are parsed once per source instead of once per line.
+     *
+     * @param fieldMapping The field mapping that includes all the field name and Json Path for the data.
+     * @return The field name and compiled Json Path pairs, in evaluation order.
+     */
+    protected List<Map.Entry<String, JsonPath>> compileFieldMapping(Map<String, Object> fieldMapping) {
+        List<Map.Entry<String, JsonPath>> compiledFieldMapping = new ArrayList<>();
+        if (fieldMapping == null) {
+            return compiledFieldMapping;
+        }
+
+        fieldMapping.forEach((fieldName, value) -> {
             if (value instanceof String) {
-                String jsonPath = (String) value;
-                jsonMap.put(entry.getKey(), JsonPath.read(jsonStr, jsonPath));
+                compiledFieldMapping.add(new AbstractMap.SimpleImmutableEntry<>(fieldName, JsonPath.compile((String) value)));
             } else if (value instanceof List) {
-                ((List<String>) value).stream().forEach(jsonPath -> { jsonMap.put(entry.getKey(), JsonPath.read(jsonStr, jsonPath)); });
+                ((List<String>) value)
+                    .forEach(
+                        jsonPath -> compiledFieldMapping.add(new AbstractMap.SimpleImmutableEntry<>(fieldName, JsonPath.compile(jsonPath)))
+                    );
             }
         });
+        return compiledFieldMapping;
+    }
 
-        return jsonMap;
+    /**
+     * Resolves and compiles the field mapping of one source.
+     *
+     * @param mlBatchIngestionInput The MLBatchIngestionInput.
+     * @param sourceIndex The source index.
+     * @param isSoleSource Whether the source is the only one of the ingestion.
+     * @return The field name and compiled Json Path pairs for the source.
+     */
+    protected List<Map.Entry<String, JsonPath>> compileSourceFieldMapping(
+        MLBatchIngestionInput mlBatchIngestionInput,
+        int sourceIndex,
+        boolean isSoleSource
+    ) {
+        return compileFieldMapping(
+            isSoleSource ? filterFieldMappingSoleSource(mlBatchIngestionInput) : filterFieldMapping(mlBatchIngestionInput, sourceIndex)
+        );
     }
 
     protected void batchIngest(
@@ -204,13 +593,26 @@ public class AbstractIngestion implements Ingestable {
         ActionListener<BulkResponse> bulkResponseListener,
         int sourceIndex,
         boolean isSoleSource
+    ) {
+        batchIngest(
+            sourceLines,
+            mlBatchIngestionInput,
+            compileSourceFieldMapping(mlBatchIngestionInput, sourceIndex, isSoleSource),
+            bulkResponseListener,
+            isSoleSource
+        );
+    }
+
+    protected void batchIngest(
+        List<String> sourceLines,
+        MLBatchIngestionInput mlBatchIngestionInput,
+        List<Map.Entry<String, JsonPath>> compiledFieldMapping,
+        ActionListener<BulkResponse> bulkResponseListener,
+        boolean isSoleSource
     ) {
         BulkRequest bulkRequest = new BulkRequest();
         sourceLines.stream().forEach(jsonStr -> {
-            Map<String, Object> filteredMapping = isSoleSource
-                ? filterFieldMappingSoleSource(mlBatchIngestionInput)
-                : filterFieldMapping(mlBatchIngestionInput, sourceIndex);
-            Map<String, Object> jsonMap = processFieldMapping(jsonStr, filteredMapping);
+            Map<String, Object> jsonMap = processFieldMapping(jsonStr, compiledFieldMapping);
             if (jsonMap.isEmpty()) {
                 return;
             }
@@ -235,7 +637,7 @@ public class AbstractIngestion implements Ingestable {
                 );
             return;
         }
-        client.bulk(bulkRequest, bulkResponseListener);
+        bulkWithBackoff(bulkRequest, BackoffPolicy.exponentialBackoff().iterator(), bulkResponseListener);
     }
 
     private void populateJsonMap(Map<String, Object> jsonMap, List<String> fieldNames, List<?> modelData) {
@@ -16,13 +16,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
 import org.opensearch.ml.engine.annotation.Ingester;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
 import lombok.extern.log4j.Log4j2;
@@ -46,9 +47,13 @@ public class OpenAIDataIngestion extends AbstractIngestion {
         }
 
         boolean isSoleSource = sources.size() == 1;
+        InFlightBulks inFlightBulks = new InFlightBulks(MAX_IN_FLIGHT_BULKS);
+        Executor executor = client.threadPool().executor(ThreadPool.Names.GENERIC);
         List<Double> successRates = Collections.synchronizedList(new ArrayList<>());
         for (int sourceIndex = 0; sourceIndex < sources.size(); sourceIndex++) {
-            successRates.add(ingestSingleSource(sources.get(sourceIndex), mlBatchIngestionInput, sourceIndex, isSoleSource, bulkSize));
+            String source = sources.get(sourceIndex);
+            successRates
+                .add(ingestSingleSource(source, mlBatchIngestionInput, sourceIndex, isSoleSource, bulkSize, inFlightBulks, executor));
         }
 
         return calculateSuccessRate(successRates);
@@ -59,9 +64,10 @@ public class OpenAIDataIngestion extends AbstractIngestion {
         MLBatchIngestionInput mlBatchIngestionInput,
         int sourceIndex,
         boolean isSoleSource,
-        int bulkSize
+        int bulkSize,
+        InFlightBulks inFlightBulks,
+        Executor executor
     ) {
-        double successRate = 0;
         try {
             String apiKey = mlBatchIngestionInput.getCredential().get(API_KEY);
             URL url = new URL(API_URL + fileId + "/content");
@@ -70,68 +76,19 @@ public class OpenAIDataIngestion extends AbstractIngestion {
             connection.setRequestMethod("GET");
             connection.setRequestProperty("Authorization", "Bearer " + apiKey);
 
-            try (
-                InputStreamReader inputStreamReader = AccessController
-                    .doPrivileged((PrivilegedExceptionAction<InputStreamReader>) () -> new InputStreamReader(connection.getInputStream()));
-                BufferedReader reader = new BufferedReader(inputStreamReader)
-            ) {
-                List<String> linesBuffer = new ArrayList<>();
-                String line;
-                int lineCount = 0;
-                // Atomic counters for tracking success and failure
-                AtomicInteger successfulBatches = new AtomicInteger(0);
-                AtomicInteger failedBatches = new AtomicInteger(0);
-                // List of CompletableFutures to track batch ingestion operations
-                List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-                while ((line = reader.readLine()) != null) {
-                    linesBuffer.add(line);
-                    lineCount++;
-
-                    // Process every bulkSize lines
-                    if (lineCount % bulkSize == 0) {
-                        // Create a CompletableFuture that will be completed by the bulkResponseListener
-                        CompletableFuture<Void> future = new CompletableFuture<>();
-                        batchIngest(
-                            linesBuffer,
-                            mlBatchIngestionInput,
-                            getBulkResponseListener(successfulBatches, failedBatches, future),
-                            sourceIndex,
-                            isSoleSource
-                        );
-
-                        futures.add(future);
-                        linesBuffer.clear();
-                    }
-                }
-                // Process any remaining lines in the buffer
-                if (!linesBuffer.isEmpty()) {
-                    CompletableFuture<Void> future = new CompletableFuture<>();
-                    batchIngest(
-                        linesBuffer,
-                        mlBatchIngestionInput,
-                        getBulkResponseListener(successfulBatches, failedBatches, future),
-                        sourceIndex,
-                        isSoleSource
-                    );
-                    futures.add(future);
-                }
-
-                reader.close();
-                // Combine all futures and wait for completion
-                CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-                // Wait for all tasks to complete
-                allFutures.join();
-                int totalBatches = successfulBatches.get() + failedBatches.get();
-                successRate = (totalBatches == 0) ? 100 : (double) successfulBatches.get() / totalBatches * 100;
-            }
+            InputStreamReader inputStreamReader = AccessController
+                .doPrivileged((PrivilegedExceptionAction<InputStreamReader>) () -> new InputStreamReader(connection.getInputStream()));
+            LineSource lineSource = lineSource(new BufferedReader(inputStreamReader));
+            return ingestSource(lineSource, mlBatchIngestionInput, sourceIndex, isSoleSource, bulkSize, inFlightBulks, executor).join();
         } catch (PrivilegedActionException e) {
             throw new RuntimeException("Failed to read from OpenAI file API: ", e);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            log.error(cause.getMessage());
+            throw new OpenSearchStatusException("Failed to batch ingest: " + cause.getMessage(), RestStatus.INTERNAL_SERVER_ERROR);
         } catch (Exception e) {
             log.error(e.getMessage());
             throw new OpenSearchStatusException("Failed to batch ingest: " + e.getMessage(), RestStatus.INTERNAL_SERVER_ERROR);
         }
-
-        return successRate;
     }
 }
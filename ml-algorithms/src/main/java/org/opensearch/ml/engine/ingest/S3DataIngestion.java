@@ -10,28 +10,33 @@ import static org.opensearch.ml.common.connector.AbstractConnector.SECRET_KEY_FI
 import static org.opensearch.ml.common.connector.AbstractConnector.SESSION_TOKEN_FIELD;
 import static org.opensearch.ml.common.connector.HttpConnector.REGION_FIELD;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
 import org.opensearch.ml.engine.annotation.Ingester;
 import org.opensearch.ml.engine.utils.S3Utils;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
 import lombok.extern.log4j.Log4j2;
 import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
@@ -53,103 +58,146 @@ public class S3DataIngestion extends AbstractIngestion {
         String sessionToken = mlBatchIngestionInput.getCredential().get(SESSION_TOKEN_FIELD);
         String region = mlBatchIngestionInput.getCredential().get(REGION_FIELD);
 
-        S3Client s3 = S3Utils.initS3Client(accessKey, secretKey, region, sessionToken);
-
         List<String> s3Uris = (List<String>) mlBatchIngestionInput.getDataSources().get(SOURCE);
         if (Objects.isNull(s3Uris) || s3Uris.isEmpty()) {
             return 100;
         }
         boolean isSoleSource = s3Uris.size() == 1;
-        List<Double> successRates = Collections.synchronizedList(new ArrayList<>());
-        for (int sourceIndex = 0; sourceIndex < s3Uris.size(); sourceIndex++) {
-            successRates.add(ingestSingleSource(s3, s3Uris.get(sourceIndex), mlBatchIngestionInput, sourceIndex, isSoleSource, bulkSize));
+        InFlightBulks inFlightBulks = new InFlightBulks(MAX_IN_FLIGHT_BULKS);
+        Executor executor = client.threadPool().executor(ThreadPool.Names.GENERIC);
+        S3Client s3 = S3Utils.initS3Client(accessKey, secretKey, region, sessionToken);
+        try {
+            // Sources are read in parallel, sharing the in flight bulk permits of the ingestion
+            List<CompletableFuture<Double>> successRates = new ArrayList<>();
+            for (int sourceIndex = 0; sourceIndex < s3Uris.size(); sourceIndex++) {
+                int index = sourceIndex;
+                String s3Uri = s3Uris.get(index);
+                CompletableFuture<Double> successRate = CompletableFuture
+                    .supplyAsync(
+                        () -> ingestSingleSource(s3, s3Uri, mlBatchIngestionInput, index, isSoleSource, bulkSize, inFlightBulks, executor),
+                        executor
+                    )
+                    .thenCompose(sourceSuccessRate -> sourceSuccessRate);
+                successRates.add(successRate);
+            }
+            CompletableFuture.allOf(successRates.toArray(new CompletableFuture[0])).join();
+            return calculateSuccessRate(successRates.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            if (cause instanceof S3Exception) {
+                log.error("Error reading from S3: " + ((S3Exception) cause).awsErrorDetails().errorMessage());
+                throw (S3Exception) cause;
+            }
+            log.error(cause.getMessage());
+            throw new OpenSearchStatusException("Failed to batch ingest: " + cause.getMessage(), RestStatus.INTERNAL_SERVER_ERROR);
+        } finally {
+            s3.close();
         }
-
-        return calculateSuccessRate(successRates);
     }
 
-    public double ingestSingleSource(
+    public CompletableFuture<Double> ingestSingleSource(
         S3Client s3,
         String s3Uri,
         MLBatchIngestionInput mlBatchIngestionInput,
         int sourceIndex,
         boolean isSoleSource,
-        int bulkSize
+        int bulkSize,
+        InFlightBulks inFlightBulks,
+        Executor executor
     ) {
-        String bucketName = S3Utils.getS3BucketName(s3Uri);
-        String keyName = S3Utils.getS3KeyName(s3Uri);
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder().bucket(bucketName).key(keyName).build();
-        double successRate = 0;
-
-        try (
-            ResponseInputStream<GetObjectResponse> s3is = AccessController
-                .doPrivileged((PrivilegedExceptionAction<ResponseInputStream<GetObjectResponse>>) () -> s3.getObject(getObjectRequest));
-            BufferedReader reader = new BufferedReader(new InputStreamReader(s3is, StandardCharsets.UTF_8))
-        ) {
-            List<String> linesBuffer = new ArrayList<>();
-            String line;
-            int lineCount = 0;
-            // Atomic counters for tracking success and failure
-            AtomicInteger successfulBatches = new AtomicInteger(0);
-            AtomicInteger failedBatches = new AtomicInteger(0);
-            // List of CompletableFutures to track batch ingestion operations
-            List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-            while ((line = reader.readLine()) != null) {
-                linesBuffer.add(line);
-                lineCount++;
-
-                // Process every bulkSize lines
-                if (lineCount % bulkSize == 0) {
-                    // Create a CompletableFuture that will be completed by the bulkResponseListener
-                    CompletableFuture<Void> future = new CompletableFuture<>();
-                    batchIngest(
-                        linesBuffer,
-                        mlBatchIngestionInput,
-                        getBulkResponseListener(successfulBatches, failedBatches, future),
-                        sourceIndex,
-                        isSoleSource
-                    );
+        S3LineSource lineSource = new S3LineSource(s3, S3Utils.getS3BucketName(s3Uri), S3Utils.getS3KeyName(s3Uri));
+        return ingestSource(lineSource, mlBatchIngestionInput, sourceIndex, isSoleSource, bulkSize, inFlightBulks, executor);
+    }
 
-                    futures.add(future);
-                    linesBuffer.clear();
-                }
+    /**
+     * Reads the lines of an S3 object. It counts the bytes of the lines it has returned, so that when the object stream
+     * breaks midway it is reopened with a ranged GET at the start of the line being read, instead of failing the whole
+     * source. The resumed GET is pinned to the ETag of the first one, so a changed object fails rather than being mixed.
+     */
+    static class S3LineSource implements LineSource {
+        static final int MAX_RESUMES = 3;
+
+        private final S3Client s3;
+        private final String bucketName;
+        private final String keyName;
+        private final ByteArrayOutputStream lineBytes = new ByteArrayOutputStream();
+        private InputStream objectStream;
+        private String eTag;
+        private long offset;
+        private int resumes;
+
+        S3LineSource(S3Client s3, String bucketName, String keyName) {
+            this.s3 = s3;
+            this.bucketName = bucketName;
+            this.keyName = keyName;
+        }
+
+        @Override
+        public String readLine() throws IOException {
+            if (objectStream == null) {
+                objectStream = open();
             }
-            // Process any remaining lines in the buffer
-            if (!linesBuffer.isEmpty()) {
-                CompletableFuture<Void> future = new CompletableFuture<>();
-                batchIngest(
-                    linesBuffer,
-                    mlBatchIngestionInput,
-                    getBulkResponseListener(successfulBatches, failedBatches, future),
-                    sourceIndex,
-                    isSoleSource
-                );
-                futures.add(future);
+            while (true) {
+                try {
+                    return readLineFromStream();
+                } catch (IOException | SdkClientException e) {
+                    if (resumes >= MAX_RESUMES) {
+                        throw e;
+                    }
+                    resumes++;
+                    log.warn("Resuming read of s3://{}/{} at byte {} after: {}", bucketName, keyName, offset, e.getMessage());
+                    closeObjectStream();
+                    objectStream = open();
+                }
             }
+        }
 
-            reader.close();
-
-            // Combine all futures and wait for completion
-            CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        private String readLineFromStream() throws IOException {
+            lineBytes.reset();
+            int b;
+            while ((b = objectStream.read()) != -1 && b != '\n') {
+                lineBytes.write(b);
+            }
+            if (b == -1 && lineBytes.size() == 0) {
+                return null;
+            }
+            offset += lineBytes.size() + (b == -1 ? 0 : 1);
+            String line = lineBytes.toString(StandardCharsets.UTF_8);
+            return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+        }
 
-            // Wait for all tasks to complete
-            allFutures.join();
+        private InputStream open() throws IOException {
+            GetObjectRequest.Builder getObjectRequest = GetObjectRequest.builder().bucket(bucketName).key(keyName);
+            if (offset > 0) {
+                getObjectRequest.range("bytes=" + offset + "-").ifMatch(eTag);
+            }
+            try {
+                ResponseInputStream<GetObjectResponse> s3is = AccessController
+                    .doPrivileged(
+                        (PrivilegedExceptionAction<ResponseInputStream<GetObjectResponse>>) () -> s3.getObject(getObjectRequest.build())
+                    );
+                if (eTag == null) {
+                    eTag = s3is.response().eTag();
+                }
+                return new BufferedInputStream(s3is);
+            } catch (PrivilegedActionException e) {
+                throw new IOException("Failed to get S3 Object: " + e.getException().getMessage(), e.getException());
+            }
+        }
 
-            int totalBatches = successfulBatches.get() + failedBatches.get();
-            successRate = (totalBatches == 0) ? 100 : (double) successfulBatches.get() / totalBatches * 100;
-        } catch (S3Exception e) {
-            log.error("Error reading from S3: " + e.awsErrorDetails().errorMessage());
-            throw e;
-        } catch (PrivilegedActionException e) {
-            throw new RuntimeException("Failed to get S3 Object: ", e);
-        } catch (Exception e) {
-            log.error(e.getMessage());
-            throw new OpenSearchStatusException("Failed to batch ingest: " + e.getMessage(), RestStatus.INTERNAL_SERVER_ERROR);
-        } finally {
-            s3.close();
+        private void closeObjectStream() {
+            try {
+                objectStream.close();
+            } catch (IOException e) {
+                log.debug("Failed to close the broken S3 object stream", e);
+            }
         }
 
-        return successRate;
+        @Override
+        public void close() throws IOException {
+            if (objectStream != null) {
+                objectStream.close();
+            }
+        }
     }
 }
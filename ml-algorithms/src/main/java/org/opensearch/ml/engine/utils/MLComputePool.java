@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Fork-join pool shared by the algorithms that split the rows of a large input across threads, like batch RCF scoring
+ * and k-means assignment. The plugin starts it with a bounded number of threads and shuts it down when the node
+ * closes. Until it is started, or with fewer than two threads, the rows are processed on the calling thread.
+ */
+@Log4j2
+public final class MLComputePool {
+    static final String THREAD_NAME_PREFIX = "opensearch_ml_compute-";
+
+    private static volatile ForkJoinPool pool;
+
+    private MLComputePool() {}
+
+    /**
+     * Starts the pool, replacing the one started before.
+     * @param parallelism number of threads of the pool
+     */
+    public static synchronized void start(int parallelism) {
+        shutdown();
+        if (parallelism > 1) {
+            pool = new ForkJoinPool(parallelism, p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName(THREAD_NAME_PREFIX + thread.getPoolIndex());
+                return thread;
+            }, null, false);
+            log.info("Started ML compute pool with {} threads", parallelism);
+        }
+    }
+
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+            pool = null;
+        }
+    }
+
+    /**
+     * Runs the action for every index in [0, size), split across the pool threads.
+     * @param size number of indices
+     * @param action action run for each index, must be safe to run concurrently for different indices
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     * @throws ExecutionException if the action fails
+     */
+    public static void forEach(int size, IntConsumer action) throws InterruptedException, ExecutionException {
+        ForkJoinPool current = pool;
+        if (current == null) {
+            IntStream.range(0, size).forEach(action);
+            return;
+        }
+        current.submit(() -> IntStream.range(0, size).parallel().forEach(action)).get();
+    }
+}
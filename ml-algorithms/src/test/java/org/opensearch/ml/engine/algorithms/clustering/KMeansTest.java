@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine.algorithms.clustering;
 
+import static org.opensearch.ml.common.CommonValue.VERSION_3_2_0;
 import static org.opensearch.ml.engine.helper.MLTestHelper.constructTestDataFrame;
 
 import org.junit.Assert;
@@ -19,6 +20,15 @@ import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.engine.MiniBatchTraining;
+import org.opensearch.ml.engine.contants.TribuoOutputType;
+import org.opensearch.ml.engine.utils.ModelSerDeSer;
+import org.opensearch.ml.engine.utils.TribuoUtil;
+import org.tribuo.MutableDataset;
+import org.tribuo.clustering.ClusterID;
+import org.tribuo.clustering.ClusteringFactory;
+import org.tribuo.clustering.kmeans.KMeansModel;
+import org.tribuo.clustering.kmeans.KMeansTrainer;
 
 public class KMeansTest {
     @Rule
@@ -65,6 +75,50 @@ public class KMeansTest {
         Assert.assertEquals(FunctionName.KMEANS.name(), model.getName());
         Assert.assertEquals("1.0.0", model.getVersion());
         Assert.assertNotNull(model.getContent());
+        Assert.assertTrue(MiniBatchKMeans.isBinaryFormat(ModelSerDeSer.decodeBase64(model.getContent())));
+    }
+
+    @Test
+    public void trainWithOlderNodes() {
+        kMeans.setMinNodeVersion(VERSION_3_2_0);
+        MLModel model = kMeans.train(trainDataFrameInput);
+        Assert.assertFalse(MiniBatchKMeans.isBinaryFormat(ModelSerDeSer.decodeBase64(model.getContent())));
+
+        MLPredictionOutput output = (MLPredictionOutput) new KMeans(parameters).predict(predictionDataFrameInput, model);
+        Assert.assertEquals(predictionSize, output.getPredictionResult().size());
+    }
+
+    @Test
+    public void trainMiniBatchWithOlderNodes() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Mini-batch KMeans needs every node on version 3.3.0 or later");
+        KMeans kMeans = new KMeans(parameters.toBuilder().batchSize(30).build());
+        kMeans.setMinNodeVersion(VERSION_3_2_0);
+        kMeans.train(trainDataFrameInput);
+    }
+
+    @Test
+    public void predictWithJavaSerializedModel() {
+        MutableDataset<ClusterID> trainDataset = TribuoUtil
+            .generateDataset(trainDataFrame, new ClusteringFactory(), "KMeans test data", TribuoOutputType.CLUSTERID);
+        KMeansModel tribuoModel = new KMeansTrainer(2, 10, KMeansTrainer.Distance.EUCLIDEAN, 1, 1L).train(trainDataset);
+        MLModel javaSerializedModel = MLModel
+            .builder()
+            .name(FunctionName.KMEANS.name())
+            .algorithm(FunctionName.KMEANS)
+            .version("1.0.0")
+            .content(ModelSerDeSer.serializeToBase64(tribuoModel))
+            .build();
+        MiniBatchKMeans converted = MiniBatchKMeans
+            .fromTribuo(tribuoModel, new String[] { "f1", "f2" }, KMeansParams.DistanceType.EUCLIDEAN);
+
+        DataFrame predictions = ((MLPredictionOutput) kMeans.predict(predictionDataFrameInput, javaSerializedModel))
+            .getPredictionResult();
+        int[] convertedPredictions = converted.predict(predictionDataFrame);
+        Assert.assertEquals(predictionSize, predictions.size());
+        for (int i = 0; i < predictionSize; i++) {
+            Assert.assertEquals(predictions.getRow(i).getValue(0).intValue(), convertedPredictions[i]);
+        }
     }
 
     @Test
@@ -94,6 +148,80 @@ public class KMeansTest {
         Assert.assertEquals(trainSize, predictions.size());
     }
 
+    @Test
+    public void trainAndPredictMiniBatch() {
+        KMeans kMeans = new KMeans(parameters.toBuilder().batchSize(30).build());
+        MLModel model = kMeans.train(trainDataFrameInput);
+        Assert.assertNotNull(model.getContent());
+
+        MLPredictionOutput output = (MLPredictionOutput) kMeans.predict(predictionDataFrameInput, model);
+        DataFrame predictions = output.getPredictionResult();
+        Assert.assertEquals(predictionSize, predictions.size());
+        predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
+
+        output = (MLPredictionOutput) kMeans.trainAndPredict(trainDataFrameInput);
+        Assert.assertEquals(trainSize, output.getPredictionResult().size());
+    }
+
+    @Test
+    public void startMiniBatchTraining_WithoutBatchSize() {
+        Assert.assertNull(kMeans.startMiniBatchTraining());
+    }
+
+    @Test
+    public void trainMiniBatch_WarmStart() {
+        MLModel model = new KMeans(parameters.toBuilder().batchSize(30).build()).train(trainDataFrameInput);
+
+        KMeans warmStartKMeans = new KMeans(parameters.toBuilder().batchSize(30).warmStartModelId("model_id").build());
+        MiniBatchTraining training = warmStartKMeans.startMiniBatchTraining();
+        Assert.assertEquals("model_id", training.getWarmStartModelId());
+        training.warmStart(model);
+        training.fit(trainDataFrame);
+        MLModel warmStartedModel = training.toModel();
+
+        MiniBatchKMeans trained = MiniBatchKMeans.fromBytes(ModelSerDeSer.decodeBase64(model.getContent()));
+        MiniBatchKMeans warmStarted = MiniBatchKMeans.fromBytes(ModelSerDeSer.decodeBase64(warmStartedModel.getContent()));
+        Assert.assertEquals(2, warmStarted.getCentroids().length);
+        Assert.assertArrayEquals(trained.predict(predictionDataFrame), warmStarted.predict(predictionDataFrame));
+    }
+
+    @Test
+    public void trainMiniBatch_WarmStartFromJavaSerializedModel() {
+        MutableDataset<ClusterID> trainDataset = TribuoUtil
+            .generateDataset(trainDataFrame, new ClusteringFactory(), "KMeans test data", TribuoOutputType.CLUSTERID);
+        KMeansModel tribuoModel = new KMeansTrainer(2, 10, KMeansTrainer.Distance.EUCLIDEAN, 1, 1L).train(trainDataset);
+        MLModel javaSerializedModel = MLModel
+            .builder()
+            .name(FunctionName.KMEANS.name())
+            .algorithm(FunctionName.KMEANS)
+            .version("1.0.0")
+            .content(ModelSerDeSer.serializeToBase64(tribuoModel))
+            .build();
+
+        MiniBatchTraining training = new KMeans(parameters.toBuilder().warmStartModelId("model_id").build()).startMiniBatchTraining();
+        training.warmStart(javaSerializedModel);
+        training.partialFit(predictionDataFrame);
+
+        MiniBatchKMeans warmStarted = MiniBatchKMeans.fromBytes(ModelSerDeSer.decodeBase64(training.toModel().getContent()));
+        Assert.assertArrayEquals(new String[] { "f1", "f2" }, warmStarted.getFeatureNames());
+        Assert.assertEquals(2, warmStarted.getCentroids().length);
+    }
+
+    @Test
+    public void trainMiniBatch_WarmStartWithOtherCentroids() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Model to warm start from has 2 centroids, not 3");
+        MLModel model = new KMeans(parameters.toBuilder().batchSize(30).build()).train(trainDataFrameInput);
+        new KMeans(parameters.toBuilder().centroids(3).warmStartModelId("model_id").build()).startMiniBatchTraining().warmStart(model);
+    }
+
+    @Test
+    public void constructorWithNegtiveBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Batch size should be positive");
+        new KMeans(KMeansParams.builder().batchSize(0).build());
+    }
+
     @Test
     public void constructorWithNegtiveCentroids() {
         exceptionRule.expect(IllegalArgumentException.class);
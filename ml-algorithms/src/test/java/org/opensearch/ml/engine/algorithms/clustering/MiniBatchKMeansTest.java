@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.clustering;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.engine.helper.MLTestHelper.constructTestDataFrame;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.dataframe.DataFrame;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+import org.opensearch.ml.engine.exceptions.ModelSerDeSerException;
+import org.opensearch.ml.engine.utils.ModelSerDeSer;
+import org.tribuo.Feature;
+import org.tribuo.clustering.kmeans.KMeansModel;
+
+public class MiniBatchKMeansTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private final DataFrame dataFrame = constructTestDataFrame(200);
+
+    @Test
+    public void binaryFormatRoundTrip() {
+        MiniBatchKMeans kMeans = new MiniBatchKMeans(new String[] { "f1", "f2" }, 2, KMeansParams.DistanceType.EUCLIDEAN);
+        kMeans.partialFit(dataFrame, new Random(1));
+
+        byte[] bytes = kMeans.toBytes();
+        Assert.assertTrue(MiniBatchKMeans.isBinaryFormat(bytes));
+        MiniBatchKMeans loaded = MiniBatchKMeans.fromBytes(bytes);
+
+        Assert.assertArrayEquals(kMeans.getFeatureNames(), loaded.getFeatureNames());
+        Assert.assertArrayEquals(kMeans.getCentroids(), loaded.getCentroids());
+        Assert.assertArrayEquals(kMeans.predict(dataFrame), loaded.predict(dataFrame));
+        // header and names, then two doubles and a count per centroid
+        Assert.assertTrue(bytes.length < 100);
+    }
+
+    @Test
+    public void isBinaryFormat_JavaSerializedModel() {
+        Assert.assertFalse(MiniBatchKMeans.isBinaryFormat(ModelSerDeSer.serialize("model")));
+        Assert.assertFalse(MiniBatchKMeans.isBinaryFormat(new byte[] { 1 }));
+    }
+
+    @Test
+    public void fromBytes_UnsupportedVersion() {
+        exceptionRule.expect(ModelSerDeSerException.class);
+        exceptionRule.expectMessage("Unsupported KMeans model format version 9");
+        MiniBatchKMeans kMeans = new MiniBatchKMeans(new String[] { "f1", "f2" }, 2, KMeansParams.DistanceType.L1);
+        kMeans.partialFit(dataFrame, new Random(1));
+        byte[] bytes = kMeans.toBytes();
+        bytes[Integer.BYTES] = 9;
+        MiniBatchKMeans.fromBytes(bytes);
+    }
+
+    @Test
+    public void fromBytes_OversizedLength() {
+        exceptionRule.expect(ModelSerDeSerException.class);
+        exceptionRule.expectMessage("Invalid array length 2147483647 in KMeans model");
+        MiniBatchKMeans kMeans = new MiniBatchKMeans(new String[] { "f1", "f2" }, 2, KMeansParams.DistanceType.EUCLIDEAN);
+        kMeans.partialFit(dataFrame, new Random(1));
+        byte[] bytes = kMeans.toBytes();
+        // feature name count follows the magic number and the format version
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES + 1, Integer.MAX_VALUE);
+        MiniBatchKMeans.fromBytes(bytes);
+    }
+
+    @Test
+    public void fromBytes_NegativeLength() {
+        exceptionRule.expect(ModelSerDeSerException.class);
+        exceptionRule.expectMessage("Invalid array length -1 in KMeans model");
+        MiniBatchKMeans kMeans = new MiniBatchKMeans(new String[] { "f1", "f2" }, 2, KMeansParams.DistanceType.EUCLIDEAN);
+        kMeans.partialFit(dataFrame, new Random(1));
+        byte[] bytes = kMeans.toBytes();
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES + 1, -1);
+        MiniBatchKMeans.fromBytes(bytes);
+    }
+
+    @Test
+    public void fromBytes_Truncated() {
+        exceptionRule.expect(ModelSerDeSerException.class);
+        exceptionRule.expectMessage("Invalid array length 2 in KMeans model");
+        MiniBatchKMeans kMeans = new MiniBatchKMeans(new String[] { "f1", "f2" }, 2, KMeansParams.DistanceType.EUCLIDEAN);
+        kMeans.partialFit(dataFrame, new Random(1));
+        byte[] bytes = kMeans.toBytes();
+        // cut into the centroids, which no longer fit in the remaining bytes
+        MiniBatchKMeans.fromBytes(Arrays.copyOf(bytes, bytes.length - Long.BYTES));
+    }
+
+    @Test
+    public void fromTribuo() {
+        KMeansModel tribuoModel = mock(KMeansModel.class);
+        // Tribuo centroids are sparse and ordered by feature id, not by column
+        when(tribuoModel.getCentroids())
+            .thenReturn(
+                List.of(List.of(new Feature("f2", 1.0), new Feature("f1", 2.0)), List.of(new Feature("f1", 10.0), new Feature("f2", 10.0)))
+            );
+
+        MiniBatchKMeans kMeans = MiniBatchKMeans.fromTribuo(tribuoModel, new String[] { "f1", "f2" }, KMeansParams.DistanceType.L1);
+
+        Assert.assertArrayEquals(new double[][] { { 2.0, 1.0 }, { 10.0, 10.0 } }, kMeans.getCentroids());
+        MiniBatchKMeans loaded = MiniBatchKMeans.fromBytes(kMeans.toBytes());
+        Assert.assertArrayEquals(kMeans.getCentroids(), loaded.getCentroids());
+        Assert.assertArrayEquals(kMeans.predict(dataFrame), loaded.predict(dataFrame));
+    }
+
+    @Test
+    public void partialFit_MismatchedColumns() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Input columns have none of the k-means features");
+        new MiniBatchKMeans(new String[] { "f3", "f4" }, 2, KMeansParams.DistanceType.COSINE).partialFit(dataFrame, new Random(1));
+    }
+
+    @Test
+    public void predict_IgnoresExtraColumnsAndZeroesMissingFeatures() {
+        MiniBatchKMeans kMeans = new MiniBatchKMeans(new String[] { "f1", "f3" }, 2, KMeansParams.DistanceType.EUCLIDEAN);
+        kMeans.partialFit(dataFrame, new Random(1));
+
+        double[][] centroids = kMeans.getCentroids();
+        Assert.assertEquals(0.0, centroids[0][1], 0.0);
+        Assert.assertEquals(0.0, centroids[1][1], 0.0);
+        DataFrame f1Only = dataFrame.select(new int[] { 0 });
+        Assert.assertArrayEquals(kMeans.predict(f1Only), kMeans.predict(dataFrame));
+    }
+}
@@ -10,6 +10,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -646,6 +647,16 @@ public class MetricsCorrelationTest {
         assertEquals("Value should be preserved", 42.0f, singleResult[0][0], 0.001f);
     }
 
+    @Test
+    public void testProcessedInputWithDifferentMetricLengths() {
+        List<float[]> input = new ArrayList<>();
+        input.add(new float[] { 1.0f, 2.0f, 3.0f });
+        input.add(new float[] { 4.0f, 5.0f });
+
+        ExecuteException exception = assertThrows(ExecuteException.class, () -> metricsCorrelation.processedInput(input));
+        assertEquals("All metrics must have the same number of data points", exception.getMessage());
+    }
+
     @Test
     public void testExecuteWithTranslateException() throws Exception {
         // Test lines 216-218: TranslateException handling in execute method
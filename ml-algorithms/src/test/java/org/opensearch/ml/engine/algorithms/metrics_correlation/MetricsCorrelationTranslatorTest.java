@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.metrics_correlation;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensor.EVENT_PATTERN;
+import static org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensor.EVENT_WINDOW;
+import static org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensor.SUSPECTED_METRICS;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensor;
+import org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensors;
+
+import ai.djl.modality.Output;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.TranslatorContext;
+
+public class MetricsCorrelationTranslatorTest {
+
+    private MetricsCorrelationTranslator translator;
+    private TranslatorContext translatorContext;
+    private NDManager manager;
+
+    @Before
+    public void setUp() {
+        translator = new MetricsCorrelationTranslator();
+        translatorContext = mock(TranslatorContext.class);
+        manager = mock(NDManager.class);
+        when(translatorContext.getNDManager()).thenReturn(manager);
+        when(manager.allocateDirect(anyInt()))
+            .thenAnswer(invocation -> ByteBuffer.allocateDirect(invocation.getArgument(0)).order(ByteOrder.nativeOrder()));
+        when(manager.create(any(Buffer.class), any(Shape.class))).thenReturn(mock(NDArray.class));
+    }
+
+    @Test
+    public void testProcessInput_FillsDirectBufferInRowOrder() {
+        float[][] input = new float[][] { { 1f, 2f, 3f }, { 4f, 5f, 6f } };
+
+        NDList list = translator.processInput(translatorContext, input);
+
+        ArgumentCaptor<Buffer> bufferCaptor = ArgumentCaptor.forClass(Buffer.class);
+        ArgumentCaptor<Shape> shapeCaptor = ArgumentCaptor.forClass(Shape.class);
+        verify(manager).create(bufferCaptor.capture(), shapeCaptor.capture());
+        assertEquals(1, list.size());
+        assertEquals(new Shape(2, 3), shapeCaptor.getValue());
+
+        FloatBuffer buffer = (FloatBuffer) bufferCaptor.getValue();
+        assertTrue(buffer.isDirect());
+        assertEquals(ByteOrder.nativeOrder(), buffer.order());
+        // rewound, so the engine reads the whole matrix from the start
+        assertEquals(0, buffer.position());
+        assertEquals(6, buffer.remaining());
+        float[] values = new float[6];
+        buffer.get(values);
+        assertArrayEquals(new float[] { 1f, 2f, 3f, 4f, 5f, 6f }, values, 0f);
+    }
+
+    @Test
+    public void testProcessOutput_GroupsEventArrays() {
+        NDList list = new NDList(
+            namedArray(EVENT_WINDOW, new float[] { 10f, 20f }, null),
+            namedArray(EVENT_PATTERN, new float[] { 0.5f, 0.25f }, null),
+            namedArray(SUSPECTED_METRICS, null, new long[] { 0, 2 })
+        );
+
+        Output output = translator.processOutput(translatorContext, list);
+
+        MCorrModelTensors tensors = MCorrModelTensors.fromBytes(output.getData().getAsBytes());
+        assertEquals(1, tensors.getMCorrModelTensors().size());
+        MCorrModelTensor event = tensors.getMCorrModelTensors().get(0);
+        assertArrayEquals(new float[] { 10f, 20f }, event.getEvent_window(), 0f);
+        assertArrayEquals(new float[] { 0.5f, 0.25f }, event.getEvent_pattern(), 0f);
+        assertArrayEquals(new long[] { 0, 2 }, event.getSuspected_metrics());
+    }
+
+    @Test
+    public void testGetBatchifier() {
+        assertNull(translator.getBatchifier());
+    }
+
+    private NDArray namedArray(String name, float[] floats, long[] longs) {
+        NDArray array = mock(NDArray.class);
+        when(array.getName()).thenReturn(name);
+        when(array.toFloatArray()).thenReturn(floats);
+        when(array.toLongArray()).thenReturn(longs);
+        return array;
+    }
+}
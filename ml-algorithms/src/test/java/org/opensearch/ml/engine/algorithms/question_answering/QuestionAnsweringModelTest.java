@@ -11,6 +11,7 @@ import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.ModelHelper.PYTORCH_ENGINE;
@@ -1045,6 +1046,47 @@ public class QuestionAnsweringModelTest {
         assertEquals("Third sentence with higher position.", result.get(2).get(FIELD_TEXT));
     }
 
+    @Test
+    public void testProcessChunks_FallsBackToSingleChunksWhenBatchRejected() throws Exception {
+        Predictor<Input, Output> predictor = mock(Predictor.class);
+        when(predictor.batchPredict(any())).thenAnswer(invocation -> {
+            List<Input> inputs = invocation.getArgument(0);
+            if (inputs.size() > 1) {
+                throw new TranslateException("The traced model only accepts a batch size of 1");
+            }
+            return List.of(createHighlightModelOutput(Integer.parseInt(inputs.get(0).getAsString(HIGHLIGHTING_MODEL_CHUNK_NUMBER_KEY))));
+        });
+        QuestionAnsweringModel testModel = new QuestionAnsweringModel() {
+            @Override
+            protected Predictor<Input, Output> getPredictor() {
+                return predictor;
+            }
+        };
+        java.lang.reflect.Method processChunksMethod = QuestionAnsweringModel.class
+            .getDeclaredMethod("processChunks", String.class, String.class, int.class, List.class);
+        processChunksMethod.setAccessible(true);
+
+        List<Map<String, Object>> highlights = new ArrayList<>();
+        processChunksMethod.invoke(testModel, "question", "context", 3, highlights);
+        assertEquals(3, highlights.size());
+
+        // the model rejected a batch once, so the chunks of later requests are predicted one by one right away
+        processChunksMethod.invoke(testModel, "question", "context", 2, new ArrayList<>());
+        verify(predictor, times(6)).batchPredict(any());
+    }
+
+    private Output createHighlightModelOutput(int position) {
+        Map<String, Object> highlight = new HashMap<>();
+        highlight.put(FIELD_TEXT, "Sentence " + position);
+        highlight.put(FIELD_POSITION, position);
+        Map<String, Object> dataMap = new HashMap<>();
+        dataMap.put(FIELD_HIGHLIGHTS, List.of(highlight));
+        ModelTensor tensor = ModelTensor.builder().name(FIELD_HIGHLIGHTS).dataAsMap(dataMap).build();
+        Output output = new Output();
+        output.add(new ModelTensors(List.of(tensor)).toBytes());
+        return output;
+    }
+
     @After
     public void tearDown() {
         FileUtils.deleteFileQuietly(mlCachePath);
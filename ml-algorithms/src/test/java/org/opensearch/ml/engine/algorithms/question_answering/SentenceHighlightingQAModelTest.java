@@ -10,6 +10,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.algorithms.DLModel.*;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.*;
@@ -24,6 +26,7 @@ import java.util.UUID;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.QuestionAnsweringInputDataSet;
@@ -189,6 +192,15 @@ public class SentenceHighlightingQAModelTest {
         assertNotNull(output);
         assertFalse(output.getMlModelOutputs().isEmpty());
 
+        // All chunks of the long context are submitted as a single batch
+        ArgumentCaptor<List<Input>> chunkInputsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(mockPredictor, times(1)).batchPredict(chunkInputsCaptor.capture());
+        List<Input> chunkInputs = chunkInputsCaptor.getValue();
+        assertTrue("Long context should be split into several chunks", chunkInputs.size() > 1);
+        for (int i = 0; i < chunkInputs.size(); i++) {
+            assertEquals(String.valueOf(i), chunkInputs.get(i).getAsString(HIGHLIGHTING_MODEL_CHUNK_NUMBER_KEY));
+        }
+
         // Get the first tensor output
         ModelTensors resultTensors = output.getMlModelOutputs().get(0);
         assertNotNull(resultTensors);
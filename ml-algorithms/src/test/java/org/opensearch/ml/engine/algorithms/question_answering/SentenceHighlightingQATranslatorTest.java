@@ -4,19 +4,26 @@
  */
 package org.opensearch.ml.engine.algorithms.question_answering;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.algorithms.question_answering.QAConstants.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -24,9 +31,13 @@ import org.opensearch.ml.engine.algorithms.question_answering.sentence.DefaultSe
 import org.opensearch.ml.engine.algorithms.question_answering.sentence.Sentence;
 import org.opensearch.ml.engine.algorithms.question_answering.sentence.SentenceSegmenter;
 
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.translate.TranslatorContext;
 import lombok.extern.log4j.Log4j2;
@@ -239,6 +250,146 @@ public class SentenceHighlightingQATranslatorTest {
         assertEquals(0, highlights.size());
     }
 
+    @Test
+    public void testBatchProcessInput_PadsUnevenChunks() {
+        String question = "Is it hot?";
+        String context = "It is hot. It is dry.";
+        // [CLS] is hot ? [SEP] it is hot . [SEP] then the overflow window [CLS] is hot ? [SEP] dry . [SEP]
+        Encoding first = encoding(
+            new long[] { 101, 2003, 2980, 1029, 102, 2009, 2003, 2980, 1012, 102 },
+            new long[] { 0, 0, 0, 0, 0, 1, 1, 1, 1, 1 },
+            new long[] { -1, 0, 1, 1, -1, 0, 1, 2, 2, -1 }
+        );
+        Encoding overflow = encoding(
+            new long[] { 101, 2003, 2980, 1029, 102, 4318, 1012, 102 },
+            new long[] { 0, 0, 0, 0, 0, 1, 1, 1 },
+            new long[] { -1, 0, 1, 1, -1, 5, 5, -1 }
+        );
+        when(first.getOverflowing()).thenReturn(new Encoding[] { overflow });
+        NDManager manager = mockTokenizerAndManager(question, context, first);
+
+        translator.batchProcessInput(translatorContext, List.of(chunkInput(question, context, 0), chunkInput(question, context, 1)));
+
+        ArgumentCaptor<long[][]> longCaptor = ArgumentCaptor.forClass(long[][].class);
+        verify(manager, times(3)).create(longCaptor.capture());
+        long[][] inputIds = longCaptor.getAllValues().get(0);
+        long[][] attentionMask = longCaptor.getAllValues().get(1);
+        long[][] tokenTypeIds = longCaptor.getAllValues().get(2);
+        // both chunks are padded to the longest one, the shorter one with zero ids and masks
+        assertEquals(2, inputIds.length);
+        assertArrayEquals(first.getIds(), inputIds[0]);
+        assertArrayEquals(new long[] { 101, 2003, 2980, 1029, 102, 4318, 1012, 102, 0, 0 }, inputIds[1]);
+        assertArrayEquals(new long[] { 1, 1, 1, 1, 1, 1, 1, 1, 0, 0 }, attentionMask[1]);
+        assertArrayEquals(new long[] { 0, 0, 0, 0, 0, 1, 1, 1, 0, 0 }, tokenTypeIds[1]);
+
+        ArgumentCaptor<int[][]> intCaptor = ArgumentCaptor.forClass(int[][].class);
+        verify(manager).create(intCaptor.capture());
+        int[][] sentenceIds = intCaptor.getValue();
+        int ignore = IGNORE_TOKEN_ID;
+        // question and special tokens are ignored, context words map to their sentence
+        assertArrayEquals(new int[] { ignore, ignore, ignore, ignore, ignore, 0, 0, 0, 0, ignore }, sentenceIds[0]);
+        // the padding of the shorter chunk is ignored too
+        assertArrayEquals(new int[] { ignore, ignore, ignore, ignore, ignore, 1, 1, ignore, ignore, ignore }, sentenceIds[1]);
+    }
+
+    @Test
+    public void testBatchProcessInput_SentenceIdsMatchWordMapping() {
+        String question = "What changed?";
+        List<String> contexts = List
+            .of(
+                "Many coastal cities face increased flooding during storms. Farmers are experiencing unpredictable growing seasons.",
+                "Short one. Another sentence here! And a question? Finally the end",
+                "  Leading spaces.  Double  spaces between words. Tabs\tand\nnew lines too.",
+                "A single sentence without a period"
+            );
+        for (String context : contexts) {
+            List<Sentence> contextSentences = new DefaultSentenceSegmenter().segment(context);
+            int wordCount = context.split("\\s+").length;
+            long[] ids = new long[wordCount];
+            long[] typeIds = new long[wordCount];
+            long[] wordIds = new long[wordCount];
+            for (int i = 0; i < wordCount; i++) {
+                ids[i] = 1000 + i;
+                typeIds[i] = 1;
+                wordIds[i] = i;
+            }
+            NDManager manager = mockTokenizerAndManager(question, context, encoding(ids, typeIds, wordIds));
+
+            translator.batchProcessInput(translatorContext, List.of(chunkInput(question, context, 0)));
+
+            ArgumentCaptor<int[][]> intCaptor = ArgumentCaptor.forClass(int[][].class);
+            verify(manager).create(intCaptor.capture());
+            assertArrayEquals(context, wordLevelSentenceIds(contextSentences, context), intCaptor.getValue()[0]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchProcessInput_DifferentContexts() {
+        String question = "Is it hot?";
+        Encoding first = encoding(new long[] { 101, 102 }, new long[] { 0, 1 }, new long[] { -1, 0 });
+        mockTokenizerAndManager(question, "It is hot.", first);
+
+        translator
+            .batchProcessInput(
+                translatorContext,
+                List.of(chunkInput(question, "It is hot.", 0), chunkInput(question, "It is cold.", 0))
+            );
+    }
+
+    /**
+     * Reference word to sentence mapping, rescanning every sentence for every word, that the single pass mapping of the
+     * translator must match.
+     */
+    private int[] wordLevelSentenceIds(List<Sentence> sentences, String context) {
+        String[] contextWords = context.split("\\s+");
+        int[] wordSentenceIds = new int[contextWords.length];
+        for (int sentIdx = 0; sentIdx < sentences.size(); sentIdx++) {
+            Sentence sentence = sentences.get(sentIdx);
+            for (int wordIdx = 0; wordIdx < contextWords.length; wordIdx++) {
+                int wordStart = 0;
+                for (int i = 0; i < wordIdx; i++) {
+                    wordStart += contextWords[i].length() + 1;
+                }
+                int wordEnd = wordStart + contextWords[wordIdx].length();
+                if (wordStart >= sentence.getStartIndex() && wordEnd <= sentence.getEndIndex()) {
+                    wordSentenceIds[wordIdx] = sentIdx;
+                }
+            }
+        }
+        return wordSentenceIds;
+    }
+
+    private NDManager mockTokenizerAndManager(String question, String context, Encoding encoding) {
+        HuggingFaceTokenizer tokenizer = mock(HuggingFaceTokenizer.class);
+        when(tokenizer.encode(question, context)).thenReturn(encoding);
+        translator = SentenceHighlightingQATranslator.builder().tokenizer(tokenizer).build();
+        translatorContext = mock(TranslatorContext.class);
+        NDManager manager = mock(NDManager.class);
+        when(translatorContext.getNDManager()).thenReturn(manager);
+        when(manager.create(any(long[][].class))).thenReturn(mock(NDArray.class));
+        when(manager.create(any(int[][].class))).thenReturn(mock(NDArray.class));
+        return manager;
+    }
+
+    private Encoding encoding(long[] ids, long[] typeIds, long[] wordIds) {
+        long[] attentionMask = new long[ids.length];
+        Arrays.fill(attentionMask, 1);
+        Encoding encoding = mock(Encoding.class);
+        when(encoding.getIds()).thenReturn(ids);
+        when(encoding.getTypeIds()).thenReturn(typeIds);
+        when(encoding.getWordIds()).thenReturn(wordIds);
+        when(encoding.getAttentionMask()).thenReturn(attentionMask);
+        return encoding;
+    }
+
+    private Input chunkInput(String question, String context, int chunkNumber) {
+        Input input = new Input();
+        input.add(MLInput.QUESTION_FIELD, question);
+        input.add(MLInput.CONTEXT_FIELD, context);
+        input.add(HIGHLIGHTING_MODEL_CHUNK_NUMBER_KEY, String.valueOf(chunkNumber));
+        return input;
+    }
+
     @Test
     public void testCreateDefault() {
         MLModelConfig modelConfig = mock(MLModelConfig.class);
@@ -23,6 +23,9 @@ import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
 import org.opensearch.ml.common.output.MLPredictionOutput;
+import org.opensearch.ml.engine.utils.MLComputePool;
+
+import com.amazon.randomcutforest.RandomCutForest;
 
 public class BatchRandomCutForestTest {
     @Rule
@@ -97,6 +100,33 @@ public class BatchRandomCutForestTest {
         verifyPredictionResult(output);
     }
 
+    @Test
+    public void scoreInParallel() {
+        RandomCutForest rcf = RandomCutForest.builder().dimensions(1).numberOfTrees(10).sampleSize(100).outputAfter(100).build();
+        for (int i = 0; i < trainDataFrame.size(); i++) {
+            rcf.update(new double[] { trainDataFrame.getRow(i).getValue(0).doubleValue() });
+        }
+
+        DataFrame sequential = forest.score(predictionDataFrame, rcf, Integer.MAX_VALUE);
+        DataFrame parallel;
+        MLComputePool.start(2);
+        try {
+            parallel = forest.score(predictionDataFrame, rcf, 0);
+        } finally {
+            MLComputePool.shutdown();
+        }
+
+        Assert.assertEquals(dataSize, parallel.size());
+        Assert.assertEquals("score", parallel.columnMetas()[0].getName());
+        Assert.assertEquals("anomalous", parallel.columnMetas()[1].getName());
+        for (int i = 0; i < dataSize; i++) {
+            Assert.assertEquals(sequential.getRow(i).getValue(0).doubleValue(), parallel.getRow(i).getValue(0).doubleValue(), 0);
+            Assert.assertEquals(sequential.getRow(i).getValue(1).booleanValue(), parallel.getRow(i).getValue(1).booleanValue());
+        }
+        MLPredictionOutput output = MLPredictionOutput.builder().predictionResult(parallel).build();
+        verifyPredictionResult(output);
+    }
+
     private void verifyPredictionResult(MLPredictionOutput output) {
         DataFrame predictions = output.getPredictionResult();
         Assert.assertEquals(dataSize, predictions.size());
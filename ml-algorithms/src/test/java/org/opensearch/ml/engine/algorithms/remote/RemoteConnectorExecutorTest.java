@@ -5,9 +5,11 @@
 
 package org.opensearch.ml.engine.algorithms.remote;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.doThrow;
@@ -60,6 +62,7 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.utils.StringUtils;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.script.ScriptService;
@@ -395,6 +398,54 @@ public class RemoteConnectorExecutorTest {
         assertTrue(responseCaptor.getValue().getOutput() instanceof ModelTensorOutput);
     }
 
+    @Test
+    public void executeAction_WithTransportChannel_RecordsStreamTokenLatency() {
+        Map<String, String> parameters = ImmutableMap.of(SERVICE_NAME_FIELD, "bedrock", REGION_FIELD, "us-west-2");
+        Connector connector = getConnector(parameters);
+        AwsConnectorExecutor executor = getExecutor(connector);
+
+        RemoteInferenceInputDataSet inputDataSet = RemoteInferenceInputDataSet
+            .builder()
+            .parameters(Map.of("input", "test input", "stream", "true"))
+            .actionType(PREDICT)
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+
+        ActionListener<MLTaskResponse> actionListener = mock(ActionListener.class);
+        TransportChannel channel = mock(TransportChannel.class);
+        StreamPredictActionListener.TokenLatencyListener tokenLatencyListener = mock(
+            StreamPredictActionListener.TokenLatencyListener.class
+        );
+        Mockito.doNothing().when(executor).invokeRemoteServiceStream(any(), any(), any(), any(), any(), any());
+
+        executor.executeAction(PREDICT.name(), mlInput, actionListener, channel, true, tokenLatencyListener);
+
+        ArgumentCaptor<StreamPredictActionListener<MLTaskResponse, ?>> streamListenerCaptor = ArgumentCaptor
+            .forClass(StreamPredictActionListener.class);
+        ArgumentCaptor<ExecutionContext> contextCaptor = ArgumentCaptor.forClass(ExecutionContext.class);
+        verify(executor, times(1))
+            .invokeRemoteServiceStream(
+                eq(PREDICT.name()),
+                eq(mlInput),
+                any(),
+                any(),
+                contextCaptor.capture(),
+                streamListenerCaptor.capture()
+            );
+        assertEquals(tokenLatencyListener, contextCaptor.getValue().getTokenLatencyListener());
+
+        MLTaskResponse chunk = new MLTaskResponse(ModelTensorOutput.builder().mlModelOutputs(List.of()).build());
+        StreamPredictActionListener<MLTaskResponse, ?> streamListener = streamListenerCaptor.getValue();
+        streamListener.onStreamResponse(chunk, false);
+        streamListener.onStreamResponse(chunk, false);
+        streamListener.onStreamResponse(chunk, true);
+
+        verify(tokenLatencyListener, times(1)).onFirstToken(anyDouble());
+        verify(tokenLatencyListener, times(1)).onNextToken(anyDouble());
+        verify(channel, times(3)).sendResponseBatch(any());
+        verify(channel, times(1)).completeStream();
+    }
+
     @Test
     public void executePreparePayloadAndInvoke_WithInputProcessors_EmptyList() {
         Map<String, String> parameters = ImmutableMap.of(SERVICE_NAME_FIELD, "sagemaker", REGION_FIELD, "us-west-2");
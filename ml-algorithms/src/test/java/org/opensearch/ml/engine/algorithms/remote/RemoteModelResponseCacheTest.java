@@ -0,0 +1,329 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.connector.HttpConnector;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.transport.client.Client;
+
+public class RemoteModelResponseCacheTest {
+
+    private AtomicLong now;
+    private AtomicInteger invocations;
+    private Consumer<ActionListener<MLTaskResponse>> invoker;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(0);
+        invocations = new AtomicInteger();
+        invoker = listener -> {
+            invocations.incrementAndGet();
+            listener.onResponse(new MLTaskResponse(output(200, "answer")));
+        };
+    }
+
+    @Test
+    public void testFromConnector_Disabled() {
+        HttpConnector connector = HttpConnector.builder().name("test").protocol("http").parameters(Map.of("model", "gpt")).build();
+        assertNull(RemoteModelResponseCache.fromConnector(connector, null));
+    }
+
+    @Test
+    public void testFromConnector_Enabled() {
+        HttpConnector connector = HttpConnector
+            .builder()
+            .name("test")
+            .protocol("http")
+            .parameters(
+                Map.of(RemoteModelResponseCache.CACHE_ENABLED_FIELD, "true", RemoteModelResponseCache.CACHE_MAX_ENTRIES_FIELD, "10")
+            )
+            .build();
+        RemoteModelResponseCache cache = RemoteModelResponseCache.fromConnector(connector, null);
+        assertNotNull(cache);
+        assertNull(cache.getEmbeddingModelId());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromConnector_InvalidTtl() {
+        HttpConnector connector = HttpConnector
+            .builder()
+            .name("test")
+            .protocol("http")
+            .parameters(Map.of(RemoteModelResponseCache.CACHE_ENABLED_FIELD, "true", RemoteModelResponseCache.CACHE_TTL_SECONDS_FIELD, "0"))
+            .build();
+        RemoteModelResponseCache.fromConnector(connector, null);
+    }
+
+    @Test
+    public void testExecute_HitOnNormalizedRequest() {
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 10, null, 0.95, 100, null, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+
+        cache.execute("tenant", "user", "PREDICT", input("What is  OpenSearch?"), listener, invoker);
+        cache.execute("tenant", "user", "PREDICT", input(" What is OpenSearch? "), listener, invoker);
+
+        assertEquals(1, invocations.get());
+        verify(listener, times(2)).onResponse(any());
+        Map<String, Long> stats = cache.getStats();
+        assertEquals(1L, (long) stats.get("hit_count"));
+        assertEquals(1L, (long) stats.get("miss_count"));
+    }
+
+    @Test
+    public void testExecute_TenantIsolation() {
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 10, null, 0.95, 100, null, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+
+        cache.execute("tenant1", "user", "PREDICT", input("question"), listener, invoker);
+        cache.execute("tenant2", "user", "PREDICT", input("question"), listener, invoker);
+
+        assertEquals(2, invocations.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testExecute_UserIsolation() {
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 10, null, 0.95, 100, null, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+
+        cache.execute("tenant", "user1", "PREDICT", input("question"), listener, invoker);
+        cache.execute("tenant", "user2", "PREDICT", input("question"), listener, invoker);
+        cache.execute("tenant", null, "PREDICT", input("question"), listener, invoker);
+
+        assertEquals(3, invocations.get());
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testExecute_HitReturnsCopy() {
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 10, null, 0.95, 100, null, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+        ArgumentCaptor<MLTaskResponse> captor = ArgumentCaptor.forClass(MLTaskResponse.class);
+
+        cache.execute("tenant", "user", "PREDICT", input("question"), listener, invoker);
+        cache.execute("tenant", "user", "PREDICT", input("question"), listener, invoker);
+        verify(listener, times(2)).onResponse(captor.capture());
+        // callers modifying their response must not change what later hits return
+        ModelTensorOutput first = (ModelTensorOutput) captor.getAllValues().get(0).getOutput();
+        ModelTensorOutput second = (ModelTensorOutput) captor.getAllValues().get(1).getOutput();
+        assertNotSame(first, second);
+        first.getMlModelOutputs().get(0).setStatusCode(500);
+        second.getMlModelOutputs().get(0).setStatusCode(500);
+
+        cache.execute("tenant", "user", "PREDICT", input("question"), listener, invoker);
+        verify(listener, times(3)).onResponse(captor.capture());
+        ModelTensorOutput third = (ModelTensorOutput) captor.getValue().getOutput();
+        assertEquals(1, invocations.get());
+        assertEquals(200, (int) third.getMlModelOutputs().get(0).getStatusCode());
+        assertEquals("answer", third.getMlModelOutputs().get(0).getMlModelTensors().get(0).getResult());
+    }
+
+    @Test
+    public void testExecute_Expired() {
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 10, null, 0.95, 100, null, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+
+        cache.execute(null, null, "PREDICT", input("question"), listener, invoker);
+        now.set(1000);
+        cache.execute(null, null, "PREDICT", input("question"), listener, invoker);
+
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void testExecute_SizeBound() {
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 2, null, 0.95, 100, null, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+
+        cache.execute(null, null, "PREDICT", input("q1"), listener, invoker);
+        cache.execute(null, null, "PREDICT", input("q2"), listener, invoker);
+        cache.execute(null, null, "PREDICT", input("q3"), listener, invoker);
+
+        assertEquals(2, cache.size());
+        assertEquals(1L, (long) cache.getStats().get("eviction_count"));
+    }
+
+    @Test
+    public void testExecute_ErrorResponseNotCached() {
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 10, null, 0.95, 100, null, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+        Consumer<ActionListener<MLTaskResponse>> failingInvoker = l -> {
+            invocations.incrementAndGet();
+            l.onResponse(new MLTaskResponse(output(429, "throttled")));
+        };
+
+        cache.execute(null, null, "PREDICT", input("question"), listener, failingInvoker);
+        cache.execute(null, null, "PREDICT", input("question"), listener, failingInvoker);
+
+        assertEquals(2, invocations.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testExecute_SemanticHit() {
+        Client client = mock(Client.class);
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> embeddingListener = invocation.getArgument(2);
+            ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").data(new Number[] { 1.0f, 0.0f }).build();
+            ModelTensors tensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+            embeddingListener.onResponse(new MLTaskResponse(ModelTensorOutput.builder().mlModelOutputs(List.of(tensors)).build()));
+            return null;
+        }).when(client).execute(any(MLPredictionTaskAction.class), any(), any());
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 10, "embedding_model", 0.95, 100, client, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+
+        cache.execute(null, null, "PREDICT", input("what is opensearch"), listener, invoker);
+        cache.execute(null, null, "PREDICT", input("what's opensearch"), listener, invoker);
+
+        assertEquals(1, invocations.get());
+        assertEquals(1L, (long) cache.getStats().get("semantic_hit_count"));
+        verify(listener, never()).onFailure(any());
+    }
+
+    @Test
+    public void testExecute_SemanticHitUserIsolation() {
+        Client client = mock(Client.class);
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> embeddingListener = invocation.getArgument(2);
+            ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").data(new Number[] { 1.0f, 0.0f }).build();
+            ModelTensors tensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+            embeddingListener.onResponse(new MLTaskResponse(ModelTensorOutput.builder().mlModelOutputs(List.of(tensors)).build()));
+            return null;
+        }).when(client).execute(any(MLPredictionTaskAction.class), any(), any());
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 10, "embedding_model", 0.95, 100, client, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+
+        cache.execute("tenant", "user1", "PREDICT", input("what is opensearch"), listener, invoker);
+        cache.execute("tenant", "user2", "PREDICT", input("what's opensearch"), listener, invoker);
+
+        assertEquals(2, invocations.get());
+        assertEquals(0L, (long) cache.getStats().get("semantic_hit_count"));
+    }
+
+    @Test
+    public void testExecute_SemanticCandidatesBounded() {
+        Client client = mock(Client.class);
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            String text = ((TextDocsInputDataSet) request.getMlInput().getInputDataset()).getDocs().get(0);
+            Number[] embedding = text.contains("alpha") ? new Number[] { 1.0f, 0.0f } : new Number[] { 0.0f, 1.0f };
+            ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").data(embedding).build();
+            ModelTensors tensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+            ActionListener<MLTaskResponse> embeddingListener = invocation.getArgument(2);
+            embeddingListener.onResponse(new MLTaskResponse(ModelTensorOutput.builder().mlModelOutputs(List.of(tensors)).build()));
+            return null;
+        }).when(client).execute(any(MLPredictionTaskAction.class), any(), any());
+        // only the newest cached request of a user is compared by similarity
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 10, "embedding_model", 0.95, 1, client, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+
+        cache.execute("tenant", "user", "PREDICT", input("alpha one"), listener, invoker);
+        cache.execute("tenant", "user", "PREDICT", input("beta one"), listener, invoker);
+        // alpha one is no longer a similarity candidate
+        cache.execute("tenant", "user", "PREDICT", input("alpha two"), listener, invoker);
+        assertEquals(3, invocations.get());
+        assertEquals(0L, (long) cache.getStats().get(RemoteModelResponseCache.SEMANTIC_HIT_COUNT_STAT));
+
+        // but it is still served on an exact match
+        cache.execute("tenant", "user", "PREDICT", input("alpha one"), listener, invoker);
+        cache.execute("tenant", "user", "PREDICT", input("alpha three"), listener, invoker);
+
+        assertEquals(3, invocations.get());
+        Map<String, Long> stats = cache.getStats();
+        assertEquals(1L, (long) stats.get(RemoteModelResponseCache.HIT_COUNT_STAT));
+        assertEquals(1L, (long) stats.get(RemoteModelResponseCache.SEMANTIC_HIT_COUNT_STAT));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    public void testExecute_EvictedEntryNotServedBySimilarity() {
+        Client client = mock(Client.class);
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> embeddingListener = invocation.getArgument(2);
+            ModelTensor tensor = ModelTensor.builder().name("sentence_embedding").data(new Number[] { 1.0f, 0.0f }).build();
+            ModelTensors tensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+            embeddingListener.onResponse(new MLTaskResponse(ModelTensorOutput.builder().mlModelOutputs(List.of(tensors)).build()));
+            return null;
+        }).when(client).execute(any(MLPredictionTaskAction.class), any(), any());
+        RemoteModelResponseCache cache = new RemoteModelResponseCache(1000, 1, "embedding_model", 0.95, 100, client, now::get);
+        ActionListener<MLTaskResponse> listener = mock(ActionListener.class);
+
+        cache.execute("tenant", "user1", "PREDICT", input("what is opensearch"), listener, invoker);
+        // evicts the entry of user1
+        cache.execute("tenant", "user2", "PREDICT", input("what is opensearch"), listener, invoker);
+        cache.execute("tenant", "user1", "PREDICT", input("what's opensearch"), listener, invoker);
+
+        assertEquals(3, invocations.get());
+        assertEquals(0L, (long) cache.getStats().get(RemoteModelResponseCache.SEMANTIC_HIT_COUNT_STAT));
+    }
+
+    @Test
+    public void testCosineSimilarity() {
+        assertEquals(1.0, RemoteModelResponseCache.cosineSimilarity(new float[] { 1, 2 }, new float[] { 2, 4 }), 1e-6);
+        assertEquals(0.0, RemoteModelResponseCache.cosineSimilarity(new float[] { 1, 0 }, new float[] { 0, 1 }), 1e-6);
+        assertEquals(-1.0, RemoteModelResponseCache.cosineSimilarity(new float[] { 1 }, new float[] { 0, 1 }), 1e-6);
+    }
+
+    @Test
+    public void testNormalize_IgnoresKeyOrderAndWhitespace() throws Exception {
+        MLInput first = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(Map.of("a", "x  y", "b", "z")).build())
+            .build();
+        MLInput second = MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(Map.of("b", "z ", "a", "x y")).build())
+            .build();
+        assertEquals(RemoteModelResponseCache.normalize("PREDICT", first), RemoteModelResponseCache.normalize("PREDICT", second));
+    }
+
+    private MLInput input(String prompt) {
+        return MLInput
+            .builder()
+            .algorithm(FunctionName.REMOTE)
+            .inputDataset(RemoteInferenceInputDataSet.builder().parameters(Map.of("prompt", prompt)).build())
+            .build();
+    }
+
+    private ModelTensorOutput output(int statusCode, String response) {
+        ModelTensor tensor = ModelTensor.builder().name("response").result(response).build();
+        ModelTensors tensors = ModelTensors.builder().mlModelTensors(List.of(tensor)).build();
+        tensors.setStatusCode(statusCode);
+        return ModelTensorOutput.builder().mlModelOutputs(List.of(tensors)).build();
+    }
+}
@@ -171,7 +171,7 @@ public class RemoteModelTest extends MLStaticMockBase {
         TransportChannel channel = mock(TransportChannel.class);
         doThrow(actualException)
             .when(remoteConnectorExecutor)
-            .executeAction(ConnectorAction.ActionType.PREDICT.toString(), mlInput, actionListener, channel);
+            .executeAction(ConnectorAction.ActionType.PREDICT.toString(), mlInput, actionListener, channel, false, null);
         try (MockedStatic<MLEngineClassLoader> loader = mockStatic(MLEngineClassLoader.class)) {
             Connector connector = createConnector(ImmutableMap.of("Authorization", "Bearer ${credential.key}"));
             when(mlModel.getConnector()).thenReturn(connector);
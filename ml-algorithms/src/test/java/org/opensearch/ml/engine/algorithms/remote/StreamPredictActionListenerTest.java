@@ -9,8 +9,12 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -55,6 +59,34 @@ public class StreamPredictActionListenerTest {
         verify(mockChannel).completeStream();
     }
 
+    @Test
+    public void testOnStreamResponse_RecordsTokenLatency() {
+        List<String> latencies = new ArrayList<>();
+        StreamPredictActionListener<MLTaskResponse, TransportRequest> latencyListener = new StreamPredictActionListener<>(
+            mockChannel,
+            new StreamPredictActionListener.TokenLatencyListener() {
+                @Override
+                public void onFirstToken(double latency) {
+                    latencies.add("first");
+                }
+
+                @Override
+                public void onNextToken(double latency) {
+                    latencies.add("next");
+                }
+            }
+        );
+
+        latencyListener.onStreamResponse(mockResponse, false);
+        latencyListener.onStreamResponse(mockResponse, false);
+        latencyListener.onStreamResponse(mockResponse, false);
+        // the completion marker is not a token
+        latencyListener.onStreamResponse(mockResponse, true);
+
+        assertEquals(List.of("first", "next", "next"), latencies);
+        verify(mockChannel, times(4)).sendResponseBatch(mockResponse);
+    }
+
     @Test
     public void testOnResponse_CallsOnStreamResponseWithLastBatch() {
         listener.onResponse(mockResponse);
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote.streaming;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import okhttp3.OkHttpClient;
+
+public class HttpStreamingHandlerTest {
+
+    @Test
+    public void testGetClient_ReusedForSameTimeouts() {
+        assertSame(HttpStreamingHandler.getClient(10, 30), HttpStreamingHandler.getClient(10, 30));
+    }
+
+    @Test
+    public void testGetClient_SharesConnectionsAcrossTimeouts() {
+        OkHttpClient client = HttpStreamingHandler.getClient(10, 30);
+        OkHttpClient otherClient = HttpStreamingHandler.getClient(5, 60);
+
+        assertNotSame(client, otherClient);
+        assertEquals(60_000, otherClient.readTimeoutMillis());
+        assertSame(client.connectionPool(), otherClient.connectionPool());
+        assertSame(client.dispatcher(), otherClient.dispatcher());
+        assertEquals(HttpStreamingHandler.MAX_CONCURRENT_STREAMS, client.dispatcher().getMaxRequestsPerHost());
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
@@ -34,6 +35,7 @@ import org.opensearch.ml.common.input.parameter.textembedding.AsymmetricTextEmbe
 import org.opensearch.ml.common.input.parameter.textembedding.SparseEmbeddingFormat;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
@@ -45,6 +47,7 @@ import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.utils.FileUtils;
 
 import ai.djl.Model;
+import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
@@ -129,6 +132,33 @@ public class TextEmbeddingSparseEncodingModelTest {
         }
     }
 
+    @Test
+    public void test_SparseEncoding_Translator_BatchProcessInput() throws URISyntaxException, IOException {
+        SparseEncodingTranslator sparseEncodingTranslator = new SparseEncodingTranslator();
+        TranslatorContext translatorContext = mock(TranslatorContext.class);
+        Model mlModel = mock(Model.class);
+        when(translatorContext.getModel()).thenReturn(mlModel);
+        when(mlModel.getModelPath()).thenReturn(Paths.get(getClass().getResource("../tokenize/tokenizer.json").toURI()).getParent());
+        sparseEncodingTranslator.prepare(translatorContext);
+
+        NDManager manager = mock(NDManager.class);
+        when(translatorContext.getNDManager()).thenReturn(manager);
+        Input input1 = mock(Input.class);
+        when(input1.getAsString(0)).thenReturn("hello world");
+        Input input2 = mock(Input.class);
+        when(input2.getAsString(0)).thenReturn("today is a sunny day");
+        NDArray batchNdArray = mock(NDArray.class);
+        ArgumentCaptor<long[][]> batchCaptor = ArgumentCaptor.forClass(long[][].class);
+        when(manager.create(batchCaptor.capture())).thenReturn(batchNdArray);
+        NDList outputList = sparseEncodingTranslator.batchProcessInput(translatorContext, Arrays.asList(input1, input2));
+        assertEquals(2, outputList.size());
+        for (long[][] batch : batchCaptor.getAllValues()) {
+            assertEquals(2, batch.length);
+            // encodings are padded to the longest sentence of the batch
+            assertEquals(batch[0].length, batch[1].length);
+        }
+    }
+
     @Test
     public void test_SparseEncoding_Translator_ProcessOutput() throws URISyntaxException, IOException {
         SparseEncodingTranslator sparseEncodingTranslator = new SparseEncodingTranslator();
@@ -301,6 +331,32 @@ public class TextEmbeddingSparseEncodingModelTest {
         textEmbeddingSparseEncodingModel.close();
     }
 
+    @Test
+    public void initModel_predict_SparseEncoding_SubBatches() {
+        TextEmbeddingModelConfig modelConfig = TextEmbeddingModelConfig
+            .builder()
+            .modelType("bert")
+            .embeddingDimension(dimension)
+            .frameworkType(TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS)
+            .additionalConfig(Map.of(BATCH_SIZE_FIELD, 2))
+            .build();
+        PredictorCountingModel countingModel = new PredictorCountingModel();
+        countingModel.initModel(model.toBuilder().modelConfig(modelConfig).build(), params, encryptor);
+        TextDocsInputDataSet docs = TextDocsInputDataSet.builder().docs(List.of("today is sunny", "That is a happy dog", "dog")).build();
+
+        ModelTensorOutput output = (ModelTensorOutput) countingModel
+            .predict(MLInput.builder().algorithm(FunctionName.SPARSE_ENCODING).inputDataset(docs).build());
+
+        // three docs in batches of two
+        assertEquals(2, countingModel.predictorCalls);
+        assertEquals(3, output.getMlModelOutputs().size());
+        for (ModelTensors tensors : output.getMlModelOutputs()) {
+            assertEquals(1, tensors.getMlModelTensors().size());
+            assertNotNull(tensors.getMlModelTensors().get(0).getDataAsMap());
+        }
+        countingModel.close();
+    }
+
     // Test isAsymmetricModel method override returns false
     @Test
     public void test_isAsymmetricModel_ReturnsFalse() {
@@ -448,4 +504,14 @@ public class TextEmbeddingSparseEncodingModelTest {
     public void tearDown() {
         FileUtils.deleteFileQuietly(mlCachePath);
     }
+
+    private static class PredictorCountingModel extends TextEmbeddingSparseEncodingModel {
+        private int predictorCalls;
+
+        @Override
+        protected Predictor<Input, Output> getPredictor() {
+            predictorCalls++;
+            return super.getPredictor();
+        }
+    }
 }
@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -49,6 +50,7 @@ import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
@@ -189,6 +191,76 @@ public class TextSimilarityCrossEncoderModelTest {
         textSimilarityCrossEncoderModel.close();
     }
 
+    @Test
+    public void test_TextSimilarity_Translator_BatchProcessInput() throws URISyntaxException, IOException {
+        TextSimilarityTranslator textSimilarityTranslator = new TextSimilarityTranslator();
+        TranslatorContext translatorContext = mock(TranslatorContext.class);
+        Model mlModel = mock(Model.class);
+        when(translatorContext.getModel()).thenReturn(mlModel);
+        when(mlModel.getModelPath()).thenReturn(Paths.get(getClass().getResource("../tokenize/tokenizer.json").toURI()).getParent());
+        textSimilarityTranslator.prepare(translatorContext);
+
+        NDManager manager = mock(NDManager.class);
+        when(translatorContext.getNDManager()).thenReturn(manager);
+        List<long[][]> created = new ArrayList<>();
+        when(manager.create((long[][]) any())).thenAnswer(invocation -> {
+            created.add(invocation.getArgument(0));
+            return mock(NDArray.class);
+        });
+        Input shortPair = new Input();
+        shortPair.add("hello");
+        shortPair.add("world");
+        Input longPair = new Input();
+        longPair.add("hello");
+        longPair.add("hello world, how are you today");
+
+        NDList outputList = textSimilarityTranslator.batchProcessInput(translatorContext, List.of(shortPair, longPair));
+
+        assertEquals(3, outputList.size());
+        long[][] indices = created.get(0);
+        long[][] attentionMask = created.get(1);
+        assertEquals(2, indices.length);
+        // both pairs are padded to the longest one, padding is masked out
+        assertEquals(indices[0].length, indices[1].length);
+        assertEquals(0L, attentionMask[0][attentionMask[0].length - 1]);
+        assertEquals(1L, attentionMask[1][attentionMask[1].length - 1]);
+    }
+
+    @Test
+    public void initModel_predict_TorchScript_CrossEncoder_Batched() throws URISyntaxException {
+        TextEmbeddingModelConfig modelConfig = TextEmbeddingModelConfig
+            .builder()
+            .modelType("bert")
+            .embeddingDimension(1)
+            .frameworkType(TextEmbeddingModelConfig.FrameworkType.SENTENCE_TRANSFORMERS)
+            .additionalConfig(Map.of(TextSimilarityCrossEncoderModel.BATCH_SIZE_FIELD, 2))
+            .build();
+        model = model.toBuilder().modelConfig(modelConfig).build();
+        textSimilarityCrossEncoderModel.initModel(model, params, encryptor);
+        List<String> docs = List.of("it's summer", "That is a happy dog playing in the park", "dog", "summer is hot and long this year");
+        TextSimilarityInputDataSet batchInput = TextSimilarityInputDataSet.builder().textDocs(docs).queryText("it's summer").build();
+        ModelTensorOutput output = (ModelTensorOutput) textSimilarityCrossEncoderModel
+            .predict(MLInput.builder().algorithm(FunctionName.TEXT_SIMILARITY).inputDataset(batchInput).build());
+
+        assertEquals(docs.size(), output.getMlModelOutputs().size());
+        for (int i = 0; i < docs.size(); i++) {
+            TextSimilarityInputDataSet singleInput = TextSimilarityInputDataSet
+                .builder()
+                .textDocs(List.of(docs.get(i)))
+                .queryText("it's summer")
+                .build();
+            ModelTensorOutput singleOutput = (ModelTensorOutput) textSimilarityCrossEncoderModel
+                .predict(MLInput.builder().algorithm(FunctionName.TEXT_SIMILARITY).inputDataset(singleInput).build());
+            // scores come back in the input order, and padding does not change them
+            assertEquals(
+                singleOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getData()[0].floatValue(),
+                output.getMlModelOutputs().get(i).getMlModelTensors().get(0).getData()[0].floatValue(),
+                1e-3
+            );
+        }
+        textSimilarityCrossEncoderModel.close();
+    }
+
     @Test
     public void initModel_predict_ONNX_CrossEncoder() throws URISyntaxException {
         model = MLModel
@@ -17,6 +17,9 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -32,12 +35,19 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
+import com.jayway.jsonpath.JsonPath;
+
 public class AbstractIngestionTests {
     @Mock
     Client client;
@@ -267,6 +277,30 @@ public class AbstractIngestionTests {
         assertEquals("request-1", processedFieldMapping.get("_id"));
     }
 
+    @Test
+    public void testProcessFieldMapping_CompiledMappingReusedAcrossLines() {
+        MLBatchIngestionInput mlBatchIngestionInput = new MLBatchIngestionInput(
+            "indexName",
+            fieldMap,
+            ingestFields,
+            new HashMap<>(),
+            new HashMap<>(),
+            null
+        );
+        List<Map.Entry<String, JsonPath>> compiledFieldMapping = s3DataIngestion.compileSourceFieldMapping(mlBatchIngestionInput, 0, true);
+        assertEquals(5, compiledFieldMapping.size());
+
+        String firstLine = "{\"SageMakerOutput\":[[1.0],[2.0]],\"content\":[\"chapter 1\",\"title 1\"],\"id\":1}";
+        String secondLine = "{\"SageMakerOutput\":[[3.0],[4.0]],\"content\":[\"chapter 2\",\"title 2\"],\"id\":2}";
+        Map<String, Object> first = s3DataIngestion.processFieldMapping(firstLine, compiledFieldMapping);
+        Map<String, Object> second = s3DataIngestion.processFieldMapping(secondLine, compiledFieldMapping);
+
+        assertEquals("chapter 1", first.get("chapter"));
+        assertEquals(1, first.get("id"));
+        assertEquals("title 2", second.get("title"));
+        assertEquals(Arrays.asList(4.0), second.get("title_embedding"));
+    }
+
     @Test
     public void testProcessFieldMapping_EmptyFieldInput() {
         String jsonStr =
@@ -336,4 +370,144 @@ public class AbstractIngestionTests {
             .getMessage()
             .equals("the bulk ingestion is empty: please check your field mapping to match your sources"));
     }
+
+    @Test
+    public void testBulkWithBackoff_RetriesRejectedItems() {
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(threadPool).schedule(any(Runnable.class), any(TimeValue.class), any(String.class));
+
+        BulkItemResponse succeeded = mock(BulkItemResponse.class);
+        BulkItemResponse rejected = mock(BulkItemResponse.class);
+        when(rejected.isFailed()).thenReturn(true);
+        when(rejected.status()).thenReturn(RestStatus.TOO_MANY_REQUESTS);
+        BulkResponse partialResponse = mock(BulkResponse.class);
+        when(partialResponse.hasFailures()).thenReturn(true);
+        when(partialResponse.getItems()).thenReturn(new BulkItemResponse[] { succeeded, rejected });
+        BulkResponse retryResponse = mock(BulkResponse.class);
+
+        List<BulkRequest> sentRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            sentRequests.add(invocation.getArgument(0));
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(sentRequests.size() == 1 ? partialResponse : retryResponse);
+            return null;
+        }).when(client).bulk(any(), any());
+
+        BulkRequest bulkRequest = new BulkRequest();
+        bulkRequest.add(new IndexRequest("index").source(Map.of("field", "a")));
+        bulkRequest.add(new IndexRequest("index").source(Map.of("field", "b")));
+        ActionListener<BulkResponse> bulkResponseListener = mock(ActionListener.class);
+        s3DataIngestion.bulkWithBackoff(bulkRequest, List.of(TimeValue.timeValueMillis(1)).iterator(), bulkResponseListener);
+
+        assertEquals(2, sentRequests.size());
+        assertEquals(1, sentRequests.get(1).numberOfActions());
+        verify(bulkResponseListener).onResponse(retryResponse);
+    }
+
+    @Test
+    public void testBulkWithBackoff_OtherFailuresNotRetried() {
+        BulkItemResponse failed = mock(BulkItemResponse.class);
+        when(failed.isFailed()).thenReturn(true);
+        when(failed.status()).thenReturn(RestStatus.BAD_REQUEST);
+        BulkResponse bulkResponse = mock(BulkResponse.class);
+        when(bulkResponse.hasFailures()).thenReturn(true);
+        when(bulkResponse.getItems()).thenReturn(new BulkItemResponse[] { failed });
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(bulkResponse);
+            return null;
+        }).when(client).bulk(any(), any());
+
+        BulkRequest bulkRequest = new BulkRequest();
+        bulkRequest.add(new IndexRequest("index").source(Map.of("field", "a")));
+        ActionListener<BulkResponse> bulkResponseListener = mock(ActionListener.class);
+        s3DataIngestion.bulkWithBackoff(bulkRequest, List.of(TimeValue.timeValueMillis(1)).iterator(), bulkResponseListener);
+
+        verify(client).bulk(any(), any());
+        verify(bulkResponseListener).onResponse(bulkResponse);
+    }
+
+    @Test
+    public void testSubmitBatch_ReleasesPermitWhenBulkCompletes() throws Exception {
+        List<ActionListener<BulkResponse>> pendingBulks = new ArrayList<>();
+        doAnswer(invocation -> {
+            pendingBulks.add(invocation.getArgument(1));
+            return null;
+        }).when(client).bulk(any(), any());
+        MLBatchIngestionInput mlBatchIngestionInput = new MLBatchIngestionInput(
+            "indexName",
+            fieldMap,
+            ingestFields,
+            new HashMap<>(),
+            new HashMap<>(),
+            null
+        );
+        List<String> sourceLines = Arrays.asList("{\"SageMakerOutput\":[[1.0],[2.0]],\"content\":[\"chapter 1\",\"title 1\"],\"id\":1}");
+        AbstractIngestion.InFlightBulks inFlightBulks = new AbstractIngestion.InFlightBulks(1);
+        assertTrue(inFlightBulks.tryAcquire(() -> {}));
+        AtomicInteger successfulBatches = new AtomicInteger();
+
+        CompletableFuture<Void> future = s3DataIngestion
+            .submitBatch(
+                sourceLines,
+                mlBatchIngestionInput,
+                s3DataIngestion.compileSourceFieldMapping(mlBatchIngestionInput, 0, true),
+                true,
+                inFlightBulks,
+                successfulBatches,
+                new AtomicInteger()
+            );
+
+        assertEquals(0, inFlightBulks.availablePermits());
+        pendingBulks.get(0).onResponse(mock(BulkResponse.class));
+        assertTrue(future.isDone());
+        assertEquals(1, inFlightBulks.availablePermits());
+        assertEquals(1, successfulBatches.get());
+    }
+
+    @Test
+    public void testIngestSource_ContinuesReadingWhenBulkCompletes() {
+        List<ActionListener<BulkResponse>> pendingBulks = new ArrayList<>();
+        doAnswer(invocation -> {
+            pendingBulks.add(invocation.getArgument(1));
+            return null;
+        }).when(client).bulk(any(), any());
+        MLBatchIngestionInput mlBatchIngestionInput = new MLBatchIngestionInput(
+            "indexName",
+            fieldMap,
+            ingestFields,
+            new HashMap<>(),
+            new HashMap<>(),
+            null
+        );
+        String line = "{\"SageMakerOutput\":[[1.0],[2.0]],\"content\":[\"chapter 1\",\"title 1\"],\"id\":1}";
+        AbstractIngestion.LineSource lineSource = AbstractIngestion
+            .lineSource(new BufferedReader(new StringReader(line + "\n" + line + "\n" + line)));
+        AbstractIngestion.InFlightBulks inFlightBulks = new AbstractIngestion.InFlightBulks(1);
+        List<Runnable> continuations = new ArrayList<>();
+
+        CompletableFuture<Double> successRate = s3DataIngestion
+            .ingestSource(lineSource, mlBatchIngestionInput, 0, true, 1, inFlightBulks, continuations::add);
+
+        // the read stops without blocking once the only permit is taken
+        assertEquals(1, pendingBulks.size());
+        assertTrue(continuations.isEmpty());
+        pendingBulks.get(0).onResponse(mock(BulkResponse.class));
+        assertEquals(1, continuations.size());
+        continuations.get(0).run();
+        assertEquals(2, pendingBulks.size());
+        pendingBulks.get(1).onResponse(mock(BulkResponse.class));
+        continuations.get(1).run();
+        assertEquals(3, pendingBulks.size());
+        assertFalse(successRate.isDone());
+        pendingBulks.get(2).onResponse(mock(BulkResponse.class));
+        continuations.get(2).run();
+        assertTrue(successRate.isDone());
+        assertEquals(100, successRate.join(), 0.0);
+        assertEquals(1, inFlightBulks.availablePermits());
+    }
 }
@@ -5,19 +5,36 @@
 
 package org.opensearch.ml.engine.ingest;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.ingest.S3DataIngestion.SOURCE;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
 import org.opensearch.transport.client.Client;
 
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 public class S3DataIngestionTests {
 
@@ -52,4 +69,40 @@ public class S3DataIngestionTests {
             .dataSources(dataSource)
             .build();
     }
+
+    @Test
+    public void testS3LineSource_ResumesBrokenStreamWithRangedGet() throws IOException {
+        ByteArrayInputStream head = new ByteArrayInputStream("line1\r\nli".getBytes(StandardCharsets.UTF_8));
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                int b = head.read();
+                if (b == -1) {
+                    throw new IOException("Connection reset");
+                }
+                return b;
+            }
+        };
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+            .thenReturn(objectStream(broken))
+            .thenReturn(objectStream(new ByteArrayInputStream("line2\nline3".getBytes(StandardCharsets.UTF_8))));
+
+        S3DataIngestion.S3LineSource lineSource = new S3DataIngestion.S3LineSource(s3Client, "bucket", "key");
+
+        assertEquals("line1", lineSource.readLine());
+        assertEquals("line2", lineSource.readLine());
+        assertEquals("line3", lineSource.readLine());
+        assertNull(lineSource.readLine());
+        lineSource.close();
+        ArgumentCaptor<GetObjectRequest> requests = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(2)).getObject(requests.capture());
+        List<GetObjectRequest> getObjectRequests = requests.getAllValues();
+        assertNull(getObjectRequests.get(0).range());
+        assertEquals("bytes=7-", getObjectRequests.get(1).range());
+        assertEquals("etag", getObjectRequests.get(1).ifMatch());
+    }
+
+    private ResponseInputStream<GetObjectResponse> objectStream(InputStream inputStream) {
+        return new ResponseInputStream<>(GetObjectResponse.builder().eTag("etag").build(), AbortableInputStream.create(inputStream));
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MLComputePoolTest {
+
+    @After
+    public void tearDown() {
+        MLComputePool.shutdown();
+    }
+
+    @Test
+    public void forEach_NotStarted() throws Exception {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        int[] values = new int[100];
+
+        MLComputePool.forEach(values.length, i -> {
+            threads.add(Thread.currentThread().getName());
+            values[i] = i * 2;
+        });
+
+        Assert.assertEquals(Set.of(Thread.currentThread().getName()), threads);
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals(i * 2, values[i]);
+        }
+    }
+
+    @Test
+    public void forEach_Started() throws Exception {
+        MLComputePool.start(2);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        int[] values = new int[10_000];
+
+        MLComputePool.forEach(values.length, i -> {
+            threads.add(Thread.currentThread().getName());
+            values[i] = i * 2;
+        });
+
+        Assert.assertFalse(threads.isEmpty());
+        Assert.assertTrue(threads.stream().allMatch(name -> name.startsWith(MLComputePool.THREAD_NAME_PREFIX)));
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals(i * 2, values[i]);
+        }
+    }
+
+    @Test
+    public void forEach_SingleThreadRunsOnCaller() throws Exception {
+        MLComputePool.start(1);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        MLComputePool.forEach(10, i -> threads.add(Thread.currentThread().getName()));
+
+        Assert.assertEquals(Set.of(Thread.currentThread().getName()), threads);
+    }
+
+    @Test
+    public void forEach_Failure() throws Exception {
+        MLComputePool.start(2);
+        ExecutionException exception = Assert.assertThrows(ExecutionException.class, () -> MLComputePool.forEach(10, i -> {
+            throw new IllegalArgumentException("bad row " + i);
+        }));
+        Assert.assertTrue(exception.getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void shutdown_RunsOnCaller() throws Exception {
+        MLComputePool.start(2);
+        MLComputePool.shutdown();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        MLComputePool.forEach(10, i -> threads.add(Thread.currentThread().getName()));
+
+        Assert.assertEquals(Set.of(Thread.currentThread().getName()), threads);
+    }
+}
@@ -33,6 +33,7 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteRequest;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
+import org.opensearch.ml.model.MLConnectorCache;
 import org.opensearch.ml.utils.TenantAwareHelper;
 import org.opensearch.remote.metadata.client.DeleteDataObjectRequest;
 import org.opensearch.remote.metadata.client.DeleteDataObjectResponse;
@@ -226,7 +227,12 @@ public class DeleteConnectorTransportAction extends HandledTransportAction<Actio
             try {
                 DeleteResponse deleteResponse = response.deleteResponse();
                 log.info("Connector deletion result: {}, connector id: {}", deleteResponse.getResult(), response.id());
-                actionListener.onResponse(deleteResponse);
+                MLConnectorCache
+                    .invalidateOnAllNodes(
+                        client,
+                        connectorId,
+                        ActionListener.wrap(r -> actionListener.onResponse(deleteResponse), actionListener::onFailure)
+                    );
             } catch (Exception e) {
                 actionListener.onFailure(e);
             }
@@ -7,6 +7,7 @@ package org.opensearch.ml.action.connector;
 
 import static org.opensearch.ml.common.CommonValue.ML_CONNECTOR_INDEX;
 
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.support.ActionFilters;
@@ -15,6 +16,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
@@ -28,6 +30,7 @@ import org.opensearch.ml.engine.algorithms.remote.RemoteConnectorExecutor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
+import org.opensearch.ml.model.MLConnectorCache;
 import org.opensearch.script.ScriptService;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
@@ -46,6 +49,7 @@ public class ExecuteConnectorTransportAction extends HandledTransportAction<Acti
     ConnectorAccessControlHelper connectorAccessControlHelper;
     EncryptorImpl encryptor;
     MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    MLConnectorCache connectorCache;
 
     @Inject
     public ExecuteConnectorTransportAction(
@@ -57,7 +61,8 @@ public class ExecuteConnectorTransportAction extends HandledTransportAction<Acti
         NamedXContentRegistry xContentRegistry,
         ConnectorAccessControlHelper connectorAccessControlHelper,
         EncryptorImpl encryptor,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        MLConnectorCache connectorCache
     ) {
         super(MLExecuteConnectorAction.NAME, transportService, actionFilters, MLConnectorDeleteRequest::new);
         this.client = client;
@@ -67,6 +72,7 @@ public class ExecuteConnectorTransportAction extends HandledTransportAction<Acti
         this.connectorAccessControlHelper = connectorAccessControlHelper;
         this.encryptor = encryptor;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.connectorCache = connectorCache;
     }
 
     @Override
@@ -77,6 +83,16 @@ public class ExecuteConnectorTransportAction extends HandledTransportAction<Acti
 
         if (MLIndicesHandler
             .doesMultiTenantIndexExist(clusterService, mlFeatureEnabledSetting.isMultiTenancyEnabled(), ML_CONNECTOR_INDEX)) {
+            MLConnectorCache.Entry cached = connectorCache.get(connectorId);
+            if (cached != null) {
+                if (connectorAccessControlHelper.validateConnectorAccess(client, cached.getConnector())) {
+                    execute(cached.getExecutor(), connectorAction, executeConnectorRequest, actionListener);
+                } else {
+                    actionListener.onFailure(accessDenied());
+                }
+                return;
+            }
+            long cacheVersion = connectorCache.getVersion();
             ActionListener<Connector> listener = ActionListener.wrap(connector -> {
                 if (connectorAccessControlHelper.validateConnectorAccess(client, connector)) {
                     // adding tenantID as null, because we are not implement multi-tenancy for this feature yet.
@@ -88,10 +104,10 @@ public class ExecuteConnectorTransportAction extends HandledTransportAction<Acti
                     connectorExecutor.setClusterService(clusterService);
                     connectorExecutor.setClient(client);
                     connectorExecutor.setXContentRegistry(xContentRegistry);
-                    connectorExecutor
-                        .executeAction(connectorAction, executeConnectorRequest.getMlInput(), ActionListener.wrap(taskResponse -> {
-                            actionListener.onResponse(taskResponse);
-                        }, e -> { actionListener.onFailure(e); }));
+                    connectorCache.put(connectorId, connector, connectorExecutor, cacheVersion);
+                    execute(connectorExecutor, connectorAction, executeConnectorRequest, actionListener);
+                } else {
+                    actionListener.onFailure(accessDenied());
                 }
             }, e -> {
                 log.error("Failed to get connector " + connectorId, e);
@@ -105,4 +121,19 @@ public class ExecuteConnectorTransportAction extends HandledTransportAction<Acti
         }
     }
 
+    private OpenSearchStatusException accessDenied() {
+        return new OpenSearchStatusException("You don't have permission to access this connector", RestStatus.FORBIDDEN);
+    }
+
+    private void execute(
+        RemoteConnectorExecutor connectorExecutor,
+        String connectorAction,
+        MLExecuteConnectorRequest executeConnectorRequest,
+        ActionListener<MLTaskResponse> actionListener
+    ) {
+        connectorExecutor.executeAction(connectorAction, executeConnectorRequest.getMlInput(), ActionListener.wrap(taskResponse -> {
+            actionListener.onResponse(taskResponse);
+        }, e -> { actionListener.onFailure(e); }));
+    }
+
 }
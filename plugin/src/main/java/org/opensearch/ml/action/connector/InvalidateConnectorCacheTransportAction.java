@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.connector;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateAction;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateNodeRequest;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateNodeResponse;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateNodesRequest;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateNodesResponse;
+import org.opensearch.ml.model.MLConnectorCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Drops updated or deleted connectors from the connector cache of every node.
+ */
+public class InvalidateConnectorCacheTransportAction extends
+    TransportNodesAction<MLConnectorCacheInvalidateNodesRequest, MLConnectorCacheInvalidateNodesResponse, MLConnectorCacheInvalidateNodeRequest, MLConnectorCacheInvalidateNodeResponse> {
+
+    private final ClusterService clusterService;
+    private final MLConnectorCache connectorCache;
+
+    @Inject
+    public InvalidateConnectorCacheTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        MLConnectorCache connectorCache
+    ) {
+        super(
+            MLConnectorCacheInvalidateAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLConnectorCacheInvalidateNodesRequest::new,
+            MLConnectorCacheInvalidateNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLConnectorCacheInvalidateNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.connectorCache = connectorCache;
+    }
+
+    @Override
+    protected MLConnectorCacheInvalidateNodesResponse newResponse(
+        MLConnectorCacheInvalidateNodesRequest nodesRequest,
+        List<MLConnectorCacheInvalidateNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLConnectorCacheInvalidateNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLConnectorCacheInvalidateNodeRequest newNodeRequest(MLConnectorCacheInvalidateNodesRequest request) {
+        return new MLConnectorCacheInvalidateNodeRequest(request);
+    }
+
+    @Override
+    protected MLConnectorCacheInvalidateNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLConnectorCacheInvalidateNodeResponse(in);
+    }
+
+    @Override
+    protected MLConnectorCacheInvalidateNodeResponse nodeOperation(MLConnectorCacheInvalidateNodeRequest request) {
+        connectorCache.invalidate(request.getInvalidateNodesRequest().getConnectorIds());
+        return new MLConnectorCacheInvalidateNodeResponse(clusterService.localNode());
+    }
+}
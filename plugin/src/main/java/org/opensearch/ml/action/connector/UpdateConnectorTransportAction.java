@@ -39,6 +39,7 @@ import org.opensearch.ml.common.transport.connector.MLUpdateConnectorAction;
 import org.opensearch.ml.common.transport.connector.MLUpdateConnectorRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
+import org.opensearch.ml.model.MLConnectorCache;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.utils.TenantAwareHelper;
 import org.opensearch.remote.metadata.client.GetDataObjectRequest;
@@ -242,7 +243,13 @@ public class UpdateConnectorTransportAction extends HandledTransportAction<Actio
                 return;
             }
             log.info("Successfully updated the connector with ID: {}", connectorId);
-            actionListener.onResponse(updateResponse);
+            // acknowledge the update only once no node can execute the old connector from its cache
+            MLConnectorCache
+                .invalidateOnAllNodes(
+                    client,
+                    connectorId,
+                    ActionListener.wrap(r -> actionListener.onResponse(updateResponse), actionListener::onFailure)
+                );
         }, exception -> {
             log.error("Failed to update ML connector with ID {}. Details: {}", connectorId, exception);
             actionListener.onFailure(exception);
@@ -0,0 +1,311 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.memorycontainer.memory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.ml.common.memorycontainer.MLMemoryContainer;
+import org.opensearch.ml.common.transport.memorycontainer.memory.MLAddMemoriesInput;
+import org.opensearch.ml.common.transport.memorycontainer.memory.MessageInput;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Bounded write-behind queue for long-term memory extraction, kept per memory container.
+ * Messages added to the same session while an extraction is pending are coalesced into a single batch, so that one
+ * LLM extraction prompt covers them all. Only requests of the same tenant and user with the same tags, metadata and
+ * parameters are coalesced, and every batch is processed under the thread context of the request that opened it.
+ * At most {@code maxConcurrentPerContainer} batches of a container are
+ * extracted at the same time, and new work is rejected once {@code maxPendingPerContainer} batches are waiting.
+ * A batch whose extraction hasn't completed within {@code extractionTimeout} gives its slot back to the container.
+ */
+@Log4j2
+public class MemoryExtractionQueue {
+
+    public static final int DEFAULT_MAX_PENDING_PER_CONTAINER = 1000;
+    public static final int DEFAULT_MAX_CONCURRENT_PER_CONTAINER = 2;
+    public static final int DEFAULT_MAX_MESSAGES_PER_BATCH = 100;
+    public static final TimeValue DEFAULT_EXTRACTION_TIMEOUT = TimeValue.timeValueMinutes(5);
+
+    /**
+     * Messages of one session waiting for long-term memory extraction.
+     */
+    @Getter
+    public static class Batch {
+        private final String sessionKey;
+        private final long enqueuedTime;
+        private final List<MessageInput> messages = new ArrayList<>();
+        private final MLAddMemoriesInput input;
+        private final MLMemoryContainer container;
+        private final User user;
+        @Getter(AccessLevel.NONE)
+        private final Supplier<ThreadContext.StoredContext> context;
+
+        private Batch(
+            String sessionKey,
+            long enqueuedTime,
+            MLAddMemoriesInput input,
+            MLMemoryContainer container,
+            User user,
+            Supplier<ThreadContext.StoredContext> context
+        ) {
+            this.sessionKey = sessionKey;
+            this.enqueuedTime = enqueuedTime;
+            this.input = input;
+            this.container = container;
+            this.user = user;
+            this.context = context;
+        }
+
+        /**
+         * Only the messages of a coalesced request are added, so everything else has to match the request that
+         * opened the batch.
+         */
+        private boolean accepts(MLAddMemoriesInput other) {
+            return Objects.equals(input.getTags(), other.getTags())
+                && Objects.equals(input.getMetadata(), other.getMetadata())
+                && Objects.equals(input.getParameters(), other.getParameters());
+        }
+
+        private void add(MLAddMemoriesInput input) {
+            if (input.getMessages() != null) {
+                messages.addAll(input.getMessages());
+            }
+        }
+    }
+
+    private static class ContainerQueue {
+        private final Deque<Batch> pending = new ArrayDeque<>();
+        private final Map<String, Batch> openBatches = new HashMap<>();
+        private int inFlight;
+    }
+
+    private final Executor executor;
+    private final Scheduler scheduler;
+    private final ThreadContext threadContext;
+    private final BiConsumer<Batch, Runnable> processor;
+    private final int maxPendingPerContainer;
+    private final int maxConcurrentPerContainer;
+    private final int maxMessagesPerBatch;
+    private final TimeValue extractionTimeout;
+    private final LongSupplier clock;
+    private final Map<String, ContainerQueue> queues = new HashMap<>();
+
+    public MemoryExtractionQueue(
+        Executor executor,
+        Scheduler scheduler,
+        ThreadContext threadContext,
+        BiConsumer<Batch, Runnable> processor
+    ) {
+        this(
+            executor,
+            scheduler,
+            threadContext,
+            processor,
+            DEFAULT_MAX_PENDING_PER_CONTAINER,
+            DEFAULT_MAX_CONCURRENT_PER_CONTAINER,
+            DEFAULT_MAX_MESSAGES_PER_BATCH,
+            DEFAULT_EXTRACTION_TIMEOUT,
+            System::currentTimeMillis
+        );
+    }
+
+    @VisibleForTesting
+    MemoryExtractionQueue(
+        Executor executor,
+        Scheduler scheduler,
+        ThreadContext threadContext,
+        BiConsumer<Batch, Runnable> processor,
+        int maxPendingPerContainer,
+        int maxConcurrentPerContainer,
+        int maxMessagesPerBatch,
+        TimeValue extractionTimeout,
+        LongSupplier clock
+    ) {
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.threadContext = threadContext;
+        this.processor = processor;
+        this.maxPendingPerContainer = maxPendingPerContainer;
+        this.maxConcurrentPerContainer = maxConcurrentPerContainer;
+        this.maxMessagesPerBatch = maxMessagesPerBatch;
+        this.extractionTimeout = extractionTimeout;
+        this.clock = clock;
+    }
+
+    /**
+     * @param memoryContainerId the memory container id
+     * @return true if the container can accept more extraction work
+     */
+    public synchronized boolean hasCapacity(String memoryContainerId) {
+        ContainerQueue queue = queues.get(memoryContainerId);
+        return queue == null || queue.pending.size() < maxPendingPerContainer;
+    }
+
+    /**
+     * Queues the messages of an add memories request for long-term memory extraction.
+     * @param input the add memories input
+     * @param container the memory container
+     * @param user the user adding the memories
+     * @return false if the request was rejected because the container queue is full
+     */
+    public boolean offer(MLAddMemoriesInput input, MLMemoryContainer container, User user) {
+        String memoryContainerId = input.getMemoryContainerId();
+        synchronized (this) {
+            ContainerQueue queue = queues.computeIfAbsent(memoryContainerId, id -> new ContainerQueue());
+            String sessionKey = sessionKey(input, container, user);
+            Batch batch = queue.openBatches.get(sessionKey);
+            int messageCount = input.getMessages() == null ? 0 : input.getMessages().size();
+            if (batch == null || !batch.accepts(input) || batch.messages.size() + messageCount > maxMessagesPerBatch) {
+                if (queue.pending.size() >= maxPendingPerContainer) {
+                    return false;
+                }
+                batch = new Batch(sessionKey, clock.getAsLong(), input, container, user, threadContext.newRestorableContext(false));
+                queue.pending.addLast(batch);
+                queue.openBatches.put(sessionKey, batch);
+            }
+            batch.add(input);
+        }
+        drain(memoryContainerId);
+        return true;
+    }
+
+    private void drain(String memoryContainerId) {
+        List<Batch> ready = new ArrayList<>();
+        synchronized (this) {
+            ContainerQueue queue = queues.get(memoryContainerId);
+            if (queue == null) {
+                return;
+            }
+            while (queue.inFlight < maxConcurrentPerContainer && !queue.pending.isEmpty()) {
+                Batch batch = queue.pending.pollFirst();
+                queue.openBatches.remove(batch.sessionKey, batch);
+                queue.inFlight++;
+                ready.add(batch);
+            }
+            if (queue.inFlight == 0 && queue.pending.isEmpty()) {
+                queues.remove(memoryContainerId);
+            }
+        }
+        for (Batch batch : ready) {
+            log
+                .debug(
+                    "Extracting {} messages of memory container {} after {} ms in queue",
+                    batch.messages.size(),
+                    memoryContainerId,
+                    clock.getAsLong() - batch.enqueuedTime
+                );
+            try {
+                executor.execute(() -> process(memoryContainerId, batch));
+            } catch (Exception e) {
+                log.error("Failed to schedule memory extraction for memory container {}", memoryContainerId, e);
+                complete(memoryContainerId);
+            }
+        }
+    }
+
+    private void process(String memoryContainerId, Batch batch) {
+        AtomicReference<Scheduler.Cancellable> timeout = new AtomicReference<>();
+        Runnable onComplete = new Runnable() {
+            private boolean completed;
+
+            @Override
+            public synchronized void run() {
+                if (!completed) {
+                    completed = true;
+                    Scheduler.Cancellable scheduledTimeout = timeout.get();
+                    if (scheduledTimeout != null) {
+                        scheduledTimeout.cancel();
+                    }
+                    complete(memoryContainerId);
+                }
+            }
+        };
+        // run under the context of the request that opened the batch, not the one of the thread that completed the last
+        try (ThreadContext.StoredContext ignored = batch.context.get()) {
+            timeout.set(scheduler.schedule(() -> {
+                log
+                    .warn(
+                        "Memory extraction for memory container {} did not complete within {}, releasing its slot",
+                        memoryContainerId,
+                        extractionTimeout
+                    );
+                onComplete.run();
+            }, extractionTimeout, ThreadPool.Names.GENERIC));
+            processor.accept(batch, onComplete);
+        } catch (Exception e) {
+            log.error("Failed to extract long-term memory for memory container {}", memoryContainerId, e);
+            onComplete.run();
+        }
+    }
+
+    private void complete(String memoryContainerId) {
+        synchronized (this) {
+            ContainerQueue queue = queues.get(memoryContainerId);
+            if (queue != null) {
+                queue.inFlight--;
+            }
+        }
+        drain(memoryContainerId);
+    }
+
+    /**
+     * @return the number of batches waiting for extraction in all memory containers
+     */
+    public synchronized long getQueueDepth() {
+        return queues.values().stream().mapToLong(queue -> queue.pending.size()).sum();
+    }
+
+    /**
+     * @return the number of batches being extracted in all memory containers
+     */
+    public synchronized long getInFlightCount() {
+        return queues.values().stream().mapToLong(queue -> queue.inFlight).sum();
+    }
+
+    /**
+     * @return how long the oldest waiting batch of all memory containers has been in the queue, 0 if none is waiting
+     */
+    public synchronized long getLagMillis() {
+        long now = clock.getAsLong();
+        return queues
+            .values()
+            .stream()
+            .map(queue -> queue.pending.peekFirst())
+            .filter(Objects::nonNull)
+            .mapToLong(oldest -> now - oldest.enqueuedTime)
+            .max()
+            .orElse(0L);
+    }
+
+    static String sessionKey(MLAddMemoriesInput input, MLMemoryContainer container, User user) {
+        Map<String, String> namespace = input.getNamespace() == null ? Map.of() : new TreeMap<>(input.getNamespace());
+        String tenantId = container == null ? null : container.getTenantId();
+        String userName = user == null ? null : user.getName();
+        return tenantId + "|" + userName + "|" + input.getOwnerId() + "|" + namespace;
+    }
+}
@@ -154,7 +154,9 @@ public class MemoryOperationsService {
             }
         }
 
-        BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        // Wait for the next scheduled refresh instead of forcing one, so that concurrent writes share a refresh while the
+        // memories are still searchable by the next fact search once this returns.
+        BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
 
         for (IndexRequest request : addRequests) {
             bulkRequest.add(request);
@@ -194,7 +196,8 @@ public class MemoryOperationsService {
                 return;
             }
 
-            BulkRequest bulkHistoryRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+            // History is not read back when adding memories, so it's left to the periodic refresh.
+            BulkRequest bulkHistoryRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.NONE);
             for (MemoryResult memoryResult : results) {
                 bulkHistoryRequest
                     .add(
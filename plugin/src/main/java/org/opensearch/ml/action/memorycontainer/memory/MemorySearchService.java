@@ -10,6 +10,7 @@ import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.core.action.ActionListener;
@@ -47,73 +48,87 @@ public class MemorySearchService {
             return;
         }
 
-        List<FactSearchResult> allResults = new ArrayList<>();
         int maxInferSize = memoryConfig != null && memoryConfig.getMaxInferSize() != null ? memoryConfig.getMaxInferSize() : 5;
 
         // Limit the number of facts to process based on maxInferSize
         List<String> factsToProcess = facts.size() > maxInferSize ? facts.subList(0, maxInferSize) : facts;// TODO: check this part
 
-        searchFactsSequentially(strategy, input, factsToProcess, 0, memoryConfig, maxInferSize, allResults, listener);
+        searchFactsConcurrently(strategy, input, factsToProcess, memoryConfig, maxInferSize, listener);
     }
 
-    private void searchFactsSequentially(
+    /**
+     * Searches the similar memories of all facts at once. The number of concurrent searches is bounded by maxInferSize,
+     * and the results are returned in the order of the facts regardless of which search completes first.
+     */
+    private void searchFactsConcurrently(
         MemoryStrategy strategy,
         MLAddMemoriesInput input,
         List<String> facts,
-        int currentIndex,
         MemoryConfiguration memoryConfig,
         int maxInferSize,
-        List<FactSearchResult> allResults,
         ActionListener<List<FactSearchResult>> listener
     ) {
-        if (currentIndex >= facts.size()) {
-            listener.onResponse(allResults);
-            return;
+        List<List<FactSearchResult>> resultsPerFact = new ArrayList<>(facts.size());
+        for (int i = 0; i < facts.size(); i++) {
+            resultsPerFact.add(new ArrayList<>());
         }
-
-        String fact = facts.get(currentIndex);
-
-        try {
-            QueryBuilder queryBuilder = MemorySearchQueryBuilder
-                .buildFactSearchQuery(strategy, fact, input.getNamespace(), input.getOwnerId(), memoryConfig, input.getMemoryContainerId());
-
-            log.debug("Searching for similar facts with query: {}", queryBuilder.toString());
-
-            SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
-            searchSourceBuilder.query(queryBuilder);
-            searchSourceBuilder.size(maxInferSize);
-            searchSourceBuilder.fetchSource(new String[] { MEMORY_FIELD }, null);
-
-            String indexName = memoryConfig.getLongMemoryIndexName();
-            String tenantId = memoryConfig.getTenantId();
-
-            SearchDataObjectRequest searchRequest = SearchDataObjectRequest
-                .builder()
-                .indices(indexName)
-                .searchSourceBuilder(searchSourceBuilder)
-                .tenantId(tenantId)
-                .build();
-
-            ActionListener<SearchResponse> searchResponseActionListener = ActionListener.wrap(response -> {
-                for (SearchHit hit : response.getHits().getHits()) {
-                    Map<String, Object> sourceMap = hit.getSourceAsMap();
-                    String memory = (String) sourceMap.get(MEMORY_FIELD);
-                    if (memory != null) {
-                        allResults.add(new FactSearchResult(hit.getId(), memory, hit.getScore()));
+        AtomicInteger pendingSearches = new AtomicInteger(facts.size());
+        Runnable onSearchDone = () -> {
+            if (pendingSearches.decrementAndGet() == 0) {
+                List<FactSearchResult> allResults = new ArrayList<>();
+                // each search writes only its own slot, and the counter orders the writes before this read
+                resultsPerFact.forEach(allResults::addAll);
+                listener.onResponse(allResults);
+            }
+        };
+
+        for (int i = 0; i < facts.size(); i++) {
+            String fact = facts.get(i);
+            List<FactSearchResult> factResults = resultsPerFact.get(i);
+            try {
+                QueryBuilder queryBuilder = MemorySearchQueryBuilder
+                    .buildFactSearchQuery(
+                        strategy,
+                        fact,
+                        input.getNamespace(),
+                        input.getOwnerId(),
+                        memoryConfig,
+                        input.getMemoryContainerId()
+                    );
+
+                log.debug("Searching for similar facts with query: {}", queryBuilder.toString());
+
+                SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+                searchSourceBuilder.query(queryBuilder);
+                searchSourceBuilder.size(maxInferSize);
+                searchSourceBuilder.fetchSource(new String[] { MEMORY_FIELD }, null);
+
+                String indexName = memoryConfig.getLongMemoryIndexName();
+                String tenantId = memoryConfig.getTenantId();
+
+                SearchDataObjectRequest searchRequest = SearchDataObjectRequest
+                    .builder()
+                    .indices(indexName)
+                    .searchSourceBuilder(searchSourceBuilder)
+                    .tenantId(tenantId)
+                    .build();
+
+                ActionListener<SearchResponse> searchResponseActionListener = ActionListener.wrap(response -> {
+                    for (SearchHit hit : response.getHits().getHits()) {
+                        Map<String, Object> sourceMap = hit.getSourceAsMap();
+                        String memory = (String) sourceMap.get(MEMORY_FIELD);
+                        if (memory != null) {
+                            factResults.add(new FactSearchResult(hit.getId(), memory, hit.getScore()));
+                        }
                     }
-                }
-
-                log.debug("Found {} similar facts for: {}", response.getHits().getHits().length, fact);
-
-                searchFactsSequentially(strategy, input, facts, currentIndex + 1, memoryConfig, maxInferSize, allResults, listener);
-            }, e -> {
-                log.error("Failed to search for similar facts for: {}", fact, e);
-                searchFactsSequentially(strategy, input, facts, currentIndex + 1, memoryConfig, maxInferSize, allResults, listener);
-            });
-            memoryContainerHelper.searchData(memoryConfig, searchRequest, searchResponseActionListener);
-        } catch (Exception e) {
-            log.error("Failed to build search query for fact: {}", fact, e);
-            searchFactsSequentially(strategy, input, facts, currentIndex + 1, memoryConfig, maxInferSize, allResults, listener);
+                    log.debug("Found {} similar facts for: {}", response.getHits().getHits().length, fact);
+                }, e -> log.error("Failed to search for similar facts for: {}", fact, e));
+                memoryContainerHelper
+                    .searchData(memoryConfig, searchRequest, ActionListener.runAfter(searchResponseActionListener, onSearchDone));
+            } catch (Exception e) {
+                log.error("Failed to build search query for fact: {}", fact, e);
+                onSearchDone.run();
+            }
         }
     }
 }
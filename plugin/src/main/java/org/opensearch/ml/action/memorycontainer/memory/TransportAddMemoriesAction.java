@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.memorycontainer.memory;
 
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.CREATED_TIME_FIELD;
+import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.EXTRACTION_QUEUE_FULL_ERROR;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.INFER_REQUIRES_LLM_MODEL_ERROR;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.LAST_UPDATED_TIME_FIELD;
 import static org.opensearch.ml.common.memorycontainer.MemoryContainerConstants.MEMORY_CONTAINER_ID_FIELD;
@@ -22,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.OpenSearchException;
@@ -52,6 +54,9 @@ import org.opensearch.ml.common.transport.memorycontainer.memory.MemoryEvent;
 import org.opensearch.ml.common.transport.memorycontainer.memory.MemoryResult;
 import org.opensearch.ml.common.transport.memorycontainer.memory.MessageInput;
 import org.opensearch.ml.helper.MemoryContainerHelper;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.tasks.Task;
@@ -76,6 +81,7 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
     final MemorySearchService memorySearchService;
     final MemoryOperationsService memoryOperationsService;
     final ThreadPool threadPool;
+    final MemoryExtractionQueue memoryExtractionQueue;
 
     @Inject
     public TransportAddMemoriesAction(
@@ -86,7 +92,8 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
         NamedXContentRegistry xContentRegistry,
         MLFeatureEnabledSetting mlFeatureEnabledSetting,
         MemoryContainerHelper memoryContainerHelper,
-        ThreadPool threadPool
+        ThreadPool threadPool,
+        MLStats mlStats
     ) {
         super(MLAddMemoriesAction.NAME, transportService, actionFilters, MLAddMemoriesRequest::new);
         this.client = client;
@@ -98,6 +105,27 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
         this.memorySearchService = new MemorySearchService(memoryContainerHelper);
         this.memoryOperationsService = new MemoryOperationsService(memoryContainerHelper);
         this.threadPool = threadPool;
+        this.memoryExtractionQueue = new MemoryExtractionQueue(
+            command -> threadPool.executor(AGENTIC_MEMORY_THREAD_POOL).execute(command),
+            threadPool,
+            threadPool.getThreadContext(),
+            this::extractQueuedMemories
+        );
+        mlStats
+            .createStatIfAbsent(
+                MLNodeLevelStat.ML_MEMORY_EXTRACTION_QUEUE_DEPTH,
+                () -> new MLStat<>(false, memoryExtractionQueue::getQueueDepth)
+            );
+        mlStats
+            .createStatIfAbsent(
+                MLNodeLevelStat.ML_MEMORY_EXTRACTION_IN_FLIGHT_COUNT,
+                () -> new MLStat<>(false, memoryExtractionQueue::getInFlightCount)
+            );
+        mlStats
+            .createStatIfAbsent(
+                MLNodeLevelStat.ML_MEMORY_EXTRACTION_LAG_IN_MS,
+                () -> new MLStat<>(false, memoryExtractionQueue::getLagMillis)
+            );
     }
 
     @Override
@@ -205,6 +233,11 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
                 return;
             }
 
+            if (infer && !memoryExtractionQueue.hasCapacity(input.getMemoryContainerId())) {
+                actionListener.onFailure(new OpenSearchStatusException(EXTRACTION_QUEUE_FULL_ERROR, RestStatus.TOO_MANY_REQUESTS));
+                return;
+            }
+
             String workingMemoryIndex = container.getConfiguration().getWorkingMemoryIndexName();
             IndexRequest indexRequest = createWorkingMemoryRequest(workingMemoryIndex, input);
 
@@ -219,16 +252,15 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
                     .build();
                 actionListener.onResponse(response);
 
-                if (infer) {
-                    threadPool.executor(AGENTIC_MEMORY_THREAD_POOL).execute(() -> {
-                        try {
-                            extractLongTermMemory(input, container, user, ActionListener.wrap(res -> { log.info(res.toString()); }, e -> {
-                                log.error("Failed to extract longTermMemory id from memory container", e);
-                            }));
-                        } catch (Exception e) {
-                            memoryOperationsService.writeErrorToMemoryHistory(memoryConfig, null, input, e);
-                        }
-                    });
+                // Long-term memory is extracted behind the working memory write, coalesced per session
+                if (infer && !memoryExtractionQueue.offer(input, container, user)) {
+                    memoryOperationsService
+                        .writeErrorToMemoryHistory(
+                            memoryConfig,
+                            null,
+                            input,
+                            new OpenSearchStatusException(EXTRACTION_QUEUE_FULL_ERROR, RestStatus.TOO_MANY_REQUESTS)
+                        );
                 }
             }, actionListener::onFailure);
             memoryContainerHelper.indexData(memoryConfig, indexRequest, responseActionListener);
@@ -238,6 +270,25 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
         }
     }
 
+    private void extractQueuedMemories(MemoryExtractionQueue.Batch batch, Runnable onComplete) {
+        MLAddMemoriesInput input = batch.getInput();
+        try {
+            extractLongTermMemory(
+                input,
+                batch.getMessages(),
+                batch.getContainer(),
+                batch.getUser(),
+                ActionListener.wrap(res -> { log.info(res.toString()); }, e -> {
+                    log.error("Failed to extract longTermMemory id from memory container", e);
+                }),
+                onComplete
+            );
+        } catch (Exception e) {
+            memoryOperationsService.writeErrorToMemoryHistory(batch.getContainer().getConfiguration(), null, input, e);
+            onComplete.run();
+        }
+    }
+
     private IndexRequest createWorkingMemoryRequest(String workingMemoryIndex, MLAddMemoriesInput mlAddMemoriesInput) {
         IndexRequest indexRequest = new IndexRequest(workingMemoryIndex);
 
@@ -256,32 +307,48 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
 
     private void extractLongTermMemory(
         MLAddMemoriesInput input,
+        List<MessageInput> messages,
         MLMemoryContainer container,
         User user,
-        ActionListener<MLAddMemoriesResponse> actionListener
+        ActionListener<MLAddMemoriesResponse> actionListener,
+        Runnable onComplete
     ) {
-        List<MessageInput> messages = input.getMessages();
         log.debug("Processing {} messages for fact extraction", messages.size());
 
         List<MemoryStrategy> strategies = container.getConfiguration().getStrategies();
         MemoryConfiguration memoryConfig = container.getConfiguration();
 
+        List<MemoryStrategy> strategiesToRun = new ArrayList<>();
         for (MemoryStrategy strategy : strategies) {
             if (strategy.isEnabled()) {
-                Map<String, String> strategyNameSpace = getStrategyNameSpace(strategy, input.getNamespace());
-                if (strategyNameSpace.size() != strategy.getNamespace().size()) {
+                if (getStrategyNameSpace(strategy, input.getNamespace()).size() != strategy.getNamespace().size()) {
                     log.info("Skipping strategy {} due to missing namespace", strategy.getId());
                 } else {
-                    memoryProcessingService.runMemoryStrategy(strategy, messages, memoryConfig, ActionListener.wrap(facts -> {
-                        storeLongTermMemory(strategy, strategyNameSpace, input, messages, user, facts, memoryConfig, actionListener);
-                    }, e -> {
-                        log.error("Failed to extract facts with LLM", e);
-                        memoryOperationsService.writeErrorToMemoryHistory(memoryConfig, strategyNameSpace, input, e);
-                        actionListener.onFailure(new OpenSearchException("Failed to extract facts: " + e.getMessage(), e));
-                    }));
+                    strategiesToRun.add(strategy);
                 }
             }
         }
+        if (strategiesToRun.isEmpty()) {
+            onComplete.run();
+            return;
+        }
+
+        AtomicInteger remaining = new AtomicInteger(strategiesToRun.size());
+        for (MemoryStrategy strategy : strategiesToRun) {
+            Map<String, String> strategyNameSpace = getStrategyNameSpace(strategy, input.getNamespace());
+            ActionListener<MLAddMemoriesResponse> strategyListener = ActionListener.runAfter(actionListener, () -> {
+                if (remaining.decrementAndGet() == 0) {
+                    onComplete.run();
+                }
+            });
+            memoryProcessingService.runMemoryStrategy(strategy, messages, memoryConfig, ActionListener.wrap(facts -> {
+                storeLongTermMemory(strategy, strategyNameSpace, input, messages, user, facts, memoryConfig, strategyListener);
+            }, e -> {
+                log.error("Failed to extract facts with LLM", e);
+                memoryOperationsService.writeErrorToMemoryHistory(memoryConfig, strategyNameSpace, input, e);
+                strategyListener.onFailure(new OpenSearchException("Failed to extract facts: " + e.getMessage(), e));
+            }));
+        }
     }
 
     private Map<String, String> getStrategyNameSpace(MemoryStrategy strategy, Map<String, String> namespace) {
@@ -372,6 +439,7 @@ public class TransportAddMemoriesAction extends HandledTransportAction<MLAddMemo
                     memoryInfos,
                     input.getMemoryContainerId()
                 );
+            actionListener.onResponse(MLAddMemoriesResponse.builder().results(new ArrayList<>()).build());
         }
     }
 
@@ -38,6 +38,7 @@ import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLPredictTaskRunner;
 import org.opensearch.ml.task.MLTaskRunner;
+import org.opensearch.ml.utils.CompiledJsonSchema;
 import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.ml.utils.TenantAwareHelper;
@@ -46,6 +47,8 @@ import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.log4j.Log4j2;
@@ -295,7 +298,21 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
             return;
         }
 
-        if (modelCacheHelper.getModelInterface(modelId) != null && modelCacheHelper.getModelInterface(modelId).get("input") != null) {
+        CompiledJsonSchema inputSchema = modelCacheHelper.getInputSchema(modelId);
+        if (inputSchema != null) {
+            try {
+                JsonNode inputNode = MLNodeUtils.toJsonNode(mlInput);
+                // Process the parameters field in the input dataset to convert it back to its original datatype, instead of a string
+                inputSchema.processRemoteInferenceInputDataSetParametersValue(inputNode);
+                inputSchema.validate(inputNode);
+            } catch (Exception e) {
+                throw new OpenSearchStatusException(
+                    "Error validating input schema, if you think this is expected, please update your 'input' field in the 'interface' field for this model: "
+                        + e.getMessage(),
+                    RestStatus.BAD_REQUEST
+                );
+            }
+        } else if (modelCacheHelper.getModelInterface(modelId) != null && modelCacheHelper.getModelInterface(modelId).get("input") != null) {
             String inputSchemaString = modelCacheHelper.getModelInterface(modelId).get("input");
             try {
                 String InputString = mlInput.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
@@ -21,8 +21,12 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.env.Environment;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModelResponseCache;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.ActionName;
+import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLActionStats;
 import org.opensearch.ml.stats.MLAlgoStats;
 import org.opensearch.ml.stats.MLModelStats;
@@ -43,6 +47,20 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class MLStatsNodesTransportAction extends
     TransportNodesAction<MLStatsNodesRequest, MLStatsNodesResponse, MLStatsNodeRequest, MLStatsNodeResponse> {
+    private static final Map<String, MLActionLevelStat> RESPONSE_CACHE_STATS = Map
+        .of(
+            RemoteModelResponseCache.HIT_COUNT_STAT,
+            MLActionLevelStat.ML_ACTION_RESPONSE_CACHE_HIT_COUNT,
+            RemoteModelResponseCache.SEMANTIC_HIT_COUNT_STAT,
+            MLActionLevelStat.ML_ACTION_RESPONSE_CACHE_SEMANTIC_HIT_COUNT,
+            RemoteModelResponseCache.MISS_COUNT_STAT,
+            MLActionLevelStat.ML_ACTION_RESPONSE_CACHE_MISS_COUNT,
+            RemoteModelResponseCache.EVICTION_COUNT_STAT,
+            MLActionLevelStat.ML_ACTION_RESPONSE_CACHE_EVICTION_COUNT,
+            RemoteModelResponseCache.SIZE_STAT,
+            MLActionLevelStat.ML_ACTION_RESPONSE_CACHE_SIZE
+        );
+
     private MLStats mlStats;
     private final JvmService jvmService;
 
@@ -170,6 +188,7 @@ public class MLStatsNodesTransportAction extends
                         mlStats.getModelStats(modelId),
                         request.getMlStatsInput()
                     );
+                    addResponseCacheStats(modelId, actionStats, request.getMlStatsInput());
                     boolean isHidden = hiddenModels.contains(modelId);
                     stats.put(modelId, new MLModelStats(actionStats, isHidden));
                 }
@@ -178,6 +197,31 @@ public class MLStatsNodesTransportAction extends
         return stats;
     }
 
+    /**
+     * Adds the response cache counters of a remote model deployed on this node to its predict stats.
+     */
+    private void addResponseCacheStats(String modelId, Map<ActionName, MLActionStats> actionStats, MLStatsInput input) {
+        if (!input.retrieveStatsForAction(ActionName.PREDICT)) {
+            return;
+        }
+        Predictable predictor = mlModelManager.getPredictor(modelId);
+        Map<String, Long> cacheStats = predictor instanceof RemoteModel ? ((RemoteModel) predictor).getResponseCacheStats() : null;
+        if (cacheStats == null) {
+            return;
+        }
+        Map<MLActionLevelStat, Object> predictStats = new HashMap<>();
+        MLActionStats existingStats = actionStats.get(ActionName.PREDICT);
+        if (existingStats != null) {
+            predictStats.putAll(existingStats.getActionStats());
+        }
+        RESPONSE_CACHE_STATS.forEach((name, stat) -> {
+            if (cacheStats.containsKey(name) && input.retrieveStat(stat)) {
+                predictStats.put(stat, cacheStats.get(name));
+            }
+        });
+        actionStats.put(ActionName.PREDICT, new MLActionStats(predictStats));
+    }
+
     @VisibleForTesting
     boolean isSuperAdminUserWrapper(ClusterService clusterService, Client client) {
         return RestActionUtils.isSuperAdminUser(clusterService, client);
@@ -163,21 +163,43 @@ public class TransportSyncUpOnNodeAction extends
         String[] runningDeployModelTaskIds = null;
         String[] runningDeployModelIds = null;
         String[] expiredModelIds = null;
+        Map<String, Long> rateLimiterDemand = null;
         if (syncUpInput.isGetDeployedModels()) {
             deployedModelIds = mlModelManager.getLocalDeployedModels();
             List<String[]> localRunningDeployModel = mlTaskManager.getLocalRunningDeployModelTasks();
             runningDeployModelTaskIds = localRunningDeployModel.get(0);
             runningDeployModelIds = localRunningDeployModel.get(1);
             expiredModelIds = mlModelManager.getExpiredModels();
+            rateLimiterDemand = mlModelCacheHelper.drainRateLimiterDemand();
+        }
+        Map<String, Long> clusterRateLimiterDemand = syncUpInput.getClusterRateLimiterDemand();
+        if (clusterRateLimiterDemand != null && clusterRateLimiterDemand.size() > 0) {
+            mlModelCacheHelper.rebalanceRateLimiters(clusterRateLimiterDemand);
         }
 
         if (syncUpInput.isClearRoutingTable()) {
-            mlModelManager.clearRoutingTable();
+            mlModelManager.clearRoutingTable(syncUpInput.getRoutingVersion());
+        } else if (syncUpInput.isDeltaRoutingSync()) {
+            log
+                .debug(
+                    "routing delta {} -> {}, changed models: {}, removed models: {}",
+                    syncUpInput.getBaseRoutingVersion(),
+                    syncUpInput.getRoutingVersion(),
+                    modelRoutingTable,
+                    syncUpInput.getRemovedModelRoutings()
+                );
+            mlModelManager
+                .syncModelWorkerNodesDelta(
+                    modelRoutingTable,
+                    syncUpInput.getRemovedModelRoutings(),
+                    syncUpInput.getBaseRoutingVersion(),
+                    syncUpInput.getRoutingVersion()
+                );
         } else if (modelRoutingTable != null) {
             for (Map.Entry<String, Set<String>> entry : modelRoutingTable.entrySet()) {
                 log.debug("latest routing table for model: {}:  {}", entry.getKey(), entry.getValue().toArray(new String[0]));
             }
-            mlModelManager.syncModelWorkerNodes(modelRoutingTable);
+            mlModelManager.syncModelWorkerNodes(modelRoutingTable, syncUpInput.getRoutingVersion());
         }
 
         cleanUpLocalCache(runningDeployModelTasks);
@@ -189,7 +211,9 @@ public class TransportSyncUpOnNodeAction extends
             deployedModelIds,
             runningDeployModelIds,
             runningDeployModelTaskIds,
-            expiredModelIds
+            expiredModelIds,
+            mlModelManager.getRoutingVersion(),
+            rateLimiterDemand
         );
     }
 
@@ -7,6 +7,7 @@ package org.opensearch.ml.action.tasks;
 
 import static org.opensearch.common.xcontent.json.JsonXContent.jsonXContent;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.action.batch.TransportBatchIngestionAction.SOURCE;
 import static org.opensearch.ml.common.CommonValue.ML_CONNECTOR_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
 import static org.opensearch.ml.common.MLTask.REMOTE_JOB_FIELD;
@@ -27,9 +28,11 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REM
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_JOB_STATUS_EXPIRED_REGEX;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_JOB_STATUS_FAILED_REGEX;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_REMOTE_JOB_STATUS_FIELD;
+import static org.opensearch.ml.common.transport.batch.MLBatchIngestionInput.CONNECTOR_CREDENTIAL_FIELD;
 import static org.opensearch.ml.utils.MLExceptionUtils.BATCH_INFERENCE_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
@@ -44,25 +47,31 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.ActionRequest;
+import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
@@ -74,9 +83,13 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.batch.MLBatchIngestionAction;
+import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
+import org.opensearch.ml.common.transport.batch.MLBatchIngestionRequest;
 import org.opensearch.ml.common.transport.task.MLTaskGetAction;
 import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
 import org.opensearch.ml.common.transport.task.MLTaskGetResponse;
+import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.algorithms.remote.ConnectorUtils;
@@ -124,6 +137,15 @@ public class GetTaskTransportAction extends HandledTransportAction<ActionRequest
     MLTaskManager mlTaskManager;
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
+    static final String INGEST_FIELD = "ingest";
+    static final String INGEST_TASK_ID_FIELD = "ingest_task_id";
+    static final String INGEST_ERROR_FIELD = "ingest_error";
+    // set with a conditional update before the ingestion starts, so that a single status poll starts it
+    static final String INGEST_START_TIME_FIELD = "ingest_start_time";
+    private static final int INGEST_CLAIM_ATTEMPTS = 3;
+    // OpenAI batch jobs return the id of their output file once completed
+    static final String OUTPUT_FILE_ID_FIELD = "output_file_id";
+
     volatile List<String> remoteJobStatusFields;
     volatile Pattern remoteJobCompletedStatusRegexPattern;
     volatile Pattern remoteJobCancelledStatusRegexPattern;
@@ -301,9 +323,19 @@ public class GetTaskTransportAction extends HandledTransportAction<ActionRequest
         String tenantId,
         ActionListener<MLTaskGetResponse> actionListener
     ) {
-        try (
-            XContentParser parser = jsonXContent.createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, gr.getSourceAsString())
-        ) {
+        String source = gr.getSourceAsString();
+        // read through the state updates of a task run on this node and not written to the ML task index yet
+        Map<String, Object> pendingTaskUpdate = mlTaskManager.getPendingTaskUpdate(taskId);
+        if (pendingTaskUpdate != null) {
+            try {
+                Map<String, Object> updatedSource = new HashMap<>(gr.getSourceAsMap());
+                updatedSource.putAll(pendingTaskUpdate);
+                source = BytesReference.bytes(jsonXContent.contentBuilder().map(updatedSource)).utf8ToString();
+            } catch (Exception e) {
+                log.warn("Failed to apply pending updates of ML task {}", taskId, e);
+            }
+        }
+        try (XContentParser parser = jsonXContent.createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, source)) {
 
             ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
             MLTask mlTask = MLTask.parse(parser);
@@ -525,6 +557,7 @@ public class GetTaskTransportAction extends HandledTransportAction<ActionRequest
                 if (modelOutput.getMlModelTensors() != null && !modelOutput.getMlModelTensors().isEmpty()) {
                     Map<String, Object> remoteJobStatus = (Map<String, Object>) modelOutput.getMlModelTensors().get(0).getDataAsMap();
                     if (remoteJobStatus != null) {
+                        MLTaskState previousState = mlTask.getState();
                         remoteJob.putAll(remoteJobStatus);
                         Map<String, Object> updatedTask = new HashMap<>();
                         updatedTask.put(REMOTE_JOB_FIELD, remoteJob);
@@ -537,15 +570,34 @@ public class GetTaskTransportAction extends HandledTransportAction<ActionRequest
                             }
                         }
 
-                        mlTaskManager.updateMLTaskDirectly(taskId, updatedTask, ActionListener.wrap(response -> {
-                            if (mlTask.getState().equals(FAILED) && !isUserInitiatedGetTaskRequest) {
-                                updateDLQ(mlTask, decryptedCredential);
-                            }
-                            actionListener.onResponse(MLTaskGetResponse.builder().mlTask(mlTask).build());
-                        }, e -> {
-                            logException("Failed to update task for batch predict model", e, log);
-                            actionListener.onFailure(e);
-                        }));
+                        Runnable updateTask = () -> mlTaskManager
+                            .updateMLTaskDirectly(taskId, updatedTask, ActionListener.wrap(response -> {
+                                if (mlTask.getState().equals(FAILED) && !isUserInitiatedGetTaskRequest) {
+                                    updateDLQ(mlTask, decryptedCredential);
+                                }
+                                actionListener.onResponse(MLTaskGetResponse.builder().mlTask(mlTask).build());
+                            }, e -> {
+                                logException("Failed to update task for batch predict model", e, log);
+                                actionListener.onFailure(e);
+                            }));
+                        if (previousState != COMPLETED
+                            && mlTask.getState() == COMPLETED
+                            && remoteJob.get(INGEST_FIELD) instanceof Map
+                            && !remoteJob.containsKey(INGEST_START_TIME_FIELD)) {
+                            claimIngestion(taskId, remoteJob, INGEST_CLAIM_ATTEMPTS, ActionListener.wrap(claimed -> {
+                                if (claimed) {
+                                    ingestOutput(mlTask, decryptedCredential, updateTask);
+                                } else {
+                                    updateTask.run();
+                                }
+                            }, e -> {
+                                log.error("Failed to start the output ingestion of batch task {}", taskId, e);
+                                remoteJob.put(INGEST_ERROR_FIELD, ExceptionsHelper.unwrapCause(e).getMessage());
+                                updateTask.run();
+                            }));
+                        } else {
+                            updateTask.run();
+                        }
                     } else {
                         log.debug("Transform job status is null.");
                         actionListener.onFailure(new ResourceNotFoundException("Couldn't fetch status of the transform job"));
@@ -563,6 +615,123 @@ public class GetTaskTransportAction extends HandledTransportAction<ActionRequest
         }
     }
 
+    /**
+     * Marks the output ingestion of a batch task as started with an update conditioned on the seq_no and primary term of
+     * the task document, so that concurrent status polls of the same completed job start a single ingestion. Responds
+     * false when the ingestion was already claimed, and retries the claim when another update of the task won the race.
+     */
+    private void claimIngestion(String taskId, Map<String, Object> remoteJob, int attempts, ActionListener<Boolean> listener) {
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<Boolean> restoringListener = ActionListener.runBefore(listener, context::restore);
+            client.get(new GetRequest(ML_TASK_INDEX, taskId), ActionListener.wrap(getResponse -> {
+                Object storedRemoteJob = getResponse.isExists() ? getResponse.getSourceAsMap().get(REMOTE_JOB_FIELD) : null;
+                if (!(storedRemoteJob instanceof Map) || ((Map<String, Object>) storedRemoteJob).containsKey(INGEST_START_TIME_FIELD)) {
+                    restoringListener.onResponse(false);
+                    return;
+                }
+                long startTime = Instant.now().toEpochMilli();
+                UpdateRequest updateRequest = new UpdateRequest(ML_TASK_INDEX, taskId)
+                    .doc(Map.of(REMOTE_JOB_FIELD, Map.of(INGEST_START_TIME_FIELD, startTime)))
+                    .setIfSeqNo(getResponse.getSeqNo())
+                    .setIfPrimaryTerm(getResponse.getPrimaryTerm());
+                client.update(updateRequest, ActionListener.wrap(r -> {
+                    remoteJob.put(INGEST_START_TIME_FIELD, startTime);
+                    restoringListener.onResponse(true);
+                }, e -> {
+                    if (ExceptionsHelper.unwrap(e, VersionConflictEngineException.class) != null && attempts > 1) {
+                        claimIngestion(taskId, remoteJob, attempts - 1, restoringListener);
+                    } else {
+                        restoringListener.onFailure(e);
+                    }
+                }));
+            }, restoringListener::onFailure));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Starts a batch ingestion of the output of a completed batch job into the index of the ingest config given in the
+     * batch predict request, and records the ingestion task id, or the error, in the remote job of the batch task.
+     * The status poll that gets here may run without a user, or as another user, so the ingestion runs with the roles
+     * of the task owner, whose ingest config was validated when the batch job was created.
+     */
+    private void ingestOutput(MLTask mlTask, Map<String, String> decryptedCredential, Runnable onComplete) {
+        Map<String, Object> remoteJob = mlTask.getRemoteJob();
+        ThreadContext threadContext = client.threadPool().getThreadContext();
+        try (ThreadContext.StoredContext context = threadContext.stashContext()) {
+            MLBatchIngestionInput ingestionInput = buildOutputIngestionInput(
+                (Map<String, Object>) remoteJob.get(INGEST_FIELD),
+                remoteJob,
+                decryptedCredential
+            );
+            User owner = mlTask.getUser();
+            if (owner != null) {
+                threadContext
+                    .putTransient(
+                        ConfigConstants.OPENSEARCH_SECURITY_INJECTED_ROLES,
+                        owner.getName() + "|" + String.join(",", owner.getRoles())
+                    );
+            }
+            client
+                .execute(
+                    MLBatchIngestionAction.INSTANCE,
+                    new MLBatchIngestionRequest(ingestionInput),
+                    ActionListener.runBefore(ActionListener.runAfter(ActionListener.wrap(response -> {
+                        log.debug("Started batch ingestion {} of the output of batch task {}", response.getTaskId(), mlTask.getTaskId());
+                        remoteJob.put(INGEST_TASK_ID_FIELD, response.getTaskId());
+                    }, e -> {
+                        log.error("Failed to ingest the output of batch task {}", mlTask.getTaskId(), e);
+                        remoteJob.put(INGEST_ERROR_FIELD, ExceptionsHelper.unwrapCause(e).getMessage());
+                    }), onComplete), context::restore)
+                );
+        } catch (Exception e) {
+            log.error("Invalid ingest config of batch task {}", mlTask.getTaskId(), e);
+            remoteJob.put(INGEST_ERROR_FIELD, e.getMessage());
+            onComplete.run();
+        }
+    }
+
+    /**
+     * Builds the batch ingestion input from the ingest config, whose object values were flattened to JSON strings when
+     * the batch predict request was parsed. The output file of the batch job is used as the source when none is
+     * given, and the credential of the batch predict connector when no connector is given. A credential in the ingest
+     * config is never used, as the config is kept in the task document in plain text.
+     */
+    @VisibleForTesting
+    MLBatchIngestionInput buildOutputIngestionInput(
+        Map<String, Object> ingestConfig,
+        Map<String, Object> remoteJob,
+        Map<String, String> decryptedCredential
+    ) throws IOException {
+        StringBuilder json = new StringBuilder("{");
+        for (Map.Entry<String, Object> entry : ingestConfig.entrySet()) {
+            if (CONNECTOR_CREDENTIAL_FIELD.equals(entry.getKey())) {
+                continue;
+            }
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            String value = String.valueOf(entry.getValue());
+            json.append(StringUtils.gson.toJson(entry.getKey())).append(':');
+            json.append(StringUtils.isJson(value) ? value : StringUtils.gson.toJson(value));
+        }
+        json.append('}');
+        MLBatchIngestionInput ingestionInput;
+        try (XContentParser parser = jsonXContent.createParser(xContentRegistry, LoggingDeprecationHandler.INSTANCE, json.toString())) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            ingestionInput = MLBatchIngestionInput.parse(parser);
+        }
+        Map<String, Object> dataSources = ingestionInput.getDataSources();
+        if (!dataSources.containsKey(SOURCE) && remoteJob.get(OUTPUT_FILE_ID_FIELD) instanceof String) {
+            dataSources.put(SOURCE, List.of(remoteJob.get(OUTPUT_FILE_ID_FIELD)));
+        }
+        if (ingestionInput.getConnectorId() == null) {
+            ingestionInput.setCredential(decryptedCredential);
+        }
+        return ingestionInput;
+    }
+
     @VisibleForTesting
     protected void updateDLQ(MLTask mlTask, Map<String, String> decryptedCredential) {
         Map<String, Object> remoteJob = mlTask.getRemoteJob();
@@ -20,6 +20,7 @@ import org.opensearch.ml.autoredeploy.MLModelAutoReDeployer;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
+import org.opensearch.ml.stats.MLStats;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.threadpool.Scheduler;
 import org.opensearch.threadpool.ThreadPool;
@@ -44,6 +45,7 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
 
     private final MLModelAutoReDeployer mlModelAutoReDeployer;
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    private final MLStats mlStats;
 
     public MLCommonsClusterManagerEventListener(
         ClusterService clusterService,
@@ -55,7 +57,8 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
         MLIndicesHandler mlIndicesHandler,
         Encryptor encryptor,
         MLModelAutoReDeployer modelAutoReDeployer,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        MLStats mlStats
     ) {
         this.clusterService = clusterService;
         this.client = client;
@@ -67,6 +70,7 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
         this.encryptor = encryptor;
         this.mlModelAutoReDeployer = modelAutoReDeployer;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.mlStats = mlStats;
 
         this.jobInterval = ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS, it -> {
@@ -102,7 +106,16 @@ public class MLCommonsClusterManagerEventListener implements LocalNodeClusterMan
             log.info("Starting ML sync up job...");
             syncModelRoutingCron = threadPool
                 .scheduleWithFixedDelay(
-                    new MLSyncUpCron(client, sdkClient, clusterService, nodeHelper, mlIndicesHandler, encryptor, mlFeatureEnabledSetting),
+                    new MLSyncUpCron(
+                        client,
+                        sdkClient,
+                        clusterService,
+                        nodeHelper,
+                        mlIndicesHandler,
+                        encryptor,
+                        mlFeatureEnabledSetting,
+                        mlStats
+                    ),
                     TimeValue.timeValueSeconds(jobInterval),
                     GENERAL_THREAD_POOL
                 );
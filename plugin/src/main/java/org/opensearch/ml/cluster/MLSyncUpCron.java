@@ -11,6 +11,7 @@ import static org.opensearch.ml.common.CommonValue.ML_CONFIG_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.utils.RestActionUtils.getAllNodes;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -20,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.opensearch.OpenSearchStatusException;
@@ -30,6 +32,7 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.BoolQueryBuilder;
@@ -48,6 +51,10 @@ import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsAction;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsRequest;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.suppliers.SettableSupplier;
 import org.opensearch.remote.metadata.client.BulkDataObjectRequest;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.SearchDataObjectRequest;
@@ -66,6 +73,8 @@ import lombok.extern.log4j.Log4j2;
 public class MLSyncUpCron implements Runnable {
 
     public static final int DEPLOY_MODEL_TASK_GRACE_TIME_IN_MS = 20_000;
+    // push the full routing table at least once every this many sync up runs even if nodes report no change
+    public static final int FULL_ROUTING_SYNC_INTERVAL = 10;
     private Client client;
     private final SdkClient sdkClient;
     private ClusterService clusterService;
@@ -74,9 +83,16 @@ public class MLSyncUpCron implements Runnable {
     private Encryptor encryptor;
     private volatile Boolean mlConfigInited;
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
+    private final MLStats mlStats;
     @VisibleForTesting
     Semaphore updateModelStateSemaphore;
 
+    // routing table pushed by the last sync up, deltas are computed against it
+    private Map<String, Set<String>> lastModelRoutingTable;
+    @VisibleForTesting
+    long routingVersion;
+    private int syncsSinceFullRoutingSync;
+
     public MLSyncUpCron(
         Client client,
         SdkClient sdkClient,
@@ -84,7 +100,8 @@ public class MLSyncUpCron implements Runnable {
         DiscoveryNodeHelper nodeHelper,
         MLIndicesHandler mlIndicesHandler,
         Encryptor encryptor,
-        MLFeatureEnabledSetting mlFeatureEnabledSetting
+        MLFeatureEnabledSetting mlFeatureEnabledSetting,
+        MLStats mlStats
     ) {
         this.client = client;
         this.sdkClient = sdkClient;
@@ -95,6 +112,7 @@ public class MLSyncUpCron implements Runnable {
         this.mlConfigInited = false;
         this.encryptor = encryptor;
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
+        this.mlStats = mlStats;
     }
 
     @Override
@@ -106,6 +124,7 @@ public class MLSyncUpCron implements Runnable {
             return;
         }
         log.debug("ML sync job starts");
+        long startTime = System.nanoTime();
         DiscoveryNode[] allNodes = nodeHelper.getAllNodes();
         MLSyncUpInput gatherInfoInput = MLSyncUpInput.builder().getDeployedModels(true).build();
         MLSyncUpNodesRequest gatherInfoRequest = new MLSyncUpNodesRequest(allNodes, gatherInfoInput);
@@ -130,6 +149,8 @@ public class MLSyncUpCron implements Runnable {
             Map<String, Set<String>> deployingModels = new HashMap<>();
             // key is expired model_id, value is set of worker node ids
             Map<String, Set<String>> expiredModelToNodes = new HashMap<>();
+            // key is model id, or model id and user name, value is requested tokens summed over all nodes
+            Map<String, Long> clusterRateLimiterDemand = new HashMap<>();
             for (MLSyncUpNodeResponse response : responses) {
                 String nodeId = response.getNode().getId();
                 log.debug("Processing sync response from node: {}", nodeId);
@@ -162,6 +183,11 @@ public class MLSyncUpCron implements Runnable {
                         workerNodes.add(nodeId);
                     }
                 }
+
+                Map<String, Long> rateLimiterDemand = response.getRateLimiterDemand();
+                if (rateLimiterDemand != null) {
+                    rateLimiterDemand.forEach((key, demand) -> clusterRateLimiterDemand.merge(key, demand, Long::sum));
+                }
             }
 
             Set<String> modelsToUndeploy = new HashSet<>();
@@ -180,38 +206,138 @@ public class MLSyncUpCron implements Runnable {
             for (Map.Entry<String, Set<String>> entry : runningDeployModelTasks.entrySet()) {
                 log.debug("will sync running task: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
             }
-            MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
-                .builder()
-                .syncRunningDeployModelTasks(true)
-                .runningDeployModelTasks(runningDeployModelTasks);
-            if (modelWorkerNodes.isEmpty()) {
-                log.debug("No deployed model found. Will clear model routing on all nodes");
-                inputBuilder.clearRoutingTable(true);
-            } else {
-                inputBuilder.modelRoutingTable(modelWorkerNodes);
+            MLSyncUpInput syncUpInput = buildRoutingSyncInput(responses, modelWorkerNodes, runningDeployModelTasks);
+            if (syncUpInput == null && clusterRateLimiterDemand.isEmpty()) {
+                log.debug("Model routing is unchanged since version {}, skip syncing model routing", routingVersion);
+                recordSyncDuration(startTime);
+                onModelRoutingSynced(modelsToUndeploy, modelWorkerNodes, deployingModels);
+                return;
             }
-            MLSyncUpInput syncUpInput = inputBuilder.build();
+            if (syncUpInput == null) {
+                log.debug("Model routing is unchanged since version {}, only re-splitting rate limits", routingVersion);
+                syncUpInput = MLSyncUpInput.builder().build();
+            }
+            // nodes re-split adaptive rate limits by the demand they reported against the demand of the whole cluster
+            syncUpInput.setClusterRateLimiterDemand(clusterRateLimiterDemand);
             MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(allNodes, syncUpInput);
             // sync up running model/tasks on nodes
             client.execute(MLSyncUpAction.INSTANCE, syncUpRequest, ActionListener.wrap(re -> {
                 log.debug("sync model routing job finished");
-                if (!modelsToUndeploy.isEmpty()) {
-                    // Undeploy expired models
-                    undeployExpiredModels(modelsToUndeploy, modelWorkerNodes, deployingModels);
-                    return;
-                }
-                // refresh model status
-                mlIndicesHandler.initModelIndexIfAbsent(ActionListener.wrap(res -> {
-                    if (!res) {
-                        log.error("No response to create ML model index");
-                        return;
-                    }
-                    refreshModelState(modelWorkerNodes, deployingModels);
-                }, e -> { log.error("Failed to init model index", e); }));
+                recordSyncDuration(startTime);
+                onModelRoutingSynced(modelsToUndeploy, modelWorkerNodes, deployingModels);
             }, ex -> { log.error("Failed to sync model routing", ex); }));
         }, e -> { log.error("Failed to sync model routing", e); }));
     }
 
+    private void onModelRoutingSynced(
+        Set<String> modelsToUndeploy,
+        Map<String, Set<String>> modelWorkerNodes,
+        Map<String, Set<String>> deployingModels
+    ) {
+        if (!modelsToUndeploy.isEmpty()) {
+            // Undeploy expired models
+            undeployExpiredModels(modelsToUndeploy, modelWorkerNodes, deployingModels);
+            return;
+        }
+        // refresh model status
+        mlIndicesHandler.initModelIndexIfAbsent(ActionListener.wrap(res -> {
+            if (!res) {
+                log.error("No response to create ML model index");
+                return;
+            }
+            refreshModelState(modelWorkerNodes, deployingModels);
+        }, e -> { log.error("Failed to init model index", e); }));
+    }
+
+    /**
+     * Build the sync up input which pushes model routing to all nodes. The full routing table is pushed if this is the
+     * first sync, every {@link #FULL_ROUTING_SYNC_INTERVAL} syncs, or if any node reports a routing version different
+     * from the last pushed one. Otherwise only the models whose worker nodes changed are pushed.
+     *
+     * @return sync up input, or null if routing is unchanged and there is no running deploy model task to sync
+     */
+    @VisibleForTesting
+    synchronized MLSyncUpInput buildRoutingSyncInput(
+        List<MLSyncUpNodeResponse> responses,
+        Map<String, Set<String>> modelWorkerNodes,
+        Map<String, Set<String>> runningDeployModelTasks
+    ) {
+        MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
+            .builder()
+            .syncRunningDeployModelTasks(true)
+            .runningDeployModelTasks(runningDeployModelTasks);
+        boolean fullSync = lastModelRoutingTable == null
+            || syncsSinceFullRoutingSync >= FULL_ROUTING_SYNC_INTERVAL
+            || responses.stream().anyMatch(response -> response.getRoutingVersion() != routingVersion);
+        if (fullSync) {
+            routingVersion++;
+            syncsSinceFullRoutingSync = 0;
+            inputBuilder.routingVersion(routingVersion);
+            if (modelWorkerNodes.isEmpty()) {
+                log.debug("No deployed model found. Will clear model routing on all nodes");
+                inputBuilder.clearRoutingTable(true);
+            } else {
+                inputBuilder.modelRoutingTable(modelWorkerNodes);
+            }
+            incrementStat(MLNodeLevelStat.ML_ROUTING_FULL_SYNC_COUNT);
+        } else {
+            syncsSinceFullRoutingSync++;
+            Map<String, Set<String>> changedModelWorkerNodes = new HashMap<>();
+            for (Map.Entry<String, Set<String>> entry : modelWorkerNodes.entrySet()) {
+                if (!entry.getValue().equals(lastModelRoutingTable.get(entry.getKey()))) {
+                    changedModelWorkerNodes.put(entry.getKey(), entry.getValue());
+                }
+            }
+            Set<String> removedModels = new HashSet<>(lastModelRoutingTable.keySet());
+            removedModels.removeAll(modelWorkerNodes.keySet());
+            if (!changedModelWorkerNodes.isEmpty() || !removedModels.isEmpty()) {
+                log.debug("Model routing changed, changed models: {}, removed models: {}", changedModelWorkerNodes, removedModels);
+                inputBuilder
+                    .deltaRoutingSync(true)
+                    .baseRoutingVersion(routingVersion)
+                    .routingVersion(++routingVersion)
+                    .modelRoutingTable(changedModelWorkerNodes)
+                    .removedModelRoutings(removedModels);
+                incrementStat(MLNodeLevelStat.ML_ROUTING_DELTA_SYNC_COUNT);
+            } else if (runningDeployModelTasks.isEmpty()) {
+                return null;
+            } else {
+                // only running deploy model tasks need to be synced, routing on nodes is untouched
+                inputBuilder.routingVersion(routingVersion);
+            }
+        }
+        lastModelRoutingTable = new HashMap<>(modelWorkerNodes);
+        MLSyncUpInput syncUpInput = inputBuilder.build();
+        setStat(MLNodeLevelStat.ML_ROUTING_SYNC_PAYLOAD_BYTES, payloadSize(syncUpInput));
+        return syncUpInput;
+    }
+
+    private long payloadSize(MLSyncUpInput syncUpInput) {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            syncUpInput.writeTo(output);
+            return output.size();
+        } catch (IOException e) {
+            log.debug("Failed to calculate sync up payload size", e);
+            return -1;
+        }
+    }
+
+    private void recordSyncDuration(long startTime) {
+        setStat(MLNodeLevelStat.ML_ROUTING_SYNC_DURATION_IN_MS, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    private void incrementStat(MLNodeLevelStat stat) {
+        if (mlStats != null) {
+            mlStats.createCounterStatIfAbsent(stat).increment();
+        }
+    }
+
+    private void setStat(MLNodeLevelStat stat, long value) {
+        if (mlStats != null) {
+            mlStats.createStatIfAbsent(stat, () -> new MLStat<>(false, new SettableSupplier())).setValue(value);
+        }
+    }
+
     private void undeployExpiredModels(
         Set<String> expiredModels,
         Map<String, Set<String>> modelWorkerNodes,
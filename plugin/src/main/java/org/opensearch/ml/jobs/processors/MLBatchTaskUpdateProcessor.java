@@ -6,8 +6,20 @@
 package org.opensearch.ml.jobs.processors;
 
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.CREATE_TIME_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -24,15 +36,28 @@ import org.opensearch.ml.common.transport.task.MLTaskGetAction;
 import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
+import com.google.common.annotations.VisibleForTesting;
+
 public class MLBatchTaskUpdateProcessor extends MLJobProcessor {
 
     private static final Logger log = LogManager.getLogger(MLBatchTaskUpdateProcessor.class);
 
+    public static final int PAGE_SIZE = 100;
+    // at most this many remote job status calls are in flight at the same time
+    public static final int MAX_CONCURRENT_POLLS = 10;
+    // jobs younger than this are polled on every run
+    public static final long RECENT_JOB_AGE_IN_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    public static final long MAX_POLL_INTERVAL_IN_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
     private static MLBatchTaskUpdateProcessor instance;
 
+    private final LongSupplier clock;
+    private final Map<String, Long> lastPolledTimes = new ConcurrentHashMap<>();
+
     public static MLBatchTaskUpdateProcessor getInstance(ClusterService clusterService, Client client, ThreadPool threadPool) {
         if (instance != null) {
             return instance;
@@ -56,12 +81,30 @@ public class MLBatchTaskUpdateProcessor extends MLJobProcessor {
     }
 
     public MLBatchTaskUpdateProcessor(ClusterService clusterService, Client client, ThreadPool threadPool) {
+        this(clusterService, client, threadPool, System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    MLBatchTaskUpdateProcessor(ClusterService clusterService, Client client, ThreadPool threadPool, LongSupplier clock) {
         super(clusterService, client, threadPool);
+        this.clock = clock;
     }
 
     @Override
     public void run() {
-        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        searchTasks(null, List.of(), new ArrayList<>(), new HashSet<>());
+    }
+
+    /**
+     * Searches one page of the batch tasks to poll, ordered by creation time. The next page starts at the creation time
+     * of the last task, excluding the tasks created at that same time which were already returned.
+     */
+    private void searchTasks(
+        Long lastCreateTime,
+        List<String> taskIdsAtLastCreateTime,
+        List<String> taskIdsToPoll,
+        Set<String> seenTaskIds
+    ) {
         BoolQueryBuilder boolQuery = QueryBuilders
             .boolQuery()
             .must(QueryBuilders.termQuery("task_type", MLTaskType.BATCH_PREDICTION))
@@ -72,43 +115,120 @@ public class MLBatchTaskUpdateProcessor extends MLJobProcessor {
                     .should(QueryBuilders.termQuery("state", MLTaskState.RUNNING))
                     .should(QueryBuilders.termQuery("state", MLTaskState.CANCELLING))
             );
+        if (lastCreateTime != null) {
+            boolQuery.filter(QueryBuilders.rangeQuery(CREATE_TIME_FIELD).gte(lastCreateTime));
+            boolQuery.mustNot(QueryBuilders.idsQuery().addIds(taskIdsAtLastCreateTime.toArray(new String[0])));
+        }
 
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
         sourceBuilder.query(boolQuery);
-        sourceBuilder.size(100);
-        sourceBuilder.fetchSource(new String[] { "_id" }, null);
+        sourceBuilder.size(PAGE_SIZE);
+        sourceBuilder.sort(CREATE_TIME_FIELD, SortOrder.ASC);
+        sourceBuilder.fetchSource(new String[] { STATE_FIELD }, null);
 
         SearchRequest searchRequest = new SearchRequest(ML_TASK_INDEX);
         searchRequest.source(sourceBuilder);
 
         client.search(searchRequest, ActionListener.wrap(response -> {
             if (response == null || response.getHits() == null || response.getHits().getHits().length == 0) {
-                log.info("No pending tasks found to be polled by the job");
+                if (seenTaskIds.isEmpty()) {
+                    log.info("No pending tasks found to be polled by the job");
+                }
+                // forget the tasks which are no longer running
+                lastPolledTimes.keySet().retainAll(seenTaskIds);
+                pollTasks(taskIdsToPoll);
                 return;
             }
 
+            long now = clock.getAsLong();
             SearchHit[] searchHits = response.getHits().getHits();
+            Long createTime = null;
+            List<String> taskIdsAtCreateTime = new ArrayList<>();
             for (SearchHit searchHit : searchHits) {
                 String taskId = searchHit.getId();
-                log.debug("Starting polling for task: {} at {}", taskId, Instant.now());
-                MLTaskGetRequest mlTaskGetRequest = MLTaskGetRequest.builder().taskId(taskId).isUserInitiatedGetTaskRequest(false).build();
+                seenTaskIds.add(taskId);
+                Object[] sortValues = searchHit.getSortValues();
+                Long taskCreateTime = sortValues.length > 0 && sortValues[0] instanceof Number
+                    ? ((Number) sortValues[0]).longValue()
+                    : null;
+                Object state = searchHit.getSourceAsMap() == null ? null : searchHit.getSourceAsMap().get(STATE_FIELD);
+                if (shouldPoll(taskId, state, taskCreateTime, now)) {
+                    taskIdsToPoll.add(taskId);
+                }
+                if (taskCreateTime == null || !taskCreateTime.equals(createTime)) {
+                    taskIdsAtCreateTime = new ArrayList<>();
+                }
+                createTime = taskCreateTime;
+                taskIdsAtCreateTime.add(taskId);
+            }
 
-                client
-                    .execute(
-                        MLTaskGetAction.INSTANCE,
-                        mlTaskGetRequest,
-                        ActionListener
-                            .wrap(
-                                taskResponse -> log.info("Updated Task status for taskId: {} at {}", taskId, Instant.now()),
-                                exception -> log.error("Failed to get task status for task: {}", taskId, exception)
-                            )
-                    );
+            if (searchHits.length < PAGE_SIZE || createTime == null) {
+                lastPolledTimes.keySet().retainAll(seenTaskIds);
+                pollTasks(taskIdsToPoll);
+                return;
+            }
+            if (createTime.equals(lastCreateTime)) {
+                taskIdsAtCreateTime.addAll(taskIdsAtLastCreateTime);
             }
+            searchTasks(createTime, taskIdsAtCreateTime, taskIdsToPoll, seenTaskIds);
         }, e -> {
             if (e instanceof IndexNotFoundException) {
                 log.info("No tasks found to be polled by the job");
             } else {
                 log.error("Failed to search for tasks to be polled by the job ", e);
             }
+            pollTasks(taskIdsToPoll);
         }));
     }
+
+    /**
+     * Recent and cancelling jobs are polled on every run, older jobs less often as they are expected to run for longer.
+     */
+    @VisibleForTesting
+    boolean shouldPoll(String taskId, Object state, Long createTime, long now) {
+        long pollInterval = 0;
+        if (!MLTaskState.CANCELLING.name().equals(String.valueOf(state)) && createTime != null) {
+            long age = now - createTime;
+            if (age >= RECENT_JOB_AGE_IN_MILLIS) {
+                pollInterval = Math.min(age / 10, MAX_POLL_INTERVAL_IN_MILLIS);
+            }
+        }
+        Long lastPolledTime = lastPolledTimes.get(taskId);
+        if (lastPolledTime != null && now - lastPolledTime < pollInterval) {
+            return false;
+        }
+        lastPolledTimes.put(taskId, now);
+        return true;
+    }
+
+    private void pollTasks(List<String> taskIdsToPoll) {
+        Queue<String> pendingTaskIds = new ConcurrentLinkedQueue<>(taskIdsToPoll);
+        for (int i = 0; i < Math.min(MAX_CONCURRENT_POLLS, taskIdsToPoll.size()); i++) {
+            pollNextTask(pendingTaskIds);
+        }
+    }
+
+    private void pollNextTask(Queue<String> pendingTaskIds) {
+        String taskId = pendingTaskIds.poll();
+        if (taskId == null) {
+            return;
+        }
+        log.debug("Starting polling for task: {} at {}", taskId, Instant.now());
+        MLTaskGetRequest mlTaskGetRequest = MLTaskGetRequest.builder().taskId(taskId).isUserInitiatedGetTaskRequest(false).build();
+
+        client
+            .execute(
+                MLTaskGetAction.INSTANCE,
+                mlTaskGetRequest,
+                ActionListener
+                    .runAfter(
+                        ActionListener
+                            .wrap(
+                                taskResponse -> log.info("Updated Task status for taskId: {} at {}", taskId, Instant.now()),
+                                exception -> log.error("Failed to get task status for task: {}", taskId, exception)
+                            ),
+                        () -> pollNextTask(pendingTaskIds)
+                    )
+            );
+    }
 }
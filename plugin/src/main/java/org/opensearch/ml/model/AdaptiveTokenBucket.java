@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.function.LongSupplier;
+
+import org.opensearch.common.util.TokenBucket;
+
+/**
+ * Token bucket enforcing this node's share of a cluster wide rate limit. The share starts as an even split over the
+ * eligible nodes, and is re-split on every sync up by the demand each node observed since the previous one, so that
+ * nodes receiving most of the traffic borrow the budget idle nodes are not using. A share that is not refreshed within
+ * the staleness bound falls back to the even split.
+ */
+public class AdaptiveTokenBucket extends TokenBucket {
+
+    // part of the cluster budget always split evenly, so that a node starting to receive traffic is not starved until
+    // the next re-split
+    public static final double RESERVED_SHARE = 0.2;
+
+    private final LongSupplier clock;
+    private final double clusterRate;
+    private final double clusterBurst;
+    private final double evenShare;
+    private final long maxStalenessNanos;
+
+    private double share;
+    private long shareUpdatedTime;
+    private double tokens;
+    private long lastRefillTime;
+    private double demand;
+    private long reportedDemand;
+
+    /**
+     * @param clock clock in nanoseconds
+     * @param clusterRate tokens per nanosecond for the whole cluster
+     * @param clusterBurst burst tokens for the whole cluster
+     * @param eligibleNodeCount number of nodes sharing the budget
+     * @param maxStalenessNanos how long a demand based share is trusted without being refreshed
+     */
+    public AdaptiveTokenBucket(LongSupplier clock, double clusterRate, double clusterBurst, int eligibleNodeCount, long maxStalenessNanos) {
+        super(
+            clock,
+            clusterRate / eligibleNodeCount,
+            Math.max(clusterBurst / eligibleNodeCount, 1),
+            Math.max(clusterBurst / eligibleNodeCount, 1)
+        );
+        this.clock = clock;
+        this.clusterRate = clusterRate;
+        this.clusterBurst = clusterBurst;
+        this.evenShare = 1.0 / eligibleNodeCount;
+        this.maxStalenessNanos = maxStalenessNanos;
+        this.share = evenShare;
+        long now = clock.getAsLong();
+        this.shareUpdatedTime = now;
+        this.lastRefillTime = now;
+        this.tokens = burst();
+    }
+
+    @Override
+    public boolean request() {
+        return request(1);
+    }
+
+    @Override
+    public synchronized boolean request(double n) {
+        demand += n;
+        long now = clock.getAsLong();
+        if (share != evenShare && now - shareUpdatedTime > maxStalenessNanos) {
+            updateShare(evenShare, now);
+        }
+        refill(now);
+        if (tokens < n) {
+            return false;
+        }
+        tokens -= n;
+        return true;
+    }
+
+    /**
+     * Returns the tokens requested on this node since the last call, accepted or not, which is reported to the
+     * cluster manager on sync up.
+     * @return requested tokens since the last call
+     */
+    public synchronized long drainDemand() {
+        reportedDemand = Math.round(demand);
+        demand = 0;
+        return reportedDemand;
+    }
+
+    /**
+     * Re-splits the cluster budget by the demand of this node in the last report against the demand of all nodes.
+     * @param clusterDemand the sum of the demand every node reported in the same sync up
+     */
+    public synchronized void rebalance(long clusterDemand) {
+        double newShare = evenShare;
+        if (clusterDemand > 0) {
+            double demandShare = Math.min((double) reportedDemand / clusterDemand, 1);
+            newShare = RESERVED_SHARE * evenShare + (1 - RESERVED_SHARE) * demandShare;
+        }
+        updateShare(newShare, clock.getAsLong());
+    }
+
+    /**
+     * @return the fraction of the cluster budget currently enforced on this node
+     */
+    public synchronized double getShare() {
+        return share;
+    }
+
+    private void updateShare(double newShare, long now) {
+        // settle the tokens earned at the old rate before switching
+        refill(now);
+        share = newShare;
+        shareUpdatedTime = now;
+        tokens = Math.min(tokens, burst());
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(burst(), tokens + (now - lastRefillTime) * clusterRate * share);
+        lastRefillTime = now;
+    }
+
+    private double burst() {
+        // Burst token must be greater than 1 to accept request
+        return Math.max(clusterBurst * share, 1);
+    }
+}
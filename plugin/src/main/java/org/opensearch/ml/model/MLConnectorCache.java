@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateAction;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateNodesRequest;
+import org.opensearch.ml.engine.algorithms.remote.RemoteConnectorExecutor;
+import org.opensearch.transport.ActionNotFoundTransportException;
+import org.opensearch.transport.client.Client;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node local cache of parsed and decrypted connectors together with their ready to use executors, so that executing
+ * a connector does not read, parse and decrypt the connector document on every call.
+ * Entries are dropped on every node before a connector update or delete is acknowledged, and expire after a TTL as a
+ * safety net for a node that missed the invalidation.
+ */
+@Log4j2
+public class MLConnectorCache {
+
+    public static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final Connector connector;
+        private final RemoteConnectorExecutor executor;
+        private final long loadedTime;
+    }
+
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+    // incremented on every invalidation, a connector loaded before an invalidation is not cached as it may be stale
+    private long version;
+
+    public MLConnectorCache() {
+        this(DEFAULT_TTL_MILLIS, DEFAULT_MAX_ENTRIES, System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    MLConnectorCache(long ttlMillis, int maxEntries, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @return the version to pass to {@link #put} for a connector loaded from now on
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    public synchronized Entry get(String connectorId) {
+        Entry entry = entries.get(connectorId);
+        if (entry != null && clock.getAsLong() - entry.loadedTime >= ttlMillis) {
+            entries.remove(connectorId);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Caches a decrypted connector and its executor, unless a connector was invalidated since it was loaded.
+     * @param connectorId connector id
+     * @param connector decrypted connector
+     * @param executor executor of the connector
+     * @param loadedVersion the cache version when the connector was loaded
+     */
+    public synchronized void put(String connectorId, Connector connector, RemoteConnectorExecutor executor, long loadedVersion) {
+        if (loadedVersion != version) {
+            return;
+        }
+        entries.put(connectorId, new Entry(connector, executor, clock.getAsLong()));
+    }
+
+    public synchronized void invalidate(Collection<String> connectorIds) {
+        version++;
+        connectorIds.forEach(entries::remove);
+    }
+
+    public synchronized void clear() {
+        version++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Drops a connector from the connector cache of every node. Nodes that don't know the invalidate action run a
+     * version without the connector cache and are skipped.
+     * @param client client
+     * @param connectorId connector id
+     * @param listener completed once every node dropped the connector, failed if any node could not be reached
+     */
+    public static void invalidateOnAllNodes(Client client, String connectorId, ActionListener<Void> listener) {
+        // no node ids means all nodes
+        MLConnectorCacheInvalidateNodesRequest request = new MLConnectorCacheInvalidateNodesRequest(new String[0], Set.of(connectorId));
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.execute(MLConnectorCacheInvalidateAction.INSTANCE, request, ActionListener.runBefore(ActionListener.wrap(r -> {
+                List<FailedNodeException> failures = r
+                    .failures()
+                    .stream()
+                    .filter(e -> ExceptionsHelper.unwrap(e, ActionNotFoundTransportException.class) == null)
+                    .collect(Collectors.toList());
+                if (failures.isEmpty()) {
+                    log.debug("Invalidated connector {} on all nodes", connectorId);
+                    listener.onResponse(null);
+                    return;
+                }
+                log.error("Failed to invalidate connector {} on nodes {}", connectorId, failures);
+                String nodeIds = failures.stream().map(FailedNodeException::nodeId).collect(Collectors.joining(", "));
+                listener.onFailure(invalidationFailure(connectorId, "nodes [" + nodeIds + "] did not respond"));
+            }, e -> {
+                log.error("Failed to invalidate connector {} on all nodes", connectorId, e);
+                listener.onFailure(invalidationFailure(connectorId, e.getMessage()));
+            }), context::restore));
+        } catch (Exception e) {
+            log.error("Failed to invalidate connector {} on all nodes", connectorId, e);
+            listener.onFailure(invalidationFailure(connectorId, e.getMessage()));
+        }
+    }
+
+    private static OpenSearchStatusException invalidationFailure(String connectorId, String reason) {
+        return new OpenSearchStatusException(
+            "Connector "
+                + connectorId
+                + " was changed, but it may still be used from the connector cache of some nodes until the cache expires: "
+                + reason,
+            RestStatus.INTERNAL_SERVER_ERROR
+        );
+    }
+}
@@ -23,6 +23,7 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.ml.utils.CompiledJsonSchema;
 
 import com.google.common.math.Quantiles;
 
@@ -33,34 +34,41 @@ import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class MLModelCache {
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLModelState modelState;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) FunctionName functionName;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Predictable predictor;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLExecutable executor;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) TokenBucket rateLimiter;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, TokenBucket> userRateLimiterMap;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Boolean isModelEnabled;
+    // fields are updated under the per model lock of MLModelCacheHelper and read without locking
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile MLModelState modelState;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile FunctionName functionName;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile Predictable predictor;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile MLExecutable executor;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile TokenBucket rateLimiter;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile Map<String, TokenBucket> userRateLimiterMap;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile Boolean isModelEnabled;
     private final Set<String> targetWorkerNodes;
     private final Set<String> workerNodes;
-    private MLModel modelInfo;
+    private volatile MLModel modelInfo;
     private final Queue<Double> modelInferenceDurationQueue;
     private final Queue<Double> predictRequestDurationQueue;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLGuard mlGuard;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, String> modelInterface;
+    private final Queue<Double> streamFirstTokenDurationQueue;
+    private final Queue<Double> streamInterTokenDurationQueue;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile Long memSizeEstimationCPU;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile Long memSizeEstimationGPU;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile MLGuard mlGuard;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile Map<String, String> modelInterface;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile CompiledJsonSchema inputSchema;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile CompiledJsonSchema outputSchema;
 
     // In rare case, this could be null, e.g. model info not synced up yet a predict request comes in.
     @Setter
-    private Boolean deployToAllNodes;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Instant lastAccessTime;
-    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Boolean isAutoDeploying;
+    private volatile Boolean deployToAllNodes;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile Instant lastAccessTime;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile Boolean isAutoDeploying;
 
     public MLModelCache() {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
         modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
         predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        streamFirstTokenDurationQueue = new ConcurrentLinkedQueue<>();
+        streamInterTokenDurationQueue = new ConcurrentLinkedQueue<>();
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -166,6 +174,8 @@ public class MLModelCache {
         modelInfo = null;
         modelInferenceDurationQueue.clear();
         predictRequestDurationQueue.clear();
+        streamFirstTokenDurationQueue.clear();
+        streamInterTokenDurationQueue.clear();
         if (predictor != null) {
             predictor.close();
         }
@@ -179,6 +189,8 @@ public class MLModelCache {
         userRateLimiterMap = null;
         mlGuard = null;
         modelInterface = null;
+        inputSchema = null;
+        outputSchema = null;
     }
 
     public void addModelInferenceDuration(double duration, long maxRequestCount) {
@@ -189,6 +201,14 @@ public class MLModelCache {
         addInferenceDuration(duration, maxRequestCount, predictRequestDurationQueue);
     }
 
+    public void addStreamFirstTokenDuration(double duration, long maxRequestCount) {
+        addInferenceDuration(duration, maxRequestCount, streamFirstTokenDurationQueue);
+    }
+
+    public void addStreamInterTokenDuration(double duration, long maxRequestCount) {
+        addInferenceDuration(duration, maxRequestCount, streamInterTokenDurationQueue);
+    }
+
     private void addInferenceDuration(double duration, long maxRequestCount, Queue<Double> queue) {
         resizeInferenceQueue(maxRequestCount, queue);
         if (maxRequestCount > 0) {
@@ -200,6 +220,8 @@ public class MLModelCache {
         log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
         resizeInferenceQueue(maxRequestCount, predictRequestDurationQueue);
         resizeInferenceQueue(maxRequestCount, modelInferenceDurationQueue);
+        resizeInferenceQueue(maxRequestCount, streamFirstTokenDurationQueue);
+        resizeInferenceQueue(maxRequestCount, streamInterTokenDurationQueue);
     }
 
     private void resizeInferenceQueue(long maxRequestCount, Queue<Double> queue) {
@@ -213,7 +235,24 @@ public class MLModelCache {
     }
 
     public MLPredictRequestStats getInferenceStats(boolean modelInference) {
-        Queue<Double> queue = modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue;
+        return getDurationStats(modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue);
+    }
+
+    /**
+     * @return the stats of the time from the start of a streaming predict request to its first chunk
+     */
+    public MLPredictRequestStats getStreamFirstTokenStats() {
+        return getDurationStats(streamFirstTokenDurationQueue);
+    }
+
+    /**
+     * @return the stats of the time between two chunks of a streaming predict request
+     */
+    public MLPredictRequestStats getStreamInterTokenStats() {
+        return getDurationStats(streamInterTokenDurationQueue);
+    }
+
+    private MLPredictRequestStats getDurationStats(Queue<Double> queue) {
         if (queue.size() > 0) {
             MLPredictRequestStats.MLPredictRequestStatsBuilder statsBuilder = MLPredictRequestStats.builder();
             DoubleStream doubleStream = queue.stream().mapToDouble(v -> v);
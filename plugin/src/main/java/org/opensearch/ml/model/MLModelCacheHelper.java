@@ -9,12 +9,15 @@ import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MON
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.BooleanUtils;
@@ -30,6 +33,7 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.utils.CompiledJsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -39,6 +43,8 @@ public class MLModelCacheHelper {
 
     private final Map<String, MLModel> autoDeployModels;
     private volatile Long maxRequestCount;
+    // version of the routing table last applied by sync up, 0 means local routing is out of sync with the cluster manager
+    private final AtomicLong routingVersion = new AtomicLong(0);
 
     public MLModelCacheHelper(ClusterService clusterService, Settings settings) {
         this.modelCaches = new ConcurrentHashMap<>();
@@ -55,45 +61,44 @@ public class MLModelCacheHelper {
      * @param state        model state
      * @param functionName function name
      */
-    public synchronized void initModelState(
+    public void initModelState(
         String modelId,
         MLModelState state,
         FunctionName functionName,
         List<String> targetWorkerNodes,
         boolean deployToAllNodes
     ) {
-        if (isModelRunningOnNode(modelId) && !isAutoDeploying(modelId)) {
-            throw new MLLimitExceededException("Duplicate deploy model task");
-        }
-        log.debug("init model state for model {}, state: {}", modelId, state);
-        MLModelCache modelCache = new MLModelCache();
-        modelCache.setModelState(state);
-        modelCache.setFunctionName(functionName);
-        modelCache.setTargetWorkerNodes(targetWorkerNodes);
-        modelCache.setDeployToAllNodes(deployToAllNodes);
-        modelCache.setLastAccessTime(Instant.now());
-        modelCaches.put(modelId, modelCache);
+        modelCaches.compute(modelId, (id, existingCache) -> {
+            if (isRunning(existingCache) && !BooleanUtils.isTrue(existingCache.getIsAutoDeploying())) {
+                throw new MLLimitExceededException("Duplicate deploy model task");
+            }
+            log.debug("init model state for model {}, state: {}", modelId, state);
+            MLModelCache modelCache = new MLModelCache();
+            modelCache.setModelState(state);
+            modelCache.setFunctionName(functionName);
+            modelCache.setTargetWorkerNodes(targetWorkerNodes);
+            modelCache.setDeployToAllNodes(deployToAllNodes);
+            modelCache.setLastAccessTime(Instant.now());
+            return modelCache;
+        });
     }
 
-    public synchronized void initModelStateAutoDeploy(
-        String modelId,
-        MLModelState state,
-        FunctionName functionName,
-        List<String> targetWorkerNodes
-    ) {
+    public void initModelStateAutoDeploy(String modelId, MLModelState state, FunctionName functionName, List<String> targetWorkerNodes) {
         log.debug("init local model deployment state for model {}, state: {}", modelId, state);
-        if (isModelRunningOnNode(modelId)) {
-            // model state initialized
-            return;
-        }
-        MLModelCache modelCache = new MLModelCache();
-        modelCache.setModelState(state);
-        modelCache.setFunctionName(functionName);
-        modelCache.setTargetWorkerNodes(targetWorkerNodes);
-        modelCache.setDeployToAllNodes(false);
-        modelCache.setLastAccessTime(Instant.now());
-        modelCaches.put(modelId, modelCache);
-        setIsAutoDeploying(modelId, true);
+        modelCaches.compute(modelId, (id, existingCache) -> {
+            if (isRunning(existingCache)) {
+                // model state initialized
+                return existingCache;
+            }
+            MLModelCache modelCache = new MLModelCache();
+            modelCache.setModelState(state);
+            modelCache.setFunctionName(functionName);
+            modelCache.setTargetWorkerNodes(targetWorkerNodes);
+            modelCache.setDeployToAllNodes(false);
+            modelCache.setLastAccessTime(Instant.now());
+            modelCache.setIsAutoDeploying(true);
+            return modelCache;
+        });
     }
 
     /**
@@ -102,9 +107,9 @@ public class MLModelCacheHelper {
      * @param modelId model id
      * @param state   model state
      */
-    public synchronized void setModelState(String modelId, MLModelState state) {
+    public void setModelState(String modelId, MLModelState state) {
         log.debug("Updating State of Model {}  to state {}", modelId, state);
-        getExistingModelCache(modelId).setModelState(state);
+        updateModelCache(modelId, modelCache -> modelCache.setModelState(state));
     }
 
     /**
@@ -113,9 +118,9 @@ public class MLModelCacheHelper {
      * @param modelId     model id
      * @param rateLimiter rate limiter
      */
-    public synchronized void setRateLimiter(String modelId, TokenBucket rateLimiter) {
+    public void setRateLimiter(String modelId, TokenBucket rateLimiter) {
         log.debug("Setting the rate limiter for Model {}", modelId);
-        getExistingModelCache(modelId).setRateLimiter(rateLimiter);
+        updateModelCache(modelId, modelCache -> modelCache.setRateLimiter(rateLimiter));
     }
 
     /**
@@ -136,9 +141,9 @@ public class MLModelCacheHelper {
      * 
      * @param modelId model id
      */
-    public synchronized void removeRateLimiter(String modelId) {
+    public void removeRateLimiter(String modelId) {
         log.debug("Removing the rate limiter for Model {}", modelId);
-        getExistingModelCache(modelId).setRateLimiter(null);
+        updateModelCache(modelId, modelCache -> modelCache.setRateLimiter(null));
     }
 
     /**
@@ -148,9 +153,9 @@ public class MLModelCacheHelper {
      * @param userRateLimiterMap a map with user's name and its corresponding rate
      *                           limiter
      */
-    public synchronized void setUserRateLimiterMap(String modelId, Map<String, TokenBucket> userRateLimiterMap) {
+    public void setUserRateLimiterMap(String modelId, Map<String, TokenBucket> userRateLimiterMap) {
         log.debug("Setting the user level rate limiter for Model {}", modelId);
-        getExistingModelCache(modelId).setUserRateLimiterMap(userRateLimiterMap);
+        updateModelCache(modelId, modelCache -> modelCache.setUserRateLimiterMap(userRateLimiterMap));
     }
 
     /**
@@ -158,9 +163,9 @@ public class MLModelCacheHelper {
      *
      * @param modelId model id
      */
-    public synchronized void removeUserRateLimiterMap(String modelId) {
+    public void removeUserRateLimiterMap(String modelId) {
         log.debug("Removing the user level rate limiter for Model {}", modelId);
-        getExistingModelCache(modelId).setUserRateLimiterMap(null);
+        updateModelCache(modelId, modelCache -> modelCache.setUserRateLimiterMap(null));
     }
 
     /**
@@ -189,15 +194,118 @@ public class MLModelCacheHelper {
         return userRateLimiterMap.get(user);
     }
 
+    /**
+     * Collect the demand observed by the adaptive rate limiters on this node since the last call.
+     *
+     * @return a map keyed by model id for model level rate limiters, and by model id and user name for user level
+     *         rate limiters, with the number of requested tokens as value. Rate limiters without demand are left out,
+     *         so an idle node reports an empty map.
+     */
+    public Map<String, Long> drainRateLimiterDemand() {
+        Map<String, Long> demand = new HashMap<>();
+        modelCaches.forEach((modelId, modelCache) -> {
+            if (modelCache.getRateLimiter() instanceof AdaptiveTokenBucket) {
+                putDemand(demand, modelId, ((AdaptiveTokenBucket) modelCache.getRateLimiter()).drainDemand());
+            }
+            Map<String, TokenBucket> userRateLimiterMap = modelCache.getUserRateLimiterMap();
+            if (userRateLimiterMap != null) {
+                userRateLimiterMap.forEach((user, rateLimiter) -> {
+                    if (rateLimiter instanceof AdaptiveTokenBucket) {
+                        putDemand(demand, userRateLimiterKey(modelId, user), ((AdaptiveTokenBucket) rateLimiter).drainDemand());
+                    }
+                });
+            }
+        });
+        return demand;
+    }
+
+    private static void putDemand(Map<String, Long> demand, String key, long requestedTokens) {
+        if (requestedTokens > 0) {
+            demand.put(key, requestedTokens);
+        }
+    }
+
+    /**
+     * Re-split the budget of the adaptive rate limiters on this node by the demand all nodes reported.
+     *
+     * @param clusterDemand the demand summed over all nodes, keyed as in {@link #drainRateLimiterDemand()}. Rate
+     *                      limiters no node reported demand for go back to an even share.
+     */
+    public void rebalanceRateLimiters(Map<String, Long> clusterDemand) {
+        modelCaches.forEach((modelId, modelCache) -> {
+            if (modelCache.getRateLimiter() instanceof AdaptiveTokenBucket) {
+                ((AdaptiveTokenBucket) modelCache.getRateLimiter()).rebalance(clusterDemand.getOrDefault(modelId, 0L));
+            }
+            Map<String, TokenBucket> userRateLimiterMap = modelCache.getUserRateLimiterMap();
+            if (userRateLimiterMap != null) {
+                userRateLimiterMap.forEach((user, rateLimiter) -> {
+                    if (rateLimiter instanceof AdaptiveTokenBucket) {
+                        ((AdaptiveTokenBucket) rateLimiter).rebalance(clusterDemand.getOrDefault(userRateLimiterKey(modelId, user), 0L));
+                    }
+                });
+            }
+        });
+    }
+
+    private static String userRateLimiterKey(String modelId, String user) {
+        return modelId + "|" + user;
+    }
+
     /**
      * Set the ml interface for the model
      *
      * @param modelId model id
      * @param modelInterface model interface
      */
-    public synchronized void setModelInterface(String modelId, Map<String, String> modelInterface) {
+    public void setModelInterface(String modelId, Map<String, String> modelInterface) {
         log.debug("Setting ML Interface {} for Model {}", modelInterface, modelId);
-        getExistingModelCache(modelId).setModelInterface(modelInterface);
+        // compile outside of the model lock
+        CompiledJsonSchema inputSchema = modelInterface == null ? null : compileSchema(modelId, modelInterface.get("input"));
+        CompiledJsonSchema outputSchema = modelInterface == null ? null : compileSchema(modelId, modelInterface.get("output"));
+        updateModelCache(modelId, modelCache -> {
+            modelCache.setModelInterface(modelInterface);
+            modelCache.setInputSchema(inputSchema);
+            modelCache.setOutputSchema(outputSchema);
+        });
+    }
+
+    private CompiledJsonSchema compileSchema(String modelId, String schemaString) {
+        if (schemaString == null) {
+            return null;
+        }
+        try {
+            return CompiledJsonSchema.compile(schemaString);
+        } catch (Exception e) {
+            // the schema is parsed again on every request and reports the error there
+            log.warn("Failed to compile the interface schema of model {}", modelId, e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the compiled input schema of the model interface
+     *
+     * @param modelId model id
+     */
+    public CompiledJsonSchema getInputSchema(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.getInputSchema();
+    }
+
+    /**
+     * Get the compiled output schema of the model interface
+     *
+     * @param modelId model id
+     */
+    public CompiledJsonSchema getOutputSchema(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.getOutputSchema();
     }
 
     /**
@@ -218,9 +326,13 @@ public class MLModelCacheHelper {
      *
      * @param modelId model id
      */
-    public synchronized void removeModelInterface(String modelId) {
+    public void removeModelInterface(String modelId) {
         log.debug("Removing the ML Interface from Model {}", modelId);
-        getExistingModelCache(modelId).setModelInterface(null);
+        updateModelCache(modelId, modelCache -> {
+            modelCache.setModelInterface(null);
+            modelCache.setInputSchema(null);
+            modelCache.setOutputSchema(null);
+        });
     }
 
     /**
@@ -229,9 +341,9 @@ public class MLModelCacheHelper {
      * @param modelId model id
      * @param mlGuard mlGuard
      */
-    public synchronized void setMLGuard(String modelId, MLGuard mlGuard) {
+    public void setMLGuard(String modelId, MLGuard mlGuard) {
         log.debug("Setting ML guard {} for Model {}", mlGuard, modelId);
-        getExistingModelCache(modelId).setMlGuard(mlGuard);
+        updateModelCache(modelId, modelCache -> modelCache.setMlGuard(mlGuard));
     }
 
     /**
@@ -252,9 +364,9 @@ public class MLModelCacheHelper {
      *
      * @param modelId model id
      */
-    public synchronized void removeMLGuard(String modelId) {
+    public void removeMLGuard(String modelId) {
         log.debug("Removing the ML guard from Model {}", modelId);
-        getExistingModelCache(modelId).setMlGuard(null);
+        updateModelCache(modelId, modelCache -> modelCache.setMlGuard(null));
     }
 
     /**
@@ -263,9 +375,9 @@ public class MLModelCacheHelper {
      * @param modelId        model id
      * @param isModelEnabled quota flag
      */
-    public synchronized void setIsModelEnabled(String modelId, Boolean isModelEnabled) {
+    public void setIsModelEnabled(String modelId, Boolean isModelEnabled) {
         log.debug("Setting the quota flag for Model {}", modelId);
-        getExistingModelCache(modelId).setIsModelEnabled(isModelEnabled);
+        updateModelCache(modelId, modelCache -> modelCache.setIsModelEnabled(isModelEnabled));
     }
 
     /**
@@ -287,9 +399,9 @@ public class MLModelCacheHelper {
      * @param modelId        model id
      * @param isModelAutoDeploying auto deploy flag
      */
-    public synchronized void setIsAutoDeploying(String modelId, Boolean isModelAutoDeploying) {
+    public void setIsAutoDeploying(String modelId, Boolean isModelAutoDeploying) {
         log.debug("Setting the auto deploying flag for Model {}", modelId);
-        getExistingModelCache(modelId).setIsAutoDeploying(isModelAutoDeploying);
+        updateModelCache(modelId, modelCache -> modelCache.setIsAutoDeploying(isModelAutoDeploying));
     }
 
     /**
@@ -310,11 +422,13 @@ public class MLModelCacheHelper {
      * @param format  model format like onnx
      * @param size    memory size
      */
-    public synchronized void setMemSizeEstimation(String modelId, MLModelFormat format, Long size) {
+    public void setMemSizeEstimation(String modelId, MLModelFormat format, Long size) {
         Long memSize = getMemSizeEstimation(format, size);
         log.debug("Updating memSizeEstimation of Model {}  to {}", modelId, memSize);
-        getExistingModelCache(modelId).setMemSizeEstimationCPU(memSize);
-        getExistingModelCache(modelId).setMemSizeEstimationGPU(memSize);
+        updateModelCache(modelId, modelCache -> {
+            modelCache.setMemSizeEstimationCPU(memSize);
+            modelCache.setMemSizeEstimationGPU(memSize);
+        });
     }
 
     private Long getMemSizeEstimation(MLModelFormat format, Long size) {
@@ -365,7 +479,7 @@ public class MLModelCacheHelper {
      * @param modelId model id
      * @return true if model deployed
      */
-    public synchronized boolean isModelDeployed(String modelId) {
+    public boolean isModelDeployed(String modelId) {
         MLModelCache modelCache = modelCaches.get(modelId);
         return modelCache != null && modelCache.getModelState() == MLModelState.DEPLOYED;
     }
@@ -434,7 +548,10 @@ public class MLModelCacheHelper {
      * @return true if model is running on node.
      */
     public boolean isModelRunningOnNode(String modelId) {
-        MLModelCache modelCache = modelCaches.get(modelId);
+        return isRunning(modelCaches.get(modelId));
+    }
+
+    private static boolean isRunning(MLModelCache modelCache) {
         return modelCache != null && modelCache.getModelState() != null;
     }
 
@@ -444,14 +561,12 @@ public class MLModelCacheHelper {
      * @param modelId   model id
      * @param predictor predictor
      */
-    public synchronized void setPredictor(String modelId, Predictable predictor) {
-        MLModelCache modelCache = getExistingModelCache(modelId);
-        modelCache.setPredictor(predictor);
+    public void setPredictor(String modelId, Predictable predictor) {
+        updateModelCache(modelId, modelCache -> modelCache.setPredictor(predictor));
     }
 
-    public synchronized void setMLExecutor(String modelId, MLExecutable mlExecutor) {
-        MLModelCache modelCache = getExistingModelCache(modelId);
-        modelCache.setExecutor(mlExecutor);
+    public void setMLExecutor(String modelId, MLExecutable mlExecutor) {
+        updateModelCache(modelId, modelCache -> modelCache.setExecutor(mlExecutor));
     }
 
     public MLExecutable getMLExecutor(String modelId) {
@@ -483,10 +598,10 @@ public class MLModelCacheHelper {
      * @param targetWorkerNodes target worker nodes of model
      */
     public void setTargetWorkerNodes(String modelId, List<String> targetWorkerNodes) {
-        MLModelCache modelCache = modelCaches.get(modelId);
-        if (modelCache != null) {
+        modelCaches.computeIfPresent(modelId, (id, modelCache) -> {
             modelCache.setTargetWorkerNodes(targetWorkerNodes);
-        }
+            return modelCache;
+        });
     }
 
     /**
@@ -505,12 +620,12 @@ public class MLModelCacheHelper {
      * @param modelId model id
      */
     public void removeModel(String modelId) {
-        MLModelCache modelCache = modelCaches.get(modelId);
-        if (modelCache != null) {
+        modelCaches.computeIfPresent(modelId, (id, modelCache) -> {
             log.debug("removing model {} from cache", modelId);
+            invalidateRoutingVersion();
             modelCache.clear();
-            modelCaches.remove(modelId);
-        }
+            return null;
+        });
         autoDeployModels.remove(modelId);
     }
 
@@ -557,10 +672,10 @@ public class MLModelCacheHelper {
      * @param modelId model id
      * @param nodeId  node id
      */
-    public synchronized void addWorkerNode(String modelId, String nodeId) {
+    public void addWorkerNode(String modelId, String nodeId) {
         log.debug("add node {} to model routing table for model: {}", nodeId, modelId);
-        MLModelCache modelCache = getOrCreateModelCache(modelId);
-        modelCache.addWorkerNode(nodeId);
+        invalidateRoutingVersion();
+        updateModelCache(modelId, modelCache -> modelCache.addWorkerNode(nodeId));
     }
 
     /**
@@ -569,15 +684,17 @@ public class MLModelCacheHelper {
      * @param removedNodes removed nodes
      */
     public void removeWorkerNodes(Set<String> removedNodes, boolean isFromUndeploy) {
-        Set<String> modelIds = modelCaches.keySet();
-        for (String modelId : modelIds) {
-            MLModelCache modelCache = modelCaches.get(modelId);
-            log.debug("remove worker nodes of model {} : {}", modelId, removedNodes.toArray(new String[0]));
-            modelCache.removeWorkerNodes(removedNodes, isFromUndeploy);
-            if (!modelCache.isValidCache()) {
-                log.debug("remove model cache {}", modelId);
-                modelCaches.remove(modelId);
-            }
+        invalidateRoutingVersion();
+        for (String modelId : modelCaches.keySet()) {
+            modelCaches.computeIfPresent(modelId, (id, modelCache) -> {
+                log.debug("remove worker nodes of model {} : {}", modelId, removedNodes.toArray(new String[0]));
+                modelCache.removeWorkerNodes(removedNodes, isFromUndeploy);
+                if (!modelCache.isValidCache()) {
+                    log.debug("remove model cache {}", modelId);
+                    return null;
+                }
+                return modelCache;
+            });
         }
     }
 
@@ -594,15 +711,16 @@ public class MLModelCacheHelper {
      *                       worker nodes to exclude the removed worker nodes.
      */
     public void removeWorkerNode(String modelId, String nodeId, boolean isFromUndeploy) {
-        MLModelCache modelCache = modelCaches.get(modelId);
-        if (modelCache != null) {
+        invalidateRoutingVersion();
+        modelCaches.computeIfPresent(modelId, (id, modelCache) -> {
             log.debug("remove worker node {} of model {} from cache", nodeId, modelId);
             modelCache.removeWorkerNode(nodeId, isFromUndeploy);
             if (!modelCache.isValidCache()) {
                 log.debug("remove model {} from cache as no node running it", modelId);
-                modelCaches.remove(modelId);
+                return null;
             }
-        }
+            return modelCache;
+        });
     }
 
     /**
@@ -617,10 +735,52 @@ public class MLModelCacheHelper {
         if (currentModels.size() > 0) {
             currentModels.forEach(modelId -> clearWorkerNodes(modelId));
         }
-        modelWorkerNodes.entrySet().forEach(entry -> {
-            MLModelCache modelCache = getOrCreateModelCache(entry.getKey());
-            modelCache.syncWorkerNode(entry.getValue());
-        });
+        modelWorkerNodes
+            .entrySet()
+            .forEach(entry -> updateModelCache(entry.getKey(), modelCache -> modelCache.syncWorkerNode(entry.getValue())));
+    }
+
+    /**
+     * Sync worker nodes of changed models only, models not in the delta keep their worker nodes.
+     *
+     * @param changedModelWorkerNodes worker nodes of models whose routing changed
+     * @param removedModels           models which are not deployed on any node anymore
+     */
+    public void syncWorkerNodesDelta(Map<String, Set<String>> changedModelWorkerNodes, Set<String> removedModels) {
+        log.debug("sync model worker nodes delta");
+        if (removedModels != null) {
+            removedModels.forEach(modelId -> clearWorkerNodes(modelId));
+        }
+        if (changedModelWorkerNodes != null) {
+            changedModelWorkerNodes
+                .entrySet()
+                .forEach(entry -> updateModelCache(entry.getKey(), modelCache -> modelCache.syncWorkerNode(entry.getValue())));
+        }
+    }
+
+    /**
+     * Get version of the routing table last applied by sync up.
+     *
+     * @return routing version, 0 if local routing is out of sync
+     */
+    public long getRoutingVersion() {
+        return routingVersion.get();
+    }
+
+    /**
+     * Set version of the routing table after applying a sync up.
+     *
+     * @param version routing version
+     */
+    public void setRoutingVersion(long version) {
+        routingVersion.set(version);
+    }
+
+    /**
+     * Worker nodes changed outside of sync up, the next sync up must push the full routing table.
+     */
+    public void invalidateRoutingVersion() {
+        routingVersion.set(0);
     }
 
     /**
@@ -630,10 +790,9 @@ public class MLModelCacheHelper {
      */
     public void syncPlanningWorkerNodes(Map<String, Set<String>> modelPlanningWorkerNodes) {
         log.debug("sync model planning worker nodes");
-        modelPlanningWorkerNodes.entrySet().forEach(entry -> {
-            MLModelCache modelCache = getOrCreateModelCache(entry.getKey());
-            modelCache.syncPlanningWorkerNodes(entry.getValue());
-        });
+        modelPlanningWorkerNodes
+            .entrySet()
+            .forEach(entry -> updateModelCache(entry.getKey(), modelCache -> modelCache.syncPlanningWorkerNodes(entry.getValue())));
     }
 
     /**
@@ -650,14 +809,11 @@ public class MLModelCacheHelper {
      * @param modelId model id
      */
     public void clearWorkerNodes(String modelId) {
-        MLModelCache modelCache = modelCaches.get(modelId);
-        if (modelCache != null) {
+        modelCaches.computeIfPresent(modelId, (id, modelCache) -> {
             log.debug("clear worker nodes of model {}", modelId);
             modelCache.clearWorkerNodes();
-            if (!modelCache.isValidCache()) {
-                modelCaches.remove(modelId);
-            }
-        }
+            return modelCache.isValidCache() ? modelCache : null;
+        });
     }
 
     /**
@@ -687,6 +843,8 @@ public class MLModelCacheHelper {
         }
         builder.modelInferenceStats(modelCache.getInferenceStats(true));
         builder.predictRequestStats(modelCache.getInferenceStats(false));
+        builder.streamFirstTokenStats(modelCache.getStreamFirstTokenStats());
+        builder.streamInterTokenStats(modelCache.getStreamInterTokenStats());
         builder.memSizeEstimationCPU(modelCache.getMemSizeEstimationCPU());
         builder.memSizeEstimationGPU(modelCache.getMemSizeEstimationGPU());
         return builder.build();
@@ -708,6 +866,28 @@ public class MLModelCacheHelper {
         modelCache.addPredictRequestDuration(duration, maxRequestCount);
     }
 
+    /**
+     * Add the time to the first chunk of a streaming predict request.
+     *
+     * @param modelId  model id
+     * @param duration time in milliseconds from the start of the stream to its first chunk
+     */
+    public void addStreamFirstTokenDuration(String modelId, double duration) {
+        MLModelCache modelCache = getOrCreateModelCache(modelId);
+        modelCache.addStreamFirstTokenDuration(duration, maxRequestCount);
+    }
+
+    /**
+     * Add the time between two chunks of a streaming predict request.
+     *
+     * @param modelId  model id
+     * @param duration time in milliseconds between a chunk and the previous one
+     */
+    public void addStreamInterTokenDuration(String modelId, double duration) {
+        MLModelCache modelCache = getOrCreateModelCache(modelId);
+        modelCache.addStreamInterTokenDuration(duration, maxRequestCount);
+    }
+
     public void resizeMonitoringQueue(long monitoringReqCount) {
         for (Map.Entry<String, MLModelCache> entry : modelCaches.entrySet()) {
             entry.getValue().resizeMonitoringQueue(monitoringReqCount);
@@ -732,11 +912,11 @@ public class MLModelCacheHelper {
     }
 
     public void setDeployToAllNodes(String modelId, Boolean deployToAllNodes) {
-        MLModelCache modelCache = modelCaches.get(modelId);
-        if (modelCache != null) {
+        modelCaches.computeIfPresent(modelId, (id, modelCache) -> {
             log.info("Starting to set deployToAllNodes flag to modelId: {}, value to: {}", modelId, deployToAllNodes);
             modelCache.setDeployToAllNodes(deployToAllNodes);
-        }
+            return modelCache;
+        });
     }
 
     public boolean getDeployToAllNodes(String modelId) {
@@ -745,10 +925,10 @@ public class MLModelCacheHelper {
     }
 
     public void setModelInfo(String modelId, MLModel mlModel) {
-        MLModelCache mlModelCache = modelCaches.get(modelId);
-        if (mlModelCache != null) {
+        modelCaches.computeIfPresent(modelId, (id, mlModelCache) -> {
             mlModelCache.setModelInfo(mlModel);
-        }
+            return mlModelCache;
+        });
     }
 
     public MLModel getModelInfo(String modelId) {
@@ -772,6 +952,18 @@ public class MLModelCacheHelper {
         return modelCaches.computeIfAbsent(modelId, it -> new MLModelCache());
     }
 
+    /**
+     * Updates the cache of a model while holding the lock of that model only, creating the cache if absent. Updates of
+     * different models run concurrently, and reads never lock.
+     */
+    private void updateModelCache(String modelId, Consumer<MLModelCache> update) {
+        modelCaches.compute(modelId, (id, modelCache) -> {
+            MLModelCache cache = modelCache == null ? new MLModelCache() : modelCache;
+            update.accept(cache);
+            return cache;
+        });
+    }
+
     public MLModel addModelToAutoDeployCache(String modelId, MLModel model) {
         MLModel addedModel = autoDeployModels.computeIfAbsent(modelId, key -> model);
         if (addedModel == model) {
@@ -22,11 +22,13 @@ import static org.opensearch.ml.common.MLTask.MODEL_ID_FIELD;
 import static org.opensearch.ml.common.MLTask.STATE_FIELD;
 import static org.opensearch.ml.common.MLTaskState.COMPLETED;
 import static org.opensearch.ml.common.MLTaskState.FAILED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_ADAPTIVE_RATE_LIMITER_ENABLED;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INFERENCE_TASKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INGESTION_TASKS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_FILES;
 import static org.opensearch.ml.engine.ModelHelper.CHUNK_SIZE;
@@ -137,6 +139,7 @@ import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener.TokenLatencyListener;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.engine.utils.FileUtils;
 import org.opensearch.ml.profile.MLModelProfile;
@@ -145,6 +148,7 @@ import org.opensearch.ml.stats.MLActionLevelStat;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.ml.utils.CompiledJsonSchema;
 import org.opensearch.ml.utils.MLExceptionUtils;
 import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.remote.metadata.client.GetDataObjectRequest;
@@ -198,6 +202,8 @@ public class MLModelManager {
     private volatile Integer maxDeployTasksPerNode;
     private volatile Integer maxBatchInferenceTasks;
     private volatile Integer maxBatchIngestionTasks;
+    private volatile boolean adaptiveRateLimiterEnabled;
+    private volatile Integer syncUpJobIntervalInSeconds;
 
     public static final ImmutableSet<MLModelState> MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -266,6 +272,16 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_BATCH_INGESTION_TASKS, it -> maxBatchIngestionTasks = it);
+
+        adaptiveRateLimiterEnabled = ML_COMMONS_ADAPTIVE_RATE_LIMITER_ENABLED.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_ADAPTIVE_RATE_LIMITER_ENABLED, it -> adaptiveRateLimiterEnabled = it);
+
+        syncUpJobIntervalInSeconds = ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS, it -> syncUpJobIntervalInSeconds = it);
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -1797,6 +1813,24 @@ public class MLModelManager {
         if (rateLimiter.isValid()) {
             double limit = Double.parseDouble(rateLimiter.getLimit());
             TimeUnit unit = rateLimiter.getUnit();
+            if (adaptiveRateLimiterEnabled && eligibleNodeCount > 1 && syncUpJobIntervalInSeconds > 0) {
+                log
+                    .info(
+                        "Initializing the rate limiter with setting {} per {} (TPS limit {}), distributed on {} nodes by traffic",
+                        limit,
+                        unit,
+                        limit / unit.toSeconds(1),
+                        eligibleNodeCount
+                    );
+                // shares are re-split on every sync up, fall back to the even split after missing a few of them
+                return new AdaptiveTokenBucket(
+                    System::nanoTime,
+                    limit / unit.toNanos(1),
+                    limit,
+                    eligibleNodeCount,
+                    TimeUnit.SECONDS.toNanos(3L * syncUpJobIntervalInSeconds)
+                );
+            }
             log
                 .info(
                     "Initializing the rate limiter with setting {} per {} (TPS limit {}), evenly distributed on {} nodes",
@@ -1859,6 +1893,16 @@ public class MLModelManager {
         return modelCacheHelper.getModelInterface(modelId);
     }
 
+    /**
+     * Get the compiled output schema of the model interface.
+     *
+     * @param modelId model id
+     * @return the compiled schema, or null if the model has no output schema
+     */
+    public CompiledJsonSchema getOutputSchema(String modelId) {
+        return modelCacheHelper.getOutputSchema(modelId);
+    }
+
     /**
      * Set up ML guard with model id.
      *
@@ -2515,6 +2559,54 @@ public class MLModelManager {
         syncModelPlanningWorkerNodes(modelWorkerNodes);
     }
 
+    /**
+     * Sync the full routing table and record its version.
+     *
+     * @param modelWorkerNodes worker nodes of all models
+     * @param routingVersion   version of the routing table
+     */
+    public synchronized void syncModelWorkerNodes(Map<String, Set<String>> modelWorkerNodes, long routingVersion) {
+        syncModelWorkerNodes(modelWorkerNodes);
+        modelCacheHelper.setRoutingVersion(routingVersion);
+    }
+
+    /**
+     * Apply a routing delta on top of the local routing table. The delta is skipped if the local routing table
+     * is not at the base version, the cluster manager will push the full routing table on its next sync up.
+     *
+     * @param changedModelWorkerNodes worker nodes of models whose routing changed
+     * @param removedModels           models which are not deployed on any node anymore
+     * @param baseRoutingVersion      version the delta applies on top of
+     * @param routingVersion          version of the routing table after applying the delta
+     * @return true if the delta is applied
+     */
+    public synchronized boolean syncModelWorkerNodesDelta(
+        Map<String, Set<String>> changedModelWorkerNodes,
+        Set<String> removedModels,
+        long baseRoutingVersion,
+        long routingVersion
+    ) {
+        if (modelCacheHelper.getRoutingVersion() != baseRoutingVersion) {
+            log
+                .debug(
+                    "Skip routing delta, local routing version {} doesn't match base version {}",
+                    modelCacheHelper.getRoutingVersion(),
+                    baseRoutingVersion
+                );
+            return false;
+        }
+        modelCacheHelper.syncWorkerNodesDelta(changedModelWorkerNodes, removedModels);
+        if (changedModelWorkerNodes != null) {
+            syncModelPlanningWorkerNodes(changedModelWorkerNodes);
+        }
+        modelCacheHelper.setRoutingVersion(routingVersion);
+        return true;
+    }
+
+    public long getRoutingVersion() {
+        return modelCacheHelper.getRoutingVersion();
+    }
+
     public synchronized void syncModelPlanningWorkerNodes(Map<String, Set<String>> modelWorkerNodes) {
         Map<String, Set<String>> modelPlanningWorkerNodes = new HashMap<>();
         modelWorkerNodes.keySet().forEach(modelId -> {
@@ -2537,6 +2629,16 @@ public class MLModelManager {
         modelCacheHelper.clearWorkerNodes();
     }
 
+    /**
+     * Clear all model worker nodes from cache and record the routing version.
+     *
+     * @param routingVersion version of the routing table
+     */
+    public synchronized void clearRoutingTable(long routingVersion) {
+        clearRoutingTable();
+        modelCacheHelper.setRoutingVersion(routingVersion);
+    }
+
     public MLModelProfile getModelProfile(String modelId) {
         return modelCacheHelper.getModelProfile(modelId);
     }
@@ -2556,6 +2658,25 @@ public class MLModelManager {
         modelCacheHelper.addModelInferenceDuration(modelId, durationInMs);
     }
 
+    /**
+     * Get a listener that adds the chunk latency of a streaming predict request to the model's stats.
+     * @param modelId model id
+     * @return token latency listener
+     */
+    public TokenLatencyListener trackStreamTokenLatency(String modelId) {
+        return new TokenLatencyListener() {
+            @Override
+            public void onFirstToken(double latency) {
+                modelCacheHelper.addStreamFirstTokenDuration(modelId, latency);
+            }
+
+            @Override
+            public void onNextToken(double latency) {
+                modelCacheHelper.addStreamInterTokenDuration(modelId, latency);
+            }
+        };
+    }
+
     public FunctionName getModelFunctionName(String modelId) {
         return modelCacheHelper.getFunctionName(modelId);
     }
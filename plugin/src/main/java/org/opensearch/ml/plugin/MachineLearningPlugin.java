@@ -20,7 +20,9 @@ import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_STOP_WORDS_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
 import static org.opensearch.ml.common.CommonValue.TENANT_ID_FIELD;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_COMPUTE_POOL_SIZE;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MULTI_TENANCY_ENABLED;
+import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_TASK_STATE_FLUSH_INTERVAL_IN_MILLIS;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.REMOTE_METADATA_ENDPOINT;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.REMOTE_METADATA_GLOBAL_RESOURCE_CACHE_TTL;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.REMOTE_METADATA_GLOBAL_TENANT_ID;
@@ -36,6 +38,7 @@ import static org.opensearch.remote.metadata.common.CommonValue.REMOTE_METADATA_
 import static org.opensearch.remote.metadata.common.CommonValue.TENANT_AWARE_KEY;
 import static org.opensearch.remote.metadata.common.CommonValue.TENANT_ID_FIELD_KEY;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -86,6 +89,7 @@ import org.opensearch.ml.action.config.GetConfigTransportAction;
 import org.opensearch.ml.action.connector.DeleteConnectorTransportAction;
 import org.opensearch.ml.action.connector.ExecuteConnectorTransportAction;
 import org.opensearch.ml.action.connector.GetConnectorTransportAction;
+import org.opensearch.ml.action.connector.InvalidateConnectorCacheTransportAction;
 import org.opensearch.ml.action.connector.SearchConnectorTransportAction;
 import org.opensearch.ml.action.connector.TransportCreateConnectorAction;
 import org.opensearch.ml.action.connector.UpdateConnectorTransportAction;
@@ -185,6 +189,7 @@ import org.opensearch.ml.common.transport.agent.MLRegisterAgentAction;
 import org.opensearch.ml.common.transport.agent.MLSearchAgentAction;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionAction;
 import org.opensearch.ml.common.transport.config.MLConfigGetAction;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorGetAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorSearchAction;
@@ -284,6 +289,7 @@ import org.opensearch.ml.engine.tools.SearchIndexTool;
 import org.opensearch.ml.engine.tools.VisualizationsTool;
 import org.opensearch.ml.engine.tools.WriteToScratchPadTool;
 import org.opensearch.ml.engine.utils.AgentModelsSearcher;
+import org.opensearch.ml.engine.utils.MLComputePool;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.jobs.MLJobParameter;
@@ -315,6 +321,7 @@ import org.opensearch.ml.memory.action.conversation.UpdateInteractionAction;
 import org.opensearch.ml.memory.action.conversation.UpdateInteractionTransportAction;
 import org.opensearch.ml.memory.index.ConversationMetaIndex;
 import org.opensearch.ml.memory.index.OpenSearchConversationalMemoryHandler;
+import org.opensearch.ml.model.MLConnectorCache;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.processor.MLInferenceIngestProcessor;
@@ -406,6 +413,7 @@ import org.opensearch.ml.stats.otel.counters.MLAdoptionMetricsCounter;
 import org.opensearch.ml.stats.otel.counters.MLOperationalMetricsCounter;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.stats.suppliers.IndexStatusSupplier;
+import org.opensearch.ml.stats.suppliers.SettableSupplier;
 import org.opensearch.ml.task.MLExecuteTaskRunner;
 import org.opensearch.ml.task.MLPredictTaskRunner;
 import org.opensearch.ml.task.MLTaskDispatcher;
@@ -482,6 +490,7 @@ public class MachineLearningPlugin extends Plugin
 
     private MLStats mlStats;
     private MLModelCacheHelper modelCacheHelper;
+    private MLConnectorCache connectorCache;
     private MLTaskManager mlTaskManager;
     private MLModelManager mlModelManager;
     private MLIndicesHandler mlIndicesHandler;
@@ -562,6 +571,7 @@ public class MachineLearningPlugin extends Plugin
                 new ActionHandler<>(MLModelGroupDeleteAction.INSTANCE, DeleteModelGroupTransportAction.class),
                 new ActionHandler<>(MLCreateConnectorAction.INSTANCE, TransportCreateConnectorAction.class),
                 new ActionHandler<>(MLExecuteConnectorAction.INSTANCE, ExecuteConnectorTransportAction.class),
+                new ActionHandler<>(MLConnectorCacheInvalidateAction.INSTANCE, InvalidateConnectorCacheTransportAction.class),
                 new ActionHandler<>(MLConnectorGetAction.INSTANCE, GetConnectorTransportAction.class),
                 new ActionHandler<>(MLIndexInsightGetAction.INSTANCE, GetIndexInsightTransportAction.class),
                 new ActionHandler<>(MLIndexInsightConfigGetAction.INSTANCE, GetIndexInsightConfigTransportAction.class),
@@ -685,8 +695,10 @@ public class MachineLearningPlugin extends Plugin
         mlEngine = new MLEngine(dataPath, encryptor);
         nodeHelper = new DiscoveryNodeHelper(clusterService, settings);
         modelCacheHelper = new MLModelCacheHelper(clusterService, settings);
+        connectorCache = new MLConnectorCache();
         cmHandler = new OpenSearchConversationalMemoryHandler(client, clusterService);
         DJLUtils.setMlEngine(mlEngine);
+        MLComputePool.start(Math.min(ML_COMMONS_COMPUTE_POOL_SIZE.get(settings), OpenSearchExecutors.allocatedProcessors(settings)));
 
         JvmService jvmService = new JvmService(environment.settings());
         OsService osService = new OsService(environment.settings());
@@ -713,9 +725,17 @@ public class MachineLearningPlugin extends Plugin
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_ROUTING_FULL_SYNC_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_ROUTING_DELTA_SYNC_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_ROUTING_SYNC_PAYLOAD_BYTES, new MLStat<>(false, new SettableSupplier()));
+        stats.put(MLNodeLevelStat.ML_ROUTING_SYNC_DURATION_IN_MS, new MLStat<>(false, new SettableSupplier()));
         this.mlStats = new MLStats(stats);
 
         mlTaskManager = new MLTaskManager(client, sdkClient, threadPool, mlIndicesHandler);
+        mlTaskManager.setTaskStateFlushIntervalInMillis(ML_COMMONS_TASK_STATE_FLUSH_INTERVAL_IN_MILLIS.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_TASK_STATE_FLUSH_INTERVAL_IN_MILLIS, mlTaskManager::setTaskStateFlushIntervalInMillis);
         modelHelper = new ModelHelper(mlEngine);
 
         mlInputDatasetHandler = new MLInputDatasetHandler(client);
@@ -770,6 +790,7 @@ public class MachineLearningPlugin extends Plugin
             mlModelManager,
             nodeHelper,
             mlEngine,
+            connectorAccessControlHelper,
             settings
         );
         mlTrainAndPredictTaskRunner = new MLTrainAndPredictTaskRunner(
@@ -899,7 +920,8 @@ public class MachineLearningPlugin extends Plugin
             mlIndicesHandler,
             encryptor,
             mlModelAutoRedeployer,
-            mlFeatureEnabledSetting
+            mlFeatureEnabledSetting,
+            mlStats
         );
 
         MLJobRunner
@@ -920,6 +942,7 @@ public class MachineLearningPlugin extends Plugin
                 mlEngine,
                 nodeHelper,
                 modelCacheHelper,
+                connectorCache,
                 mlStats,
                 mlTaskManager,
                 mlModelManager,
@@ -1304,7 +1327,10 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE,
                 MLCommonsSettings.ML_COMMONS_SYNC_UP_JOB_INTERVAL_IN_SECONDS,
+                MLCommonsSettings.ML_COMMONS_ADAPTIVE_RATE_LIMITER_ENABLED,
                 MLCommonsSettings.ML_COMMONS_ML_TASK_TIMEOUT_IN_SECONDS,
+                MLCommonsSettings.ML_COMMONS_TASK_STATE_FLUSH_INTERVAL_IN_MILLIS,
+                MLCommonsSettings.ML_COMMONS_COMPUTE_POOL_SIZE,
                 MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT,
                 MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE,
                 MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE,
@@ -1403,7 +1429,7 @@ public class MachineLearningPlugin extends Plugin
         requestProcessors
             .put(
                 GenerativeQAProcessorConstants.REQUEST_PROCESSOR_TYPE,
-                new GenerativeQARequestProcessor.Factory(this.mlFeatureEnabledSetting)
+                new GenerativeQARequestProcessor.Factory(this.client, this.mlFeatureEnabledSetting)
             );
         requestProcessors
             .put(
@@ -1552,4 +1578,13 @@ public class MachineLearningPlugin extends Plugin
     public ScheduledJobParser getJobParser() {
         return (parser, id, jobDocVersion) -> MLJobParameter.parse(parser);
     }
+
+    @Override
+    public void close() throws IOException {
+        if (mlTaskManager != null) {
+            mlTaskManager.close();
+        }
+        MLComputePool.shutdown();
+        super.close();
+    }
 }
@@ -34,13 +34,12 @@ import org.opensearch.action.ActionRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.GroupedActionListener;
-import org.opensearch.common.collect.Tuple;
-import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ingest.ConfigurationUtils;
@@ -59,6 +58,7 @@ import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
 import org.opensearch.transport.client.Client;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 
 import lombok.Getter;
@@ -413,11 +413,14 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 requiredInputMapping = new HashMap<>();
             }
 
+            // the query body is the same for every hit, it is parsed once on first use
+            DocumentContext queryContext = null;
             for (SearchHit hit : hits) {
                 Map<String, Object> document = hit.getSourceAsMap();
                 boolean isDocumentFieldMissing = checkIsDocumentFieldMissing(document, requiredInputMapping);
                 if (!isDocumentFieldMissing) {
                     MapUtils.incrementCounter(hitCountInPredictions, inputMapIndex);
+                    DocumentContext documentContext = JsonPath.using(suppressExceptionConfiguration).parse(document);
                     for (Map.Entry<String, String> entry : inputMapping.entrySet()) {
                         // model field as key, document field name as value
                         String modelInputFieldName = entry.getKey();
@@ -429,12 +432,15 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                             && !modelInputParameters.containsKey(modelInputFieldName)) {
                             String requestFieldName = documentFieldName.replaceFirst(REQUEST_PREFIX, "");
 
-                            Object queryText = JsonPath.using(suppressExceptionConfiguration).parse(queryString).read(requestFieldName);
+                            if (queryContext == null) {
+                                queryContext = JsonPath.using(suppressExceptionConfiguration).parse(queryString);
+                            }
+                            Object queryText = queryContext.read(requestFieldName);
                             if (queryText != null) {
                                 modelInputParameters.put(modelInputFieldName, toJson(queryText));
                             }
                         } else {
-                            Object documentValue = JsonPath.using(suppressExceptionConfiguration).parse(document).read(documentFieldName);
+                            Object documentValue = documentContext.read(documentFieldName);
                             if (documentValue != null) {
                                 // when not existed in the map, add into the modelInputParameters map
                                 updateModelInputParameters(modelInputParameters, modelInputFieldName, documentValue);
@@ -586,15 +592,12 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                     Map<Integer, Map<String, Integer>> writeOutputMapDocCounter = new HashMap<>();
 
                     for (SearchHit hit : response.getHits().getHits()) {
-                        Map<String, Object> sourceAsMapWithInference = new HashMap<>();
                         if (hit.hasSource()) {
-                            BytesReference sourceRef = hit.getSourceRef();
-                            Tuple<? extends MediaType, Map<String, Object>> typeAndSourceMap = XContentHelper
-                                .convertToMap(sourceRef, false, (MediaType) null);
-
-                            Map<String, Object> sourceAsMap = typeAndSourceMap.v2();
-                            sourceAsMapWithInference.putAll(sourceAsMap);
-                            Map<String, Object> document = hit.getSourceAsMap();
+                            // the source was already parsed and cached by the hit when the model inputs were read
+                            Map<String, Object> sourceAsMap = hit.getSourceAsMap();
+                            Map<String, Object> sourceAsMapWithInference = new HashMap<>(sourceAsMap);
+                            Map<String, Object> document = sourceAsMap;
+                            boolean isSourceUpdated = false;
 
                             for (Map.Entry<Integer, MLOutput> entry : multipleMLOutputs.entrySet()) {
                                 Integer mappingIndex = entry.getKey();
@@ -662,6 +665,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                                                 if (override) {
                                                     sourceAsMapWithInference.remove(newDocumentFieldName);
                                                     sourceAsMapWithInference.put(newDocumentFieldName, modelOutputValuePerDoc);
+                                                    isSourceUpdated = true;
                                                 } else {
                                                     logger
                                                         .debug(
@@ -673,14 +677,19 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                                                 }
                                             } else {
                                                 sourceAsMapWithInference.put(newDocumentFieldName, modelOutputValuePerDoc);
+                                                isSourceUpdated = true;
                                             }
                                         }
                                     }
                                 }
                             }
-                            XContentBuilder builder = XContentBuilder.builder(typeAndSourceMap.v1().xContent());
-                            builder.map(sourceAsMapWithInference);
-                            hit.sourceRef(BytesReference.bytes(builder));
+                            // keep the original source bytes when nothing was written to this hit
+                            if (isSourceUpdated) {
+                                MediaType mediaType = MediaTypeRegistry.xContentType(hit.getSourceRef());
+                                XContentBuilder builder = XContentBuilder.builder(mediaType.xContent());
+                                builder.map(sourceAsMapWithInference);
+                                hit.sourceRef(BytesReference.bytes(builder));
+                            }
 
                         }
                     }
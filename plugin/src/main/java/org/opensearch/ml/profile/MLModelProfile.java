@@ -13,6 +13,7 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
 import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 
@@ -25,12 +26,16 @@ import lombok.extern.log4j.Log4j2;
 @Log4j2
 public class MLModelProfile implements ToXContentFragment, Writeable {
 
+    private static final Version MINIMAL_SUPPORTED_VERSION_FOR_STREAM_STATS = CommonValue.VERSION_3_3_0;
+
     private final MLModelState modelState;
     private final String predictor;
     private final String[] targetWorkerNodes;
     private final String[] workerNodes;
     private final MLPredictRequestStats modelInferenceStats;
     private final MLPredictRequestStats predictRequestStats;
+    private final MLPredictRequestStats streamFirstTokenStats;
+    private final MLPredictRequestStats streamInterTokenStats;
     private final Long memSizeEstimationCPU;
     private final Long memSizeEstimationGPU;
     @Setter
@@ -44,6 +49,8 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         String[] workerNodes,
         MLPredictRequestStats modelInferenceStats,
         MLPredictRequestStats predictRequestStats,
+        MLPredictRequestStats streamFirstTokenStats,
+        MLPredictRequestStats streamInterTokenStats,
         Long memSizeEstimationCPU,
         Long memSizeEstimationGPU
     ) {
@@ -53,6 +60,8 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         this.workerNodes = workerNodes;
         this.modelInferenceStats = modelInferenceStats;
         this.predictRequestStats = predictRequestStats;
+        this.streamFirstTokenStats = streamFirstTokenStats;
+        this.streamInterTokenStats = streamInterTokenStats;
         this.memSizeEstimationCPU = memSizeEstimationCPU;
         this.memSizeEstimationGPU = memSizeEstimationGPU;
     }
@@ -78,6 +87,12 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (predictRequestStats != null) {
             builder.field("predict_request_stats", predictRequestStats);
         }
+        if (streamFirstTokenStats != null) {
+            builder.field("stream_first_token_stats", streamFirstTokenStats);
+        }
+        if (streamInterTokenStats != null) {
+            builder.field("stream_inter_token_stats", streamInterTokenStats);
+        }
         if (memSizeEstimationCPU != null) {
             builder.field("memory_size_estimation_cpu", memSizeEstimationCPU);
         }
@@ -116,6 +131,13 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (streamInputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             this.isHidden = in.readOptionalBoolean();
         }
+        if (streamInputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_STREAM_STATS)) {
+            this.streamFirstTokenStats = in.readOptionalWriteable(MLPredictRequestStats::new);
+            this.streamInterTokenStats = in.readOptionalWriteable(MLPredictRequestStats::new);
+        } else {
+            this.streamFirstTokenStats = null;
+            this.streamInterTokenStats = null;
+        }
     }
 
     @Override
@@ -147,5 +169,9 @@ public class MLModelProfile implements ToXContentFragment, Writeable {
         if (streamOutputVersion.onOrAfter(MLRegisterModelInput.MINIMAL_SUPPORTED_VERSION_FOR_AGENT_FRAMEWORK)) {
             out.writeOptionalBoolean(isHidden);
         }
+        if (streamOutputVersion.onOrAfter(MINIMAL_SUPPORTED_VERSION_FOR_STREAM_STATS)) {
+            out.writeOptionalWriteable(streamFirstTokenStats);
+            out.writeOptionalWriteable(streamInterTokenStats);
+        }
     }
 }
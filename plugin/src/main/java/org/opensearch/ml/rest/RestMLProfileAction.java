@@ -207,6 +207,8 @@ public class RestMLProfileAction extends BaseRestHandler {
                     null,
                     entry.getValue().getModelInferenceStats(),
                     entry.getValue().getPredictRequestStats(),
+                    entry.getValue().getStreamFirstTokenStats(),
+                    entry.getValue().getStreamInterTokenStats(),
                     entry.getValue().getMemSizeEstimationCPU(),
                     entry.getValue().getMemSizeEstimationGPU()
                 );
@@ -13,7 +13,12 @@ package org.opensearch.ml.stats;
  */
 public enum MLActionLevelStat {
     ML_ACTION_REQUEST_COUNT,
-    ML_ACTION_FAILURE_COUNT;
+    ML_ACTION_FAILURE_COUNT,
+    ML_ACTION_RESPONSE_CACHE_HIT_COUNT, // Predictions of a remote model served from its response cache on an exact match
+    ML_ACTION_RESPONSE_CACHE_SEMANTIC_HIT_COUNT, // Predictions served from the response cache by embedding similarity
+    ML_ACTION_RESPONSE_CACHE_MISS_COUNT,
+    ML_ACTION_RESPONSE_CACHE_EVICTION_COUNT,
+    ML_ACTION_RESPONSE_CACHE_SIZE;
 
     public static MLActionLevelStat from(String value) {
         try {
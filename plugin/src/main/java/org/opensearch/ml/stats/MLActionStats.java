@@ -6,6 +6,7 @@
 package org.opensearch.ml.stats;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 
@@ -53,6 +54,10 @@ public class MLActionStats implements ToXContentFragment, Writeable {
         return actionStats == null ? null : actionStats.get(actionLevelStat);
     }
 
+    public Map<MLActionLevelStat, Object> getActionStats() {
+        return actionStats == null ? Collections.emptyMap() : actionStats;
+    }
+
     public int getActionStatSize() {
         return actionStats == null ? 0 : actionStats.size();
     }
@@ -16,7 +16,14 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_ROUTING_FULL_SYNC_COUNT, // How many times the sync up job pushed the full model routing table
+    ML_ROUTING_DELTA_SYNC_COUNT, // How many times the sync up job pushed only changed model routing
+    ML_ROUTING_SYNC_PAYLOAD_BYTES, // Serialized size of the last model routing sync up request
+    ML_ROUTING_SYNC_DURATION_IN_MS, // Duration of the last model routing sync up
+    ML_MEMORY_EXTRACTION_QUEUE_DEPTH, // How many batches wait for long-term memory extraction
+    ML_MEMORY_EXTRACTION_IN_FLIGHT_COUNT, // How many batches are being extracted into long-term memory
+    ML_MEMORY_EXTRACTION_LAG_IN_MS; // How long the oldest waiting batch has been in the memory extraction queue
 
     public static MLNodeLevelStat from(String value) {
         try {
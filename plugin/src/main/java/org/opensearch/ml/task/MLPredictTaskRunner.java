@@ -9,6 +9,9 @@ import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedTok
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
+import static org.opensearch.ml.common.transport.batch.MLBatchIngestionInput.CONNECTOR_CREDENTIAL_FIELD;
+import static org.opensearch.ml.common.transport.batch.MLBatchIngestionInput.CONNECTOR_ID_FIELD;
+import static org.opensearch.ml.common.transport.batch.MLBatchIngestionInput.INDEX_NAME_FIELD;
 import static org.opensearch.ml.common.utils.StringUtils.getErrorMessage;
 import static org.opensearch.ml.permission.AccessController.checkUserPermissions;
 import static org.opensearch.ml.permission.AccessController.getUserContext;
@@ -69,7 +72,9 @@ import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.engine.algorithms.remote.streaming.StreamPredictActionListener.TokenLatencyListener;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
+import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.ActionName;
 import org.opensearch.ml.stats.MLActionLevelStat;
@@ -77,6 +82,7 @@ import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.otel.counters.MLOperationalMetricsCounter;
 import org.opensearch.ml.stats.otel.metrics.OperationalMetric;
+import org.opensearch.ml.utils.CompiledJsonSchema;
 import org.opensearch.ml.utils.MLNodeUtils;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.StreamTransportResponseHandler;
@@ -105,6 +111,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     private final MLModelManager mlModelManager;
     private final DiscoveryNodeHelper nodeHelper;
     private final MLEngine mlEngine;
+    private final ConnectorAccessControlHelper connectorAccessControlHelper;
     private volatile boolean autoDeploymentEnabled;
 
     public static final String BUCKET_FIELD = "bucket";
@@ -123,6 +130,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         MLModelManager mlModelManager,
         DiscoveryNodeHelper nodeHelper,
         MLEngine mlEngine,
+        ConnectorAccessControlHelper connectorAccessControlHelper,
         Settings settings
     ) {
         super(mlTaskManager, mlStats, nodeHelper, mlTaskDispatcher, mlCircuitBreakerService, clusterService);
@@ -134,6 +142,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         this.mlModelManager = mlModelManager;
         this.nodeHelper = nodeHelper;
         this.mlEngine = mlEngine;
+        this.connectorAccessControlHelper = connectorAccessControlHelper;
         autoDeploymentEnabled = ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE.get(settings);
         clusterService
             .getClusterSettings()
@@ -332,11 +341,14 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             actionType = ((RemoteInferenceInputDataSet) mlInput.getInputDataset()).getActionType();
         }
         actionType = actionType == null ? ActionType.PREDICT : actionType;
+        boolean batchPredict = actionType.equals(ActionType.BATCH_PREDICT);
+        // a batch task keeps its owner, as the output ingestion runs from a later status poll that has no user of its own
+        User owner = batchPredict ? (request.getUser() != null ? request.getUser() : getUserContext(client)) : null;
         MLTask mlTask = MLTask
             .builder()
             .taskId(UUID.randomUUID().toString())
             .modelId(modelId)
-            .taskType(actionType.equals(ActionType.BATCH_PREDICT) ? MLTaskType.BATCH_PREDICTION : MLTaskType.PREDICTION)
+            .taskType(batchPredict ? MLTaskType.BATCH_PREDICTION : MLTaskType.PREDICTION)
             .inputType(inputDataType)
             .functionName(functionName)
             .state(MLTaskState.CREATED)
@@ -345,9 +357,11 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             .lastUpdateTime(now)
             .async(false)
             .tenantId(tenantId)
+            .user(owner)
             .build();
-        if (actionType.equals(ActionType.BATCH_PREDICT)) {
-            mlModelManager.checkMaxBatchJobTask(mlTask, ActionListener.wrap(exceedLimits -> {
+        if (batchPredict) {
+            Map<String, String> ingest = ((RemoteInferenceInputDataSet) mlInput.getInputDataset()).getIngest();
+            ActionListener<Boolean> batchJobLimitListener = ActionListener.wrap(exceedLimits -> {
                 if (exceedLimits) {
                     String error =
                         "Exceeded maximum limit for BATCH_PREDICTION tasks. To increase the limit, update the plugins.ml_commons.max_batch_inference_tasks setting.";
@@ -359,12 +373,51 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             }, exception -> {
                 log.error("Failed to check the maximum BATCH_PREDICTION Task limits", exception);
                 listener.onFailure(exception);
-            }));
+            });
+            validateIngestConfig(
+                ingest,
+                ActionListener.wrap(valid -> mlModelManager.checkMaxBatchJobTask(mlTask, batchJobLimitListener), listener::onFailure)
+            );
             return;
         }
         executePredictionByInputDataType(inputDataType, modelId, mlInput, mlTask, functionName, tenantId, listener, channel);
     }
 
+    /**
+     * Validates the ingest config of a batch predict request against the requester. The output is ingested later, with
+     * the roles of the task owner, so the index must not be a system or hidden one and the requester must have access
+     * to the connector whose credential the ingestion uses.
+     */
+    private void validateIngestConfig(Map<String, String> ingest, ActionListener<Boolean> listener) {
+        if (ingest == null) {
+            listener.onResponse(true);
+            return;
+        }
+        String indexName = ingest.get(INDEX_NAME_FIELD);
+        if (indexName == null || indexName.isBlank() || indexName.startsWith(".")) {
+            listener.onFailure(new IllegalArgumentException("The ingest index_name must name an index that is not a system or hidden one"));
+            return;
+        }
+        String connectorId = ingest.get(CONNECTOR_ID_FIELD);
+        if (connectorId == null) {
+            listener.onResponse(true);
+            return;
+        }
+        connectorAccessControlHelper.validateConnectorAccess(client, connectorId, ActionListener.wrap(hasPermission -> {
+            if (hasPermission) {
+                listener.onResponse(true);
+            } else {
+                listener
+                    .onFailure(
+                        new OpenSearchStatusException(
+                            "You don't have permission to use the ingest connector, connector id: " + connectorId,
+                            RestStatus.FORBIDDEN
+                        )
+                    );
+            }
+        }, listener::onFailure));
+    }
+
     @Override
     protected boolean isStreamingRequest(MLPredictionTaskRequest request) {
         return request.getStreamingChannel() != null;
@@ -545,7 +598,17 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                                         if (dataAsMap != null && statusCode != null && statusCode >= 200 && statusCode < 300) {
                                             remoteJob.putAll(dataAsMap);
                                             // put dlq info in remote job
-                                            remoteJob.put("dlq", ((RemoteInferenceInputDataSet) mlInput.getInputDataset()).getDlq());
+                                            RemoteInferenceInputDataSet remoteDataSet = (RemoteInferenceInputDataSet) mlInput
+                                                .getInputDataset();
+                                            remoteJob.put("dlq", remoteDataSet.getDlq());
+                                            // put the ingestion of the batch job output in remote job, started once the job completes.
+                                            // The remote job is stored and returned in plain text, so an inline credential is dropped:
+                                            // the ingestion uses the connector_id credential, or the batch predict connector's one.
+                                            if (remoteDataSet.getIngest() != null) {
+                                                Map<String, String> ingest = new HashMap<>(remoteDataSet.getIngest());
+                                                ingest.remove(CONNECTOR_CREDENTIAL_FIELD);
+                                                remoteJob.put("ingest", ingest);
+                                            }
                                             mlTask.setRemoteJob(remoteJob);
                                             mlTask.setTaskId(null);
                                             mlTaskManager.createMLTask(mlTask, ActionListener.wrap(response -> {
@@ -586,7 +649,10 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                                 // recordPredictMetrics(modelId, durationInMs, output, internalListener);
                             }
                         }, e -> handlePredictFailure(mlTask, internalListener, e, false, modelId, actionName));
-                        predictor.asyncPredict(mlInput, trackPredictDurationListener, channel); // with listener
+                        TokenLatencyListener tokenLatencyListener = channel == null
+                            ? null
+                            : mlModelManager.trackStreamTokenLatency(modelId);
+                        predictor.asyncPredict(mlInput, trackPredictDurationListener, channel, tokenLatencyListener); // with listener
                     } else {
                         // long startTime = System.nanoTime();
                         MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput)); // without
@@ -715,7 +781,18 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     }
 
     public void validateOutputSchema(String modelId, ModelTensorOutput output) {
-        if (mlModelManager.getModelInterface(modelId) != null && mlModelManager.getModelInterface(modelId).get("output") != null) {
+        CompiledJsonSchema outputSchema = mlModelManager.getOutputSchema(modelId);
+        if (outputSchema != null) {
+            try {
+                outputSchema.validate(MLNodeUtils.toJsonNode(output));
+            } catch (Exception e) {
+                throw new OpenSearchStatusException(
+                    "Error validating output schema, if you think this is expected, please update your 'output' field in the 'interface' field for this model: "
+                        + e.getMessage(),
+                    RestStatus.BAD_REQUEST
+                );
+            }
+        } else if (mlModelManager.getModelInterface(modelId) != null && mlModelManager.getModelInterface(modelId).get("output") != null) {
             String outputSchemaString = mlModelManager.getModelInterface(modelId).get("output");
             try {
                 MLNodeUtils
@@ -82,10 +82,14 @@ public class MLTaskManager implements SettingsChangeListener {
     private final ThreadPool threadPool;
     private final MLIndicesHandler mlIndicesHandler;
     private final Map<MLTaskType, AtomicInteger> runningTasksCount;
+    private final MLTaskStateJournal taskStateJournal;
     private boolean taskPollingJobStarted;
     private boolean statsCollectorJobStarted;
     public static final ImmutableSet<MLTaskState> TASK_DONE_STATES = ImmutableSet
         .of(MLTaskState.COMPLETED, MLTaskState.COMPLETED_WITH_ERROR, MLTaskState.FAILED, MLTaskState.CANCELLED);
+    // Task types whose state is only updated by their own runner, so their updates can be buffered in the task state journal
+    public static final ImmutableSet<MLTaskType> JOURNALED_TASK_TYPES = ImmutableSet
+        .of(MLTaskType.PREDICTION, MLTaskType.TRAINING, MLTaskType.TRAINING_AND_PREDICTION);
 
     /**
      * Constructor to create ML task manager.
@@ -100,6 +104,31 @@ public class MLTaskManager implements SettingsChangeListener {
         this.mlIndicesHandler = mlIndicesHandler;
         taskCaches = new ConcurrentHashMap<>();
         runningTasksCount = new ConcurrentHashMap<>();
+        taskStateJournal = new MLTaskStateJournal(sdkClient, threadPool);
+    }
+
+    /**
+     * Set how long ML task state updates are buffered before being written in bulk, zero writes every update right away.
+     * @param flushIntervalInMillis flush interval in milliseconds
+     */
+    public void setTaskStateFlushIntervalInMillis(int flushIntervalInMillis) {
+        taskStateJournal.setFlushIntervalInMillis(flushIntervalInMillis);
+    }
+
+    /**
+     * Get the updates of an ML task buffered on this node and not written to the ML task index yet.
+     * @param taskId task id
+     * @return updated field and values, or null if there is none
+     */
+    public Map<String, Object> getPendingTaskUpdate(String taskId) {
+        return taskStateJournal.getPendingUpdate(taskId);
+    }
+
+    /**
+     * Write the ML task updates buffered on this node before it shuts down.
+     */
+    public void close() {
+        taskStateJournal.close(MLTaskStateJournal.CLOSE_TIMEOUT);
     }
 
     public synchronized void checkLimitAndAddRunningTask(MLTask mlTask, Integer limit) {
@@ -359,6 +388,19 @@ public class MLTaskManager implements SettingsChangeListener {
                 log.error("Failed to update ML task {}, status: {}, updatedFields: {}", taskId, response.status(), updatedFields);
             }
         }, e -> { logException("Failed to update ML task: " + taskId, e, log); });
+        MLTaskCache taskCache = taskCaches.get(taskId);
+        if (taskStateJournal.isEnabled()
+            && taskCache != null
+            && JOURNALED_TASK_TYPES.contains(taskCache.getMlTask().getTaskType())
+            && updatedFields != null
+            && !updatedFields.isEmpty()) {
+            // nobody waits for this update, buffer it so that it is merged with the next updates of the task
+            if (removeFromCache) {
+                remove(taskId);
+            }
+            taskStateJournal.record(taskId, tenantId, updatedFields);
+            return;
+        }
         updateMLTask(taskId, tenantId, updatedFields, internalListener, timeoutInMillis, removeFromCache);
     }
 
@@ -0,0 +1,226 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.LAST_UPDATE_TIME_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.task.MLTaskManager.TASK_DONE_STATES;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.remote.metadata.client.BulkDataObjectRequest;
+import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.remote.metadata.client.UpdateDataObjectRequest;
+import org.opensearch.remote.metadata.common.SdkClientUtils;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Node local write-behind journal of ML task state updates.
+ * Updates of the same task recorded between two flushes are merged into one document update, so a short-lived task
+ * moving from RUNNING to COMPLETED within a flush interval is written once, and all pending tasks are written with a
+ * single bulk request instead of one update request each.
+ * Only one bulk request is in flight at a time. A failed update is put back before the next bulk request is built, so
+ * it is always merged under the updates recorded after it, and can't overwrite a newer state of its task.
+ */
+@Log4j2
+public class MLTaskStateJournal {
+
+    public static final int MAX_FLUSH_ATTEMPTS = 3;
+    public static final TimeValue CLOSE_TIMEOUT = TimeValue.timeValueSeconds(10);
+
+    private static class PendingUpdate {
+        private final String tenantId;
+        private final Map<String, Object> fields = new HashMap<>();
+        private int attempts;
+
+        private PendingUpdate(String tenantId) {
+            this.tenantId = tenantId;
+        }
+    }
+
+    private final SdkClient sdkClient;
+    private final ThreadPool threadPool;
+    private Map<String, PendingUpdate> pendingUpdates = new LinkedHashMap<>();
+    private volatile int flushIntervalInMillis;
+    private boolean flushScheduled;
+    private boolean flushing;
+
+    public MLTaskStateJournal(SdkClient sdkClient, ThreadPool threadPool) {
+        this.sdkClient = sdkClient;
+        this.threadPool = threadPool;
+    }
+
+    /**
+     * @param flushIntervalInMillis how long updates are buffered before they are written, zero disables the journal
+     */
+    public void setFlushIntervalInMillis(int flushIntervalInMillis) {
+        this.flushIntervalInMillis = flushIntervalInMillis;
+        if (flushIntervalInMillis <= 0) {
+            flush();
+        }
+    }
+
+    public boolean isEnabled() {
+        return flushIntervalInMillis > 0;
+    }
+
+    /**
+     * Buffers an update of an ML task, merged over the updates of the same task not written yet.
+     * @param taskId task id
+     * @param tenantId tenant id
+     * @param updatedFields updated field and values
+     */
+    public void record(String taskId, String tenantId, Map<String, Object> updatedFields) {
+        synchronized (this) {
+            PendingUpdate pendingUpdate = pendingUpdates.computeIfAbsent(taskId, id -> new PendingUpdate(tenantId));
+            pendingUpdate.fields.putAll(updatedFields);
+            pendingUpdate.fields.put(LAST_UPDATE_TIME_FIELD, Instant.now().toEpochMilli());
+        }
+        scheduleFlush();
+    }
+
+    /**
+     * @param taskId task id
+     * @return the fields of the task not written to the ML task index yet, or null if there is none
+     */
+    public synchronized Map<String, Object> getPendingUpdate(String taskId) {
+        PendingUpdate pendingUpdate = pendingUpdates.get(taskId);
+        return pendingUpdate == null ? null : new HashMap<>(pendingUpdate.fields);
+    }
+
+    private void scheduleFlush() {
+        synchronized (this) {
+            if (flushScheduled || pendingUpdates.isEmpty()) {
+                return;
+            }
+            flushScheduled = true;
+        }
+        threadPool.schedule(this::flush, TimeValue.timeValueMillis(Math.max(flushIntervalInMillis, 0)), GENERAL_THREAD_POOL);
+    }
+
+    /**
+     * Writes all pending updates with one bulk request.
+     */
+    @VisibleForTesting
+    void flush() {
+        Map<String, PendingUpdate> updates;
+        synchronized (this) {
+            flushScheduled = false;
+            // the flush in flight schedules the next one when it completes
+            if (flushing || pendingUpdates.isEmpty()) {
+                return;
+            }
+            flushing = true;
+            updates = pendingUpdates;
+            pendingUpdates = new LinkedHashMap<>();
+        }
+        BulkDataObjectRequest bulkRequest = BulkDataObjectRequest.builder().globalIndex(ML_TASK_INDEX).build();
+        updates.forEach((taskId, pendingUpdate) -> {
+            UpdateDataObjectRequest.Builder requestBuilder = UpdateDataObjectRequest
+                .builder()
+                .id(taskId)
+                .tenantId(pendingUpdate.tenantId)
+                .dataObject(pendingUpdate.fields);
+            String state = String.valueOf(pendingUpdate.fields.get(STATE_FIELD));
+            if (TASK_DONE_STATES.stream().anyMatch(doneState -> doneState.name().equals(state))) {
+                requestBuilder.retryOnConflict(3);
+            }
+            bulkRequest.add(requestBuilder.build());
+        });
+        try (ThreadContext.StoredContext context = threadPool.getThreadContext().stashContext()) {
+            sdkClient.bulkDataObjectAsync(bulkRequest).whenComplete((r, throwable) -> {
+                context.restore();
+                if (throwable != null) {
+                    Exception e = SdkClientUtils.unwrapAndConvertToException(throwable, OpenSearchStatusException.class);
+                    log.error("Failed to bulk update {} ML tasks", updates.size(), e);
+                    completeFlush(updates);
+                    return;
+                }
+                try {
+                    BulkResponse bulkResponse = BulkResponse.fromXContent(r.parser());
+                    if (bulkResponse.hasFailures()) {
+                        Arrays
+                            .stream(bulkResponse.getItems())
+                            .filter(BulkItemResponse::isFailed)
+                            .forEach(item -> log.error("Failed to update ML task {}: {}", item.getId(), item.getFailureMessage()));
+                    } else {
+                        log.debug("Bulk updated {} ML tasks", updates.size());
+                    }
+                } catch (Exception e) {
+                    log.error("Failed to parse bulk update response of ML tasks", e);
+                }
+                completeFlush(Map.of());
+            });
+        } catch (Exception e) {
+            log.error("Failed to bulk update {} ML tasks", updates.size(), e);
+            completeFlush(updates);
+        }
+    }
+
+    /**
+     * Writes the pending updates and waits for them, so that they are not lost when the node shuts down. Updates
+     * recorded afterwards are not buffered anymore.
+     * @param timeout how long to wait for the pending updates to be written
+     */
+    public void close(TimeValue timeout) {
+        flushIntervalInMillis = 0;
+        long deadline = System.nanoTime() + timeout.nanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                flush();
+                synchronized (this) {
+                    long remaining;
+                    while (flushing && (remaining = deadline - System.nanoTime()) > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    }
+                    if (!flushing && pendingUpdates.isEmpty()) {
+                        return;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            log.warn("Closed before all ML task updates were written, {} tasks still pending", pendingUpdates.size());
+        }
+    }
+
+    private void completeFlush(Map<String, PendingUpdate> failedUpdates) {
+        synchronized (this) {
+            failedUpdates.forEach((taskId, failedUpdate) -> {
+                if (++failedUpdate.attempts >= MAX_FLUSH_ATTEMPTS) {
+                    log.error("Dropped update of ML task {} after {} attempts", taskId, failedUpdate.attempts);
+                    return;
+                }
+                // updates recorded since the failed flush are newer and win over the failed ones
+                PendingUpdate newerUpdate = pendingUpdates.put(taskId, failedUpdate);
+                if (newerUpdate != null) {
+                    failedUpdate.fields.putAll(newerUpdate.fields);
+                }
+            });
+            flushing = false;
+            notifyAll();
+        }
+        scheduleFlush();
+    }
+}
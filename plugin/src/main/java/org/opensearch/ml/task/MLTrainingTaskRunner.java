@@ -5,29 +5,44 @@
 
 package org.opensearch.ml.task;
 
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
+import static org.opensearch.ml.permission.AccessController.checkUserPermissions;
+import static org.opensearch.ml.permission.AccessController.getUserContext;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.TRAIN_THREAD_POOL;
 
 import java.time.Instant;
 import java.util.UUID;
 
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.Version;
 import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.action.support.WriteRequest;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.input.MLInput;
@@ -36,6 +51,7 @@ import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.training.MLTrainingTaskAction;
 import org.opensearch.ml.common.transport.training.MLTrainingTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.MiniBatchTraining;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.stats.ActionName;
@@ -162,7 +178,10 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
         mlTask.setState(MLTaskState.RUNNING);
         mlTaskManager.add(mlTask);
         try {
-            if (mlInput.getInputDataset().getInputDataType().equals(MLInputDataType.SEARCH_QUERY)) {
+            MiniBatchTraining miniBatchTraining = mlEngine.startMiniBatchTraining(mlInput, minNodeVersion());
+            if (miniBatchTraining != null) {
+                trainMiniBatch(mlTask, mlInput, miniBatchTraining, internalListener);
+            } else if (mlInput.getInputDataset().getInputDataType().equals(MLInputDataType.SEARCH_QUERY)) {
                 ActionListener<MLInputDataset> dataFrameActionListener = ActionListener.wrap(dataSet -> {
                     train(mlTask, mlInput.toBuilder().inputDataset(dataSet).build(), internalListener);
                 }, e -> {
@@ -184,47 +203,147 @@ public class MLTrainingTaskRunner extends MLTaskRunner<MLTrainingTaskRequest, ML
     }
 
     private void train(MLTask mlTask, MLInput mlInput, ActionListener<MLTaskResponse> actionListener) {
-        ActionListener<MLTaskResponse> listener = ActionListener.wrap(r -> actionListener.onResponse(r), e -> {
-            mlStats
-                .createCounterStatIfAbsent(mlTask.getFunctionName(), ActionName.TRAIN, MLActionLevelStat.ML_ACTION_FAILURE_COUNT)
-                .increment();
-            mlStats.getStat(MLNodeLevelStat.ML_FAILURE_COUNT).increment();
-            actionListener.onFailure(e);
-        });
+        ActionListener<MLTaskResponse> listener = trackTrainFailure(mlTask, actionListener);
         try {
             // run training
             mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.getTenantId(), mlTask.isAsync());
-            MLModel mlModel = mlEngine.train(mlInput);
-            mlIndicesHandler.initModelIndexIfAbsent(ActionListener.wrap(indexCreated -> {
-                if (!indexCreated) {
-                    listener.onFailure(new RuntimeException("No response to create ML task index"));
-                    return;
-                }
-                // TODO: put the user into model for backend role based access control.
-                try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-                    ActionListener<IndexResponse> indexResponseListener = ActionListener.wrap(r -> {
-                        log.info("Model saved into index, result:{}, model id: {}", r.getResult(), r.getId());
-                        String returnedTaskId = mlTask.isAsync() ? mlTask.getTaskId() : null;
-                        MLTrainingOutput output = new MLTrainingOutput(r.getId(), returnedTaskId, MLTaskState.COMPLETED.name());
-                        listener.onResponse(MLTaskResponse.builder().output(output).build());
-                    }, e -> { listener.onFailure(e); });
-
-                    IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
-                    indexRequest.source(mlModel.toXContent(XContentBuilder.builder(XContentType.JSON.xContent()), ToXContent.EMPTY_PARAMS));
-                    indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-                    client.index(indexRequest, ActionListener.runBefore(indexResponseListener, () -> context.restore()));
-                } catch (Exception e) {
-                    log.error("Failed to save ML model", e);
-                    listener.onFailure(e);
-                }
-            }, e -> {
-                log.error("Failed to init ML model index", e);
-                listener.onFailure(e);
-            }));
+            MLModel mlModel = mlEngine.train(mlInput, minNodeVersion());
+            saveModel(mlModel, mlTask, listener);
         } catch (Exception e) {
             // todo need to specify what exception
             log.error("Failed to train " + mlInput.getAlgorithm(), e);
             listener.onFailure(e);
         }
     }
+
+    /**
+     * Train one chunk of training data at a time. A search query input is fed one page of search results at a time
+     * instead of being loaded as a whole.
+     * @param mlTask ML task
+     * @param mlInput ML input
+     * @param training mini-batch training
+     * @param actionListener Action listener
+     */
+    private void trainMiniBatch(MLTask mlTask, MLInput mlInput, MiniBatchTraining training, ActionListener<MLTaskResponse> actionListener) {
+        ActionListener<MLTaskResponse> listener = trackTrainFailure(mlTask, actionListener);
+        ActionListener<MLModel> warmStartModelListener = ActionListener.wrap(warmStartModel -> {
+            if (warmStartModel != null) {
+                training.warmStart(warmStartModel);
+            }
+            mlTaskManager.updateTaskStateAsRunning(mlTask.getTaskId(), mlTask.getTenantId(), mlTask.isAsync());
+            MLInputDataset inputDataset = mlInput.getInputDataset();
+            if (inputDataset.getInputDataType().equals(MLInputDataType.SEARCH_QUERY)) {
+                ActionListener<Void> fitListener = ActionListener.wrap(r -> saveModel(training.toModel(), mlTask, listener), e -> {
+                    log.error("Failed to train " + mlInput.getAlgorithm(), e);
+                    listener.onFailure(e);
+                });
+                fitSearchQueryInput(inputDataset, training, 0, fitListener);
+            } else {
+                training.fit(((DataFrameInputDataset) inputDataset).getDataFrame());
+                saveModel(training.toModel(), mlTask, listener);
+            }
+        }, e -> {
+            log.error("Failed to train " + mlInput.getAlgorithm(), e);
+            listener.onFailure(e);
+        });
+        ActionListener<MLModel> threadedListener = new ThreadedActionListener<>(
+            log,
+            threadPool,
+            TRAIN_THREAD_POOL,
+            warmStartModelListener,
+            false
+        );
+        if (training.getWarmStartModelId() == null) {
+            threadedListener.onResponse(null);
+        } else {
+            getWarmStartModel(training.getWarmStartModelId(), threadedListener);
+        }
+    }
+
+    private void fitSearchQueryInput(MLInputDataset inputDataset, MiniBatchTraining training, int pass, ActionListener<Void> listener) {
+        if (pass == training.getPasses()) {
+            listener.onResponse(null);
+            return;
+        }
+        ActionListener<Void> passListener = ActionListener
+            .wrap(r -> fitSearchQueryInput(inputDataset, training, pass + 1, listener), listener::onFailure);
+        mlInputDatasetHandler
+            .parseSearchQueryInputInChunks(inputDataset, training.getBatchSize(), TRAIN_THREAD_POOL, training::partialFit, passListener);
+    }
+
+    private void getWarmStartModel(String modelId, ActionListener<MLModel> listener) {
+        User requestUser = getUserContext(client);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<GetResponse> getModelListener = ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    listener.onFailure(new ResourceNotFoundException("No model found to warm start from, please check the modelId."));
+                    return;
+                }
+                try (
+                    XContentParser parser = XContentType.JSON
+                        .xContent()
+                        .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, r.getSourceAsString())
+                ) {
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                    MLModel mlModel = MLModel.parse(parser, r.getSource().get(ALGORITHM_FIELD).toString());
+                    mlModel.setModelId(modelId);
+                    if (!checkUserPermissions(requestUser, mlModel.getUser(), modelId)) {
+                        listener
+                            .onFailure(
+                                new OpenSearchStatusException(
+                                    "User: " + requestUser.getName() + " does not have permissions to warm start from model: " + modelId,
+                                    RestStatus.FORBIDDEN
+                                )
+                            );
+                        return;
+                    }
+                    listener.onResponse(mlModel);
+                }
+            }, listener::onFailure);
+            client.get(new GetRequest(ML_MODEL_INDEX, modelId), ActionListener.runBefore(getModelListener, context::restore));
+        }
+    }
+
+    private Version minNodeVersion() {
+        return clusterService.state().nodes().getMinNodeVersion();
+    }
+
+    private ActionListener<MLTaskResponse> trackTrainFailure(MLTask mlTask, ActionListener<MLTaskResponse> actionListener) {
+        return ActionListener.wrap(r -> actionListener.onResponse(r), e -> {
+            mlStats
+                .createCounterStatIfAbsent(mlTask.getFunctionName(), ActionName.TRAIN, MLActionLevelStat.ML_ACTION_FAILURE_COUNT)
+                .increment();
+            mlStats.getStat(MLNodeLevelStat.ML_FAILURE_COUNT).increment();
+            actionListener.onFailure(e);
+        });
+    }
+
+    private void saveModel(MLModel mlModel, MLTask mlTask, ActionListener<MLTaskResponse> listener) {
+        mlIndicesHandler.initModelIndexIfAbsent(ActionListener.wrap(indexCreated -> {
+            if (!indexCreated) {
+                listener.onFailure(new RuntimeException("No response to create ML task index"));
+                return;
+            }
+            // TODO: put the user into model for backend role based access control.
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                ActionListener<IndexResponse> indexResponseListener = ActionListener.wrap(r -> {
+                    log.info("Model saved into index, result:{}, model id: {}", r.getResult(), r.getId());
+                    String returnedTaskId = mlTask.isAsync() ? mlTask.getTaskId() : null;
+                    MLTrainingOutput output = new MLTrainingOutput(r.getId(), returnedTaskId, MLTaskState.COMPLETED.name());
+                    listener.onResponse(MLTaskResponse.builder().output(output).build());
+                }, e -> { listener.onFailure(e); });
+
+                IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
+                indexRequest.source(mlModel.toXContent(XContentBuilder.builder(XContentType.JSON.xContent()), ToXContent.EMPTY_PARAMS));
+                indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+                client.index(indexRequest, ActionListener.runBefore(indexResponseListener, () -> context.restore()));
+            } catch (Exception e) {
+                log.error("Failed to save ML model", e);
+                listener.onFailure(e);
+            }
+        }, e -> {
+            log.error("Failed to init ML model index", e);
+            listener.onFailure(e);
+        }));
+    }
 }
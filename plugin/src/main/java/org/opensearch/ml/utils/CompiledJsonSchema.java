@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.utils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.OpenSearchParseException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion.VersionFlag;
+import com.networknt.schema.ValidationMessage;
+
+import lombok.Getter;
+
+/**
+ * A model interface schema compiled once when the model interface is cached, so that predict requests validate
+ * their input and output against the in-memory schema instead of parsing it on every request.
+ */
+@Getter
+public class CompiledJsonSchema {
+
+    private final String schemaString;
+    private final JsonSchema schema;
+    // Input dataset parameters typed as string in the schema, other parameters are parsed back from their string form.
+    private final Set<String> stringParameters;
+
+    private CompiledJsonSchema(String schemaString, JsonSchema schema, Set<String> stringParameters) {
+        this.schemaString = schemaString;
+        this.schema = schema;
+        this.stringParameters = stringParameters;
+    }
+
+    public static CompiledJsonSchema compile(String schemaString) throws IOException {
+        JsonNode schemaNode = MLNodeUtils.MAPPER.readTree(schemaString);
+        JsonSchema schema = JsonSchemaFactory.getInstance(VersionFlag.V202012).getSchema(schemaNode);
+        Set<String> stringParameters = new HashSet<>();
+        JsonNode parametersSchema = schemaNode.path("properties").path("parameters").path("properties");
+        Iterator<Map.Entry<String, JsonNode>> fields = parametersSchema.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode typeNode = field.getValue().path("type");
+            if (typeNode.isTextual() && typeNode.asText().equals("string")) {
+                stringParameters.add(field.getKey());
+            }
+        }
+        return new CompiledJsonSchema(schemaString, schema, stringParameters);
+    }
+
+    /**
+     * Converts the string values of the input dataset parameters back to their original JSON types in place, unless
+     * the schema defines them as strings.
+     * @param rootNode the input
+     */
+    public void processRemoteInferenceInputDataSetParametersValue(JsonNode rootNode) {
+        if (rootNode.has("parameters") && rootNode.get("parameters").isObject()) {
+            ObjectNode parametersNode = (ObjectNode) rootNode.get("parameters");
+            parametersNode.fields().forEachRemaining(entry -> {
+                JsonNode value = entry.getValue();
+                if (value.isTextual() && !stringParameters.contains(entry.getKey())) {
+                    try {
+                        JsonNode parsedValue = MLNodeUtils.MAPPER.readTree(value.asText());
+                        if (parsedValue != null && !parsedValue.isMissingNode()) {
+                            entry.setValue(parsedValue);
+                        }
+                    } catch (IOException e) {
+                        // If parsing fails, keep it as is
+                    }
+                }
+            });
+        }
+    }
+
+    public void validate(JsonNode instance) {
+        Set<ValidationMessage> errors = schema.validate(instance);
+        if (!errors.isEmpty()) {
+            throw new OpenSearchParseException(
+                "Validation failed: "
+                    + Arrays.toString(errors.toArray(new ValidationMessage[0]))
+                    + " for instance: "
+                    + instance.toString()
+                    + " with schema: "
+                    + schemaString
+            );
+        }
+    }
+}
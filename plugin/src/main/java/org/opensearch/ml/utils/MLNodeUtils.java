@@ -16,12 +16,15 @@ import java.util.function.Function;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
@@ -40,6 +43,8 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class MLNodeUtils {
+    public static final ObjectMapper MAPPER = new ObjectMapper();
+
     public boolean isMLNode(DiscoveryNode node) {
         return node.getRoles().stream().anyMatch(role -> role.roleName().equalsIgnoreCase(ML_ROLE_NAME));
     }
@@ -67,6 +72,16 @@ public class MLNodeUtils {
         }
     }
 
+    /**
+     * Converts an object to a Jackson tree with a single serialization, without going through an intermediate string.
+     * @param content the object to convert
+     * @return the JSON tree
+     */
+    public static JsonNode toJsonNode(ToXContent content) throws IOException {
+        XContentBuilder builder = content.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+        return MAPPER.readTree(BytesReference.bytes(builder).streamInput());
+    }
+
     public static void validateSchema(String schemaString, String instanceString) throws IOException {
         ObjectMapper mapper = new ObjectMapper();
         // parse the schema JSON as string
@@ -7,8 +7,10 @@ package org.opensearch.ml.action.connector;
 
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,6 +18,7 @@ import static org.opensearch.ml.common.CommonValue.ML_CONNECTOR_INDEX;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 import org.apache.lucene.search.TotalHits;
 import org.junit.Before;
@@ -32,12 +35,14 @@ import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.action.search.ShardSearchFailure;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -46,6 +51,8 @@ import org.opensearch.index.get.GetResult;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateAction;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateNodesResponse;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteRequest;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.utils.TestHelper;
@@ -127,6 +134,12 @@ public class DeleteConnectorTransportActionTests extends OpenSearchTestCase {
         threadContext = new ThreadContext(settings);
         when(client.threadPool()).thenReturn(threadPool);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
+
+        doAnswer(invocation -> {
+            ActionListener<MLConnectorCacheInvalidateNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLConnectorCacheInvalidateNodesResponse(ClusterName.DEFAULT, List.of(), List.of()));
+            return null;
+        }).when(client).execute(eq(MLConnectorCacheInvalidateAction.INSTANCE), any(), any());
     }
 
     public void testDeleteConnector_Success() {
@@ -157,6 +170,34 @@ public class DeleteConnectorTransportActionTests extends OpenSearchTestCase {
         assertEquals(deleteResponse.getResult(), actualResponse.getResult());
     }
 
+    public void testDeleteConnector_CacheInvalidationFailed() {
+        doAnswer(invocation -> {
+            ActionListener<DeleteResponse> listener = invocation.getArgument(1);
+            listener.onResponse(deleteResponse);
+            return null;
+        }).when(client).delete(any(), any());
+
+        SearchResponse searchResponse = getEmptySearchResponse();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(), any());
+
+        doAnswer(invocation -> {
+            ActionListener<MLConnectorCacheInvalidateNodesResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("cluster unavailable"));
+            return null;
+        }).when(client).execute(eq(MLConnectorCacheInvalidateAction.INSTANCE), any(), any());
+
+        deleteConnectorTransportAction.doExecute(null, mlConnectorDeleteRequest, actionListener);
+        ArgumentCaptor<Exception> captor = forClass(Exception.class);
+        verify(actionListener).onFailure(captor.capture());
+        verify(actionListener, never()).onResponse(any());
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, ((OpenSearchStatusException) captor.getValue()).status());
+        assertTrue(captor.getValue().getMessage().contains("cluster unavailable"));
+    }
+
     public void testDeleteConnector_ModelIndexNotFoundSuccess() throws InterruptedException {
         doAnswer(invocation -> {
             ActionListener<DeleteResponse> listener = invocation.getArgument(1);
@@ -8,16 +8,19 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
@@ -26,6 +29,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorProtocols;
@@ -33,8 +37,10 @@ import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.connector.MLExecuteConnectorRequest;
+import org.opensearch.ml.engine.algorithms.remote.RemoteConnectorExecutor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
+import org.opensearch.ml.model.MLConnectorCache;
 import org.opensearch.script.ScriptService;
 import org.opensearch.tasks.Task;
 import org.opensearch.test.OpenSearchTestCase;
@@ -78,6 +84,10 @@ public class ExecuteConnectorTransportActionTests extends OpenSearchTestCase {
     private Task task;
     @Mock
     ThreadPool threadPool;
+    @Mock
+    private RemoteConnectorExecutor connectorExecutor;
+
+    private MLConnectorCache connectorCache;
 
     @Before
     public void setup() {
@@ -104,6 +114,8 @@ public class ExecuteConnectorTransportActionTests extends OpenSearchTestCase {
         when(client.threadPool()).thenReturn(threadPool);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
 
+        connectorCache = new MLConnectorCache();
+
         action = new ExecuteConnectorTransportAction(
             transportService,
             actionFilters,
@@ -113,7 +125,8 @@ public class ExecuteConnectorTransportActionTests extends OpenSearchTestCase {
             xContentRegistry,
             connectorAccessControlHelper,
             encryptor,
-            mlFeatureEnabledSetting
+            mlFeatureEnabledSetting,
+            connectorCache
         );
     }
 
@@ -157,4 +170,67 @@ public class ExecuteConnectorTransportActionTests extends OpenSearchTestCase {
         verify(actionListener, times(1)).onFailure(argCaptor.capture());
     }
 
+    public void testExecute_CachedConnector() {
+        when(connectorAccessControlHelper.validateConnectorAccess(eq(client), any())).thenReturn(true);
+        when(metaData.hasIndex(anyString())).thenReturn(true);
+        connectorCache.put("test_connector_id", connector, connectorExecutor, connectorCache.getVersion());
+
+        action.doExecute(task, request, actionListener);
+
+        verify(connectorAccessControlHelper, never()).getConnector(any(), anyString(), any());
+        verify(connectorAccessControlHelper, times(1)).validateConnectorAccess(client, connector);
+        verify(connectorExecutor, times(1)).executeAction(any(), any(), any());
+    }
+
+    public void testExecute_CachedConnectorAccessDenied() {
+        when(connectorAccessControlHelper.validateConnectorAccess(eq(client), any())).thenReturn(false);
+        when(metaData.hasIndex(anyString())).thenReturn(true);
+        connectorCache.put("test_connector_id", connector, connectorExecutor, connectorCache.getVersion());
+
+        action.doExecute(task, request, actionListener);
+
+        verify(connectorAccessControlHelper, never()).getConnector(any(), anyString(), any());
+        verify(connectorExecutor, never()).executeAction(any(), any(), any());
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener, times(1)).onFailure(argCaptor.capture());
+        assertEquals(RestStatus.FORBIDDEN, ((OpenSearchStatusException) argCaptor.getValue()).status());
+    }
+
+    public void testExecute_AccessDenied() {
+        when(connectorAccessControlHelper.validateConnectorAccess(eq(client), any())).thenReturn(false);
+        when(metaData.hasIndex(anyString())).thenReturn(true);
+
+        doAnswer(invocation -> {
+            ActionListener<Connector> listener = invocation.getArgument(2);
+            listener.onResponse(connector);
+            return null;
+        }).when(connectorAccessControlHelper).getConnector(eq(client), anyString(), any());
+
+        action.doExecute(task, request, actionListener);
+
+        verify(connectorExecutor, never()).executeAction(any(), any(), any());
+        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener, times(1)).onFailure(argCaptor.capture());
+        assertEquals(RestStatus.FORBIDDEN, ((OpenSearchStatusException) argCaptor.getValue()).status());
+        assertEquals("You don't have permission to access this connector", argCaptor.getValue().getMessage());
+    }
+
+    public void testExecute_InvalidatedConnectorIsReloaded() {
+        when(connectorAccessControlHelper.validateConnectorAccess(eq(client), any())).thenReturn(true);
+        when(metaData.hasIndex(anyString())).thenReturn(true);
+        connectorCache.put("test_connector_id", connector, connectorExecutor, connectorCache.getVersion());
+        connectorCache.invalidate(Set.of("test_connector_id"));
+
+        doAnswer(invocation -> {
+            ActionListener<Connector> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("test failure"));
+            return null;
+        }).when(connectorAccessControlHelper).getConnector(eq(client), anyString(), any());
+
+        action.doExecute(task, request, actionListener);
+
+        verify(connectorAccessControlHelper, times(1)).getConnector(eq(client), eq("test_connector_id"), any());
+        verify(connectorExecutor, never()).executeAction(any(), any(), any());
+    }
+
 }
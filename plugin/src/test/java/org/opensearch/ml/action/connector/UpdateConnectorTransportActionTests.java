@@ -26,8 +26,10 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.DocWriteResponse.Result;
+import org.opensearch.action.FailedNodeException;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
@@ -35,6 +37,7 @@ import org.opensearch.action.search.ShardSearchFailure;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -42,12 +45,15 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.connector.ConnectorAction;
 import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateAction;
+import org.opensearch.ml.common.transport.connector.MLConnectorCacheInvalidateNodesResponse;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorInput;
 import org.opensearch.ml.common.transport.connector.MLUpdateConnectorRequest;
 import org.opensearch.ml.engine.MLEngine;
@@ -64,6 +70,7 @@ import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.tasks.Task;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.ActionNotFoundTransportException;
 import org.opensearch.transport.TransportService;
 import org.opensearch.transport.client.Client;
 
@@ -191,6 +198,12 @@ public class UpdateConnectorTransportActionTests extends OpenSearchTestCase {
         shardId = new ShardId(new Index("indexName", "uuid"), 1);
         updateResponse = new UpdateResponse(shardId, "taskId", 1, 1, 1, DocWriteResponse.Result.UPDATED);
 
+        doAnswer(invocation -> {
+            ActionListener<MLConnectorCacheInvalidateNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLConnectorCacheInvalidateNodesResponse(ClusterName.DEFAULT, List.of(), List.of()));
+            return null;
+        }).when(client).execute(eq(MLConnectorCacheInvalidateAction.INSTANCE), any(), any());
+
         doAnswer(invocation -> {
             ActionListener<Connector> listener = invocation.getArgument(5);
             Connector connector = HttpConnector
@@ -299,6 +312,54 @@ public class UpdateConnectorTransportActionTests extends OpenSearchTestCase {
         verify(actionListener).onResponse(any(UpdateResponse.class));
     }
 
+    @Test
+    public void testExecuteConnectorCacheInvalidationFailed() {
+        doReturn(true).when(connectorAccessControlHelper).validateConnectorAccess(any(Client.class), any(Connector.class));
+        mockSearchAndUpdate();
+        mockInvalidation(new FailedNodeException("node1", "failed", new RuntimeException("node left")));
+
+        updateConnectorTransportAction.doExecute(task, updateRequest, actionListener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        verify(actionListener, never()).onResponse(any());
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, ((OpenSearchStatusException) argumentCaptor.getValue()).status());
+        assertTrue(argumentCaptor.getValue().getMessage().contains("nodes [node1] did not respond"));
+    }
+
+    @Test
+    public void testExecuteConnectorCacheInvalidationSkipsNodesWithoutCache() {
+        doReturn(true).when(connectorAccessControlHelper).validateConnectorAccess(any(Client.class), any(Connector.class));
+        mockSearchAndUpdate();
+        mockInvalidation(
+            new FailedNodeException("node1", "failed", new ActionNotFoundTransportException(MLConnectorCacheInvalidateAction.NAME))
+        );
+
+        updateConnectorTransportAction.doExecute(task, updateRequest, actionListener);
+        verify(actionListener).onResponse(updateResponse);
+    }
+
+    private void mockSearchAndUpdate() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(searchResponse);
+            return null;
+        }).when(client).search(any(SearchRequest.class), isA(ActionListener.class));
+
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onResponse(updateResponse);
+            return null;
+        }).when(client).update(any(UpdateRequest.class), isA(ActionListener.class));
+    }
+
+    private void mockInvalidation(FailedNodeException failure) {
+        doAnswer(invocation -> {
+            ActionListener<MLConnectorCacheInvalidateNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLConnectorCacheInvalidateNodesResponse(ClusterName.DEFAULT, List.of(), List.of(failure)));
+            return null;
+        }).when(client).execute(eq(MLConnectorCacheInvalidateAction.INSTANCE), any(), any());
+    }
+
     @Test
     public void testExecuteConnectorAccessControlNoPermission() {
         doReturn(false).when(connectorAccessControlHelper).validateConnectorAccess(any(Client.class), any(Connector.class));
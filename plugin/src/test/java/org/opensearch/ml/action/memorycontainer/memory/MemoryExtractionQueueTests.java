@@ -0,0 +1,273 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.memorycontainer.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.utils.TestHelper.createTestContent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.ml.common.memorycontainer.MLMemoryContainer;
+import org.opensearch.ml.common.transport.memorycontainer.memory.MLAddMemoriesInput;
+import org.opensearch.ml.common.transport.memorycontainer.memory.MessageInput;
+import org.opensearch.threadpool.Scheduler;
+
+public class MemoryExtractionQueueTests {
+
+    private static final String USER_TRANSIENT = "test_user";
+
+    private AtomicLong now;
+    private List<MemoryExtractionQueue.Batch> processed;
+    private List<Runnable> completions;
+    private List<String> processedUsers;
+    private MLMemoryContainer container;
+    private ThreadContext threadContext;
+    private Scheduler scheduler;
+    private List<Runnable> timeouts;
+    private List<Scheduler.Cancellable> scheduledTimeouts;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(0);
+        processed = new ArrayList<>();
+        completions = new ArrayList<>();
+        processedUsers = new ArrayList<>();
+        container = mock(MLMemoryContainer.class);
+        threadContext = new ThreadContext(Settings.EMPTY);
+        timeouts = new ArrayList<>();
+        scheduledTimeouts = new ArrayList<>();
+        scheduler = mock(Scheduler.class);
+        doAnswer(invocation -> {
+            timeouts.add(invocation.getArgument(0));
+            Scheduler.ScheduledCancellable cancellable = mock(Scheduler.ScheduledCancellable.class);
+            scheduledTimeouts.add(cancellable);
+            return cancellable;
+        }).when(scheduler).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+    }
+
+    private MemoryExtractionQueue queue(int maxPending, int maxConcurrent, int maxMessages) {
+        return new MemoryExtractionQueue(Runnable::run, scheduler, threadContext, (batch, onComplete) -> {
+            processed.add(batch);
+            processedUsers.add(threadContext.getTransient(USER_TRANSIENT));
+            completions.add(onComplete);
+        }, maxPending, maxConcurrent, maxMessages, TimeValue.timeValueMinutes(1), now::get);
+    }
+
+    @Test
+    public void testOffer_CoalescesMessagesOfSameSession() {
+        MemoryExtractionQueue queue = queue(10, 1, 100);
+
+        assertTrue(queue.offer(input("session-1", "m1"), container, null));
+        assertTrue(queue.offer(input("session-1", "m2"), container, null));
+        assertTrue(queue.offer(input("session-1", "m3"), container, null));
+
+        // The first message is extracted right away, the next two wait for it and are coalesced into one batch
+        assertEquals(1, processed.size());
+        completions.get(0).run();
+        assertEquals(2, processed.size());
+        assertEquals(2, processed.get(1).getMessages().size());
+    }
+
+    @Test
+    public void testOffer_SeparatesSessions() {
+        MemoryExtractionQueue queue = queue(10, 1, 100);
+
+        queue.offer(input("session-1", "m1"), container, null);
+        queue.offer(input("session-1", "m2"), container, null);
+        queue.offer(input("session-2", "m3"), container, null);
+
+        assertEquals(2L, queue.getQueueDepth());
+        completions.get(0).run();
+        completions.get(1).run();
+        assertEquals(3, processed.size());
+        assertEquals("session-2", processed.get(2).getInput().getSessionId());
+    }
+
+    @Test
+    public void testOffer_SeparatesUsersAndTenants() {
+        MemoryExtractionQueue queue = queue(10, 1, 100);
+        MLMemoryContainer otherTenantContainer = mock(MLMemoryContainer.class);
+        when(otherTenantContainer.getTenantId()).thenReturn("tenant-2");
+
+        queue.offer(input("session-1", "m1"), container, null);
+        queue.offer(input("session-1", "m2"), container, user("alice"));
+        queue.offer(input("session-1", "m3"), container, user("bob"));
+        queue.offer(input("session-1", "m4"), otherTenantContainer, user("bob"));
+        queue.offer(input("session-1", "m5"), container, user("bob"));
+
+        assertEquals(3L, queue.getQueueDepth());
+        completions.get(0).run();
+        assertEquals("alice", processed.get(1).getUser().getName());
+    }
+
+    @Test
+    public void testOffer_SeparatesDifferentParameters() {
+        MemoryExtractionQueue queue = queue(10, 1, 100);
+
+        queue.offer(input("session-1", "m1"), container, null);
+        queue.offer(input("session-1", "m2"), container, null);
+        MLAddMemoriesInput withTags = input("session-1", "m3");
+        withTags.setTags(Map.of("topic", "travel"));
+        queue.offer(withTags, container, null);
+
+        assertEquals(2L, queue.getQueueDepth());
+    }
+
+    @Test
+    public void testOffer_ProcessesUnderContextOfOfferingRequest() {
+        MemoryExtractionQueue queue = queue(10, 1, 100);
+
+        offerAs("alice", queue, input("session-1", "m1"));
+        offerAs("bob", queue, input("session-2", "m2"));
+        // bob's batch is started by alice's completion, but must not run as alice
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient(USER_TRANSIENT, "alice");
+            completions.get(0).run();
+        }
+
+        assertEquals(List.of("alice", "bob"), processedUsers);
+        assertNull(threadContext.getTransient(USER_TRANSIENT));
+    }
+
+    @Test
+    public void testOffer_SplitsBatchesOverMessageLimit() {
+        MemoryExtractionQueue queue = queue(10, 1, 2);
+
+        queue.offer(input("session-1", "m1"), container, null);
+        queue.offer(input("session-1", "m2"), container, null);
+        queue.offer(input("session-1", "m3"), container, null);
+        queue.offer(input("session-1", "m4"), container, null);
+
+        assertEquals(2L, queue.getQueueDepth());
+    }
+
+    @Test
+    public void testOffer_RejectsWhenFull() {
+        MemoryExtractionQueue queue = queue(1, 1, 100);
+
+        assertTrue(queue.offer(input("session-1", "m1"), container, null));
+        assertTrue(queue.offer(input("session-2", "m2"), container, null));
+        assertFalse(queue.hasCapacity("container-1"));
+        assertFalse(queue.offer(input("session-3", "m3"), container, null));
+        // Messages of a session that is already pending are still coalesced
+        assertTrue(queue.offer(input("session-2", "m4"), container, null));
+        assertTrue(queue.hasCapacity("container-2"));
+    }
+
+    @Test
+    public void testOffer_LimitsConcurrentExtractions() {
+        MemoryExtractionQueue queue = queue(10, 2, 100);
+
+        queue.offer(input("session-1", "m1"), container, null);
+        queue.offer(input("session-2", "m2"), container, null);
+        queue.offer(input("session-3", "m3"), container, null);
+
+        assertEquals(2, processed.size());
+        assertEquals(2L, queue.getInFlightCount());
+        completions.get(0).run();
+        // completing twice must not release another slot
+        completions.get(0).run();
+        assertEquals(3, processed.size());
+        assertEquals(2L, queue.getInFlightCount());
+    }
+
+    @Test
+    public void testOffer_ProcessorFailureReleasesSlot() {
+        List<MemoryExtractionQueue.Batch> attempts = new ArrayList<>();
+        MemoryExtractionQueue queue = new MemoryExtractionQueue(Runnable::run, scheduler, threadContext, (batch, onComplete) -> {
+            attempts.add(batch);
+            throw new IllegalStateException("boom");
+        }, 10, 1, 100, TimeValue.timeValueMinutes(1), now::get);
+
+        queue.offer(input("session-1", "m1"), container, null);
+        queue.offer(input("session-2", "m2"), container, null);
+
+        assertEquals(2, attempts.size());
+        assertEquals(0L, queue.getQueueDepth());
+        assertEquals(0L, queue.getInFlightCount());
+    }
+
+    @Test
+    public void testOffer_TimeoutReleasesSlotOfStuckExtraction() {
+        MemoryExtractionQueue queue = queue(10, 1, 100);
+
+        queue.offer(input("session-1", "m1"), container, null);
+        queue.offer(input("session-2", "m2"), container, null);
+        assertEquals(1, processed.size());
+
+        // the listener of the first extraction never fires, the timeout gives its slot to the next batch
+        timeouts.get(0).run();
+        assertEquals(2, processed.size());
+        assertEquals(1L, queue.getInFlightCount());
+        // a late completion must not release the slot of the second batch
+        completions.get(0).run();
+        assertEquals(1L, queue.getInFlightCount());
+
+        completions.get(1).run();
+        verify(scheduledTimeouts.get(1)).cancel();
+        assertEquals(0L, queue.getInFlightCount());
+    }
+
+    @Test
+    public void testGetLagMillis() {
+        MemoryExtractionQueue queue = queue(10, 1, 100);
+
+        queue.offer(input("session-1", "m1"), container, null);
+        now.set(100);
+        queue.offer(input("session-2", "m2"), container, null);
+        now.set(350);
+
+        assertEquals(1L, queue.getQueueDepth());
+        assertEquals(250L, queue.getLagMillis());
+
+        completions.get(0).run();
+        completions.get(1).run();
+        assertEquals(0L, queue.getQueueDepth());
+        assertEquals(0L, queue.getLagMillis());
+    }
+
+    private void offerAs(String userName, MemoryExtractionQueue queue, MLAddMemoriesInput input) {
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient(USER_TRANSIENT, userName);
+            queue.offer(input, container, user(userName));
+        }
+    }
+
+    private User user(String name) {
+        return new User(name, List.of(), List.of(), Map.of());
+    }
+
+    private MLAddMemoriesInput input(String sessionId, String message) {
+        Map<String, String> namespace = new HashMap<>();
+        namespace.put("session_id", sessionId);
+        return MLAddMemoriesInput
+            .builder()
+            .memoryContainerId("container-1")
+            .ownerId("owner")
+            .namespace(namespace)
+            .messages(List.of(MessageInput.builder().role("user").content(createTestContent(message)).build()))
+            .build();
+    }
+}
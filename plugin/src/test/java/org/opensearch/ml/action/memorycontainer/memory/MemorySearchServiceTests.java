@@ -5,9 +5,11 @@
 
 package org.opensearch.ml.action.memorycontainer.memory;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -25,6 +27,7 @@ import java.util.Map;
 import org.apache.lucene.search.TotalHits;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.action.search.SearchResponse;
@@ -185,4 +188,41 @@ public class MemorySearchServiceTests {
         verify(listener).onResponse(any(List.class));
     }
 
+    @Test
+    public void testSearchSimilarFactsForSession_ConcurrentSearchesKeepFactOrder() throws IOException {
+        List<String> facts = Arrays.asList("Fact1", "Fact2");
+        List<ActionListener<SearchResponse>> searchListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            searchListeners.add(invocation.getArgument(2));
+            return null;
+        }).when(memoryContainerHelper).searchData(any(), any(SearchDataObjectRequest.class), any());
+
+        memorySearchService.searchSimilarFactsForSession(strategy, input, facts, memoryConfig, listener);
+
+        // both searches are sent before any of them completes
+        assertEquals(2, searchListeners.size());
+        searchListeners.get(1).onResponse(searchResponse("memory-2", "second memory"));
+        verify(listener, never()).onResponse(any());
+        searchListeners.get(0).onResponse(searchResponse("memory-1", "first memory"));
+
+        ArgumentCaptor<List<FactSearchResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(listener).onResponse(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals("memory-1", captor.getValue().get(0).getId());
+        assertEquals("memory-2", captor.getValue().get(1).getId());
+    }
+
+    private SearchResponse searchResponse(String id, String memory) throws IOException {
+        XContentBuilder sourceContent = XContentBuilder
+            .builder(XContentType.JSON.xContent())
+            .startObject()
+            .field(MEMORY_FIELD, memory)
+            .endObject();
+        SearchHit hit = new SearchHit(1, id, null, null);
+        hit.sourceRef(BytesReference.bytes(sourceContent));
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        SearchHits hits = new SearchHits(new SearchHit[] { hit }, new TotalHits(1, TotalHits.Relation.EQUAL_TO), 1.0f);
+        when(searchResponse.getHits()).thenReturn(hits);
+        return searchResponse;
+    }
 }
@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.action.memorycontainer.memory;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -53,6 +54,8 @@ import org.opensearch.ml.common.transport.memorycontainer.memory.MessageInput;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.helper.MemoryContainerHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStats;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
@@ -111,6 +114,8 @@ public class TransportAddMemoriesActionTests {
 
     private TransportAddMemoriesAction transportAddMemoriesAction;
 
+    private MLStats mlStats;
+
     @Before
     public void setup() throws Exception {
         MockitoAnnotations.openMocks(this);
@@ -129,6 +134,7 @@ public class TransportAddMemoriesActionTests {
             return null;
         }).when(executorService).execute(any(Runnable.class));
 
+        mlStats = new MLStats(new HashMap<>());
         transportAddMemoriesAction = new TransportAddMemoriesAction(
             transportService,
             actionFilters,
@@ -137,7 +143,8 @@ public class TransportAddMemoriesActionTests {
             xContentRegistry,
             mlFeatureEnabledSetting,
             memoryContainerHelper,
-            threadPool
+            threadPool,
+            mlStats
         );
 
         // Replace internal services with mocks via reflection for testing private methods
@@ -152,6 +159,13 @@ public class TransportAddMemoriesActionTests {
         field.set(transportAddMemoriesAction, mockService);
     }
 
+    @Test
+    public void testConstructor_RegistersExtractionQueueStats() {
+        assertEquals(0L, mlStats.getStat(MLNodeLevelStat.ML_MEMORY_EXTRACTION_QUEUE_DEPTH).getValue());
+        assertEquals(0L, mlStats.getStat(MLNodeLevelStat.ML_MEMORY_EXTRACTION_IN_FLIGHT_COUNT).getValue());
+        assertEquals(0L, mlStats.getStat(MLNodeLevelStat.ML_MEMORY_EXTRACTION_LAG_IN_MS).getValue());
+    }
+
     @Test
     public void testDoExecute_AgenticMemoryDisabled() {
         when(mlFeatureEnabledSetting.isAgenticMemoryEnabled()).thenReturn(false);
@@ -8,12 +8,14 @@ package org.opensearch.ml.action.prediction;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
 import static org.opensearch.ml.utils.MLExceptionUtils.LOCAL_MODEL_DISABLED_ERR_MSG;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -56,6 +58,7 @@ import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLPredictTaskRunner;
+import org.opensearch.ml.utils.CompiledJsonSchema;
 import org.opensearch.remote.metadata.client.SdkClient;
 import org.opensearch.remote.metadata.client.impl.SdkClientFactory;
 import org.opensearch.test.OpenSearchTestCase;
@@ -368,4 +371,35 @@ public class TransportPredictionTaskActionTests extends OpenSearchTestCase {
         when(modelCacheHelper.getModelInterface(any())).thenReturn(modelInterface);
         transportPredictionTaskAction.validateInputSchema("testId", mlInput);
     }
+
+    @Test
+    public void testValidateInputSchemaWithCompiledSchema() throws IOException {
+        RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
+            .builder()
+            .parameters(Map.of("messages", "[{\\\"role\\\":\\\"user\\\",\\\"content\\\":\\\"Hello!\\\"}]", "temperature", "0.5"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(remoteInferenceInputDataSet).build();
+        CompiledJsonSchema inputSchema = CompiledJsonSchema
+            .compile(
+                "{\"properties\":{\"parameters\":{\"properties\":{\"messages\":{\"type\":\"string\"},"
+                    + "\"temperature\":{\"type\":\"number\"}}}}}"
+            );
+        when(modelCacheHelper.getInputSchema(any())).thenReturn(inputSchema);
+        transportPredictionTaskAction.validateInputSchema("testId", mlInput);
+        verify(modelCacheHelper, never()).getModelInterface(any());
+    }
+
+    @Test
+    public void testValidateInputSchemaWithCompiledSchemaFailed() throws IOException {
+        exceptionRule.expect(OpenSearchStatusException.class);
+        RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
+            .builder()
+            .parameters(Map.of("temperature", "hot"))
+            .build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(remoteInferenceInputDataSet).build();
+        CompiledJsonSchema inputSchema = CompiledJsonSchema
+            .compile("{\"properties\":{\"parameters\":{\"properties\":{\"temperature\":{\"type\":\"number\"}}}}}");
+        when(modelCacheHelper.getInputSchema(any())).thenReturn(inputSchema);
+        transportPredictionTaskAction.validateInputSchema("testId", mlInput);
+    }
 }
@@ -26,6 +26,8 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.env.Environment;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModel;
+import org.opensearch.ml.engine.algorithms.remote.RemoteModelResponseCache;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.*;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
@@ -201,6 +203,55 @@ public class MLStatsNodesTransportActionTests extends OpenSearchIntegTestCase {
         assertEquals(1l, actionStats.getActionStat(MLActionLevelStat.ML_ACTION_REQUEST_COUNT));
     }
 
+    @Test
+    public void testNodeOperation_ModelStatWithResponseCache() {
+        MLStats mlStats = new MLStats(statsMap);
+        mlStats.createModelCounterStatIfAbsent(modelId, ActionName.PREDICT, MLActionLevelStat.ML_ACTION_REQUEST_COUNT).increment();
+        RemoteModel remoteModel = mock(RemoteModel.class);
+        when(remoteModel.getResponseCacheStats())
+            .thenReturn(
+                Map
+                    .of(
+                        RemoteModelResponseCache.HIT_COUNT_STAT,
+                        3L,
+                        RemoteModelResponseCache.SEMANTIC_HIT_COUNT_STAT,
+                        1L,
+                        RemoteModelResponseCache.MISS_COUNT_STAT,
+                        2L,
+                        RemoteModelResponseCache.EVICTION_COUNT_STAT,
+                        0L,
+                        RemoteModelResponseCache.SIZE_STAT,
+                        2L
+                    )
+            );
+        when(mlModelManager.getPredictor(modelId)).thenReturn(remoteModel);
+
+        MLStatsNodesTransportAction action = new MLStatsNodesTransportAction(
+            client().threadPool(),
+            clusterService(),
+            mock(TransportService.class),
+            mock(ActionFilters.class),
+            mlStats,
+            environment,
+            client,
+            mlModelManager
+        );
+
+        String nodeId = clusterService().localNode().getId();
+        MLStatsInput mlStatsInput = MLStatsInput.builder().targetStatLevels(EnumSet.of(MLStatLevel.MODEL)).build();
+        MLStatsNodesRequest mlStatsNodesRequest = new MLStatsNodesRequest(new String[] { nodeId }, mlStatsInput);
+
+        MLStatsNodeResponse response = action.nodeOperation(new MLStatsNodeRequest(mlStatsNodesRequest));
+
+        MLActionStats actionStats = response.getModelStats(modelId).getActionStats(ActionName.PREDICT);
+        assertEquals(1l, actionStats.getActionStat(MLActionLevelStat.ML_ACTION_REQUEST_COUNT));
+        assertEquals(3L, actionStats.getActionStat(MLActionLevelStat.ML_ACTION_RESPONSE_CACHE_HIT_COUNT));
+        assertEquals(1L, actionStats.getActionStat(MLActionLevelStat.ML_ACTION_RESPONSE_CACHE_SEMANTIC_HIT_COUNT));
+        assertEquals(2L, actionStats.getActionStat(MLActionLevelStat.ML_ACTION_RESPONSE_CACHE_MISS_COUNT));
+        assertEquals(0L, actionStats.getActionStat(MLActionLevelStat.ML_ACTION_RESPONSE_CACHE_EVICTION_COUNT));
+        assertEquals(2L, actionStats.getActionStat(MLActionLevelStat.ML_ACTION_RESPONSE_CACHE_SIZE));
+    }
+
     @Test
     public void testNodeOperation_NoNodeLevelStat_AlgoStat_hiddenModel() {
         MLStats mlStats = new MLStats(statsMap);
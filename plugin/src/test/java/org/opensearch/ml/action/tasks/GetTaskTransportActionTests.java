@@ -12,7 +12,9 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.index.seqno.SequenceNumbers.UNASSIGNED_PRIMARY_TERM;
@@ -42,8 +44,11 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
@@ -51,12 +56,16 @@ import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.engine.VersionConflictEngineException;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -72,6 +81,10 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.batch.MLBatchIngestionAction;
+import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
+import org.opensearch.ml.common.transport.batch.MLBatchIngestionRequest;
+import org.opensearch.ml.common.transport.batch.MLBatchIngestionResponse;
 import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
 import org.opensearch.ml.common.transport.task.MLTaskGetResponse;
 import org.opensearch.ml.engine.MLEngine;
@@ -521,6 +534,205 @@ public class GetTaskTransportActionTests extends OpenSearchTestCase {
         assertEquals(remoteJobName, updatedRemoteJob.get("name"));
     }
 
+    public void test_processTaskResponse_completeStartsOutputIngestion() {
+        Map<String, Object> remoteJob = new HashMap<>();
+        remoteJob.put("status", "in_progress");
+        remoteJob.put("ingest", Map.of("index_name", "test-index", "data_source", "{\"type\":\"openai\"}"));
+        MLTask mlTask = MLTask.builder().taskId("testTaskId").state(MLTaskState.RUNNING).remoteJob(remoteJob).build();
+        ModelTensor modelTensor = ModelTensor
+            .builder()
+            .name("response")
+            .dataAsMap(Map.of("status", "completed", "output_file_id", "file-1"))
+            .build();
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()))
+            .build();
+        MLTaskResponse taskResponse = MLTaskResponse.builder().output(modelTensorOutput).build();
+        mockIngestionClaim(Map.of("status", "in_progress"));
+        ArgumentCaptor<MLBatchIngestionRequest> ingestionRequestCaptor = ArgumentCaptor.forClass(MLBatchIngestionRequest.class);
+        doAnswer(invocation -> {
+            ActionListener<MLBatchIngestionResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLBatchIngestionResponse("ingestTaskId", MLTaskType.BATCH_INGEST, MLTaskState.CREATED.name()));
+            return null;
+        }).when(client).execute(eq(MLBatchIngestionAction.INSTANCE), ingestionRequestCaptor.capture(), any());
+        ArgumentCaptor<Map<String, Object>> updatedTaskCaptor = ArgumentCaptor.forClass(Map.class);
+
+        Map<String, String> decryptedCredential = Map.of("openAI_key", "key");
+        getTaskTransportAction
+            .processTaskResponse(mlTask, "testTaskId", false, taskResponse, remoteJob, decryptedCredential, mock(ActionListener.class));
+
+        MLBatchIngestionInput ingestionInput = ingestionRequestCaptor.getValue().getMlBatchIngestionInput();
+        assertEquals("test-index", ingestionInput.getIndexName());
+        assertEquals(List.of("file-1"), ingestionInput.getDataSources().get("source"));
+        assertEquals("key", ingestionInput.getCredential().get("openAI_key"));
+        verify(mlTaskManager).updateMLTaskDirectly(any(), updatedTaskCaptor.capture(), any());
+        assertEquals(MLTaskState.COMPLETED, updatedTaskCaptor.getValue().get("state"));
+        Map<String, Object> updatedRemoteJob = (Map<String, Object>) updatedTaskCaptor.getValue().get("remote_job");
+        assertEquals("ingestTaskId", updatedRemoteJob.get("ingest_task_id"));
+        assertNotNull(updatedRemoteJob.get("ingest_start_time"));
+        ArgumentCaptor<UpdateRequest> claimCaptor = ArgumentCaptor.forClass(UpdateRequest.class);
+        verify(client).update(claimCaptor.capture(), any());
+        assertEquals(3L, claimCaptor.getValue().ifSeqNo());
+        assertEquals(1L, claimCaptor.getValue().ifPrimaryTerm());
+    }
+
+    public void test_processTaskResponse_ingestionRunsWithOwnerRoles() {
+        Map<String, Object> remoteJob = new HashMap<>();
+        remoteJob.put("status", "in_progress");
+        remoteJob.put("ingest", Map.of("index_name", "test-index", "data_source", "{\"type\":\"openai\"}"));
+        MLTask mlTask = MLTask
+            .builder()
+            .taskId("testTaskId")
+            .state(MLTaskState.RUNNING)
+            .remoteJob(remoteJob)
+            .user(User.parse("owner|backend_role|owner_role1,owner_role2"))
+            .build();
+        ModelTensor modelTensor = ModelTensor
+            .builder()
+            .name("response")
+            .dataAsMap(Map.of("status", "completed", "output_file_id", "file-1"))
+            .build();
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()))
+            .build();
+        MLTaskResponse taskResponse = MLTaskResponse.builder().output(modelTensorOutput).build();
+        mockIngestionClaim(Map.of("status", "in_progress"));
+        // the status poll runs as another user
+        String pollerUser = "poller|poller_role|all_access";
+        threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, pollerUser);
+        Map<String, Object> ingestionContext = new HashMap<>();
+        doAnswer(invocation -> {
+            ingestionContext.put("user", threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT));
+            ingestionContext.put("roles", threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_INJECTED_ROLES));
+            ActionListener<MLBatchIngestionResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLBatchIngestionResponse("ingestTaskId", MLTaskType.BATCH_INGEST, MLTaskState.CREATED.name()));
+            return null;
+        }).when(client).execute(eq(MLBatchIngestionAction.INSTANCE), any(), any());
+
+        getTaskTransportAction
+            .processTaskResponse(mlTask, "testTaskId", false, taskResponse, remoteJob, Map.of(), mock(ActionListener.class));
+
+        assertNull(ingestionContext.get("user"));
+        assertEquals("owner|owner_role1,owner_role2", ingestionContext.get("roles"));
+        // the context of the status poll is restored once the ingestion started
+        assertNull(threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_INJECTED_ROLES));
+        assertEquals(pollerUser, threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT));
+    }
+
+    public void test_processTaskResponse_ingestionAlreadyClaimed() {
+        Map<String, Object> remoteJob = new HashMap<>();
+        remoteJob.put("status", "in_progress");
+        remoteJob.put("ingest", Map.of("index_name", "test-index", "data_source", "{\"type\":\"openai\"}"));
+        MLTask mlTask = MLTask.builder().taskId("testTaskId").state(MLTaskState.RUNNING).remoteJob(remoteJob).build();
+        // another status poll of the same job claimed the ingestion first
+        mockIngestionClaim(Map.of("status", "completed", "ingest_start_time", 1L));
+
+        getTaskTransportAction
+            .processTaskResponse(mlTask, "testTaskId", false, completedTaskResponse(), remoteJob, Map.of(), mock(ActionListener.class));
+
+        verify(client, never()).update(any(), any());
+        verify(client, never()).execute(eq(MLBatchIngestionAction.INSTANCE), any(), any());
+        verify(mlTaskManager).updateMLTaskDirectly(any(), any(), any());
+        assertNull(remoteJob.get("ingest_task_id"));
+    }
+
+    public void test_processTaskResponse_ingestionClaimConflict() {
+        Map<String, Object> remoteJob = new HashMap<>();
+        remoteJob.put("status", "in_progress");
+        remoteJob.put("ingest", Map.of("index_name", "test-index", "data_source", "{\"type\":\"openai\"}"));
+        MLTask mlTask = MLTask.builder().taskId("testTaskId").state(MLTaskState.RUNNING).remoteJob(remoteJob).build();
+        GetResponse unclaimed = taskDocument(Map.of("status", "in_progress"));
+        GetResponse claimed = taskDocument(Map.of("status", "completed", "ingest_start_time", 1L));
+        int[] reads = { 0 };
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(reads[0]++ == 0 ? unclaimed : claimed);
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onFailure(new VersionConflictEngineException(new ShardId(ML_TASK_INDEX, "_na_", 0), "testTaskId", "conflict"));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+
+        getTaskTransportAction
+            .processTaskResponse(mlTask, "testTaskId", false, completedTaskResponse(), remoteJob, Map.of(), mock(ActionListener.class));
+
+        // the conflicting update claimed the ingestion, so it is re-read and not started again
+        verify(client, times(2)).get(any(GetRequest.class), any());
+        verify(client, never()).execute(eq(MLBatchIngestionAction.INSTANCE), any(), any());
+        verify(mlTaskManager).updateMLTaskDirectly(any(), any(), any());
+        assertNull(remoteJob.get("ingest_error"));
+    }
+
+    public void test_buildOutputIngestionInput_ignoresStoredCredential() throws IOException {
+        Map<String, Object> ingestConfig = Map
+            .of("index_name", "test-index", "data_source", "{\"type\":\"openai\"}", "credential", "{\"openAI_key\":\"stored\"}");
+
+        MLBatchIngestionInput ingestionInput = getTaskTransportAction
+            .buildOutputIngestionInput(ingestConfig, Map.of("output_file_id", "file-1"), Map.of("openAI_key", "key"));
+
+        assertEquals("key", ingestionInput.getCredential().get("openAI_key"));
+        assertEquals(List.of("file-1"), ingestionInput.getDataSources().get("source"));
+    }
+
+    private MLTaskResponse completedTaskResponse() {
+        ModelTensor modelTensor = ModelTensor.builder().name("response").dataAsMap(Map.of("status", "completed")).build();
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()))
+            .build();
+        return MLTaskResponse.builder().output(modelTensorOutput).build();
+    }
+
+    private GetResponse taskDocument(Map<String, Object> storedRemoteJob) {
+        try {
+            XContentBuilder content = XContentFactory.jsonBuilder().map(Map.of("remote_job", storedRemoteJob));
+            return new GetResponse(new GetResult(ML_TASK_INDEX, "testTaskId", 3, 1, 4, true, BytesReference.bytes(content), null, null));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void mockIngestionClaim(Map<String, Object> storedRemoteJob) {
+        GetResponse getResponse = taskDocument(storedRemoteJob);
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(GetRequest.class), any());
+        doAnswer(invocation -> {
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onResponse(mock(UpdateResponse.class));
+            return null;
+        }).when(client).update(any(UpdateRequest.class), any());
+    }
+
+    public void test_processTaskResponse_completeWithInvalidIngestConfig() {
+        Map<String, Object> remoteJob = new HashMap<>();
+        remoteJob.put("status", "in_progress");
+        remoteJob.put("ingest", Map.of("data_source", "{\"type\":\"openai\"}"));
+        MLTask mlTask = MLTask.builder().taskId("testTaskId").state(MLTaskState.RUNNING).remoteJob(remoteJob).build();
+        ModelTensor modelTensor = ModelTensor.builder().name("response").dataAsMap(Map.of("status", "completed")).build();
+        ModelTensorOutput modelTensorOutput = ModelTensorOutput
+            .builder()
+            .mlModelOutputs(List.of(ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build()))
+            .build();
+        MLTaskResponse taskResponse = MLTaskResponse.builder().output(modelTensorOutput).build();
+        ArgumentCaptor<Map<String, Object>> updatedTaskCaptor = ArgumentCaptor.forClass(Map.class);
+        mockIngestionClaim(Map.of("status", "in_progress"));
+
+        getTaskTransportAction.processTaskResponse(mlTask, "testTaskId", false, taskResponse, remoteJob, null, mock(ActionListener.class));
+
+        verify(client, never()).execute(eq(MLBatchIngestionAction.INSTANCE), any(), any());
+        verify(mlTaskManager).updateMLTaskDirectly(any(), updatedTaskCaptor.capture(), any());
+        Map<String, Object> updatedRemoteJob = (Map<String, Object>) updatedTaskCaptor.getValue().get("remote_job");
+        assertNotNull(updatedRemoteJob.get("ingest_error"));
+        assertNull(updatedRemoteJob.get("ingest_task_id"));
+    }
+
     public void testUpdateDLQ_Success() throws IOException {
         // Setup test data
         Map<String, Object> remoteJob = new HashMap<>();
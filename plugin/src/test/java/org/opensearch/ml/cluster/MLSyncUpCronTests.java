@@ -69,7 +69,9 @@ import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
@@ -141,7 +143,16 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, USER_STRING);
         when(client.threadPool()).thenReturn(threadPool);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
-        syncUpCron = new MLSyncUpCron(client, sdkClient, clusterService, nodeHelper, mlIndicesHandler, encryptor, mlFeatureEnabledSetting);
+        syncUpCron = new MLSyncUpCron(
+            client,
+            sdkClient,
+            clusterService,
+            nodeHelper,
+            mlIndicesHandler,
+            encryptor,
+            mlFeatureEnabledSetting,
+            null
+        );
     }
 
     public void testInitMlConfig_MasterKeyNotExist() {
@@ -239,6 +250,99 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         verify(client, times(1)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
     }
 
+    public void testRun_SumsRateLimiterDemand() {
+        when(nodeHelper.getAllNodes()).thenReturn(new DiscoveryNode[] { mlNode1, mlNode2 });
+        ArgumentCaptor<MLSyncUpNodesRequest> requestCaptor = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+        doAnswer(invocation -> {
+            ActionListener<MLSyncUpNodesResponse> listener = invocation.getArgument(2);
+            List<MLSyncUpNodeResponse> nodeResponses = List
+                .of(
+                    new MLSyncUpNodeResponse(mlNode1, "ok", null, null, null, null, 0, Map.of("model1", 30L, "model1|user1", 10L)),
+                    new MLSyncUpNodeResponse(mlNode2, "ok", null, null, null, null, 0, Map.of("model1", 10L))
+                );
+            listener.onResponse(new MLSyncUpNodesResponse(ClusterName.DEFAULT, nodeResponses, Arrays.asList()));
+            return null;
+        }).when(client).execute(eq(MLSyncUpAction.INSTANCE), requestCaptor.capture(), any());
+
+        syncUpCron.run();
+
+        verify(client, times(2)).execute(eq(MLSyncUpAction.INSTANCE), any(), any());
+        MLSyncUpInput syncUpInput = requestCaptor.getAllValues().get(1).getSyncUpInput();
+        assertEquals(Map.of("model1", 40L, "model1|user1", 10L), syncUpInput.getClusterRateLimiterDemand());
+    }
+
+    public void testBuildRoutingSyncInput_FirstSyncIsFull() {
+        Map<String, Set<String>> modelWorkerNodes = Map.of("model1", Set.of(mlNode1Id));
+        MLSyncUpInput syncUpInput = syncUpCron.buildRoutingSyncInput(routingResponses(0), modelWorkerNodes, new HashMap<>());
+
+        assertFalse(syncUpInput.isDeltaRoutingSync());
+        assertEquals(1, syncUpInput.getRoutingVersion());
+        assertEquals(modelWorkerNodes, syncUpInput.getModelRoutingTable());
+    }
+
+    public void testBuildRoutingSyncInput_UnchangedRouting() {
+        Map<String, Set<String>> modelWorkerNodes = Map.of("model1", Set.of(mlNode1Id));
+        syncUpCron.buildRoutingSyncInput(routingResponses(0), modelWorkerNodes, new HashMap<>());
+
+        assertNull(syncUpCron.buildRoutingSyncInput(routingResponses(1), modelWorkerNodes, new HashMap<>()));
+
+        Map<String, Set<String>> runningDeployModelTasks = Map.of("task1", Set.of(mlNode1Id));
+        MLSyncUpInput syncUpInput = syncUpCron.buildRoutingSyncInput(routingResponses(1), modelWorkerNodes, runningDeployModelTasks);
+        assertFalse(syncUpInput.isDeltaRoutingSync());
+        assertNull(syncUpInput.getModelRoutingTable());
+        assertEquals(runningDeployModelTasks, syncUpInput.getRunningDeployModelTasks());
+        assertEquals(1, syncUpCron.routingVersion);
+    }
+
+    public void testBuildRoutingSyncInput_DeltaSync() {
+        syncUpCron
+            .buildRoutingSyncInput(
+                routingResponses(0),
+                Map.of("model1", Set.of(mlNode1Id), "model2", Set.of(mlNode1Id)),
+                new HashMap<>()
+            );
+
+        Map<String, Set<String>> modelWorkerNodes = Map.of("model1", Set.of(mlNode1Id, mlNode2Id), "model3", Set.of(mlNode2Id));
+        MLSyncUpInput syncUpInput = syncUpCron.buildRoutingSyncInput(routingResponses(1), modelWorkerNodes, new HashMap<>());
+
+        assertTrue(syncUpInput.isDeltaRoutingSync());
+        assertEquals(1, syncUpInput.getBaseRoutingVersion());
+        assertEquals(2, syncUpInput.getRoutingVersion());
+        assertEquals(modelWorkerNodes, syncUpInput.getModelRoutingTable());
+        assertEquals(Set.of("model2"), syncUpInput.getRemovedModelRoutings());
+    }
+
+    public void testBuildRoutingSyncInput_VersionMismatchFallsBackToFullSync() {
+        Map<String, Set<String>> modelWorkerNodes = Map.of("model1", Set.of(mlNode1Id));
+        syncUpCron.buildRoutingSyncInput(routingResponses(0), modelWorkerNodes, new HashMap<>());
+
+        MLSyncUpInput syncUpInput = syncUpCron.buildRoutingSyncInput(routingResponses(0), modelWorkerNodes, new HashMap<>());
+
+        assertFalse(syncUpInput.isDeltaRoutingSync());
+        assertEquals(2, syncUpInput.getRoutingVersion());
+        assertEquals(modelWorkerNodes, syncUpInput.getModelRoutingTable());
+    }
+
+    public void testBuildRoutingSyncInput_PeriodicFullSync() {
+        Map<String, Set<String>> modelWorkerNodes = Map.of("model1", Set.of(mlNode1Id));
+        syncUpCron.buildRoutingSyncInput(routingResponses(0), modelWorkerNodes, new HashMap<>());
+        for (int i = 0; i < MLSyncUpCron.FULL_ROUTING_SYNC_INTERVAL; i++) {
+            assertNull(syncUpCron.buildRoutingSyncInput(routingResponses(1), modelWorkerNodes, new HashMap<>()));
+        }
+
+        MLSyncUpInput syncUpInput = syncUpCron.buildRoutingSyncInput(routingResponses(1), modelWorkerNodes, new HashMap<>());
+        assertFalse(syncUpInput.isDeltaRoutingSync());
+        assertEquals(2, syncUpInput.getRoutingVersion());
+    }
+
+    private List<MLSyncUpNodeResponse> routingResponses(long routingVersion) {
+        return List
+            .of(
+                new MLSyncUpNodeResponse(mlNode1, "ok", null, null, null, null, routingVersion),
+                new MLSyncUpNodeResponse(mlNode2, "ok", null, null, null, null, routingVersion)
+            );
+    }
+
     public void testRefreshModelState_NoSemaphore() throws InterruptedException {
         syncUpCron.updateModelStateSemaphore.acquire();
         syncUpCron.refreshModelState(null, null);
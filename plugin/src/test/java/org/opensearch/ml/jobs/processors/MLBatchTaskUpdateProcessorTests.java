@@ -11,6 +11,11 @@ import static org.mockito.Mockito.*;
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.lucene.search.TotalHits;
 import org.junit.Assert;
@@ -29,6 +34,7 @@ import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.transport.task.MLTaskGetAction;
 import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
 import org.opensearch.ml.utils.TestHelper;
+import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.threadpool.ThreadPool;
@@ -127,6 +133,75 @@ public class MLBatchTaskUpdateProcessorTests {
         verify(client, never()).execute(eq(MLTaskGetAction.INSTANCE), any(MLTaskGetRequest.class), isA(ActionListener.class));
     }
 
+    @Test
+    public void testRun_PagesPastPageSizeAndBoundsConcurrency() {
+        long now = TimeUnit.DAYS.toMillis(1);
+        processor = new MLBatchTaskUpdateProcessor(clusterService, client, threadPool, () -> now);
+        // the first page ends with two tasks created at the same time, the second page returns the rest
+        SearchHit[] firstPage = new SearchHit[MLBatchTaskUpdateProcessor.PAGE_SIZE];
+        for (int i = 0; i < firstPage.length; i++) {
+            firstPage[i] = createTaskHit("task-" + i, now - Math.min(i, firstPage.length - 2));
+        }
+        SearchHit[] secondPage = new SearchHit[] { createTaskHit("task-100", now - firstPage.length + 2) };
+        List<SearchRequest> searchRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            searchRequests.add(invocation.getArgument(0));
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(createSearchResponse(searchRequests.size() == 1 ? firstPage : secondPage));
+            return null;
+        }).when(client).search(any(SearchRequest.class), isA(ActionListener.class));
+        List<ActionListener<?>> pollListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            pollListeners.add(invocation.getArgument(2));
+            return null;
+        }).when(client).execute(eq(MLTaskGetAction.INSTANCE), any(MLTaskGetRequest.class), isA(ActionListener.class));
+
+        processor.run();
+
+        Assert.assertEquals(2, searchRequests.size());
+        String secondQuery = searchRequests.get(1).source().query().toString();
+        Assert.assertTrue(secondQuery.contains("task-98"));
+        Assert.assertTrue(secondQuery.contains("task-99"));
+        // only a bounded number of status calls are in flight, the next one starts when one completes
+        Assert.assertEquals(MLBatchTaskUpdateProcessor.MAX_CONCURRENT_POLLS, pollListeners.size());
+        pollListeners.get(0).onResponse(null);
+        Assert.assertEquals(MLBatchTaskUpdateProcessor.MAX_CONCURRENT_POLLS + 1, pollListeners.size());
+    }
+
+    @Test
+    public void testShouldPoll_AdaptiveInterval() {
+        AtomicLong now = new AtomicLong(TimeUnit.DAYS.toMillis(1));
+        processor = new MLBatchTaskUpdateProcessor(clusterService, client, threadPool, now::get);
+        long recentCreateTime = now.get() - TimeUnit.MINUTES.toMillis(1);
+        long oldCreateTime = now.get() - TimeUnit.HOURS.toMillis(1);
+
+        Assert.assertTrue(processor.shouldPoll("recent", MLTaskState.RUNNING.name(), recentCreateTime, now.get()));
+        Assert.assertTrue(processor.shouldPoll("old", MLTaskState.RUNNING.name(), oldCreateTime, now.get()));
+        Assert.assertTrue(processor.shouldPoll("cancelling", MLTaskState.CANCELLING.name(), oldCreateTime, now.get()));
+
+        now.addAndGet(TimeUnit.MINUTES.toMillis(1));
+        Assert.assertTrue(processor.shouldPoll("recent", MLTaskState.RUNNING.name(), recentCreateTime, now.get()));
+        Assert.assertFalse(processor.shouldPoll("old", MLTaskState.RUNNING.name(), oldCreateTime, now.get()));
+        Assert.assertTrue(processor.shouldPoll("cancelling", MLTaskState.CANCELLING.name(), oldCreateTime, now.get()));
+
+        // a one hour old job is polled every six minutes
+        now.addAndGet(TimeUnit.MINUTES.toMillis(6));
+        Assert.assertTrue(processor.shouldPoll("old", MLTaskState.RUNNING.name(), oldCreateTime, now.get()));
+    }
+
+    private SearchHit createTaskHit(String taskId, long createTime) {
+        SearchHit hit = new SearchHit(0, taskId, Collections.emptyMap(), Collections.emptyMap());
+        hit.sortValues(new Object[] { createTime }, new DocValueFormat[] { DocValueFormat.RAW });
+        return hit;
+    }
+
+    private SearchResponse createSearchResponse(SearchHit[] searchHits) {
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        SearchHits hits = new SearchHits(searchHits, new TotalHits(searchHits.length, TotalHits.Relation.EQUAL_TO), Float.NaN);
+        when(searchResponse.getHits()).thenReturn(hits);
+        return searchResponse;
+    }
+
     private SearchResponse createTaskSearchResponse() throws IOException {
         SearchResponse searchResponse = mock(SearchResponse.class);
 
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class AdaptiveTokenBucketTests extends OpenSearchTestCase {
+
+    private static final double RATE_PER_SECOND = 100;
+    private static final long MAX_STALENESS_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private AtomicLong now;
+
+    @Before
+    public void setup() {
+        now = new AtomicLong(0);
+    }
+
+    private AdaptiveTokenBucket bucket(int eligibleNodeCount) {
+        return new AdaptiveTokenBucket(now::get, RATE_PER_SECOND / TimeUnit.SECONDS.toNanos(1), 10, eligibleNodeCount, MAX_STALENESS_NANOS);
+    }
+
+    public void testRequest_EvenShareBeforeRebalance() {
+        AdaptiveTokenBucket bucket = bucket(2);
+
+        assertEquals(0.5, bucket.getShare(), 1e-9);
+        assertEquals(5, drain(bucket));
+        // half of the cluster rate is refilled on this node, up to half of the cluster burst
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        assertEquals(5, drain(bucket));
+    }
+
+    public void testRebalance_BusyNodeBorrowsIdleBudget() {
+        AdaptiveTokenBucket busy = bucket(2);
+        AdaptiveTokenBucket idle = bucket(2);
+        drain(busy);
+        long busyDemand = busy.drainDemand();
+        long idleDemand = idle.drainDemand();
+
+        busy.rebalance(busyDemand + idleDemand);
+        idle.rebalance(busyDemand + idleDemand);
+
+        assertEquals(0.9, busy.getShare(), 1e-9);
+        assertEquals(0.1, idle.getShare(), 1e-9);
+        assertEquals(1.0, busy.getShare() + idle.getShare(), 1e-9);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(9, drain(busy));
+        assertEquals(1, drain(idle));
+    }
+
+    public void testRebalance_NoDemandKeepsEvenShare() {
+        AdaptiveTokenBucket bucket = bucket(4);
+        bucket.drainDemand();
+
+        bucket.rebalance(0);
+
+        assertEquals(0.25, bucket.getShare(), 1e-9);
+    }
+
+    public void testRequest_StaleShareFallsBackToEvenShare() {
+        AdaptiveTokenBucket bucket = bucket(2);
+        bucket.request();
+        bucket.drainDemand();
+        bucket.rebalance(1);
+        assertEquals(0.9, bucket.getShare(), 1e-9);
+
+        now.addAndGet(MAX_STALENESS_NANOS + 1);
+        bucket.request();
+
+        assertEquals(0.5, bucket.getShare(), 1e-9);
+    }
+
+    public void testDrainDemand_CountsRejectedRequests() {
+        AdaptiveTokenBucket bucket = bucket(2);
+
+        drain(bucket);
+
+        // 5 accepted requests and the rejected one
+        assertEquals(6, bucket.drainDemand());
+        assertEquals(0, bucket.drainDemand());
+    }
+
+    private int drain(AdaptiveTokenBucket bucket) {
+        int accepted = 0;
+        while (bucket.request()) {
+            accepted++;
+        }
+        return accepted;
+    }
+}
@@ -18,6 +18,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -175,6 +179,87 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertNull(cacheHelper.getUserRateLimiterMap(modelId));
     }
 
+    public void testAdaptiveRateLimiters() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        AdaptiveTokenBucket modelRateLimiter = new AdaptiveTokenBucket(() -> 0L, 1, 100, 2, Long.MAX_VALUE);
+        AdaptiveTokenBucket userRateLimiter = new AdaptiveTokenBucket(() -> 0L, 1, 100, 2, Long.MAX_VALUE);
+        cacheHelper.setRateLimiter(modelId, modelRateLimiter);
+        cacheHelper.setUserRateLimiterMap(modelId, Map.of("user1", userRateLimiter, "user2", rateLimiter));
+        modelRateLimiter.request();
+        modelRateLimiter.request();
+        userRateLimiter.request();
+
+        Map<String, Long> demand = cacheHelper.drainRateLimiterDemand();
+        assertEquals(Map.of(modelId, 2L, modelId + "|user1", 1L), demand);
+        // idle rate limiters are not reported, so an idle cluster doesn't trigger a rebalance
+        assertEquals(Map.of(), cacheHelper.drainRateLimiterDemand());
+
+        modelRateLimiter.request();
+        cacheHelper.drainRateLimiterDemand();
+        cacheHelper.rebalanceRateLimiters(Map.of(modelId, 1L, modelId + "|user1", 4L));
+        // this node saw all the model traffic, and none of the user traffic
+        assertEquals(0.9, modelRateLimiter.getShare(), 1e-9);
+        assertEquals(0.1, userRateLimiter.getShare(), 1e-9);
+
+        // no node reported demand for the user, so its rate limiter goes back to an even share
+        cacheHelper.rebalanceRateLimiters(Map.of(modelId, 1L));
+        assertEquals(0.5, userRateLimiter.getShare(), 1e-9);
+    }
+
+    public void testConcurrentUpdatesOfDifferentModels() throws Exception {
+        int modelCount = 20;
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < modelCount; i++) {
+                String id = "model" + i;
+                futures.add(executorService.submit(() -> {
+                    cacheHelper.initModelState(id, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+                    cacheHelper.setRateLimiter(id, rateLimiter);
+                    cacheHelper.addWorkerNode(id, nodeId);
+                    cacheHelper.setModelState(id, MLModelState.DEPLOYED);
+                }));
+                // reads of other models are served while models are being deployed
+                futures.add(executorService.submit(() -> cacheHelper.getDeployedModels()));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executorService.shutdown();
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(modelCount, cacheHelper.getDeployedModels().length);
+        for (int i = 0; i < modelCount; i++) {
+            assertEquals(rateLimiter, cacheHelper.getRateLimiter("model" + i));
+            assertArrayEquals(new String[] { nodeId }, cacheHelper.getWorkerNodes("model" + i));
+        }
+    }
+
+    public void testModelState_DuplicateErrorKeepsExistingCache() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        cacheHelper.setRateLimiter(modelId, rateLimiter);
+
+        expectThrows(
+            MLLimitExceededException.class,
+            () -> cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true)
+        );
+        assertEquals(rateLimiter, cacheHelper.getRateLimiter(modelId));
+    }
+
+    public void testModelInterfaceSchemas() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        assertNull(cacheHelper.getInputSchema(modelId));
+        cacheHelper.setModelInterface(modelId, Map.of("input", "{\"type\":\"object\"}", "output", "not a schema"));
+        assertNotNull(cacheHelper.getInputSchema(modelId));
+        // an invalid schema is not compiled
+        assertNull(cacheHelper.getOutputSchema(modelId));
+        cacheHelper.removeModelInterface(modelId);
+        assertNull(cacheHelper.getInputSchema(modelId));
+        assertNull(cacheHelper.getModelInterface(modelId));
+    }
+
     public void testGetAndRemoveModel() {
         assertFalse(cacheHelper.isModelRunningOnNode(modelId));
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
@@ -381,6 +466,22 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(maxMonitoringRequests, predictStats.getCount().longValue());
     }
 
+    public void testGetModelProfile_StreamTokenStats() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        assertNull(cacheHelper.getModelProfile(modelId).getStreamFirstTokenStats());
+
+        cacheHelper.addStreamFirstTokenDuration(modelId, 200);
+        for (int i = 1; i <= maxMonitoringRequests * 2; i++) {
+            cacheHelper.addStreamInterTokenDuration(modelId, i);
+        }
+
+        MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
+        assertEquals(1L, modelProfile.getStreamFirstTokenStats().getCount().longValue());
+        assertEquals(200, modelProfile.getStreamFirstTokenStats().getMax(), 1e-5);
+        assertEquals(maxMonitoringRequests, modelProfile.getStreamInterTokenStats().getCount().longValue());
+        assertEquals(maxMonitoringRequests + 1, modelProfile.getStreamInterTokenStats().getMin(), 1e-5);
+    }
+
     public void testGetModelProfile_Deploying() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         MLModelProfile modelProfile = cacheHelper.getModelProfile(modelId);
@@ -52,6 +52,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.index.query.QueryBuilder;
@@ -1051,6 +1052,74 @@ public class MLInferenceSearchResponseProcessorTests extends AbstractBuilderTest
         verify(client, times(1)).execute(any(), any(), any());
     }
 
+    /**
+     * Tests that the source of the hits is left as is when the prediction outcome is only written to the search extension
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseWriteToExtKeepsHitSource() throws Exception {
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        inputMap.add(Map.of("context", "text"));
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        outputMap.add(Map.of("ext.ml_inference.llm_response", "response"));
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            optionalInputMaps,
+            optionalOutputMaps,
+            Map.of("prompt", "please summarize the documents: ${parameters.context}"),
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            false
+        );
+
+        SearchRequest request = getSearchRequest();
+        SearchResponse response = getSearchResponse(5, true, "text");
+        List<BytesReference> originalSources = new ArrayList<>();
+        for (SearchHit hit : response.getHits().getHits()) {
+            originalSources.add(hit.getSourceRef());
+        }
+
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", "there is 1 value")).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ActionListener<SearchResponse> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse newSearchResponse) {
+                assertEquals("there is 1 value", ((MLInferenceSearchResponse) newSearchResponse).getParams().get("llm_response"));
+                SearchHit[] hits = newSearchResponse.getHits().getHits();
+                for (int i = 0; i < hits.length; i++) {
+                    assertSame(originalSources.get(i), hits[i].getSourceRef());
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                throw new RuntimeException(e);
+            }
+
+        };
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+        verify(client, times(1)).execute(any(), any(), any());
+    }
+
     /**
      * Tests the successful processing of a response with a single pair of input and output mappings.
      * read the query text into model config with query extensions
@@ -172,6 +172,33 @@ public class MLModelProfileTests {
         assertEquals(original.getIsHidden(), deserialized.getIsHidden());
     }
 
+    @Test
+    public void testStreamSerializationWithStreamStats() throws IOException {
+        MLPredictRequestStats firstTokenStats = MLPredictRequestStats.builder().count(2L).max(300.0).build();
+        MLPredictRequestStats interTokenStats = MLPredictRequestStats.builder().count(20L).max(40.0).build();
+        MLModelProfile original = MLModelProfile
+            .builder()
+            .streamFirstTokenStats(firstTokenStats)
+            .streamInterTokenStats(interTokenStats)
+            .build();
+
+        BytesStreamOutput output = new BytesStreamOutput();
+        output.setVersion(Version.CURRENT);
+        original.writeTo(output);
+        StreamInput input = output.bytes().streamInput();
+        input.setVersion(Version.CURRENT);
+        MLModelProfile deserialized = new MLModelProfile(input);
+
+        assertEquals(Long.valueOf(2L), deserialized.getStreamFirstTokenStats().getCount());
+        assertEquals(Long.valueOf(20L), deserialized.getStreamInterTokenStats().getCount());
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        original.toXContent(builder, null);
+        String json = builder.toString();
+        assertTrue(json.contains("\"stream_first_token_stats\""));
+        assertTrue(json.contains("\"stream_inter_token_stats\""));
+    }
+
     @Test
     public void testStreamSerializationWithNullFields() throws IOException {
         MLModelProfile original = MLModelProfile.builder().build();
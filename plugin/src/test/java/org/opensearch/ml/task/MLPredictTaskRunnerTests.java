@@ -50,6 +50,7 @@ import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.get.GetResult;
@@ -80,6 +81,7 @@ import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
+import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 import org.opensearch.ml.stats.MLStat;
@@ -132,6 +134,9 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
     @Mock
     ActionListener<MLTaskResponse> listener;
 
+    @Mock
+    ConnectorAccessControlHelper connectorAccessControlHelper;
+
     @Rule
     public ExpectedException exceptionRule = ExpectedException.none();
 
@@ -193,6 +198,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
                 mlModelManager,
                 nodeHelper,
                 mlEngine,
+                connectorAccessControlHelper,
                 settings
             )
         );
@@ -349,7 +355,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
             actionListener
                 .onResponse(MLTaskResponse.builder().output(ModelTensorOutput.builder().mlModelOutputs(List.of()).build()).build());
             return null;
-        }).when(predictor).asyncPredict(any(), any(), any());
+        }).when(predictor).asyncPredict(any(), any(), any(), any());
         when(mlModelManager.getPredictor(anyString())).thenReturn(predictor);
         when(mlModelManager.getWorkerNodes(anyString(), eq(FunctionName.REMOTE), eq(true))).thenReturn(new String[] { "node1" });
         taskRunner.dispatchTask(FunctionName.REMOTE, textDocsInputRequest, transportService, listener);
@@ -446,6 +452,85 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
             )
             .actionType(ConnectorAction.ActionType.BATCH_PREDICT)
             .build();
+        dispatchBatchPrediction(remoteInferenceInputDataSet);
+        verify(client, never()).get(any(), any());
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+    }
+
+    public void testBatchPredictionIngestCredentialNotStored() throws IOException {
+        setupMocks(true, false, false, false);
+        RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
+            .builder()
+            .parameters(Map.of("messages", "[]"))
+            .actionType(ConnectorAction.ActionType.BATCH_PREDICT)
+            .ingest(Map.of("index_name", "test-index", "credential", "{\"secret_key\":\"secret\"}"))
+            .build();
+        dispatchBatchPrediction(remoteInferenceInputDataSet);
+
+        ArgumentCaptor<MLTask> taskCaptor = ArgumentCaptor.forClass(MLTask.class);
+        verify(mlTaskManager).createMLTask(taskCaptor.capture(), any());
+        Map<String, String> ingest = (Map<String, String>) taskCaptor.getValue().getRemoteJob().get("ingest");
+        assertEquals("test-index", ingest.get("index_name"));
+        assertFalse(ingest.containsKey("credential"));
+        // the request keeps the credential, only the stored task drops it
+        assertTrue(remoteInferenceInputDataSet.getIngest().containsKey("credential"));
+    }
+
+    public void testBatchPredictionStoresOwner() throws IOException {
+        setupMocks(true, false, false, false);
+        RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
+            .builder()
+            .parameters(Map.of("messages", "[]"))
+            .actionType(ConnectorAction.ActionType.BATCH_PREDICT)
+            .ingest(Map.of("index_name", "test-index"))
+            .build();
+        dispatchBatchPrediction(remoteInferenceInputDataSet);
+
+        ArgumentCaptor<MLTask> taskCaptor = ArgumentCaptor.forClass(MLTask.class);
+        verify(mlTaskManager).createMLTask(taskCaptor.capture(), any());
+        assertEquals(User.parse(USER_STRING).getName(), taskCaptor.getValue().getUser().getName());
+    }
+
+    public void testBatchPredictionIngestIntoHiddenIndexRejected() throws IOException {
+        setupMocks(true, false, false, false);
+        RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
+            .builder()
+            .parameters(Map.of("messages", "[]"))
+            .actionType(ConnectorAction.ActionType.BATCH_PREDICT)
+            .ingest(Map.of("index_name", ".plugins-ml-model"))
+            .build();
+        dispatchBatchPrediction(remoteInferenceInputDataSet);
+
+        ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exceptionCaptor.capture());
+        assertTrue(exceptionCaptor.getValue() instanceof IllegalArgumentException);
+        verify(mlModelManager, never()).checkMaxBatchJobTask(any(MLTask.class), any());
+        verify(mlTaskManager, never()).createMLTask(any(MLTask.class), any());
+    }
+
+    public void testBatchPredictionIngestConnectorWithoutAccessRejected() throws IOException {
+        setupMocks(true, false, false, false);
+        doAnswer(invocation -> {
+            ActionListener<Boolean> accessListener = invocation.getArgument(2);
+            accessListener.onResponse(false);
+            return null;
+        }).when(connectorAccessControlHelper).validateConnectorAccess(any(Client.class), eq("ingest_connector"), any());
+        RemoteInferenceInputDataSet remoteInferenceInputDataSet = RemoteInferenceInputDataSet
+            .builder()
+            .parameters(Map.of("messages", "[]"))
+            .actionType(ConnectorAction.ActionType.BATCH_PREDICT)
+            .ingest(Map.of("index_name", "test-index", "connector_id", "ingest_connector"))
+            .build();
+        dispatchBatchPrediction(remoteInferenceInputDataSet);
+
+        ArgumentCaptor<Exception> exceptionCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(exceptionCaptor.capture());
+        assertEquals(RestStatus.FORBIDDEN, ((OpenSearchStatusException) exceptionCaptor.getValue()).status());
+        verify(mlTaskManager, never()).createMLTask(any(MLTask.class), any());
+    }
+
+    private void dispatchBatchPrediction(RemoteInferenceInputDataSet remoteInferenceInputDataSet) {
         MLPredictionTaskRequest remoteInputRequest = MLPredictionTaskRequest
             .builder()
             .modelId("test_model")
@@ -470,7 +555,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
             ActionListener<MLTaskResponse> actionListener = invocation.getArgument(1);
             actionListener.onResponse(MLTaskResponse.builder().output(modelTensorOutput).build());
             return null;
-        }).when(predictor).asyncPredict(any(), any(), any());
+        }).when(predictor).asyncPredict(any(), any(), any(), any());
 
         IndexResponse indexResponse = mock(IndexResponse.class);
         when(indexResponse.getId()).thenReturn("mockTaskId");
@@ -519,9 +604,6 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         ;
         when(clusterService.state()).thenReturn(state);
         taskRunner.dispatchTask(FunctionName.REMOTE, remoteInputRequest, transportService, listener);
-        verify(client, never()).get(any(), any());
-        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
-        verify(listener).onResponse(argumentCaptor.capture());
     }
 
     public void testValidateBatchPredictionFailure() throws IOException {
@@ -550,7 +632,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
             actionListener
                 .onResponse(MLTaskResponse.builder().output(ModelTensorOutput.builder().mlModelOutputs(List.of()).build()).build());
             return null;
-        }).when(predictor).asyncPredict(any(), any(), any());
+        }).when(predictor).asyncPredict(any(), any(), any(), any());
 
         IndexResponse indexResponse = mock(IndexResponse.class);
         when(indexResponse.getId()).thenReturn("mockTaskId");
@@ -665,7 +747,7 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
             ActionListener<MLTaskResponse> actionListener = invocation.getArgument(1);
             actionListener.onResponse(MLTaskResponse.builder().output(modelTensorOutput).build());
             return null;
-        }).when(predictor).asyncPredict(any(), any(), any());
+        }).when(predictor).asyncPredict(any(), any(), any(), any());
 
         IndexResponse indexResponse = mock(IndexResponse.class);
         when(indexResponse.getId()).thenReturn("mockTaskId");
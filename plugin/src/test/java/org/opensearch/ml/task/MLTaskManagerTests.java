@@ -33,6 +33,7 @@ import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.WriteRequest;
@@ -489,4 +490,36 @@ public class MLTaskManagerTests extends OpenSearchTestCase {
         mlTaskManager.onStaticMetricCollectionEnabledChanged(false);
         verify(mlTaskManager).indexStatsCollectorJob(false);
     }
+
+    public void testUpdateMLTask_JournalCoalescesUpdates() {
+        mlTaskManager.setTaskStateFlushIntervalInMillis(1000);
+        MLTask asyncMlTask = mlTask.toBuilder().async(true).build();
+        mlTaskManager.add(asyncMlTask);
+
+        mlTaskManager.updateMLTask(asyncMlTask.getTaskId(), null, ImmutableMap.of(MLTask.STATE_FIELD, MLTaskState.RUNNING), 0, false);
+        mlTaskManager.updateMLTask(asyncMlTask.getTaskId(), null, ImmutableMap.of(MLTask.STATE_FIELD, MLTaskState.COMPLETED), 0, true);
+
+        // Both updates are buffered and the later state wins, until the flush scheduled by the first update runs
+        verify(client, never()).update(any(UpdateRequest.class), any());
+        Assert.assertFalse(mlTaskManager.contains(asyncMlTask.getTaskId()));
+        Assert.assertEquals(MLTaskState.COMPLETED, mlTaskManager.getPendingTaskUpdate(asyncMlTask.getTaskId()).get(MLTask.STATE_FIELD));
+        ArgumentCaptor<Runnable> flushCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(threadPool, times(1)).schedule(flushCaptor.capture(), any(), anyString());
+
+        flushCaptor.getValue().run();
+        ArgumentCaptor<BulkRequest> bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(1)).bulk(bulkRequestCaptor.capture(), any());
+        Assert.assertEquals(1, bulkRequestCaptor.getValue().numberOfActions());
+        Assert.assertNull(mlTaskManager.getPendingTaskUpdate(asyncMlTask.getTaskId()));
+    }
+
+    public void testUpdateMLTask_JournalDisabled() {
+        MLTask asyncMlTask = mlTask.toBuilder().async(true).build();
+        mlTaskManager.add(asyncMlTask);
+
+        mlTaskManager.updateMLTask(asyncMlTask.getTaskId(), null, ImmutableMap.of(MLTask.STATE_FIELD, MLTaskState.RUNNING), 0, false);
+
+        Assert.assertNull(mlTaskManager.getPendingTaskUpdate(asyncMlTask.getTaskId()));
+        verify(threadPool, never()).schedule(any(), any(), anyString());
+    }
 }
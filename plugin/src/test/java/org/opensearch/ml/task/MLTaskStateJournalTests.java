@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.remote.metadata.client.BulkDataObjectResponse;
+import org.opensearch.remote.metadata.client.SdkClient;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLTaskStateJournalTests extends OpenSearchTestCase {
+
+    private static final String TASK_ID = "task_id";
+
+    private SdkClient sdkClient;
+    private MLTaskStateJournal journal;
+
+    @Before
+    public void setup() {
+        sdkClient = mock(SdkClient.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        journal = new MLTaskStateJournal(sdkClient, threadPool);
+        journal.setFlushIntervalInMillis(1000);
+    }
+
+    public void testFailedFlushDoesNotOverwriteNewerState() {
+        CompletableFuture<BulkDataObjectResponse> runningFlush = new CompletableFuture<>();
+        when(sdkClient.bulkDataObjectAsync(any())).thenReturn(runningFlush);
+        journal.record(TASK_ID, null, Map.of(MLTask.STATE_FIELD, MLTaskState.RUNNING));
+        journal.flush();
+
+        // the terminal state is recorded while the flush of the running state is in flight
+        journal.record(TASK_ID, null, Map.of(MLTask.STATE_FIELD, MLTaskState.COMPLETED));
+        journal.flush();
+        verify(sdkClient, times(1)).bulkDataObjectAsync(any());
+
+        runningFlush.completeExceptionally(new IOException("Failed to write"));
+        assertEquals(MLTaskState.COMPLETED, journal.getPendingUpdate(TASK_ID).get(MLTask.STATE_FIELD));
+
+        when(sdkClient.bulkDataObjectAsync(any())).thenReturn(CompletableFuture.completedFuture(mock(BulkDataObjectResponse.class)));
+        journal.flush();
+        verify(sdkClient, times(2)).bulkDataObjectAsync(any());
+        assertNull(journal.getPendingUpdate(TASK_ID));
+    }
+
+    public void testCloseFlushesPendingUpdates() {
+        when(sdkClient.bulkDataObjectAsync(any())).thenReturn(CompletableFuture.completedFuture(mock(BulkDataObjectResponse.class)));
+        journal.record(TASK_ID, null, Map.of(MLTask.STATE_FIELD, MLTaskState.COMPLETED));
+
+        journal.close(TimeValue.timeValueSeconds(10));
+
+        verify(sdkClient, times(1)).bulkDataObjectAsync(any());
+        assertNull(journal.getPendingUpdate(TASK_ID));
+        assertFalse(journal.isEnabled());
+    }
+
+    public void testCloseWaitsForFlushInFlightUpToTimeout() {
+        when(sdkClient.bulkDataObjectAsync(any())).thenReturn(new CompletableFuture<>());
+        journal.record(TASK_ID, null, Map.of(MLTask.STATE_FIELD, MLTaskState.COMPLETED));
+
+        journal.close(TimeValue.timeValueMillis(100));
+
+        verify(sdkClient, times(1)).bulkDataObjectAsync(any());
+    }
+}
@@ -6,14 +6,17 @@
 package org.opensearch.ml.task;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 
 import java.nio.file.Path;
 import java.util.Map;
@@ -26,29 +29,42 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.Version;
+import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.get.GetResult;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.training.MLTrainingTaskAction;
 import org.opensearch.ml.common.transport.training.MLTrainingTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.algorithms.clustering.KMeans;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
@@ -116,6 +132,11 @@ public class MLTrainingTaskRunnerTests extends OpenSearchTestCase {
         localNode = new DiscoveryNode("localNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
         remoteNode = new DiscoveryNode("remoteNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
         when(clusterService.localNode()).thenReturn(localNode);
+        ClusterState clusterState = ClusterState
+            .builder(new ClusterName("test cluster"))
+            .nodes(DiscoveryNodes.builder().add(localNode).add(remoteNode).build())
+            .build();
+        when(clusterService.state()).thenReturn(clusterState);
 
         when(threadPool.executor(anyString())).thenReturn(executorService);
         doAnswer(invocation -> {
@@ -296,6 +317,37 @@ public class MLTrainingTaskRunnerTests extends OpenSearchTestCase {
         assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
     }
 
+    public void testExecuteTask_MiniBatchQueryInput_WarmStart() {
+        setupMocks(true, false, false, false);
+        MLModel warmStartModel = new KMeans(KMeansParams.builder().centroids(2).batchSize(10).build())
+            .train(MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(new DataFrameInputDataset(dataFrame)).build());
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> actionListener = invocation.getArgument(1);
+            XContentBuilder content = warmStartModel.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+            BytesReference bytesReference = BytesReference.bytes(content);
+            GetResult getResult = new GetResult(ML_MODEL_INDEX, "warmStartModelId", 1, 1, 1, true, bytesReference, null, null);
+            actionListener.onResponse(new GetResponse(getResult));
+            return null;
+        }).when(client).get(any(), any());
+        doAnswer(invocation -> {
+            CheckedConsumer<DataFrame, Exception> chunkConsumer = invocation.getArgument(3);
+            chunkConsumer.accept(dataFrame);
+            ActionListener<Void> actionListener = invocation.getArgument(4);
+            actionListener.onResponse(null);
+            return null;
+        }).when(mlInputDatasetHandler).parseSearchQueryInputInChunks(any(), anyInt(), anyString(), any(), any());
+        KMeansParams kMeansParams = KMeansParams.builder().iterations(2).batchSize(10).warmStartModelId("warmStartModelId").build();
+        MLInput mlInput = requestWithQuery.getMlInput().toBuilder().algorithm(FunctionName.KMEANS).parameters(kMeansParams).build();
+
+        taskRunner.executeTask(MLTrainingTaskRequest.builder().async(false).mlInput(mlInput).build(), listener);
+
+        verify(client).get(any(), any());
+        verify(mlInputDatasetHandler, times(2)).parseSearchQueryInputInChunks(any(), eq(10), anyString(), any(), any());
+        verify(mlInputDatasetHandler, never()).parseSearchQueryInput(any(), any());
+        verify(client).index(any(), any());
+        verify(listener).onResponse(any());
+    }
+
     private void setupMocks(
         boolean runOnLocalNode,
         boolean failedToCreateTask,
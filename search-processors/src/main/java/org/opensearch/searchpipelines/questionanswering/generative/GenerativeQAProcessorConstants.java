@@ -39,6 +39,22 @@ public class GenerativeQAProcessorConstants {
     public static final String CONFIG_NAME_SYSTEM_PROMPT = "system_prompt";
     public static final String CONFIG_NAME_USER_INSTRUCTIONS = "user_instructions";
 
+    // Write the interaction to conversational memory in the background instead of before returning the response.
+    // The response then doesn't include the interaction id.
+    public static final String CONFIG_NAME_ASYNC_INTERACTION_WRITE = "async_interaction_write";
+
+    // Request context attribute holding the chat history fetch started by the request processor.
+    public static final String CHAT_HISTORY_ATTRIBUTE = "generative_qa.chat_history";
+
+    public static final int DEFAULT_CHAT_HISTORY_WINDOW = 10;
+
+    // Upper bound of prompt tokens used by search results and chat history, search results are packed by rank and
+    // the chat history from the most recent turn until the budget runs out.
+    public static final String CONFIG_NAME_CONTEXT_TOKEN_BUDGET = "context_token_budget";
+
+    // Average number of characters per token of the LLM, used to estimate token counts.
+    public static final String CONFIG_NAME_CHARS_PER_TOKEN = "chars_per_token";
+
     public static final String FEATURE_NOT_ENABLED_ERROR_MSG = ML_COMMONS_RAG_PIPELINE_FEATURE_ENABLED.getKey() + " is not enabled.";
 
     public static final String RAG_NULL_GEN_QA_PARAMS_ERROR_MSG = "generative_qa_parameters not found."
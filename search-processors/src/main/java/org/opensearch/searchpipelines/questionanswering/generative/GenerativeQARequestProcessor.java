@@ -17,24 +17,42 @@
  */
 package org.opensearch.searchpipelines.questionanswering.generative;
 
+import java.util.List;
 import java.util.Map;
 
+import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.core.common.Strings;
 import org.opensearch.ingest.ConfigurationUtils;
+import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.search.pipeline.AbstractProcessor;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
+import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamUtil;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParameters;
+import org.opensearch.transport.client.Client;
+
+import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
 
 /**
  * Defines the request processor for generative QA search pipelines.
+ * If the request is part of a conversation, the chat history is fetched while the search runs
+ * and handed over to the response processor through the request context.
  */
+@Log4j2
 public class GenerativeQARequestProcessor extends AbstractProcessor implements SearchRequestProcessor {
 
     private String modelId;
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
+    @Setter
+    private ConversationalMemoryClient memoryClient;
+
     protected GenerativeQARequestProcessor(
         String tag,
         String description,
@@ -47,6 +65,40 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
     }
 
+    protected GenerativeQARequestProcessor(
+        Client client,
+        String tag,
+        String description,
+        boolean ignoreFailure,
+        String modelId,
+        MLFeatureEnabledSetting mlFeatureEnabledSetting
+    ) {
+        this(tag, description, ignoreFailure, modelId, mlFeatureEnabledSetting);
+        this.memoryClient = new ConversationalMemoryClient(client);
+    }
+
+    @Override
+    public SearchRequest processRequest(SearchRequest request, PipelineProcessingContext requestContext) throws Exception {
+        SearchRequest processed = processRequest(request);
+        prefetchChatHistory(request, requestContext);
+        return processed;
+    }
+
+    private void prefetchChatHistory(SearchRequest request, PipelineProcessingContext requestContext) {
+        if (memoryClient == null || requestContext == null) {
+            return;
+        }
+        GenerativeQAParameters params = GenerativeQAParamUtil.getGenerativeQAParameters(request);
+        if (params == null || !Strings.hasText(params.getConversationId())) {
+            return;
+        }
+        // The response processor waits on this listener, a failure is reported there.
+        StepListener<List<Interaction>> chatHistoryListener = new StepListener<>();
+        memoryClient.getInteractions(params.getConversationId(), GenerativeQAParamUtil.getInteractionSize(params), chatHistoryListener);
+        requestContext.setAttribute(GenerativeQAProcessorConstants.CHAT_HISTORY_ATTRIBUTE, chatHistoryListener);
+        log.debug("Started fetching chat history of conversation {}", params.getConversationId());
+    }
+
     @Override
     public SearchRequest processRequest(SearchRequest request) throws Exception {
 
@@ -66,9 +118,15 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
 
     public static final class Factory implements Processor.Factory<SearchRequestProcessor> {
 
+        private final Client client;
         private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
         public Factory(MLFeatureEnabledSetting mlFeatureEnabledSetting) {
+            this(null, mlFeatureEnabledSetting);
+        }
+
+        public Factory(Client client, MLFeatureEnabledSetting mlFeatureEnabledSetting) {
+            this.client = client;
             this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
         }
 
@@ -82,19 +140,17 @@ public class GenerativeQARequestProcessor extends AbstractProcessor implements S
             PipelineContext pipelineContext
         ) throws Exception {
             if (this.mlFeatureEnabledSetting.isRagSearchPipelineEnabled()) {
-                return new GenerativeQARequestProcessor(
-                    tag,
-                    description,
-                    ignoreFailure,
-                    ConfigurationUtils
-                        .readStringProperty(
-                            GenerativeQAProcessorConstants.REQUEST_PROCESSOR_TYPE,
-                            tag,
-                            config,
-                            GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID
-                        ),
-                    this.mlFeatureEnabledSetting
-                );
+                String modelId = ConfigurationUtils
+                    .readStringProperty(
+                        GenerativeQAProcessorConstants.REQUEST_PROCESSOR_TYPE,
+                        tag,
+                        config,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID
+                    );
+                if (client == null) {
+                    return new GenerativeQARequestProcessor(tag, description, ignoreFailure, modelId, this.mlFeatureEnabledSetting);
+                }
+                return new GenerativeQARequestProcessor(client, tag, description, ignoreFailure, modelId, this.mlFeatureEnabledSetting);
             } else {
                 throw new MLException(GenerativeQAProcessorConstants.FEATURE_NOT_ENABLED_ERROR_MSG);
             }
@@ -23,10 +23,14 @@ import static org.opensearch.searchpipelines.questionanswering.generative.Genera
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.core.action.ActionListener;
@@ -48,7 +52,9 @@ import org.opensearch.searchpipelines.questionanswering.generative.llm.ChatCompl
 import org.opensearch.searchpipelines.questionanswering.generative.llm.Llm;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.LlmIOUtil;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.ModelLocator;
+import org.opensearch.searchpipelines.questionanswering.generative.prompt.CharacterTokenEstimator;
 import org.opensearch.searchpipelines.questionanswering.generative.prompt.PromptUtil;
+import org.opensearch.searchpipelines.questionanswering.generative.prompt.TokenCounter;
 import org.opensearch.transport.client.Client;
 
 import com.google.gson.JsonArray;
@@ -65,10 +71,12 @@ import lombok.extern.log4j.Log4j2;
 public class GenerativeQAResponseProcessor extends AbstractProcessor implements SearchResponseProcessor {
     public static String IllegalArgumentMessage =
         "Please check the provided generative_qa_parameters are complete and non-null(https://opensearch.org/docs/latest/search-plugins/conversational-search/#rag-pipeline). Messages in the memory can not have Null value for input and response";
-    private static final int DEFAULT_CHAT_HISTORY_WINDOW = 10;
-
     private static final int DEFAULT_PROCESSOR_TIME_IN_SECONDS = 30;
 
+    // Upper bound of interaction writes running in the background on this node, beyond it writes are done inline.
+    static final int MAX_PENDING_ASYNC_INTERACTION_WRITES = 1_000;
+    private static final AtomicInteger PENDING_ASYNC_INTERACTION_WRITES = new AtomicInteger();
+
     private final String llmModel;
     private final List<String> contextFields;
 
@@ -85,6 +93,16 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
 
     private final MLFeatureEnabledSetting mlFeatureEnabledSetting;
 
+    @Setter
+    private boolean asyncInteractionWrite;
+
+    // No budget by default, search results and chat history are only bounded by context_size and interaction_size.
+    @Setter
+    private int contextTokenBudget;
+
+    @Setter
+    private TokenCounter tokenCounter = new CharacterTokenEstimator();
+
     protected GenerativeQAResponseProcessor(
         Client client,
         String tag,
@@ -148,11 +166,7 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         if (conversationId != null && !Strings.hasText(conversationId)) {
             throw new IllegalArgumentException("Empty conversation_id is not allowed.");
         }
-        Instant start = Instant.now();
-        Integer interactionSize = params.getInteractionSize();
-        if (interactionSize == null || interactionSize == GenerativeQAParameters.SIZE_NULL_VALUE) {
-            interactionSize = DEFAULT_CHAT_HISTORY_WINDOW;
-        }
+        int interactionSize = GenerativeQAParamUtil.getInteractionSize(params);
         log.debug("Using interaction size of {}", interactionSize);
 
         Integer topN = params.getContextSize();
@@ -173,6 +187,7 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
 
         final List<Interaction> chatHistory = new ArrayList<>();
         if (conversationId == null) {
+            PromptUtil.PackedContext packedContext = packContext(llmQuestion, searchResults, chatHistory);
             doChatCompletion(
                 LlmIOUtil
                     .createChatCompletionInput(
@@ -180,23 +195,24 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                         userInstructions,
                         llmModel,
                         llmQuestion,
-                        chatHistory,
-                        searchResults,
+                        packedContext.getChatHistory(),
+                        packedContext.getContexts(),
                         timeout,
                         params.getLlmResponseField(),
                         params.getLlmMessages()
                     ),
                 null,
                 llmQuestion,
-                searchResults,
+                packedContext.getContexts(),
                 response,
                 responseListener
             );
         } else {
             final Instant memoryStart = Instant.now();
-            memoryClient.getInteractions(conversationId, interactionSize, ActionListener.wrap(r -> {
+            ActionListener<List<Interaction>> chatHistoryListener = ActionListener.wrap(r -> {
                 log.debug("getInteractions complete. ({})", getDuration(memoryStart));
                 chatHistory.addAll(r);
+                PromptUtil.PackedContext packedContext = packContext(llmQuestion, searchResults, chatHistory);
                 doChatCompletion(
                     LlmIOUtil
                         .createChatCompletionInput(
@@ -204,20 +220,71 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                             userInstructions,
                             llmModel,
                             llmQuestion,
-                            chatHistory,
-                            searchResults,
+                            packedContext.getChatHistory(),
+                            packedContext.getContexts(),
                             timeout,
                             params.getLlmResponseField(),
                             params.getLlmMessages()
                         ),
                     conversationId,
                     llmQuestion,
-                    searchResults,
+                    packedContext.getContexts(),
                     response,
                     responseListener
                 );
-            }, responseListener::onFailure));
+            }, responseListener::onFailure);
+            StepListener<List<Interaction>> prefetchedChatHistory = getPrefetchedChatHistory(requestContext);
+            if (prefetchedChatHistory != null) {
+                // the request processor started fetching the chat history before the search ran
+                prefetchedChatHistory.whenComplete(chatHistoryListener::onResponse, chatHistoryListener::onFailure);
+            } else {
+                memoryClient.getInteractions(conversationId, interactionSize, chatHistoryListener);
+            }
+        }
+    }
+
+    private PromptUtil.PackedContext packContext(String llmQuestion, List<String> searchResults, List<Interaction> chatHistory) {
+        if (contextTokenBudget <= 0) {
+            return new PromptUtil.PackedContext(searchResults, chatHistory);
         }
+        PromptUtil.PackedContext packedContext = PromptUtil
+            .packToTokenBudget(
+                tokenCounter,
+                contextTokenBudget,
+                Arrays.asList(systemPrompt, userInstructions, llmQuestion),
+                searchResults,
+                chatHistory
+            );
+        log
+            .debug(
+                "Packed {}/{} search results and {}/{} interactions into {} tokens",
+                packedContext.getContexts().size(),
+                searchResults.size(),
+                packedContext.getChatHistory().size(),
+                chatHistory.size(),
+                contextTokenBudget
+            );
+        return packedContext;
+    }
+
+    private Map<String, String> interactionAdditionalInfo(List<String> searchResults, String llmQuestion, String answer) {
+        if (contextTokenBudget <= 0) {
+            return Collections.singletonMap("metadata", jsonArrayToString(searchResults));
+        }
+        // Store the token count so the next turns don't count this interaction again
+        Map<String, String> additionalInfo = new HashMap<>();
+        additionalInfo.put("metadata", jsonArrayToString(searchResults));
+        additionalInfo.put(PromptUtil.TOKEN_COUNT_FIELD, String.valueOf(PromptUtil.getTokenCount(llmQuestion, answer, tokenCounter)));
+        return additionalInfo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private StepListener<List<Interaction>> getPrefetchedChatHistory(PipelineProcessingContext requestContext) {
+        if (requestContext == null) {
+            return null;
+        }
+        Object chatHistory = requestContext.getAttribute(GenerativeQAProcessorConstants.CHAT_HISTORY_ATTRIBUTE);
+        return chatHistory instanceof StepListener ? (StepListener<List<Interaction>>) chatHistory : null;
     }
 
     private void doChatCompletion(
@@ -238,8 +305,12 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                 final String answer = getAnswer(output);
                 final String errorMessage = getError(output);
 
-                if (conversationId != null) {
+                if (conversationId != null && asyncInteractionWrite && tryAcquireAsyncInteractionWrite()) {
+                    // fire and forget, the response doesn't wait for the interaction to be written
                     final Instant memoryStart = Instant.now();
+                    ActionListener<String> interactionListener = ActionListener.wrap(r -> {
+                        log.info("Created a new interaction: {} ({})", r, getDuration(memoryStart));
+                    }, e -> { log.error("Failed to create interaction in conversation {}", conversationId, e); });
                     memoryClient
                         .createInteraction(
                             conversationId,
@@ -247,7 +318,20 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                             PromptUtil.getPromptTemplate(systemPrompt, userInstructions),
                             answer,
                             GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
-                            Collections.singletonMap("metadata", jsonArrayToString(searchResults)),
+                            interactionAdditionalInfo(searchResults, llmQuestion, answer),
+                            ActionListener.runAfter(interactionListener, PENDING_ASYNC_INTERACTION_WRITES::decrementAndGet)
+                        );
+                    responseListener.onResponse(insertAnswer(response, answer, errorMessage, null));
+                } else if (conversationId != null) {
+                    final Instant memoryStart = Instant.now();
+                    memoryClient
+                        .createInteraction(
+                            conversationId,
+                            llmQuestion,
+                            PromptUtil.getPromptTemplate(systemPrompt, userInstructions),
+                            answer,
+                            GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                            interactionAdditionalInfo(searchResults, llmQuestion, answer),
                             ActionListener.wrap(r -> {
                                 responseListener.onResponse(insertAnswer(response, answer, errorMessage, r));
                                 log.info("Created a new interaction: {} ({})", r, getDuration(memoryStart));
@@ -275,6 +359,15 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         });
     }
 
+    private static boolean tryAcquireAsyncInteractionWrite() {
+        if (PENDING_ASYNC_INTERACTION_WRITES.incrementAndGet() <= MAX_PENDING_ASYNC_INTERACTION_WRITES) {
+            return true;
+        }
+        PENDING_ASYNC_INTERACTION_WRITES.decrementAndGet();
+        log.debug("Too many pending interaction writes, writing the interaction before responding");
+        return false;
+    }
+
     @Override
     public String getType() {
         return GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE;
@@ -388,7 +481,30 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                         config,
                         GenerativeQAProcessorConstants.CONFIG_NAME_USER_INSTRUCTIONS
                     );
-                return new GenerativeQAResponseProcessor(
+                boolean asyncInteractionWrite = ConfigurationUtils
+                    .readBooleanProperty(
+                        GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                        tag,
+                        config,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_ASYNC_INTERACTION_WRITE,
+                        false
+                    );
+                Integer contextTokenBudget = ConfigurationUtils
+                    .readIntProperty(
+                        GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                        tag,
+                        config,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_TOKEN_BUDGET,
+                        0
+                    );
+                String charsPerToken = ConfigurationUtils
+                    .readOptionalStringProperty(
+                        GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                        tag,
+                        config,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_CHARS_PER_TOKEN
+                    );
+                GenerativeQAResponseProcessor processor = new GenerativeQAResponseProcessor(
                     client,
                     tag,
                     description,
@@ -400,6 +516,12 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                     userInstructions,
                     mlFeatureEnabledSetting
                 );
+                processor.setAsyncInteractionWrite(asyncInteractionWrite);
+                processor.setContextTokenBudget(contextTokenBudget);
+                if (charsPerToken != null) {
+                    processor.setTokenCounter(new CharacterTokenEstimator(Double.parseDouble(charsPerToken)));
+                }
+                return processor;
             } else {
                 throw new MLException(GenerativeQAProcessorConstants.FEATURE_NOT_ENABLED_ERROR_MSG);
             }
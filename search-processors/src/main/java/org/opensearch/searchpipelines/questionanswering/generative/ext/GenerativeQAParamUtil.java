@@ -21,6 +21,7 @@ import java.util.Optional;
 
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.search.SearchExtBuilder;
+import org.opensearch.searchpipelines.questionanswering.generative.GenerativeQAProcessorConstants;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -52,4 +53,12 @@ public class GenerativeQAParamUtil {
 
         return params;
     }
+
+    public static int getInteractionSize(GenerativeQAParameters params) {
+        Integer interactionSize = params.getInteractionSize();
+        if (interactionSize == null || interactionSize == GenerativeQAParameters.SIZE_NULL_VALUE) {
+            return GenerativeQAProcessorConstants.DEFAULT_CHAT_HISTORY_WINDOW;
+        }
+        return interactionSize;
+    }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.searchpipelines.questionanswering.generative.prompt;
+
+import lombok.Getter;
+
+/**
+ * Estimates token counts from the text length, using the average number of characters per token of the LLM.
+ */
+public class CharacterTokenEstimator implements TokenCounter {
+
+    // A common approximation for English text with BPE tokenizers.
+    public static final double DEFAULT_CHARS_PER_TOKEN = 4.0;
+
+    @Getter
+    private final double charsPerToken;
+
+    public CharacterTokenEstimator() {
+        this(DEFAULT_CHARS_PER_TOKEN);
+    }
+
+    public CharacterTokenEstimator(double charsPerToken) {
+        if (charsPerToken <= 0) {
+            throw new IllegalArgumentException("chars_per_token must be positive.");
+        }
+        this.charsPerToken = charsPerToken;
+    }
+
+    @Override
+    public int count(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        return (int) Math.ceil(text.length() / charsPerToken);
+    }
+}
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.apache.commons.text.StringEscapeUtils;
 import org.opensearch.core.common.Strings;
@@ -37,6 +38,7 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -58,6 +60,9 @@ public class PromptUtil {
             + "Do not repeat yourself, and NEVER repeat anything in the chat history."
             + "If there are any necessary steps or procedures in your answer, enumerate them.";
 
+    // Key of the interaction additional info holding the token count of the input and the response.
+    public static final String TOKEN_COUNT_FIELD = "token_count";
+
     private static final String roleUser = "user";
 
     private static final String NEWLINE = "\\n";
@@ -274,6 +279,78 @@ public class PromptUtil {
         return messageArrayBuilder.toJsonArray().toString();
     }
 
+    /**
+     * Greedily packs search results and chat history into a token budget. Search results are added in rank order,
+     * skipping the ones that don't fit, then the chat history is added from the most recent turn on until the first
+     * turn that doesn't fit so that the history stays contiguous.
+     *
+     * @param tokenCounter counts the tokens of a text
+     * @param tokenBudget the number of tokens available to the whole prompt
+     * @param fixedParts prompt parts that are always sent, e.g. the system prompt and the question
+     * @param contexts search results, the highest ranked first
+     * @param chatHistory interactions, the most recent first
+     * @return the search results and the interactions that fit into the budget
+     */
+    public static PackedContext packToTokenBudget(
+        TokenCounter tokenCounter,
+        int tokenBudget,
+        List<String> fixedParts,
+        List<String> contexts,
+        List<Interaction> chatHistory
+    ) {
+        int remaining = tokenBudget;
+        for (String part : fixedParts) {
+            remaining -= tokenCounter.count(part);
+        }
+
+        List<String> packedContexts = new ArrayList<>();
+        for (String context : contexts) {
+            int tokens = tokenCounter.count(context);
+            if (tokens <= remaining) {
+                packedContexts.add(context);
+                remaining -= tokens;
+            }
+        }
+
+        List<Interaction> packedHistory = new ArrayList<>();
+        for (Interaction interaction : chatHistory) {
+            int tokens = getTokenCount(interaction, tokenCounter);
+            if (tokens > remaining) {
+                break;
+            }
+            packedHistory.add(interaction);
+            remaining -= tokens;
+        }
+        return new PackedContext(packedContexts, packedHistory);
+    }
+
+    /**
+     * Returns the token count of an interaction, using the count stored with the interaction when there is one so that
+     * the history doesn't need to be counted again on every turn.
+     */
+    public static int getTokenCount(Interaction interaction, TokenCounter tokenCounter) {
+        Map<String, String> additionalInfo = interaction.getAdditionalInfo();
+        if (additionalInfo != null && additionalInfo.get(TOKEN_COUNT_FIELD) != null) {
+            try {
+                return Integer.parseInt(additionalInfo.get(TOKEN_COUNT_FIELD));
+            } catch (NumberFormatException e) {
+                // fall through and count it again
+            }
+        }
+        return getTokenCount(interaction.getInput(), interaction.getResponse(), tokenCounter);
+    }
+
+    public static int getTokenCount(String input, String response, TokenCounter tokenCounter) {
+        return tokenCounter.count(input) + tokenCounter.count(response);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PackedContext {
+        private final List<String> contexts;
+        private final List<Interaction> chatHistory;
+    }
+
     public static String getPromptTemplate(String systemPrompt, String userInstructions) {
         return getPromptTemplateAsJsonArray(systemPrompt, userInstructions).toString();
     }
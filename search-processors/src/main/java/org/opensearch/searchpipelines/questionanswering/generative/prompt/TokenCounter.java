@@ -0,0 +1,13 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.searchpipelines.questionanswering.generative.prompt;
+
+/**
+ * Counts the tokens a piece of text takes up in an LLM prompt.
+ */
+public interface TokenCounter {
+
+    int count(String text);
+}
@@ -17,10 +17,16 @@
  */
 package org.opensearch.searchpipelines.questionanswering.generative;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Before;
@@ -28,11 +34,17 @@ import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
+import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamExtBuilder;
+import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParameters;
 import org.opensearch.test.OpenSearchTestCase;
 
 public class GenerativeQARequestProcessorTests extends OpenSearchTestCase {
@@ -65,6 +77,38 @@ public class GenerativeQARequestProcessorTests extends OpenSearchTestCase {
         assertEquals(request, processed);
     }
 
+    public void testProcessRequestPrefetchesChatHistory() throws Exception {
+        GenerativeQARequestProcessor processor = new GenerativeQARequestProcessor("tag", "desc", false, "foo", mlFeatureEnabledSetting);
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        processor.setMemoryClient(memoryClient);
+
+        SearchRequest request = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        GenerativeQAParamExtBuilder extBuilder = new GenerativeQAParamExtBuilder();
+        extBuilder.setParams(new GenerativeQAParameters("12345", "llm_model", "question", null, null, null, 5, null, null));
+        sourceBuilder.ext(List.of(extBuilder));
+        request.source(sourceBuilder);
+        PipelineProcessingContext requestContext = new PipelineProcessingContext();
+
+        SearchRequest processed = processor.processRequest(request, requestContext);
+
+        assertEquals(request, processed);
+        verify(memoryClient).getInteractions(eq("12345"), eq(5), any());
+        assertTrue(requestContext.getAttribute(GenerativeQAProcessorConstants.CHAT_HISTORY_ATTRIBUTE) instanceof StepListener);
+    }
+
+    public void testProcessRequestWithoutConversation() throws Exception {
+        GenerativeQARequestProcessor processor = new GenerativeQARequestProcessor("tag", "desc", false, "foo", mlFeatureEnabledSetting);
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        processor.setMemoryClient(memoryClient);
+        PipelineProcessingContext requestContext = new PipelineProcessingContext();
+
+        processor.processRequest(new SearchRequest(), requestContext);
+
+        verify(memoryClient, never()).getInteractions(any(), anyInt(), any());
+        assertNull(requestContext.getAttribute(GenerativeQAProcessorConstants.CHAT_HISTORY_ATTRIBUTE));
+    }
+
     public void testGetType() {
         GenerativeQARequestProcessor processor = new GenerativeQARequestProcessor("tag", "desc", false, "foo", mlFeatureEnabledSetting);
         assertEquals(GenerativeQAProcessorConstants.REQUEST_PROCESSOR_TYPE, processor.getType());
@@ -19,9 +19,11 @@ package org.opensearch.searchpipelines.questionanswering.generative;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.searchpipelines.questionanswering.generative.GenerativeQAProcessorConstants.RAG_NULL_GEN_QA_PARAMS_ERROR_MSG;
@@ -39,6 +41,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchException;
+import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
@@ -52,6 +55,7 @@ import org.opensearch.ml.common.settings.MLFeatureEnabledSetting;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
 import org.opensearch.searchpipelines.questionanswering.generative.ext.GenerativeQAParamExtBuilder;
@@ -259,6 +263,66 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
         assertEquals(numHits, passages.size());
     }
 
+    public void testProcessResponsePrefetchedChatHistoryAndAsyncInteractionWrite() throws Exception {
+        Client client = mock(Client.class);
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "dummy-model");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_ASYNC_INTERACTION_WRITE, true);
+
+        GenerativeQAResponseProcessor processor = (GenerativeQAResponseProcessor) new GenerativeQAResponseProcessor.Factory(
+            client,
+            mlFeatureEnabledSetting
+        ).create(null, "tag", "desc", true, config, null);
+
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        processor.setMemoryClient(memoryClient);
+
+        SearchRequest request = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        GenerativeQAParameters params = new GenerativeQAParameters("12345", "llm_model", "question", null, null, null, null, null, null);
+        GenerativeQAParamExtBuilder extBuilder = new GenerativeQAParamExtBuilder();
+        extBuilder.setParams(params);
+        request.source(sourceBuilder);
+        sourceBuilder.ext(List.of(extBuilder));
+
+        XContentBuilder sourceContent = JsonXContent.contentBuilder().startObject().field("text", "passage0").endObject();
+        SearchHit hit = new SearchHit(0, "doc0", Map.of(), Map.of());
+        hit.sourceRef(BytesReference.bytes(sourceContent));
+        SearchHits searchHits = new SearchHits(new SearchHit[] { hit }, null, 1.0f);
+        SearchResponseSections internal = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        SearchResponse response = new SearchResponse(internal, null, 1, 1, 0, 1, null, null, null);
+
+        Llm llm = mock(Llm.class);
+        ChatCompletionOutput output = mock(ChatCompletionOutput.class);
+        doAnswer(invocation -> {
+            ((ActionListener<ChatCompletionOutput>) invocation.getArguments()[1]).onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
+        when(output.getAnswers()).thenReturn(List.of("foo"));
+        processor.setLlm(llm);
+
+        // chat history fetched by the request processor
+        StepListener<List<Interaction>> chatHistory = new StepListener<>();
+        chatHistory
+            .onResponse(
+                List.of(new Interaction("0", Instant.now(), Instant.now(), "1", "question", "", "answer", "foo", Collections.emptyMap()))
+            );
+        PipelineProcessingContext requestContext = new PipelineProcessingContext();
+        requestContext.setAttribute(GenerativeQAProcessorConstants.CHAT_HISTORY_ATTRIBUTE, chatHistory);
+
+        ActionListener<SearchResponse> responseListener = mock(ActionListener.class);
+        processor.processResponseAsync(request, response, requestContext, responseListener);
+
+        verify(memoryClient, never()).getInteractions(any(), anyInt(), any());
+        ArgumentCaptor<ChatCompletionInput> captor = ArgumentCaptor.forClass(ChatCompletionInput.class);
+        verify(llm).doChatCompletion(captor.capture(), any());
+        assertEquals(1, captor.getValue().getChatHistory().size());
+        // the response doesn't wait for the interaction to be written
+        verify(responseListener).onResponse(any(GenerativeSearchResponse.class));
+        verify(memoryClient).createInteraction(eq("12345"), eq("question"), any(), eq("foo"), any(), any(), any());
+    }
+
     public void testProcessResponseWithErrorFromLlm() throws Exception {
         Client client = mock(Client.class);
         Map<String, Object> config = new HashMap<>();
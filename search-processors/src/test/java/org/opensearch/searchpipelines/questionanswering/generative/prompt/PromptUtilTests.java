@@ -19,6 +19,7 @@ package org.opensearch.searchpipelines.questionanswering.generative.prompt;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -312,4 +313,65 @@ public class PromptUtilTests extends OpenSearchTestCase {
         }
         return true;
     }
+
+    public void testPackToTokenBudget() {
+        TokenCounter tokenCounter = new CharacterTokenEstimator(1);
+        List<String> contexts = List.of("aaaa", "bbbbbbbbbb", "cc");
+        // the most recent interaction first
+        List<Interaction> chatHistory = List
+            .of(interaction("i1", "dd", "ee"), interaction("i2", "ffff", "gggg"), interaction("i3", "h", "i"));
+
+        PromptUtil.PackedContext packed = PromptUtil
+            .packToTokenBudget(tokenCounter, 15, Arrays.asList("sys", null, "qq"), contexts, chatHistory);
+
+        // 10 tokens left after the fixed parts, the second search result doesn't fit
+        assertEquals(List.of("aaaa", "cc"), packed.getContexts());
+        // 4 tokens left, the history stops at the first turn that doesn't fit
+        assertEquals(1, packed.getChatHistory().size());
+        assertEquals("i1", packed.getChatHistory().get(0).getId());
+    }
+
+    public void testGetTokenCount_UsesStoredCount() {
+        TokenCounter tokenCounter = new CharacterTokenEstimator(1);
+        Interaction interaction = Interaction
+            .fromMap(
+                "i1",
+                Map
+                    .of(
+                        ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD,
+                        Instant.now().toString(),
+                        ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD,
+                        "input",
+                        ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD,
+                        "response",
+                        ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD,
+                        Map.of(PromptUtil.TOKEN_COUNT_FIELD, "3")
+                    )
+            );
+        assertEquals(3, PromptUtil.getTokenCount(interaction, tokenCounter));
+        assertEquals(13, PromptUtil.getTokenCount(interaction("i2", "input", "response"), tokenCounter));
+    }
+
+    public void testCharacterTokenEstimator() {
+        CharacterTokenEstimator estimator = new CharacterTokenEstimator();
+        assertEquals(0, estimator.count(null));
+        assertEquals(2, estimator.count("12345"));
+        expectThrows(IllegalArgumentException.class, () -> new CharacterTokenEstimator(0));
+    }
+
+    private Interaction interaction(String id, String input, String response) {
+        return Interaction
+            .fromMap(
+                id,
+                Map
+                    .of(
+                        ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD,
+                        Instant.now().toString(),
+                        ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD,
+                        input,
+                        ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD,
+                        response
+                    )
+            );
+    }
 }